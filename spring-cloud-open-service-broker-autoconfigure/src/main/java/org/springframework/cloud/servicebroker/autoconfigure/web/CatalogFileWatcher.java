@@ -0,0 +1,130 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.cloud.servicebroker.service.ReloadableCatalogService;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Polls the last modified time of a catalog {@link Resource} and reloads a {@link ReloadableCatalogService} when the
+ * resource changes. If the changed resource cannot be loaded, the error is logged and the current catalog is
+ * retained.
+ */
+public class CatalogFileWatcher implements SmartLifecycle {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CatalogFileWatcher.class);
+
+	private final ReloadableCatalogService catalogService;
+
+	private final Resource resource;
+
+	private final Duration pollInterval;
+
+	private volatile long lastModified;
+
+	private ScheduledExecutorService executor;
+
+	/**
+	 * Construct a new {@link CatalogFileWatcher}
+	 *
+	 * @param catalogService the catalog service to reload
+	 * @param resource the resource to watch
+	 * @param pollInterval the interval between checks of the resource
+	 */
+	public CatalogFileWatcher(ReloadableCatalogService catalogService, Resource resource, Duration pollInterval) {
+		Assert.notNull(catalogService, "catalogService must not be null");
+		Assert.notNull(resource, "resource must not be null");
+		Assert.isTrue(pollInterval != null && !pollInterval.isNegative() && !pollInterval.isZero(),
+				"pollInterval must be positive");
+		this.catalogService = catalogService;
+		this.resource = resource;
+		this.pollInterval = pollInterval;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (this.executor != null) {
+			return;
+		}
+		this.lastModified = lastModified();
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "catalog-file-watcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = this.pollInterval.toMillis();
+		this.executor.scheduleWithFixedDelay(this::checkForChanges, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+			this.executor = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return this.executor != null;
+	}
+
+	/**
+	 * Reload the catalog if the resource was modified since it was last checked
+	 *
+	 * @return true if the catalog was reloaded
+	 */
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public boolean checkForChanges() {
+		long modified = lastModified();
+		if (modified == this.lastModified) {
+			return false;
+		}
+		this.lastModified = modified;
+		try {
+			this.catalogService.reload();
+			LOG.info("Reloaded catalog from {}", this.resource.getDescription());
+			return true;
+		}
+		catch (RuntimeException e) {
+			LOG.error("Error reloading catalog from " + this.resource.getDescription()
+					+ ", retaining the current catalog. error=" + e.getMessage(), e);
+			return false;
+		}
+	}
+
+	private long lastModified() {
+		try {
+			return this.resource.lastModified();
+		}
+		catch (IOException e) {
+			return 0L;
+		}
+	}
+
+}
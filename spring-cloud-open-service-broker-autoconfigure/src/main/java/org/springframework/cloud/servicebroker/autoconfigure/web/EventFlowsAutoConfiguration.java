@@ -18,16 +18,23 @@ package org.springframework.cloud.servicebroker.autoconfigure.web;
 
 import java.util.List;
 
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.servicebroker.service.events.AsyncOperationServiceInstanceBindingEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.AsyncOperationServiceInstanceEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.CreateServiceInstanceBindingEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.CreateServiceInstanceEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.DeleteServiceInstanceBindingEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.DeleteServiceInstanceEventFlowRegistry;
+import org.springframework.cloud.servicebroker.service.events.EventFlowExecution;
 import org.springframework.cloud.servicebroker.service.events.EventFlowRegistries;
+import org.springframework.cloud.servicebroker.service.events.EventFlowRegistry;
+import org.springframework.cloud.servicebroker.service.events.OperationStateTracker;
 import org.springframework.cloud.servicebroker.service.events.UpdateServiceInstanceEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingCompletionFlow;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingErrorFlow;
@@ -55,12 +62,37 @@ import org.springframework.context.annotation.Configuration;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for the event flow implementation beans.
+ * <p>
+ * Registries are configured with the {@link EventFlowExecution} bean if one is provided, or with an execution defined
+ * in external configuration.
+ * <p>
+ * When {@code spring.cloud.openservicebroker.event-flows.transition-only-completion-flows} is enabled, the
+ * asynchronous operation registries are given an {@link OperationStateTracker} so that completion flows run only when
+ * the state of an operation changes between last operation polls.
  *
  * @author Roy Clarkson
  */
 @Configuration
+@EnableConfigurationProperties(ServiceBrokerProperties.class)
 public class EventFlowsAutoConfiguration {
 
+	private final EventFlowExecution eventFlowExecution;
+
+	private final ServiceBrokerProperties.EventFlows eventFlowsProperties;
+
+	/**
+	 * Construct a new {@link EventFlowsAutoConfiguration}
+	 *
+	 * @param serviceBrokerProperties the service broker properties
+	 * @param eventFlowExecution the EventFlowExecution bean, if one is provided
+	 */
+	public EventFlowsAutoConfiguration(ServiceBrokerProperties serviceBrokerProperties,
+			ObjectProvider<EventFlowExecution> eventFlowExecution) {
+		this.eventFlowExecution = eventFlowExecution.getIfAvailable(() -> eventFlowExecution(
+				serviceBrokerProperties.getEventFlows()));
+		this.eventFlowsProperties = serviceBrokerProperties.getEventFlows();
+	}
+
 	/**
 	 * Conditionally create a new {@link CreateServiceInstanceEventFlowRegistry} bean
 	 *
@@ -75,7 +107,8 @@ public class EventFlowsAutoConfiguration {
 			@Autowired(required = false) List<CreateServiceInstanceInitializationFlow> initializationFlows,
 			@Autowired(required = false) List<CreateServiceInstanceCompletionFlow> completionFlows,
 			@Autowired(required = false) List<CreateServiceInstanceErrorFlow> errorFlows) {
-		return new CreateServiceInstanceEventFlowRegistry(initializationFlows, completionFlows, errorFlows);
+		return configure(new CreateServiceInstanceEventFlowRegistry(initializationFlows, completionFlows,
+				errorFlows));
 	}
 
 	/**
@@ -92,7 +125,8 @@ public class EventFlowsAutoConfiguration {
 			@Autowired(required = false) List<DeleteServiceInstanceInitializationFlow> initializationFlows,
 			@Autowired(required = false) List<DeleteServiceInstanceCompletionFlow> completionFlows,
 			@Autowired(required = false) List<DeleteServiceInstanceErrorFlow> errorFlows) {
-		return new DeleteServiceInstanceEventFlowRegistry(initializationFlows, completionFlows, errorFlows);
+		return configure(new DeleteServiceInstanceEventFlowRegistry(initializationFlows, completionFlows,
+				errorFlows));
 	}
 
 	/**
@@ -109,7 +143,8 @@ public class EventFlowsAutoConfiguration {
 			@Autowired(required = false) List<UpdateServiceInstanceInitializationFlow> initializationFlows,
 			@Autowired(required = false) List<UpdateServiceInstanceCompletionFlow> completionFlows,
 			@Autowired(required = false) List<UpdateServiceInstanceErrorFlow> errorFlows) {
-		return new UpdateServiceInstanceEventFlowRegistry(initializationFlows, completionFlows, errorFlows);
+		return configure(new UpdateServiceInstanceEventFlowRegistry(initializationFlows, completionFlows,
+				errorFlows));
 	}
 
 	/**
@@ -126,7 +161,10 @@ public class EventFlowsAutoConfiguration {
 			@Autowired(required = false) List<AsyncOperationServiceInstanceInitializationFlow> initializationFlows,
 			@Autowired(required = false) List<AsyncOperationServiceInstanceCompletionFlow> completionFlows,
 			@Autowired(required = false) List<AsyncOperationServiceInstanceErrorFlow> errorFlows) {
-		return new AsyncOperationServiceInstanceEventFlowRegistry(initializationFlows, completionFlows, errorFlows);
+		AsyncOperationServiceInstanceEventFlowRegistry registry = configure(
+				new AsyncOperationServiceInstanceEventFlowRegistry(initializationFlows, completionFlows, errorFlows));
+		registry.setStateTracker(operationStateTracker());
+		return registry;
 	}
 
 	/**
@@ -143,7 +181,8 @@ public class EventFlowsAutoConfiguration {
 			@Autowired(required = false) List<CreateServiceInstanceBindingInitializationFlow> initializationFlows,
 			@Autowired(required = false) List<CreateServiceInstanceBindingCompletionFlow> completionFlows,
 			@Autowired(required = false) List<CreateServiceInstanceBindingErrorFlow> errorFlows) {
-		return new CreateServiceInstanceBindingEventFlowRegistry(initializationFlows, completionFlows, errorFlows);
+		return configure(new CreateServiceInstanceBindingEventFlowRegistry(initializationFlows, completionFlows,
+				errorFlows));
 	}
 
 	/**
@@ -160,7 +199,8 @@ public class EventFlowsAutoConfiguration {
 			@Autowired(required = false) List<DeleteServiceInstanceBindingInitializationFlow> initializationFlows,
 			@Autowired(required = false) List<DeleteServiceInstanceBindingCompletionFlow> completionFlows,
 			@Autowired(required = false) List<DeleteServiceInstanceBindingErrorFlow> errorFlows) {
-		return new DeleteServiceInstanceBindingEventFlowRegistry(initializationFlows, completionFlows, errorFlows);
+		return configure(new DeleteServiceInstanceBindingEventFlowRegistry(initializationFlows, completionFlows,
+				errorFlows));
 	}
 
 	/**
@@ -177,8 +217,11 @@ public class EventFlowsAutoConfiguration {
 			@Autowired(required = false) List<AsyncOperationServiceInstanceBindingInitializationFlow> initializationFlows,
 			@Autowired(required = false) List<AsyncOperationServiceInstanceBindingCompletionFlow> completionFlows,
 			@Autowired(required = false) List<AsyncOperationServiceInstanceBindingErrorFlow> errorFlows) {
-		return new AsyncOperationServiceInstanceBindingEventFlowRegistry(initializationFlows, completionFlows,
-				errorFlows);
+		AsyncOperationServiceInstanceBindingEventFlowRegistry registry = configure(
+				new AsyncOperationServiceInstanceBindingEventFlowRegistry(initializationFlows, completionFlows,
+						errorFlows));
+		registry.setStateTracker(operationStateTracker());
+		return registry;
 	}
 
 	/**
@@ -208,4 +251,23 @@ public class EventFlowsAutoConfiguration {
 				deleteInstanceBindingRegistry, asyncOperationBindingRegistry);
 	}
 
+	private <T extends EventFlowRegistry<?, ?, ?, ?, ?>> T configure(T registry) {
+		registry.setExecution(this.eventFlowExecution);
+		return registry;
+	}
+
+	private OperationStateTracker operationStateTracker() {
+		return this.eventFlowsProperties.isTransitionOnlyCompletionFlows()
+				? new OperationStateTracker(this.eventFlowsProperties.getTrackedOperations()) : null;
+	}
+
+	private static EventFlowExecution eventFlowExecution(ServiceBrokerProperties.EventFlows properties) {
+		EventFlowExecution execution = properties.getMode() == EventFlowExecution.Mode.SEQUENTIAL
+				? EventFlowExecution.sequential() : EventFlowExecution.parallel(properties.getConcurrency());
+		return execution
+				.withTimeout(properties.getTimeout())
+				.withScheduler(properties.isOffload() ? Schedulers.boundedElastic() : null)
+				.withDetachedCompletionFlows(properties.isDetachCompletionFlows());
+	}
+
 }
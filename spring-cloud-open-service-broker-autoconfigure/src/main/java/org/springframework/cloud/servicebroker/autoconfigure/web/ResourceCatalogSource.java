@@ -0,0 +1,86 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+
+/**
+ * A source of a {@link org.springframework.cloud.servicebroker.model.catalog.Catalog} that reads the catalog from a
+ * YAML, JSON, or properties file each time it is called. The file uses the same structure as the catalog in external
+ * configuration, under the {@code spring.cloud.openservicebroker.catalog} prefix.
+ *
+ * @see ServiceBrokerProperties
+ */
+public class ResourceCatalogSource implements Supplier<org.springframework.cloud.servicebroker.model.catalog.Catalog> {
+
+	private static final String CATALOG_PREFIX = "spring.cloud.openservicebroker.catalog";
+
+	private final Resource resource;
+
+	/**
+	 * Construct a source that reads the catalog from the provided {@link Resource}
+	 *
+	 * @param resource the resource
+	 */
+	public ResourceCatalogSource(Resource resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * Get the resource the catalog is read from
+	 *
+	 * @return the resource
+	 */
+	public Resource getResource() {
+		return this.resource;
+	}
+
+	@Override
+	public org.springframework.cloud.servicebroker.model.catalog.Catalog get() {
+		List<PropertySource<?>> propertySources;
+		try {
+			propertySources = loader().load(this.resource.getDescription(), this.resource);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Unable to read catalog from " + this.resource.getDescription(), e);
+		}
+		return new Binder(ConfigurationPropertySources.from(propertySources))
+				.bind(CATALOG_PREFIX, Catalog.class)
+				.orElseThrow(() -> new IllegalStateException("No catalog found in " + this.resource.getDescription()))
+				.toModel();
+	}
+
+	private PropertySourceLoader loader() {
+		String filename = this.resource.getFilename();
+		if (filename != null && filename.endsWith(".properties")) {
+			return new PropertiesPropertySourceLoader();
+		}
+		return new YamlPropertySourceLoader();
+	}
+
+}
@@ -16,19 +16,63 @@
 
 package org.springframework.cloud.servicebroker.autoconfigure.web;
 
+import jakarta.validation.ValidatorFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cloud.servicebroker.autoconfigure.web.exception.CatalogDefinitionDoesNotExistException;
+import org.springframework.cloud.servicebroker.controller.AdmissionControl;
+import org.springframework.cloud.servicebroker.controller.CachingOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.DefaultOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.OriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.PrecompiledRequestValidator;
+import org.springframework.cloud.servicebroker.controller.RequestLogger;
 import org.springframework.cloud.servicebroker.model.catalog.Catalog;
 import org.springframework.cloud.servicebroker.service.BeanCatalogService;
 import org.springframework.cloud.servicebroker.service.CatalogService;
 import org.springframework.cloud.servicebroker.service.NonBindableServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ReloadableCatalogService;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.cloud.servicebroker.service.blocking.BlockingServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.blocking.BlockingServiceInstanceBindingServiceAdapter;
+import org.springframework.cloud.servicebroker.service.blocking.BlockingServiceInstanceService;
+import org.springframework.cloud.servicebroker.service.blocking.BlockingServiceInstanceServiceAdapter;
+import org.springframework.cloud.servicebroker.service.blocking.OffloadingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.caching.ResponseCacheInvalidationFlows;
+import org.springframework.cloud.servicebroker.service.caching.ResponseCachingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.caching.ServiceResponseCache;
+import org.springframework.cloud.servicebroker.service.coalescing.CoalescingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.coalescing.DeduplicatingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.concurrency.OperationGate;
+import org.springframework.cloud.servicebroker.service.concurrency.OperationGateServiceDecorator;
+import org.springframework.cloud.servicebroker.service.operations.AsyncPromotionServiceDecorator;
+import org.springframework.cloud.servicebroker.service.operations.InMemoryOperationStore;
+import org.springframework.cloud.servicebroker.service.operations.OperationStore;
+import org.springframework.cloud.servicebroker.service.operations.OperationTrackingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.polling.AdaptivePollingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.polling.PollingAdvisor;
+import org.springframework.cloud.servicebroker.service.ratelimit.RateLimit;
+import org.springframework.cloud.servicebroker.service.ratelimit.RateLimiter;
+import org.springframework.cloud.servicebroker.service.ratelimit.RateLimitingServiceDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for the service broker implementation beans.
@@ -36,8 +80,46 @@ import org.springframework.context.annotation.Configuration;
  * Provides a default {@link CatalogService} bean if a {@link Catalog} bean is provided. A catalog may be defined in
  * external configuration, or via a Spring bean.
  * <p>
+ * Provides a {@link BlockingServiceInstanceServiceAdapter} if a {@link BlockingServiceInstanceService} is provided in
+ * place of a {@link ServiceInstanceService}, and a {@link BlockingServiceInstanceBindingServiceAdapter} if a
+ * {@link BlockingServiceInstanceBindingService} is provided in place of a {@link ServiceInstanceBindingService}.
+ * <p>
  * Provides a {@link NonBindableServiceInstanceBindingService} if a {@link ServiceInstanceBindingService} is not
  * provided, indicating that the service broker provides no bindable services.
+ * <p>
+ * Provides a {@link DefaultOriginatingIdentityDecoder} if an {@link OriginatingIdentityDecoder} is not provided, or a
+ * {@link CachingOriginatingIdentityDecoder} if originating identity caching is enabled in external configuration.
+ * <p>
+ * Provides an {@link OffloadingServiceDecorator} if service offloading is enabled in external configuration.
+ * <p>
+ * Provides a {@link CoalescingServiceDecorator} if request coalescing is enabled in external configuration.
+ * <p>
+ * Provides a {@link DeduplicatingServiceDecorator} if request deduplication is enabled in external configuration.
+ * <p>
+ * Provides an {@link OperationTrackingServiceDecorator}, and an {@link InMemoryOperationStore} if an
+ * {@link OperationStore} is not provided, if operation tracking is enabled in external configuration.
+ * <p>
+ * Provides an {@link AsyncPromotionServiceDecorator} if async promotion is enabled in external configuration.
+ * <p>
+ * Provides an {@link OperationGateServiceDecorator} if concurrency control is enabled in external configuration.
+ * <p>
+ * Provides an {@link AdaptivePollingServiceDecorator}, and a {@link PollingAdvisor} if one is not provided, if
+ * adaptive polling is enabled in external configuration.
+ * <p>
+ * Provides an {@link AdmissionControl} if admission control is enabled in external configuration.
+ * <p>
+ * Provides a {@link RateLimitingServiceDecorator}, and a {@link RateLimiter} if one is not provided, if rate limiting
+ * is enabled in external configuration.
+ * <p>
+ * Provides a {@link ResponseCachingServiceDecorator} and {@link ResponseCacheInvalidationFlows}, and a
+ * {@link ServiceResponseCache} if one is not provided, if response caching is enabled in external configuration.
+ * <p>
+ * Provides a {@link PrecompiledRequestValidator} if precompiled validation is enabled in external configuration.
+ * <p>
+ * Provides a {@link RequestLogger} configured from external configuration if one is not provided.
+ * <p>
+ * Provides a {@link ReloadableCatalogService} in place of the default {@link CatalogService} if catalog reloading is
+ * enabled in external configuration.
  *
  * @author Scott Frederick
  * @author Roy Clarkson
@@ -61,6 +143,46 @@ public class ServiceBrokerAutoConfiguration {
 		return new BeanCatalogService(catalog);
 	}
 
+	/**
+	 * Conditionally provides an {@link OriginatingIdentityDecoder} bean
+	 *
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnMissingBean(OriginatingIdentityDecoder.class)
+	public OriginatingIdentityDecoder originatingIdentityDecoder() {
+		return new DefaultOriginatingIdentityDecoder();
+	}
+
+	/**
+	 * Conditionally provides a {@link ServiceInstanceService} bean adapting a {@link BlockingServiceInstanceService}
+	 *
+	 * @param blockingServiceInstanceService the BlockingServiceInstanceService bean
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnMissingBean(ServiceInstanceService.class)
+	@ConditionalOnBean(BlockingServiceInstanceService.class)
+	public ServiceInstanceService blockingServiceInstanceServiceAdapter(
+			BlockingServiceInstanceService blockingServiceInstanceService) {
+		return new BlockingServiceInstanceServiceAdapter(blockingServiceInstanceService);
+	}
+
+	/**
+	 * Conditionally provides a {@link ServiceInstanceBindingService} bean adapting a
+	 * {@link BlockingServiceInstanceBindingService}
+	 *
+	 * @param blockingServiceInstanceBindingService the BlockingServiceInstanceBindingService bean
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnMissingBean(ServiceInstanceBindingService.class)
+	@ConditionalOnBean(BlockingServiceInstanceBindingService.class)
+	public ServiceInstanceBindingService blockingServiceInstanceBindingServiceAdapter(
+			BlockingServiceInstanceBindingService blockingServiceInstanceBindingService) {
+		return new BlockingServiceInstanceBindingServiceAdapter(blockingServiceInstanceBindingService);
+	}
+
 	/**
 	 * Conditionally provides a {@link ServiceInstanceBindingService} bean
 	 *
@@ -72,6 +194,566 @@ public class ServiceBrokerAutoConfiguration {
 		return new NonBindableServiceInstanceBindingService();
 	}
 
+	/**
+	 * Provides a {@link CachingOriginatingIdentityDecoder} bean when originating identity caching is enabled in
+	 * external configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(OriginatingIdentityDecoder.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.originating-identity-cache", name = "enabled",
+			havingValue = "true")
+	protected static class OriginatingIdentityCacheConfiguration {
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link OriginatingIdentityCacheConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public OriginatingIdentityCacheConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Provide a {@link CachingOriginatingIdentityDecoder} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		public CachingOriginatingIdentityDecoder originatingIdentityDecoder() {
+			ServiceBrokerProperties.OriginatingIdentityCache cache = this.serviceBrokerProperties
+					.getOriginatingIdentityCache();
+			return new CachingOriginatingIdentityDecoder(new DefaultOriginatingIdentityDecoder(),
+					cache.getMaximumSize(), cache.getTimeToLive());
+		}
+
+	}
+
+	/**
+	 * Provides an {@link OffloadingServiceDecorator} bean if service offloading is enabled
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(OffloadingServiceDecorator.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.service-offload", name = "enabled",
+			havingValue = "true")
+	protected static class ServiceOffloadConfiguration {
+
+		/**
+		 * Provide an {@link OffloadingServiceDecorator} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		public OffloadingServiceDecorator offloadingServiceDecorator() {
+			return new OffloadingServiceDecorator();
+		}
+
+	}
+
+	/**
+	 * Provides a {@link CoalescingServiceDecorator} bean if request coalescing is enabled
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(CoalescingServiceDecorator.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.request-coalescing", name = "enabled",
+			havingValue = "true")
+	protected static class RequestCoalescingConfiguration {
+
+		/**
+		 * Provide a {@link CoalescingServiceDecorator} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		public CoalescingServiceDecorator coalescingServiceDecorator() {
+			return new CoalescingServiceDecorator();
+		}
+
+	}
+
+	/**
+	 * Provides a {@link DeduplicatingServiceDecorator} bean when request deduplication is enabled in external
+	 * configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(DeduplicatingServiceDecorator.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.request-deduplication", name = "enabled",
+			havingValue = "true")
+	protected static class RequestDeduplicationConfiguration {
+
+		/**
+		 * Provide a {@link DeduplicatingServiceDecorator} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		public DeduplicatingServiceDecorator deduplicatingServiceDecorator() {
+			return new DeduplicatingServiceDecorator();
+		}
+
+	}
+
+	/**
+	 * Provides an {@link OperationTrackingServiceDecorator} bean when operation tracking is enabled in external
+	 * configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(OperationTrackingServiceDecorator.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.operation-tracking", name = "enabled",
+			havingValue = "true")
+	protected static class OperationTrackingConfiguration {
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link OperationTrackingConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public OperationTrackingConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Conditionally provide an {@link OperationStore} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		@ConditionalOnMissingBean(OperationStore.class)
+		public InMemoryOperationStore operationStore() {
+			return new InMemoryOperationStore(this.serviceBrokerProperties.getOperationTracking().getRetention());
+		}
+
+		/**
+		 * Provide an {@link OperationTrackingServiceDecorator} bean
+		 *
+		 * @param operationStore the OperationStore bean
+		 * @return the bean
+		 */
+		@Bean
+		public OperationTrackingServiceDecorator operationTrackingServiceDecorator(OperationStore operationStore) {
+			return new OperationTrackingServiceDecorator(operationStore,
+					this.serviceBrokerProperties.getOperationTracking().getRefreshInterval());
+		}
+
+	}
+
+	/**
+	 * Provides an {@link AsyncPromotionServiceDecorator} bean when async promotion is enabled in external
+	 * configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(AsyncPromotionServiceDecorator.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.async-promotion", name = "enabled",
+			havingValue = "true")
+	protected static class AsyncPromotionConfiguration {
+
+		/**
+		 * Provide an {@link AsyncPromotionServiceDecorator} bean. Promoted operations are recorded in a store of their
+		 * own, rather than in the {@link OperationStore} bean used by operation tracking.
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 * @return the bean
+		 */
+		@Bean
+		public AsyncPromotionServiceDecorator asyncPromotionServiceDecorator(
+				ServiceBrokerProperties serviceBrokerProperties) {
+			ServiceBrokerProperties.AsyncPromotion properties = serviceBrokerProperties.getAsyncPromotion();
+			return new AsyncPromotionServiceDecorator(new InMemoryOperationStore(properties.getRetention()),
+					properties.getBudget());
+		}
+
+	}
+
+	/**
+	 * Provides an {@link OperationGateServiceDecorator} bean when concurrency control is enabled in external
+	 * configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(OperationGateServiceDecorator.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.concurrency-control", name = "enabled",
+			havingValue = "true")
+	protected static class ConcurrencyControlConfiguration {
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link ConcurrencyControlConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public ConcurrencyControlConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Conditionally provide an {@link OperationGate} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		@ConditionalOnMissingBean(OperationGate.class)
+		public OperationGate operationGate() {
+			ServiceBrokerProperties.ConcurrencyControl concurrencyControl =
+					this.serviceBrokerProperties.getConcurrencyControl();
+			return new OperationGate(concurrencyControl.getMaximumHolds(), concurrencyControl.getHoldTimeToLive());
+		}
+
+		/**
+		 * Provide an {@link OperationGateServiceDecorator} bean
+		 *
+		 * @param operationGate the OperationGate bean
+		 * @return the bean
+		 */
+		@Bean
+		public OperationGateServiceDecorator operationGateServiceDecorator(OperationGate operationGate) {
+			return new OperationGateServiceDecorator(operationGate);
+		}
+
+	}
+
+	/**
+	 * Provides an {@link AdaptivePollingServiceDecorator} bean when adaptive polling is enabled in external
+	 * configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(AdaptivePollingServiceDecorator.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.adaptive-polling", name = "enabled",
+			havingValue = "true")
+	protected static class AdaptivePollingConfiguration {
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link AdaptivePollingConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public AdaptivePollingConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Conditionally provide a {@link PollingAdvisor} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		@ConditionalOnMissingBean(PollingAdvisor.class)
+		public PollingAdvisor pollingAdvisor() {
+			ServiceBrokerProperties.AdaptivePolling adaptivePolling = this.serviceBrokerProperties.getAdaptivePolling();
+			return new PollingAdvisor(adaptivePolling.getMinimumInterval(), adaptivePolling.getMaximumInterval(),
+					adaptivePolling.getMaximumOperations());
+		}
+
+		/**
+		 * Provide an {@link AdaptivePollingServiceDecorator} bean
+		 *
+		 * @param pollingAdvisor the PollingAdvisor bean
+		 * @return the bean
+		 */
+		@Bean
+		public AdaptivePollingServiceDecorator adaptivePollingServiceDecorator(PollingAdvisor pollingAdvisor) {
+			return new AdaptivePollingServiceDecorator(pollingAdvisor);
+		}
+
+	}
+
+	/**
+	 * Provides an {@link AdmissionControl} bean when admission control is enabled in external configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(AdmissionControl.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.admission-control", name = "enabled",
+			havingValue = "true")
+	protected static class AdmissionControlConfiguration {
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link AdmissionControlConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public AdmissionControlConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Provide an {@link AdmissionControl} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		public AdmissionControl admissionControl() {
+			ServiceBrokerProperties.AdmissionControl admissionControl = this.serviceBrokerProperties
+					.getAdmissionControl();
+			return new AdmissionControl(admissionControl.getInitialLimit(), admissionControl.getMinimumLimit(),
+					admissionControl.getMaximumLimit());
+		}
+
+	}
+
+	/**
+	 * Provides a {@link RateLimitingServiceDecorator} bean when rate limiting is enabled in external configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(RateLimitingServiceDecorator.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.rate-limiting", name = "enabled",
+			havingValue = "true")
+	protected static class RateLimitingConfiguration {
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link RateLimitingConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public RateLimitingConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Conditionally provide a {@link RateLimiter} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		@ConditionalOnMissingBean(RateLimiter.class)
+		public RateLimiter rateLimiter() {
+			ServiceBrokerProperties.RateLimiting rateLimiting = this.serviceBrokerProperties.getRateLimiting();
+			Map<String, RateLimit> operations = new HashMap<>();
+			rateLimiting.getOperations().forEach((name, operation) -> operations.put(name, new RateLimit(
+					operation.getLimit() != null ? operation.getLimit() : rateLimiting.getLimit(),
+					operation.getPeriod() != null ? operation.getPeriod() : rateLimiting.getPeriod())));
+			return new RateLimiter(new RateLimit(rateLimiting.getLimit(), rateLimiting.getPeriod()), operations,
+					rateLimiting.getPartition(), rateLimiting.getMaximumKeys());
+		}
+
+		/**
+		 * Provide a {@link RateLimitingServiceDecorator} bean
+		 *
+		 * @param rateLimiter the RateLimiter bean
+		 * @return the bean
+		 */
+		@Bean
+		public RateLimitingServiceDecorator rateLimitingServiceDecorator(RateLimiter rateLimiter) {
+			return new RateLimitingServiceDecorator(rateLimiter);
+		}
+
+	}
+
+	/**
+	 * Provides a {@link ResponseCachingServiceDecorator} bean when response caching is enabled in external
+	 * configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(ResponseCachingServiceDecorator.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.response-caching", name = "enabled",
+			havingValue = "true")
+	protected static class ResponseCachingConfiguration {
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link ResponseCachingConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public ResponseCachingConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Conditionally provide a {@link ServiceResponseCache} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		@ConditionalOnMissingBean(ServiceResponseCache.class)
+		public ServiceResponseCache serviceResponseCache() {
+			ServiceBrokerProperties.ResponseCaching responseCaching = this.serviceBrokerProperties.getResponseCaching();
+			return new ServiceResponseCache(responseCaching.getMaximumSize(), responseCaching.getTimeToLive());
+		}
+
+		/**
+		 * Provide a {@link ResponseCachingServiceDecorator} bean
+		 *
+		 * @param serviceResponseCache the ServiceResponseCache bean
+		 * @return the bean
+		 */
+		@Bean
+		public ResponseCachingServiceDecorator responseCachingServiceDecorator(
+				ServiceResponseCache serviceResponseCache) {
+			return new ResponseCachingServiceDecorator(serviceResponseCache);
+		}
+
+		/**
+		 * Provide a {@link ResponseCacheInvalidationFlows} bean, which is registered with the event flow registries
+		 *
+		 * @param serviceResponseCache the ServiceResponseCache bean
+		 * @return the bean
+		 */
+		@Bean
+		public ResponseCacheInvalidationFlows responseCacheInvalidationFlows(
+				ServiceResponseCache serviceResponseCache) {
+			return new ResponseCacheInvalidationFlows(serviceResponseCache);
+		}
+
+	}
+
+	/**
+	 * Provides a {@link PrecompiledRequestValidator} bean when precompiled validation is enabled in external
+	 * configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(PrecompiledRequestValidator.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.precompiled-validation", name = "enabled",
+			havingValue = "true")
+	protected static class PrecompiledValidationConfiguration {
+
+		/**
+		 * Provide a {@link PrecompiledRequestValidator} bean that resolves messages with the message interpolator of
+		 * the application's {@link ValidatorFactory}, if there is one
+		 *
+		 * @param validatorFactory the ValidatorFactory bean
+		 * @return the bean
+		 */
+		@Bean
+		public PrecompiledRequestValidator precompiledRequestValidator(
+				ObjectProvider<ValidatorFactory> validatorFactory) {
+			ValidatorFactory factory = validatorFactory.getIfUnique();
+			return (factory != null) ? new PrecompiledRequestValidator(factory.getMessageInterpolator())
+					: new PrecompiledRequestValidator();
+		}
+
+	}
+
+	/**
+	 * Conditionally provides a {@link RequestLogger} bean configured from external configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(RequestLogger.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	protected static class RequestLoggerConfiguration {
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link RequestLoggerConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public RequestLoggerConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Provide a {@link RequestLogger} bean
+		 *
+		 * @return the bean
+		 */
+		@Bean
+		public RequestLogger requestLogger() {
+			ServiceBrokerProperties.RequestLogging logging = this.serviceBrokerProperties.getRequestLogging();
+			Map<String, RequestLogger.Settings> operations = new HashMap<>();
+			logging.getOperations().forEach((name, operation) -> operations.put(name, new RequestLogger.Settings(
+					operation.getLevel() != null ? operation.getLevel() : logging.getLevel(),
+					operation.getSampleRate() != null ? operation.getSampleRate() : logging.getSampleRate())));
+			return new RequestLogger(new RequestLogger.Settings(logging.getLevel(), logging.getSampleRate()),
+					operations);
+		}
+
+	}
+
+	/**
+	 * Provides a {@link ReloadableCatalogService} bean when catalog reloading is enabled in external configuration
+	 */
+	@Configuration
+	@ConditionalOnMissingBean(CatalogService.class)
+	@EnableConfigurationProperties(ServiceBrokerProperties.class)
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.catalog-reload", name = "enabled",
+			havingValue = "true")
+	protected static class ReloadableCatalogConfiguration {
+
+		private static final String CATALOG_PREFIX = "spring.cloud.openservicebroker.catalog";
+
+		private final ServiceBrokerProperties serviceBrokerProperties;
+
+		/**
+		 * Construct a new {@link ReloadableCatalogConfiguration}
+		 *
+		 * @param serviceBrokerProperties the service broker properties
+		 */
+		public ReloadableCatalogConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+			this.serviceBrokerProperties = serviceBrokerProperties;
+		}
+
+		/**
+		 * Provide a {@link ReloadableCatalogService} bean. The catalog is loaded from the configured location if one
+		 * is set, from external configuration if a catalog is defined there, or from a {@link Catalog} bean.
+		 *
+		 * @param catalog the Catalog bean, if available
+		 * @param objectMapper the ObjectMapper bean, if available
+		 * @param environment the environment
+		 * @param resourceLoader the resource loader
+		 * @return the bean
+		 */
+		@Bean
+		public ReloadableCatalogService reloadableCatalogService(ObjectProvider<Catalog> catalog,
+				ObjectProvider<ObjectMapper> objectMapper, Environment environment, ResourceLoader resourceLoader) {
+			String location = this.serviceBrokerProperties.getCatalogReload().getLocation();
+			Supplier<Catalog> catalogSource;
+			if (StringUtils.hasText(location)) {
+				catalogSource = new ResourceCatalogSource(resourceLoader.getResource(location));
+			}
+			else {
+				catalogSource = () -> Binder.get(environment)
+						.bind(CATALOG_PREFIX, org.springframework.cloud.servicebroker.autoconfigure.web.Catalog.class)
+						.map(org.springframework.cloud.servicebroker.autoconfigure.web.Catalog::toModel)
+						.orElseGet(() -> {
+							Catalog catalogBean = catalog.getIfAvailable();
+							if (catalogBean == null) {
+								throw new CatalogDefinitionDoesNotExistException();
+							}
+							return catalogBean;
+						});
+			}
+			ObjectMapper mapper = this.serviceBrokerProperties.getSerializedCatalog().isEnabled()
+					? objectMapper.getIfAvailable(() -> Jackson2ObjectMapperBuilder.json().build()) : null;
+			return new ReloadableCatalogService(catalogSource, mapper);
+		}
+
+		/**
+		 * Provide a {@link CatalogFileWatcher} bean when a catalog location is configured
+		 *
+		 * @param catalogService the ReloadableCatalogService bean
+		 * @param resourceLoader the resource loader
+		 * @return the bean
+		 */
+		@Bean
+		@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.catalog-reload", name = "location")
+		public CatalogFileWatcher catalogFileWatcher(ReloadableCatalogService catalogService,
+				ResourceLoader resourceLoader) {
+			ServiceBrokerProperties.CatalogReload catalogReload = this.serviceBrokerProperties.getCatalogReload();
+			return new CatalogFileWatcher(catalogService, resourceLoader.getResource(catalogReload.getLocation()),
+					catalogReload.getPollInterval());
+		}
+
+	}
+
 	/**
 	 * Provides a {@link Catalog} bean when catalog properties are available in external configuration
 	 */
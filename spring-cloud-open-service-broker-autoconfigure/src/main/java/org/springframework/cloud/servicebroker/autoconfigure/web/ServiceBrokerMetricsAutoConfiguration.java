@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.servicebroker.autoconfigure.web.reactive.ServiceBrokerWebFluxAutoConfiguration;
+import org.springframework.cloud.servicebroker.autoconfigure.web.servlet.ServiceBrokerWebMvcAutoConfiguration;
+import org.springframework.cloud.servicebroker.controller.CachingOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.service.caching.CacheMetrics;
+import org.springframework.cloud.servicebroker.service.caching.ServiceResponseCache;
+import org.springframework.cloud.servicebroker.service.caching.ServiceResponseCacheMetrics;
+import org.springframework.cloud.servicebroker.service.metrics.MetricsServiceDecorator;
+import org.springframework.cloud.servicebroker.service.metrics.ServiceBrokerMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-configuration} for recording Micrometer metrics for service broker operations.
+ * Applies when a {@link MeterRegistry} bean is available, unless
+ * {@literal spring.cloud.openservicebroker.metrics.enabled} is set to {@literal false}.
+ * <p>
+ * Binds meters for the {@link ServiceResponseCache} when response caching is enabled, and for the
+ * {@link CachingOriginatingIdentityDecoder} when originating identity caching is enabled.
+ */
+@Configuration
+@AutoConfigureAfter(value = ServiceBrokerAutoConfiguration.class, name = {
+		"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"})
+@AutoConfigureBefore({ServiceBrokerWebMvcAutoConfiguration.class, ServiceBrokerWebFluxAutoConfiguration.class})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.metrics", name = "enabled", havingValue = "true",
+		matchIfMissing = true)
+@EnableConfigurationProperties(ServiceBrokerProperties.class)
+public class ServiceBrokerMetricsAutoConfiguration {
+
+	private final ServiceBrokerProperties serviceBrokerProperties;
+
+	/**
+	 * Construct a new {@link ServiceBrokerMetricsAutoConfiguration}
+	 *
+	 * @param serviceBrokerProperties the service broker properties
+	 */
+	public ServiceBrokerMetricsAutoConfiguration(ServiceBrokerProperties serviceBrokerProperties) {
+		this.serviceBrokerProperties = serviceBrokerProperties;
+	}
+
+	/**
+	 * Conditionally provide a {@link ServiceBrokerMetrics} bean
+	 *
+	 * @param meterRegistry the MeterRegistry bean
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public ServiceBrokerMetrics serviceBrokerMetrics(MeterRegistry meterRegistry) {
+		ServiceBrokerProperties.Metrics metrics = this.serviceBrokerProperties.getMetrics();
+		return new ServiceBrokerMetrics(meterRegistry, metrics.isServiceIdTag(), metrics.isPlanIdTag(),
+				metrics.isPercentileHistogram());
+	}
+
+	/**
+	 * Conditionally provide a {@link MetricsServiceDecorator} bean
+	 *
+	 * @param serviceBrokerMetrics the ServiceBrokerMetrics bean
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public MetricsServiceDecorator metricsServiceDecorator(ServiceBrokerMetrics serviceBrokerMetrics) {
+		return new MetricsServiceDecorator(serviceBrokerMetrics);
+	}
+
+	/**
+	 * Provide a {@link ServiceResponseCacheMetrics} bean, bound to the meter registry, when response caching is
+	 * enabled
+	 *
+	 * @param meterRegistry the MeterRegistry bean
+	 * @param serviceResponseCache the ServiceResponseCache bean
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(ServiceResponseCache.class)
+	public ServiceResponseCacheMetrics serviceResponseCacheMetrics(MeterRegistry meterRegistry,
+			ServiceResponseCache serviceResponseCache) {
+		ServiceResponseCacheMetrics metrics = new ServiceResponseCacheMetrics(serviceResponseCache);
+		metrics.bindTo(meterRegistry);
+		return metrics;
+	}
+
+	/**
+	 * Provide a {@link CacheMetrics} bean for the originating identity cache, bound to the meter registry, when
+	 * originating identity caching is enabled
+	 *
+	 * @param meterRegistry the MeterRegistry bean
+	 * @param originatingIdentityDecoder the CachingOriginatingIdentityDecoder bean
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnMissingBean(name = "originatingIdentityCacheMetrics")
+	@ConditionalOnBean(CachingOriginatingIdentityDecoder.class)
+	public CacheMetrics originatingIdentityCacheMetrics(MeterRegistry meterRegistry,
+			CachingOriginatingIdentityDecoder originatingIdentityDecoder) {
+		CacheMetrics metrics = new CacheMetrics("originating_identities", originatingIdentityDecoder);
+		metrics.bindTo(meterRegistry);
+		return metrics;
+	}
+
+}
@@ -16,8 +16,17 @@
 
 package org.springframework.cloud.servicebroker.autoconfigure.web;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.event.Level;
+import reactor.util.concurrent.Queues;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.cloud.servicebroker.service.events.EventFlowExecution;
+import org.springframework.cloud.servicebroker.service.ratelimit.RateLimiter;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -34,6 +43,40 @@ public class ServiceBrokerProperties {
 	@NestedConfigurationProperty
 	private Catalog catalog;
 
+	private final OriginatingIdentityCache originatingIdentityCache = new OriginatingIdentityCache();
+
+	private final SerializedCatalog serializedCatalog = new SerializedCatalog();
+
+	private final CatalogReload catalogReload = new CatalogReload();
+
+	private final Metrics metrics = new Metrics();
+
+	private final RequestLogging requestLogging = new RequestLogging();
+
+	private final EventFlows eventFlows = new EventFlows();
+
+	private final ServiceOffload serviceOffload = new ServiceOffload();
+
+	private final RequestCoalescing requestCoalescing = new RequestCoalescing();
+
+	private final OperationTracking operationTracking = new OperationTracking();
+
+	private final ConcurrencyControl concurrencyControl = new ConcurrencyControl();
+
+	private final RequestDeduplication requestDeduplication = new RequestDeduplication();
+
+	private final AdaptivePolling adaptivePolling = new AdaptivePolling();
+
+	private final AdmissionControl admissionControl = new AdmissionControl();
+
+	private final RateLimiting rateLimiting = new RateLimiting();
+
+	private final ResponseCaching responseCaching = new ResponseCaching();
+
+	private final PrecompiledValidation precompiledValidation = new PrecompiledValidation();
+
+	private final AsyncPromotion asyncPromotion = new AsyncPromotion();
+
 	public String getApiVersion() {
 		return apiVersion;
 	}
@@ -50,4 +93,749 @@ public class ServiceBrokerProperties {
 		this.catalog = catalog;
 	}
 
+	public OriginatingIdentityCache getOriginatingIdentityCache() {
+		return this.originatingIdentityCache;
+	}
+
+	public SerializedCatalog getSerializedCatalog() {
+		return this.serializedCatalog;
+	}
+
+	public CatalogReload getCatalogReload() {
+		return this.catalogReload;
+	}
+
+	public Metrics getMetrics() {
+		return this.metrics;
+	}
+
+	public RequestLogging getRequestLogging() {
+		return this.requestLogging;
+	}
+
+	public EventFlows getEventFlows() {
+		return this.eventFlows;
+	}
+
+	public ServiceOffload getServiceOffload() {
+		return this.serviceOffload;
+	}
+
+	public RequestCoalescing getRequestCoalescing() {
+		return this.requestCoalescing;
+	}
+
+	public OperationTracking getOperationTracking() {
+		return this.operationTracking;
+	}
+
+	public ConcurrencyControl getConcurrencyControl() {
+		return this.concurrencyControl;
+	}
+
+	public RequestDeduplication getRequestDeduplication() {
+		return this.requestDeduplication;
+	}
+
+	public AdaptivePolling getAdaptivePolling() {
+		return this.adaptivePolling;
+	}
+
+	public AdmissionControl getAdmissionControl() {
+		return this.admissionControl;
+	}
+
+	public RateLimiting getRateLimiting() {
+		return this.rateLimiting;
+	}
+
+	public ResponseCaching getResponseCaching() {
+		return this.responseCaching;
+	}
+
+	public PrecompiledValidation getPrecompiledValidation() {
+		return this.precompiledValidation;
+	}
+
+	public AsyncPromotion getAsyncPromotion() {
+		return this.asyncPromotion;
+	}
+
+	/**
+	 * Configuration for caching decoded originating identity headers
+	 */
+	public static class OriginatingIdentityCache {
+
+		private boolean enabled;
+
+		private int maximumSize = 1000;
+
+		private Duration timeToLive = Duration.ofMinutes(5);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaximumSize() {
+			return this.maximumSize;
+		}
+
+		public void setMaximumSize(int maximumSize) {
+			this.maximumSize = maximumSize;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
+	/**
+	 * Configuration for serving a pre-serialized catalog
+	 */
+	public static class SerializedCatalog {
+
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration for reloading the catalog while the service broker is running
+	 */
+	public static class CatalogReload {
+
+		private boolean enabled;
+
+		private String location;
+
+		private Duration pollInterval = Duration.ofSeconds(10);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getLocation() {
+			return this.location;
+		}
+
+		public void setLocation(String location) {
+			this.location = location;
+		}
+
+		public Duration getPollInterval() {
+			return this.pollInterval;
+		}
+
+		public void setPollInterval(Duration pollInterval) {
+			this.pollInterval = pollInterval;
+		}
+
+	}
+
+	/**
+	 * Configuration for recording Micrometer metrics for service broker operations
+	 */
+	public static class Metrics {
+
+		private boolean enabled = true;
+
+		private boolean serviceIdTag = true;
+
+		private boolean planIdTag = true;
+
+		private boolean percentileHistogram = true;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isServiceIdTag() {
+			return this.serviceIdTag;
+		}
+
+		public void setServiceIdTag(boolean serviceIdTag) {
+			this.serviceIdTag = serviceIdTag;
+		}
+
+		public boolean isPlanIdTag() {
+			return this.planIdTag;
+		}
+
+		public void setPlanIdTag(boolean planIdTag) {
+			this.planIdTag = planIdTag;
+		}
+
+		public boolean isPercentileHistogram() {
+			return this.percentileHistogram;
+		}
+
+		public void setPercentileHistogram(boolean percentileHistogram) {
+			this.percentileHistogram = percentileHistogram;
+		}
+
+	}
+
+	/**
+	 * Configuration for the summaries logged for each request processed by the controllers
+	 */
+	public static class RequestLogging {
+
+		private Level level = Level.INFO;
+
+		private double sampleRate = 1.0;
+
+		private final Map<String, Operation> operations = new HashMap<>();
+
+		public Level getLevel() {
+			return this.level;
+		}
+
+		public void setLevel(Level level) {
+			this.level = level;
+		}
+
+		public double getSampleRate() {
+			return this.sampleRate;
+		}
+
+		public void setSampleRate(double sampleRate) {
+			this.sampleRate = sampleRate;
+		}
+
+		public Map<String, Operation> getOperations() {
+			return this.operations;
+		}
+
+		/**
+		 * Overrides of the request summary configuration for a single operation
+		 */
+		public static class Operation {
+
+			private Level level;
+
+			private Double sampleRate;
+
+			public Level getLevel() {
+				return this.level;
+			}
+
+			public void setLevel(Level level) {
+				this.level = level;
+			}
+
+			public Double getSampleRate() {
+				return this.sampleRate;
+			}
+
+			public void setSampleRate(Double sampleRate) {
+				this.sampleRate = sampleRate;
+			}
+
+		}
+
+	}
+
+	/**
+	 * Configuration for the execution of event flows
+	 */
+	public static class EventFlows {
+
+		private EventFlowExecution.Mode mode = EventFlowExecution.Mode.PARALLEL;
+
+		private int concurrency = Queues.SMALL_BUFFER_SIZE;
+
+		private Duration timeout;
+
+		private boolean offload;
+
+		private boolean detachCompletionFlows;
+
+		private boolean transitionOnlyCompletionFlows;
+
+		private int trackedOperations = 10_000;
+
+		public EventFlowExecution.Mode getMode() {
+			return this.mode;
+		}
+
+		public void setMode(EventFlowExecution.Mode mode) {
+			this.mode = mode;
+		}
+
+		public int getConcurrency() {
+			return this.concurrency;
+		}
+
+		public void setConcurrency(int concurrency) {
+			this.concurrency = concurrency;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		public boolean isOffload() {
+			return this.offload;
+		}
+
+		public void setOffload(boolean offload) {
+			this.offload = offload;
+		}
+
+		public boolean isDetachCompletionFlows() {
+			return this.detachCompletionFlows;
+		}
+
+		public void setDetachCompletionFlows(boolean detachCompletionFlows) {
+			this.detachCompletionFlows = detachCompletionFlows;
+		}
+
+		public boolean isTransitionOnlyCompletionFlows() {
+			return this.transitionOnlyCompletionFlows;
+		}
+
+		public void setTransitionOnlyCompletionFlows(boolean transitionOnlyCompletionFlows) {
+			this.transitionOnlyCompletionFlows = transitionOnlyCompletionFlows;
+		}
+
+		public int getTrackedOperations() {
+			return this.trackedOperations;
+		}
+
+		public void setTrackedOperations(int trackedOperations) {
+			this.trackedOperations = trackedOperations;
+		}
+
+	}
+
+	/**
+	 * Configuration for invoking the service instance and binding services on threads that allow blocking
+	 */
+	public static class ServiceOffload {
+
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration for coalescing concurrent identical requests to retrieve service instances, bindings and their
+	 * last operations
+	 */
+	public static class RequestCoalescing {
+
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration for recording asynchronous operations and answering last operation requests from the recorded
+	 * state
+	 */
+	public static class OperationTracking {
+
+		private boolean enabled;
+
+		private Duration refreshInterval = Duration.ofSeconds(5);
+
+		private Duration retention = Duration.ofHours(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getRefreshInterval() {
+			return this.refreshInterval;
+		}
+
+		public void setRefreshInterval(Duration refreshInterval) {
+			this.refreshInterval = refreshInterval;
+		}
+
+		public Duration getRetention() {
+			return this.retention;
+		}
+
+		public void setRetention(Duration retention) {
+			this.retention = retention;
+		}
+
+	}
+
+	/**
+	 * Configuration for rejecting concurrent requests that modify the same service instance or binding
+	 */
+	public static class ConcurrencyControl {
+
+		private boolean enabled;
+
+		private int maximumHolds = 10000;
+
+		private Duration holdTimeToLive = Duration.ofHours(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaximumHolds() {
+			return this.maximumHolds;
+		}
+
+		public void setMaximumHolds(int maximumHolds) {
+			this.maximumHolds = maximumHolds;
+		}
+
+		public Duration getHoldTimeToLive() {
+			return this.holdTimeToLive;
+		}
+
+		public void setHoldTimeToLive(Duration holdTimeToLive) {
+			this.holdTimeToLive = holdTimeToLive;
+		}
+
+	}
+
+	/**
+	 * Configuration for deduplicating concurrent requests to create the same service instance or binding
+	 */
+	public static class RequestDeduplication {
+
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration for advising platforms when to poll for the last operation
+	 */
+	public static class AdaptivePolling {
+
+		private boolean enabled;
+
+		private Duration minimumInterval = Duration.ofSeconds(1);
+
+		private Duration maximumInterval = Duration.ofMinutes(5);
+
+		private int maximumOperations = 10000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getMinimumInterval() {
+			return this.minimumInterval;
+		}
+
+		public void setMinimumInterval(Duration minimumInterval) {
+			this.minimumInterval = minimumInterval;
+		}
+
+		public Duration getMaximumInterval() {
+			return this.maximumInterval;
+		}
+
+		public void setMaximumInterval(Duration maximumInterval) {
+			this.maximumInterval = maximumInterval;
+		}
+
+		public int getMaximumOperations() {
+			return this.maximumOperations;
+		}
+
+		public void setMaximumOperations(int maximumOperations) {
+			this.maximumOperations = maximumOperations;
+		}
+
+	}
+
+	/**
+	 * Configuration for limiting the number of requests processed concurrently for each operation
+	 */
+	public static class AdmissionControl {
+
+		private boolean enabled;
+
+		private int initialLimit = 20;
+
+		private int minimumLimit = 1;
+
+		private int maximumLimit = 1000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getInitialLimit() {
+			return this.initialLimit;
+		}
+
+		public void setInitialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+		}
+
+		public int getMinimumLimit() {
+			return this.minimumLimit;
+		}
+
+		public void setMinimumLimit(int minimumLimit) {
+			this.minimumLimit = minimumLimit;
+		}
+
+		public int getMaximumLimit() {
+			return this.maximumLimit;
+		}
+
+		public void setMaximumLimit(int maximumLimit) {
+			this.maximumLimit = maximumLimit;
+		}
+
+	}
+
+	/**
+	 * Configuration for limiting the rate of requests from each platform or originating user
+	 */
+	public static class RateLimiting {
+
+		private boolean enabled;
+
+		private RateLimiter.Partition partition = RateLimiter.Partition.PLATFORM;
+
+		private int limit = 100;
+
+		private Duration period = Duration.ofMinutes(1);
+
+		private int maximumKeys = 10000;
+
+		private final Map<String, Operation> operations = new HashMap<>();
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public RateLimiter.Partition getPartition() {
+			return this.partition;
+		}
+
+		public void setPartition(RateLimiter.Partition partition) {
+			this.partition = partition;
+		}
+
+		public int getLimit() {
+			return this.limit;
+		}
+
+		public void setLimit(int limit) {
+			this.limit = limit;
+		}
+
+		public Duration getPeriod() {
+			return this.period;
+		}
+
+		public void setPeriod(Duration period) {
+			this.period = period;
+		}
+
+		public int getMaximumKeys() {
+			return this.maximumKeys;
+		}
+
+		public void setMaximumKeys(int maximumKeys) {
+			this.maximumKeys = maximumKeys;
+		}
+
+		public Map<String, Operation> getOperations() {
+			return this.operations;
+		}
+
+		/**
+		 * Overrides of the rate limit for a single operation
+		 */
+		public static class Operation {
+
+			private Integer limit;
+
+			private Duration period;
+
+			public Integer getLimit() {
+				return this.limit;
+			}
+
+			public void setLimit(Integer limit) {
+				this.limit = limit;
+			}
+
+			public Duration getPeriod() {
+				return this.period;
+			}
+
+			public void setPeriod(Duration period) {
+				this.period = period;
+			}
+
+		}
+
+	}
+
+	/**
+	 * Configuration for caching the responses to requests to fetch service instances and service instance bindings
+	 */
+	public static class ResponseCaching {
+
+		private boolean enabled;
+
+		private int maximumSize = 1000;
+
+		private Duration timeToLive = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaximumSize() {
+			return this.maximumSize;
+		}
+
+		public void setMaximumSize(int maximumSize) {
+			this.maximumSize = maximumSize;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
+	/**
+	 * Configuration for validating request bodies with constraints read once at startup
+	 */
+	public static class PrecompiledValidation {
+
+		private boolean enabled;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+	/**
+	 * Configuration for answering slow service instance requests asynchronously
+	 */
+	public static class AsyncPromotion {
+
+		private boolean enabled;
+
+		private Duration budget = Duration.ofSeconds(10);
+
+		private Duration retention = Duration.ofHours(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getBudget() {
+			return this.budget;
+		}
+
+		public void setBudget(Duration budget) {
+			this.budget = budget;
+		}
+
+		public Duration getRetention() {
+			return this.retention;
+		}
+
+		public void setRetention(Duration retention) {
+			this.retention = retention;
+		}
+
+	}
+
 }
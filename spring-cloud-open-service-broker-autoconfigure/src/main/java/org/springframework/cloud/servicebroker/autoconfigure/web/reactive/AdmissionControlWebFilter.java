@@ -0,0 +1,111 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web.reactive;
+
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import org.springframework.cloud.servicebroker.controller.AdmissionControl;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * {@link WebFilter} that applies {@link AdmissionControl} to service broker API requests. A request beyond the
+ * concurrency limit for its operation is answered with an HTTP 503 status and a {@literal Retry-After} header before
+ * its body is read.
+ * <p>
+ * The filter is ordered ahead of other filters, and the rejection response body is serialized once when the filter is
+ * constructed.
+ */
+public class AdmissionControlWebFilter implements WebFilter, Ordered {
+
+	private static final byte[] EMPTY_JSON = "{}".getBytes(StandardCharsets.UTF_8);
+
+	private final AdmissionControl admissionControl;
+
+	private final byte[] rejectionBody;
+
+	/**
+	 * Construct a new {@link AdmissionControlWebFilter}
+	 *
+	 * @param admissionControl the admission control
+	 */
+	public AdmissionControlWebFilter(AdmissionControl admissionControl) {
+		this.admissionControl = admissionControl;
+		this.rejectionBody = toJson(new ObjectMapper(), admissionControl);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest request = exchange.getRequest();
+		String operation = this.admissionControl.getOperation(request.getMethod().name(),
+				request.getPath().pathWithinApplication().value());
+		if (operation == null) {
+			return chain.filter(exchange);
+		}
+		AdmissionControl.Permit permit = this.admissionControl.tryAcquire(operation);
+		if (permit == null) {
+			return reject(exchange.getResponse(), operation);
+		}
+		return chain.filter(exchange)
+				.doFinally(signalType -> permit.release(isFailed(signalType, exchange.getResponse())));
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	private Mono<Void> reject(ServerHttpResponse response, String operation) {
+		response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+		HttpHeaders headers = response.getHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.set(HttpHeaders.RETRY_AFTER,
+				String.valueOf(this.admissionControl.getRetryAfter(operation).getSeconds()));
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(this.rejectionBody)));
+	}
+
+	private static boolean isFailed(SignalType signalType, ServerHttpResponse response) {
+		if (signalType == SignalType.ON_ERROR) {
+			return true;
+		}
+		HttpStatusCode statusCode = response.getStatusCode();
+		return statusCode != null && statusCode.is5xxServerError();
+	}
+
+	private static byte[] toJson(ObjectMapper objectMapper, AdmissionControl admissionControl) {
+		try {
+			return objectMapper.writeValueAsBytes(admissionControl.createRejectionException().getErrorMessage());
+		}
+		catch (JsonProcessingException e) {
+			return EMPTY_JSON;
+		}
+	}
+
+}
@@ -17,16 +17,16 @@
 package org.springframework.cloud.servicebroker.autoconfigure.web.reactive;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerApiVersionErrorMessage;
 import org.springframework.cloud.servicebroker.model.BrokerApiVersion;
 import org.springframework.cloud.servicebroker.model.error.ErrorMessage;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
@@ -37,15 +37,32 @@ import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * {@link WebFilter} that configures checking for an appropriate service broker API version.
+ * <p>
+ * The request path pattern is parsed once, and the error response bodies are serialized once when the filter is
+ * constructed, so that requests carrying the expected version are passed along without additional allocation.
  *
  * @author Roy Clarkson
  */
 public class ApiVersionWebFilter implements WebFilter {
 
-	private static final String V2_API_PATH_PATTERN = "/v2/**";
+	private static final PathPattern V2_API_PATH_PATTERN = PathPatternParser.defaultInstance.parse("/v2/**");
+
+	private static final String PROVIDED_VERSION_PLACEHOLDER = "__PROVIDED_API_VERSION__";
+
+	private static final byte[] EMPTY_JSON = "{}".getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] EMPTY_BODY = new byte[0];
 
 	private final BrokerApiVersion version;
 
+	private final boolean validationEnabled;
+
+	private final byte[] missingVersionBody;
+
+	private final byte[] mismatchedVersionPrefix;
+
+	private final byte[] mismatchedVersionSuffix;
+
 	/**
 	 * Construct a filter that disables API version validation.
 	 */
@@ -60,6 +77,15 @@ public class ApiVersionWebFilter implements WebFilter {
 	 */
 	public ApiVersionWebFilter(BrokerApiVersion version) {
 		this.version = version;
+		this.validationEnabled = version != null && !BrokerApiVersion.API_VERSION_ANY.equals(version.getApiVersion());
+		ObjectMapper objectMapper = new ObjectMapper();
+		String expectedApiVersion = version == null ? BrokerApiVersion.API_VERSION_ANY : version.getApiVersion();
+		this.missingVersionBody = toJson(objectMapper, expectedApiVersion, null);
+		byte[] template = toJson(objectMapper, expectedApiVersion, PROVIDED_VERSION_PLACEHOLDER);
+		int index = lastIndexOf(template, PROVIDED_VERSION_PLACEHOLDER.getBytes(StandardCharsets.UTF_8));
+		this.mismatchedVersionPrefix = index < 0 ? EMPTY_BODY : Arrays.copyOfRange(template, 0, index);
+		this.mismatchedVersionSuffix = index < 0 ? EMPTY_BODY
+				: Arrays.copyOfRange(template, index + PROVIDED_VERSION_PLACEHOLDER.length(), template.length);
 	}
 
 	/**
@@ -72,43 +98,61 @@ public class ApiVersionWebFilter implements WebFilter {
 	 */
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-		PathPattern pathPattern = new PathPatternParser().parse(V2_API_PATH_PATTERN);
-		if (pathPattern.matches(exchange.getRequest().getPath()) && version != null && !anyVersionAllowed()) {
+		if (this.validationEnabled && V2_API_PATH_PATTERN.matches(exchange.getRequest().getPath())) {
 			String requestedApiVersion = exchange.getRequest().getHeaders()
-					.getFirst(version.getBrokerApiVersionHeader());
+					.getFirst(this.version.getBrokerApiVersionHeader());
 			ServerHttpResponse response = exchange.getResponse();
 			if (requestedApiVersion == null) {
 				response.setStatusCode(HttpStatus.BAD_REQUEST);
-				return writeResponse(response, requestedApiVersion);
+				return writeResponse(response, this.missingVersionBody);
 			}
-			else if (!version.getApiVersion().equals(requestedApiVersion)) {
+			else if (!this.version.getApiVersion().equals(requestedApiVersion)) {
 				response.setStatusCode(HttpStatus.PRECONDITION_FAILED);
-				return writeResponse(response, requestedApiVersion);
+				return writeResponse(response, mismatchedVersionBody(requestedApiVersion));
 			}
 		}
 		return chain.filter(exchange);
 	}
 
-	private boolean anyVersionAllowed() {
-		return BrokerApiVersion.API_VERSION_ANY.equals(version.getApiVersion());
+	private Mono<Void> writeResponse(ServerHttpResponse response, byte[] body) {
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
 	}
 
-	private Mono<Void> writeResponse(ServerHttpResponse response, String requestedApiVersion) {
-		String message = ServiceBrokerApiVersionErrorMessage.from(version.getApiVersion(), requestedApiVersion)
-				.toString();
-		return response.writeWith(Flux.just(response.bufferFactory().allocateBuffer(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY)
-				.write(toJson(ErrorMessage.builder().message(message).build()), StandardCharsets.UTF_8)));
+	private byte[] mismatchedVersionBody(String requestedApiVersion) {
+		if (this.mismatchedVersionPrefix.length == 0) {
+			return toJson(new ObjectMapper(), this.version.getApiVersion(), requestedApiVersion);
+		}
+		byte[] quoted = JsonStringEncoder.getInstance().quoteAsUTF8(requestedApiVersion);
+		byte[] body = new byte[this.mismatchedVersionPrefix.length + quoted.length
+				+ this.mismatchedVersionSuffix.length];
+		System.arraycopy(this.mismatchedVersionPrefix, 0, body, 0, this.mismatchedVersionPrefix.length);
+		System.arraycopy(quoted, 0, body, this.mismatchedVersionPrefix.length, quoted.length);
+		System.arraycopy(this.mismatchedVersionSuffix, 0, body, this.mismatchedVersionPrefix.length + quoted.length,
+				this.mismatchedVersionSuffix.length);
+		return body;
 	}
 
-	private String toJson(ErrorMessage message) {
-		String json;
+	private static byte[] toJson(ObjectMapper objectMapper, String expectedApiVersion, String requestedApiVersion) {
+		String message = ServiceBrokerApiVersionErrorMessage.from(expectedApiVersion, requestedApiVersion).toString();
 		try {
-			json = new ObjectMapper().writeValueAsString(message);
+			return objectMapper.writeValueAsBytes(ErrorMessage.builder().message(message).build());
 		}
 		catch (JsonProcessingException e) {
-			json = "{}";
+			return EMPTY_JSON;
+		}
+	}
+
+	private static int lastIndexOf(byte[] source, byte[] target) {
+		for (int i = source.length - target.length; i >= 0; i--) {
+			int j = 0;
+			while (j < target.length && source[i + j] == target[j]) {
+				j++;
+			}
+			if (j == target.length) {
+				return i;
+			}
 		}
-		return json;
+		return -1;
 	}
 
 }
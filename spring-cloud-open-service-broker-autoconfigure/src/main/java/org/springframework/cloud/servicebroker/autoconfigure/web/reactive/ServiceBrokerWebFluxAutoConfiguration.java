@@ -16,19 +16,35 @@
 
 package org.springframework.cloud.servicebroker.autoconfigure.web.reactive;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
 import org.springframework.cloud.servicebroker.autoconfigure.web.EventFlowsAutoConfiguration;
 import org.springframework.cloud.servicebroker.autoconfigure.web.ServiceBrokerAutoConfiguration;
 import org.springframework.cloud.servicebroker.autoconfigure.web.exception.ServiceInstanceServiceBeanDoesNotExistException;
+import org.springframework.cloud.servicebroker.controller.AdmissionControl;
 import org.springframework.cloud.servicebroker.controller.CatalogController;
+import org.springframework.cloud.servicebroker.controller.DefaultOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.OriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.PrecompiledRequestValidator;
+import org.springframework.cloud.servicebroker.controller.PrecompiledValidationAdvice;
+import org.springframework.cloud.servicebroker.controller.RequestLogger;
+import org.springframework.cloud.servicebroker.controller.SerializedCatalogController;
 import org.springframework.cloud.servicebroker.controller.ServiceBrokerWebFluxExceptionHandler;
 import org.springframework.cloud.servicebroker.controller.ServiceInstanceBindingController;
 import org.springframework.cloud.servicebroker.controller.ServiceInstanceController;
 import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingEventService;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceEventService;
@@ -36,6 +52,7 @@ import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
 import org.springframework.cloud.servicebroker.service.events.EventFlowRegistries;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for the service broker REST API endpoints.
@@ -50,9 +67,13 @@ public class ServiceBrokerWebFluxAutoConfiguration {
 
 	private final CatalogService catalogService;
 
-	private final ServiceInstanceEventService serviceInstanceEventService;
+	private final ServiceInstanceService serviceInstanceService;
+
+	private final ServiceInstanceBindingService serviceInstanceBindingService;
+
+	private final OriginatingIdentityDecoder originatingIdentityDecoder;
 
-	private final ServiceInstanceBindingEventService serviceInstanceBindingEventService;
+	private final RequestLogger requestLogger;
 
 	/**
 	 * Construct a new {@link ServiceBrokerWebFluxAutoConfiguration}
@@ -61,29 +82,65 @@ public class ServiceBrokerWebFluxAutoConfiguration {
 	 * @param serviceInstanceService the ServiceInstanceService bean
 	 * @param serviceInstanceBindingService the ServiceInstanceBindingService bean
 	 * @param eventFlowRegistries the EventFlowRegistries bean
+	 * @param originatingIdentityDecoder the OriginatingIdentityDecoder bean
+	 * @param serviceDecorators the ServiceDecorator beans, applied in order with the first being the outermost
+	 * @param requestLogger the RequestLogger bean
 	 */
 	protected ServiceBrokerWebFluxAutoConfiguration(CatalogService catalogService,
 			@Autowired(required = false) ServiceInstanceService serviceInstanceService,
 			ServiceInstanceBindingService serviceInstanceBindingService,
-			EventFlowRegistries eventFlowRegistries) {
+			EventFlowRegistries eventFlowRegistries,
+			@Autowired(required = false) OriginatingIdentityDecoder originatingIdentityDecoder,
+			ObjectProvider<ServiceDecorator> serviceDecorators,
+			@Autowired(required = false) RequestLogger requestLogger) {
 		if (serviceInstanceService == null) {
 			throw new ServiceInstanceServiceBeanDoesNotExistException();
 		}
-		this.catalogService = catalogService;
-		this.serviceInstanceEventService = new ServiceInstanceEventService(
+		CatalogService decoratedCatalogService = catalogService;
+		ServiceInstanceService decoratedInstanceService = new ServiceInstanceEventService(
 				serviceInstanceService, eventFlowRegistries);
-		this.serviceInstanceBindingEventService = new ServiceInstanceBindingEventService(
+		ServiceInstanceBindingService decoratedBindingService = new ServiceInstanceBindingEventService(
 				serviceInstanceBindingService, eventFlowRegistries);
+		List<ServiceDecorator> decorators = serviceDecorators.orderedStream().collect(Collectors.toList());
+		for (int i = decorators.size() - 1; i >= 0; i--) {
+			ServiceDecorator decorator = decorators.get(i);
+			decoratedCatalogService = decorator.decorateCatalogService(decoratedCatalogService);
+			decoratedInstanceService = decorator.decorateServiceInstanceService(decoratedInstanceService);
+			decoratedBindingService = decorator.decorateServiceInstanceBindingService(decoratedBindingService);
+		}
+		this.catalogService = decoratedCatalogService;
+		this.serviceInstanceService = decoratedInstanceService;
+		this.serviceInstanceBindingService = decoratedBindingService;
+		this.originatingIdentityDecoder = originatingIdentityDecoder != null ? originatingIdentityDecoder
+				: new DefaultOriginatingIdentityDecoder();
+		this.requestLogger = requestLogger != null ? requestLogger : new RequestLogger();
 	}
 
 	/**
-	 * Provide a {@link CatalogController} bean
+	 * Provide a {@link CatalogController} bean unless serving a pre-serialized catalog is enabled
 	 *
 	 * @return the bean
 	 */
 	@Bean
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.serialized-catalog", name = "enabled",
+			havingValue = "false", matchIfMissing = true)
 	public CatalogController catalogController() {
-		return new CatalogController(this.catalogService);
+		return new CatalogController(this.catalogService, this.requestLogger);
+	}
+
+	/**
+	 * Provide a {@link SerializedCatalogController} bean when serving a pre-serialized catalog is enabled
+	 *
+	 * @param objectMapper the ObjectMapper bean, if available
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "spring.cloud.openservicebroker.serialized-catalog", name = "enabled",
+			havingValue = "true")
+	public SerializedCatalogController serializedCatalogController(ObjectProvider<ObjectMapper> objectMapper) {
+		ObjectMapper mapper = objectMapper.getIfAvailable();
+		return new SerializedCatalogController(this.catalogService,
+				mapper != null ? mapper : Jackson2ObjectMapperBuilder.json().build(), this.requestLogger);
 	}
 
 	/**
@@ -94,7 +151,7 @@ public class ServiceBrokerWebFluxAutoConfiguration {
 	@Bean
 	public ServiceInstanceController serviceInstanceController() {
 		return new ServiceInstanceController(this.catalogService,
-				this.serviceInstanceEventService);
+				this.serviceInstanceService, this.originatingIdentityDecoder, this.requestLogger);
 	}
 
 	/**
@@ -105,7 +162,7 @@ public class ServiceBrokerWebFluxAutoConfiguration {
 	@Bean
 	public ServiceInstanceBindingController serviceInstanceBindingController() {
 		return new ServiceInstanceBindingController(this.catalogService,
-				this.serviceInstanceBindingEventService);
+				this.serviceInstanceBindingService, this.originatingIdentityDecoder, this.requestLogger);
 	}
 
 	/**
@@ -128,4 +185,29 @@ public class ServiceBrokerWebFluxAutoConfiguration {
 		return new RequestIdentityWebFilter();
 	}
 
+	/**
+	 * Provide an {@link AdmissionControlWebFilter} bean when admission control is enabled
+	 *
+	 * @param admissionControl the AdmissionControl bean
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnBean(AdmissionControl.class)
+	public AdmissionControlWebFilter admissionControlWebFilter(AdmissionControl admissionControl) {
+		return new AdmissionControlWebFilter(admissionControl);
+	}
+
+	/**
+	 * Provide a {@link PrecompiledValidationAdvice} bean when precompiled validation is enabled
+	 *
+	 * @param precompiledRequestValidator the PrecompiledRequestValidator bean
+	 * @return the bean
+	 */
+	@Bean
+	@ConditionalOnBean(PrecompiledRequestValidator.class)
+	public PrecompiledValidationAdvice precompiledValidationAdvice(
+			PrecompiledRequestValidator precompiledRequestValidator) {
+		return new PrecompiledValidationAdvice(precompiledRequestValidator);
+	}
+
 }
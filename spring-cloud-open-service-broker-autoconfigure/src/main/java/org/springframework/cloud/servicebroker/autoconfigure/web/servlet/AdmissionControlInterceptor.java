@@ -0,0 +1,96 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web.servlet;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.cloud.servicebroker.controller.AdmissionControl;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerUnavailableException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * {@link HandlerInterceptor} that applies {@link AdmissionControl} to service broker API requests. A request beyond the
+ * concurrency limit for its operation is rejected with a {@literal Retry-After} header and a
+ * {@link ServiceBrokerUnavailableException} before its body is read.
+ * <p>
+ * A request whose handler completes asynchronously keeps its permit until the asynchronous dispatch completes.
+ */
+public class AdmissionControlInterceptor implements AsyncHandlerInterceptor {
+
+	private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+	private final AdmissionControl admissionControl;
+
+	/**
+	 * Construct a new {@link AdmissionControlInterceptor}
+	 *
+	 * @param admissionControl the admission control
+	 */
+	public AdmissionControlInterceptor(AdmissionControl admissionControl) {
+		this.admissionControl = admissionControl;
+	}
+
+	/**
+	 * Admits the request, or rejects it if the concurrency limit for its operation has been reached
+	 *
+	 * @param request {@inheritDoc}
+	 * @param response {@inheritDoc}
+	 * @param handler {@inheritDoc}
+	 * @throws ServiceBrokerUnavailableException if the request is rejected
+	 */
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (request.getDispatcherType() == DispatcherType.ASYNC) {
+			return true;
+		}
+		String operation = this.admissionControl.getOperation(request.getMethod(), request.getRequestURI());
+		if (operation == null) {
+			return true;
+		}
+		AdmissionControl.Permit permit = this.admissionControl.tryAcquire(operation);
+		if (permit == null) {
+			response.setHeader(HttpHeaders.RETRY_AFTER,
+					String.valueOf(this.admissionControl.getRetryAfter(operation).getSeconds()));
+			throw this.admissionControl.createRejectionException();
+		}
+		request.setAttribute(PERMIT_ATTRIBUTE, permit);
+		return true;
+	}
+
+	/**
+	 * Releases the permit of an admitted request
+	 *
+	 * @param request {@inheritDoc}
+	 * @param response {@inheritDoc}
+	 * @param handler {@inheritDoc}
+	 * @param ex {@inheritDoc}
+	 */
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+		if (permit instanceof AdmissionControl.Permit) {
+			request.removeAttribute(PERMIT_ATTRIBUTE);
+			((AdmissionControl.Permit) permit).release(ex != null || response.getStatus() >= 500);
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web.servlet;
+
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * {@link WebMvcConfigurer} that registers the {@link AdmissionControlInterceptor} ahead of other interceptors.
+ */
+public class AdmissionControlWebMvcConfigurer implements WebMvcConfigurer {
+
+	private static final String[] API_PATH_PATTERNS = {"/v2/**", "/*/v2/**"};
+
+	private final AdmissionControlInterceptor admissionControlInterceptor;
+
+	/**
+	 * Construct a new {@link AdmissionControlWebMvcConfigurer}
+	 *
+	 * @param admissionControlInterceptor the AdmissionControlInterceptor bean
+	 */
+	public AdmissionControlWebMvcConfigurer(AdmissionControlInterceptor admissionControlInterceptor) {
+		this.admissionControlInterceptor = admissionControlInterceptor;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(this.admissionControlInterceptor)
+				.addPathPatterns(API_PATH_PATTERNS)
+				.order(Integer.MIN_VALUE);
+	}
+
+}
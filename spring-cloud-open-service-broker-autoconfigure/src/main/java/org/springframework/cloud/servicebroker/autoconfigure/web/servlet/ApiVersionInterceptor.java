@@ -34,6 +34,8 @@ public class ApiVersionInterceptor implements HandlerInterceptor {
 
 	private final BrokerApiVersion version;
 
+	private final boolean validationEnabled;
+
 	/**
 	 * Construct an interceptor that disables API version validation.
 	 */
@@ -49,6 +51,7 @@ public class ApiVersionInterceptor implements HandlerInterceptor {
 	public ApiVersionInterceptor(BrokerApiVersion version) {
 		super();
 		this.version = version;
+		this.validationEnabled = version != null && !BrokerApiVersion.API_VERSION_ANY.equals(version.getApiVersion());
 	}
 
 	/**
@@ -62,7 +65,7 @@ public class ApiVersionInterceptor implements HandlerInterceptor {
 	 */
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-		if (version != null && !anyVersionAllowed()) {
+		if (this.validationEnabled) {
 			String apiVersion = request.getHeader(version.getBrokerApiVersionHeader());
 
 			if (apiVersion == null) {
@@ -76,8 +79,4 @@ public class ApiVersionInterceptor implements HandlerInterceptor {
 		return true;
 	}
 
-	private boolean anyVersionAllowed() {
-		return BrokerApiVersion.API_VERSION_ANY.equals(version.getApiVersion());
-	}
-
 }
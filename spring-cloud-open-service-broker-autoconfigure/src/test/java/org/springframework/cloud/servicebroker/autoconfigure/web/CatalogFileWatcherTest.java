@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cloud.servicebroker.service.ReloadableCatalogService;
+import org.springframework.core.io.FileSystemResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogFileWatcherTest {
+
+	private static final String CATALOG = "spring.cloud.openservicebroker.catalog.services[0].id=%s%n"
+			+ "spring.cloud.openservicebroker.catalog.services[0].name=service%n"
+			+ "spring.cloud.openservicebroker.catalog.services[0].description=a service%n";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void catalogIsReloadedWhenFileChanges() throws IOException {
+		Path file = writeCatalog(this.directory.resolve("catalog.properties"), "service-one-id");
+		FileSystemResource resource = new FileSystemResource(file);
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(new ResourceCatalogSource(resource));
+		CatalogFileWatcher watcher = new CatalogFileWatcher(catalogService, resource, Duration.ofHours(1));
+		watcher.start();
+		try {
+			assertThat(watcher.checkForChanges()).isFalse();
+
+			writeCatalog(file, "service-two-id");
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+			assertThat(watcher.checkForChanges()).isTrue();
+			assertThat(catalogService.getServiceDefinition("service-two-id").block()).isNotNull();
+			assertThat(catalogService.getServiceDefinition("service-one-id").block()).isNull();
+		}
+		finally {
+			watcher.stop();
+		}
+		assertThat(watcher.isRunning()).isFalse();
+	}
+
+	@Test
+	void currentCatalogIsRetainedWhenFileIsInvalid() throws IOException {
+		Path file = writeCatalog(this.directory.resolve("catalog.properties"), "service-one-id");
+		FileSystemResource resource = new FileSystemResource(file);
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(new ResourceCatalogSource(resource));
+		CatalogFileWatcher watcher = new CatalogFileWatcher(catalogService, resource, Duration.ofHours(1));
+		watcher.start();
+		try {
+			Files.writeString(file, "key=value", StandardCharsets.UTF_8);
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+			assertThat(watcher.checkForChanges()).isFalse();
+			assertThat(catalogService.getServiceDefinition("service-one-id").block()).isNotNull();
+		}
+		finally {
+			watcher.stop();
+		}
+	}
+
+	private Path writeCatalog(Path file, String serviceId) throws IOException {
+		return Files.writeString(file, String.format(CATALOG, serviceId), StandardCharsets.UTF_8);
+	}
+
+}
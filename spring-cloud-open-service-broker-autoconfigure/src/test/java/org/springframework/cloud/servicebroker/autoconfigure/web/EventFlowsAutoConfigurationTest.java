@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.servicebroker.autoconfigure.web;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -45,8 +46,10 @@ import org.springframework.cloud.servicebroker.service.events.CreateServiceInsta
 import org.springframework.cloud.servicebroker.service.events.CreateServiceInstanceEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.DeleteServiceInstanceBindingEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.DeleteServiceInstanceEventFlowRegistry;
+import org.springframework.cloud.servicebroker.service.events.EventFlowExecution;
 import org.springframework.cloud.servicebroker.service.events.EventFlowRegistries;
 import org.springframework.cloud.servicebroker.service.events.EventFlowRegistry;
+import org.springframework.cloud.servicebroker.service.events.OperationStateTracker;
 import org.springframework.cloud.servicebroker.service.events.UpdateServiceInstanceEventFlowRegistry;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingCompletionFlow;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingErrorFlow;
@@ -91,6 +94,58 @@ class EventFlowsAutoConfigurationTest {
 				.run(this::assertBeans);
 	}
 
+	@Test
+	void eventFlowExecutionIsConfiguredFromProperties() {
+		this.contextRunner
+				.withPropertyValues("spring.cloud.openservicebroker.event-flows.mode=sequential",
+						"spring.cloud.openservicebroker.event-flows.timeout=5s",
+						"spring.cloud.openservicebroker.event-flows.offload=true",
+						"spring.cloud.openservicebroker.event-flows.detach-completion-flows=true")
+				.run(context -> {
+					EventFlowExecution execution = context.getBean(CreateServiceInstanceEventFlowRegistry.class)
+							.getExecution();
+					assertThat(execution.getMode()).isEqualTo(EventFlowExecution.Mode.SEQUENTIAL);
+					assertThat(execution.getTimeout()).isEqualTo(Duration.ofSeconds(5));
+					assertThat(execution.getScheduler()).isNotNull();
+					assertThat(execution.isDetachedCompletionFlows()).isTrue();
+					assertThat(context.getBean(AsyncOperationServiceInstanceBindingEventFlowRegistry.class)
+							.getExecution()).isSameAs(execution);
+				});
+	}
+
+	@Test
+	void eventFlowExecutionBeanIsUsed() {
+		EventFlowExecution execution = EventFlowExecution.parallel(4);
+		this.contextRunner
+				.withBean(EventFlowExecution.class, () -> execution)
+				.run(context -> assertThat(context.getBean(DeleteServiceInstanceEventFlowRegistry.class)
+						.getExecution()).isSameAs(execution));
+	}
+
+	@Test
+	void operationStateTrackersAreNotConfiguredByDefault() {
+		this.contextRunner.run(context -> {
+			assertThat(context.getBean(AsyncOperationServiceInstanceEventFlowRegistry.class).getStateTracker())
+					.isNull();
+			assertThat(context.getBean(AsyncOperationServiceInstanceBindingEventFlowRegistry.class).getStateTracker())
+					.isNull();
+		});
+	}
+
+	@Test
+	void operationStateTrackersAreConfiguredWhenTransitionOnlyCompletionFlowsAreEnabled() {
+		this.contextRunner
+				.withPropertyValues("spring.cloud.openservicebroker.event-flows.transition-only-completion-flows=true")
+				.run(context -> {
+					OperationStateTracker instanceTracker = context
+							.getBean(AsyncOperationServiceInstanceEventFlowRegistry.class).getStateTracker();
+					OperationStateTracker bindingTracker = context
+							.getBean(AsyncOperationServiceInstanceBindingEventFlowRegistry.class).getStateTracker();
+					assertThat(instanceTracker).isNotNull();
+					assertThat(bindingTracker).isNotNull().isNotSameAs(instanceTracker);
+				});
+	}
+
 	@Test
 	void createInstanceEventFlowBeansAreConfigured() {
 		this.contextRunner
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResourceCatalogSourceTest {
+
+	@Test
+	void catalogIsReadFromYaml() {
+		assertMinimalCatalog(new ResourceCatalogSource(new ClassPathResource("catalog-minimal.yml")).get());
+	}
+
+	@Test
+	void catalogIsReadFromProperties() {
+		assertMinimalCatalog(new ResourceCatalogSource(new ClassPathResource("catalog-minimal.properties")).get());
+	}
+
+	@Test
+	void missingCatalogIsRejected() {
+		ResourceCatalogSource source = new ResourceCatalogSource(new ByteArrayResource("key: value".getBytes()) {
+			@Override
+			public String getFilename() {
+				return "catalog.yml";
+			}
+		});
+		assertThrows(IllegalStateException.class, source::get);
+	}
+
+	private void assertMinimalCatalog(Catalog catalog) {
+		assertThat(catalog.getServiceDefinitions()).hasSize(1);
+		ServiceDefinition serviceDefinition = catalog.getServiceDefinitions().get(0);
+		assertThat(serviceDefinition.getId()).isEqualTo("service-one-id");
+		assertThat(serviceDefinition.getPlans()).hasSize(1);
+		assertThat(serviceDefinition.getPlans().get(0).getId()).isEqualTo("plan-one-id");
+	}
+
+}
@@ -16,7 +16,17 @@
 
 package org.springframework.cloud.servicebroker.autoconfigure.web;
 
+import jakarta.validation.MessageInterpolator;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.UnsatisfiedDependencyException;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -25,13 +35,55 @@ import org.springframework.boot.diagnostics.FailureAnalyzer;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.cloud.servicebroker.autoconfigure.web.exception.CatalogDefinitionDoesNotExistException;
+import org.springframework.cloud.servicebroker.controller.AdmissionControl;
+import org.springframework.cloud.servicebroker.controller.CachingOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.DefaultOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.OriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.PrecompiledRequestValidator;
+import org.springframework.cloud.servicebroker.controller.RequestLogger;
 import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
 import org.springframework.cloud.servicebroker.service.BeanCatalogService;
 import org.springframework.cloud.servicebroker.service.CatalogService;
 import org.springframework.cloud.servicebroker.service.NonBindableServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ReloadableCatalogService;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.cloud.servicebroker.service.blocking.BlockingServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.blocking.BlockingServiceInstanceBindingServiceAdapter;
+import org.springframework.cloud.servicebroker.service.blocking.BlockingServiceInstanceService;
+import org.springframework.cloud.servicebroker.service.blocking.BlockingServiceInstanceServiceAdapter;
+import org.springframework.cloud.servicebroker.service.blocking.OffloadingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.caching.ResponseCacheInvalidationFlows;
+import org.springframework.cloud.servicebroker.service.caching.ResponseCachingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.caching.ServiceResponseCache;
+import org.springframework.cloud.servicebroker.service.coalescing.CoalescingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.coalescing.DeduplicatingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.concurrency.OperationGate;
+import org.springframework.cloud.servicebroker.service.concurrency.OperationGateServiceDecorator;
+import org.springframework.cloud.servicebroker.service.events.UpdateServiceInstanceEventFlowRegistry;
+import org.springframework.cloud.servicebroker.service.metrics.MetricsServiceDecorator;
+import org.springframework.cloud.servicebroker.service.operations.AsyncPromotionServiceDecorator;
+import org.springframework.cloud.servicebroker.service.operations.InMemoryOperationStore;
+import org.springframework.cloud.servicebroker.service.operations.OperationStore;
+import org.springframework.cloud.servicebroker.service.operations.OperationTrackingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.polling.AdaptivePollingServiceDecorator;
+import org.springframework.cloud.servicebroker.service.polling.PollingAdvisor;
+import org.springframework.cloud.servicebroker.service.ratelimit.RateLimiter;
+import org.springframework.cloud.servicebroker.service.ratelimit.RateLimitingServiceDecorator;
 import org.springframework.context.annotation.Bean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -52,6 +104,10 @@ class ServiceBrokerAutoConfigurationTest {
 							.getBean(CatalogService.class)
 							.isExactlyInstanceOf(BeanCatalogService.class);
 
+					assertThat(context)
+							.getBean(OriginatingIdentityDecoder.class)
+							.isExactlyInstanceOf(DefaultOriginatingIdentityDecoder.class);
+
 					assertThat(context)
 							.getBean(ServiceInstanceBindingService.class)
 							.isExactlyInstanceOf(NonBindableServiceInstanceBindingService.class);
@@ -81,6 +137,386 @@ class ServiceBrokerAutoConfigurationTest {
 				});
 	}
 
+	@Test
+	void servicesAreCreatedWithBlockingServices() {
+		this.contextRunner
+				.withUserConfiguration(BlockingServicesWithCatalogConfiguration.class)
+				.run((context) -> {
+					assertThat(context)
+							.getBean(ServiceInstanceService.class)
+							.isExactlyInstanceOf(BlockingServiceInstanceServiceAdapter.class);
+
+					assertThat(context)
+							.getBean(ServiceInstanceBindingService.class)
+							.isExactlyInstanceOf(BlockingServiceInstanceBindingServiceAdapter.class);
+				});
+	}
+
+	@Test
+	void cachingOriginatingIdentityDecoderIsCreatedWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues(
+						"spring.cloud.openservicebroker.originating-identity-cache.enabled=true",
+						"spring.cloud.openservicebroker.originating-identity-cache.maximum-size=50",
+						"spring.cloud.openservicebroker.originating-identity-cache.time-to-live=30s")
+				.run((context) -> assertThat(context)
+						.getBean(OriginatingIdentityDecoder.class)
+						.isExactlyInstanceOf(CachingOriginatingIdentityDecoder.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void requestLoggerIsConfiguredFromProperties() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues(
+						"spring.cloud.openservicebroker.request-logging.level=debug",
+						"spring.cloud.openservicebroker.request-logging.sample-rate=0.1",
+						"spring.cloud.openservicebroker.request-logging.operations.get-last-service-operation.sample-rate=0")
+				.run((context) -> {
+					RequestLogger requestLogger = context.getBean(RequestLogger.class);
+					RequestLogger.Settings defaults = (RequestLogger.Settings) ReflectionTestUtils
+							.getField(requestLogger, "defaults");
+					assertThat(defaults.getLevel()).isEqualTo(Level.DEBUG);
+					assertThat(defaults.getSampleRate()).isEqualTo(0.1);
+					Map<String, RequestLogger.Settings> operations = (Map<String, RequestLogger.Settings>)
+							ReflectionTestUtils.getField(requestLogger, "operations");
+					RequestLogger.Settings lastOperation = operations
+							.get(ServiceBrokerOperations.GET_LAST_SERVICE_OPERATION);
+					assertThat(lastOperation.getLevel()).isEqualTo(Level.DEBUG);
+					assertThat(lastOperation.getSampleRate()).isEqualTo(0.0);
+				});
+	}
+
+	@Test
+	void coalescingServiceDecoratorIsNotCreatedByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> assertThat(context).doesNotHaveBean(CoalescingServiceDecorator.class));
+	}
+
+	@Test
+	void coalescingServiceDecoratorIsCreatedWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.request-coalescing.enabled=true")
+				.run((context) -> assertThat(context).hasSingleBean(CoalescingServiceDecorator.class));
+	}
+
+	@Test
+	void deduplicatingServiceDecoratorIsNotCreatedByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> assertThat(context).doesNotHaveBean(DeduplicatingServiceDecorator.class));
+	}
+
+	@Test
+	void deduplicatingServiceDecoratorIsCreatedWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.request-deduplication.enabled=true")
+				.run((context) -> assertThat(context).hasSingleBean(DeduplicatingServiceDecorator.class));
+	}
+
+	@Test
+	void operationTrackingIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(OperationTrackingServiceDecorator.class);
+					assertThat(context).doesNotHaveBean(OperationStore.class);
+				});
+	}
+
+	@Test
+	void operationTrackingIsConfiguredWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.operation-tracking.enabled=true",
+						"spring.cloud.openservicebroker.operation-tracking.refresh-interval=10s")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(OperationTrackingServiceDecorator.class);
+					assertThat(context).getBean(OperationStore.class).isExactlyInstanceOf(InMemoryOperationStore.class);
+					assertThat(ReflectionTestUtils.getField(context.getBean(OperationTrackingServiceDecorator.class),
+							"refreshInterval")).isEqualTo(Duration.ofSeconds(10));
+				});
+	}
+
+	@Test
+	void concurrencyControlIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(OperationGateServiceDecorator.class);
+					assertThat(context).doesNotHaveBean(OperationGate.class);
+				});
+	}
+
+	@Test
+	void concurrencyControlIsConfiguredWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.concurrency-control.enabled=true",
+						"spring.cloud.openservicebroker.concurrency-control.maximum-holds=50",
+						"spring.cloud.openservicebroker.concurrency-control.hold-time-to-live=5m")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(OperationGateServiceDecorator.class);
+					OperationGate operationGate = context.getBean(OperationGate.class);
+					assertThat(ReflectionTestUtils.getField(operationGate, "maximumHolds")).isEqualTo(50);
+					assertThat(ReflectionTestUtils.getField(operationGate, "timeToLiveMillis"))
+							.isEqualTo(Duration.ofMinutes(5).toMillis());
+				});
+	}
+
+	@Test
+	void adaptivePollingIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(AdaptivePollingServiceDecorator.class);
+					assertThat(context).doesNotHaveBean(PollingAdvisor.class);
+				});
+	}
+
+	@Test
+	void adaptivePollingIsConfiguredWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.adaptive-polling.enabled=true",
+						"spring.cloud.openservicebroker.adaptive-polling.minimum-interval=2s",
+						"spring.cloud.openservicebroker.adaptive-polling.maximum-interval=1m")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(AdaptivePollingServiceDecorator.class);
+					PollingAdvisor pollingAdvisor = context.getBean(PollingAdvisor.class);
+					assertThat(ReflectionTestUtils.getField(pollingAdvisor, "minimumInterval"))
+							.isEqualTo(Duration.ofSeconds(2));
+					assertThat(ReflectionTestUtils.getField(pollingAdvisor, "maximumInterval"))
+							.isEqualTo(Duration.ofMinutes(1));
+				});
+	}
+
+	@Test
+	void offloadingServiceDecoratorIsNotCreatedByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> assertThat(context).doesNotHaveBean(OffloadingServiceDecorator.class));
+	}
+
+	@Test
+	void offloadingServiceDecoratorIsCreatedWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.service-offload.enabled=true")
+				.run((context) -> assertThat(context).hasSingleBean(OffloadingServiceDecorator.class));
+	}
+
+	@Test
+	void admissionControlIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> assertThat(context).doesNotHaveBean(AdmissionControl.class));
+	}
+
+	@Test
+	void admissionControlIsConfiguredWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.admission-control.enabled=true",
+						"spring.cloud.openservicebroker.admission-control.initial-limit=50")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(AdmissionControl.class);
+					assertThat(context.getBean(AdmissionControl.class).getLimit("getCatalog").getLimit())
+							.isEqualTo(50);
+				});
+	}
+
+	@Test
+	void rateLimitingIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(RateLimitingServiceDecorator.class);
+					assertThat(context).doesNotHaveBean(RateLimiter.class);
+				});
+	}
+
+	@Test
+	void rateLimitingIsConfiguredWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.rate-limiting.enabled=true",
+						"spring.cloud.openservicebroker.rate-limiting.partition=user",
+						"spring.cloud.openservicebroker.rate-limiting.limit=10",
+						"spring.cloud.openservicebroker.rate-limiting.operations.get-last-service-operation.limit=60")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(RateLimitingServiceDecorator.class);
+					RateLimiter rateLimiter = context.getBean(RateLimiter.class);
+					assertThat(ReflectionTestUtils.getField(rateLimiter, "partition"))
+							.isEqualTo(RateLimiter.Partition.USER);
+					assertThat(rateLimiter.getLimit("createServiceInstance").getLimit()).isEqualTo(10);
+					assertThat(rateLimiter.getLimit("getLastServiceOperation").getLimit()).isEqualTo(60);
+					assertThat(rateLimiter.getLimit("getLastServiceOperation").getPeriod())
+							.isEqualTo(Duration.ofMinutes(1));
+				});
+	}
+
+	@Test
+	void responseCachingIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> {
+					assertThat(context).doesNotHaveBean(ResponseCachingServiceDecorator.class);
+					assertThat(context).doesNotHaveBean(ResponseCacheInvalidationFlows.class);
+					assertThat(context).doesNotHaveBean(ServiceResponseCache.class);
+				});
+	}
+
+	@Test
+	void responseCachingIsConfiguredWhenEnabled() {
+		this.contextRunner
+				.withConfiguration(AutoConfigurations.of(EventFlowsAutoConfiguration.class))
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.response-caching.enabled=true",
+						"spring.cloud.openservicebroker.response-caching.maximum-size=10",
+						"spring.cloud.openservicebroker.response-caching.time-to-live=1m")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(ResponseCachingServiceDecorator.class);
+					ServiceResponseCache cache = context.getBean(ServiceResponseCache.class);
+					assertThat(ReflectionTestUtils.getField(cache.getServiceInstances(), "timeToLiveMillis"))
+							.isEqualTo(Duration.ofMinutes(1).toMillis());
+					cache.getServiceInstances().get("instance-id",
+							() -> Mono.just(GetServiceInstanceResponse.builder().build())).block();
+
+					context.getBean(UpdateServiceInstanceEventFlowRegistry.class)
+							.getCompletionFlows(UpdateServiceInstanceRequest.builder()
+									.serviceInstanceId("instance-id")
+									.build(), UpdateServiceInstanceResponse.builder().build())
+							.blockLast();
+
+					assertThat(cache.getServiceInstances().size()).isZero();
+				});
+	}
+
+	@Test
+	void precompiledValidationIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> assertThat(context).doesNotHaveBean(PrecompiledRequestValidator.class));
+	}
+
+	@Test
+	void precompiledValidationIsConfiguredWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.precompiled-validation.enabled=true")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(PrecompiledRequestValidator.class);
+					assertThat(context.getBean(PrecompiledRequestValidator.class)
+							.supports(CreateServiceInstanceRequest.class)).isTrue();
+				});
+	}
+
+	@Test
+	void precompiledValidationUsesTheMessageInterpolatorOfTheValidatorFactory() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withBean(LocalValidatorFactoryBean.class, () -> {
+					LocalValidatorFactoryBean validatorFactory = new LocalValidatorFactoryBean();
+					validatorFactory.setMessageInterpolator(new FixedMessageInterpolator("invalid"));
+					return validatorFactory;
+				})
+				.withPropertyValues("spring.cloud.openservicebroker.precompiled-validation.enabled=true")
+				.run((context) -> {
+					CreateServiceInstanceRequest request = CreateServiceInstanceRequest.builder()
+							.planId("plan-id")
+							.build();
+					Errors errors = new BeanPropertyBindingResult(request, "request");
+					context.getBean(PrecompiledRequestValidator.class).validate(request, errors);
+					assertThat(errors.getFieldError("serviceDefinitionId").getDefaultMessage()).isEqualTo("invalid");
+				});
+	}
+
+	@Test
+	void asyncPromotionIsNotConfiguredByDefault() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.run((context) -> assertThat(context).doesNotHaveBean(AsyncPromotionServiceDecorator.class));
+	}
+
+	@Test
+	void asyncPromotionIsConfiguredWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.async-promotion.enabled=true",
+						"spring.cloud.openservicebroker.async-promotion.budget=2s",
+						"spring.cloud.openservicebroker.operation-tracking.enabled=true")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(AsyncPromotionServiceDecorator.class);
+					AsyncPromotionServiceDecorator decorator = context.getBean(AsyncPromotionServiceDecorator.class);
+					assertThat(ReflectionTestUtils.getField(decorator, "budget")).isEqualTo(Duration.ofSeconds(2));
+					assertThat(ReflectionTestUtils.getField(decorator, "operationStore"))
+							.isNotSameAs(context.getBean(OperationStore.class));
+				});
+	}
+
+	@Test
+	void serviceDecoratorsAreAppliedInOrder() {
+		this.contextRunner
+				.withConfiguration(AutoConfigurations.of(EventFlowsAutoConfiguration.class,
+						ServiceBrokerMetricsAutoConfiguration.class))
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+				.withPropertyValues("spring.cloud.openservicebroker.service-offload.enabled=true",
+						"spring.cloud.openservicebroker.operation-tracking.enabled=true",
+						"spring.cloud.openservicebroker.async-promotion.enabled=true",
+						"spring.cloud.openservicebroker.adaptive-polling.enabled=true",
+						"spring.cloud.openservicebroker.concurrency-control.enabled=true",
+						"spring.cloud.openservicebroker.rate-limiting.enabled=true",
+						"spring.cloud.openservicebroker.request-deduplication.enabled=true",
+						"spring.cloud.openservicebroker.request-coalescing.enabled=true",
+						"spring.cloud.openservicebroker.response-caching.enabled=true")
+				.run((context) -> assertThat(context.getBeanProvider(ServiceDecorator.class).orderedStream()
+						.map(Object::getClass))
+						.containsExactly(MetricsServiceDecorator.class,
+								ResponseCachingServiceDecorator.class,
+								CoalescingServiceDecorator.class,
+								DeduplicatingServiceDecorator.class,
+								RateLimitingServiceDecorator.class,
+								OperationGateServiceDecorator.class,
+								AdaptivePollingServiceDecorator.class,
+								AsyncPromotionServiceDecorator.class,
+								OperationTrackingServiceDecorator.class,
+								OffloadingServiceDecorator.class));
+	}
+
+	@Test
+	void reloadableCatalogServiceIsCreatedWhenEnabled() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.catalog-reload.enabled=true")
+				.run((context) -> {
+					assertThat(context)
+							.getBean(CatalogService.class)
+							.isExactlyInstanceOf(ReloadableCatalogService.class);
+					assertThat(context).doesNotHaveBean(CatalogFileWatcher.class);
+				});
+	}
+
+	@Test
+	void reloadableCatalogServiceLoadsCatalogFromLocation() {
+		this.contextRunner
+				.withUserConfiguration(MinimalWithCatalogConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.catalog-reload.enabled=true",
+						"spring.cloud.openservicebroker.catalog-reload.location=classpath:catalog-minimal.yml")
+				.run((context) -> {
+					assertThat(context).hasSingleBean(CatalogFileWatcher.class);
+					CatalogService catalogService = context.getBean(CatalogService.class);
+					assertThat(catalogService).isExactlyInstanceOf(ReloadableCatalogService.class);
+					assertThat(catalogService.getServiceDefinition("service-one-id").block()).isNotNull();
+				});
+	}
+
 	@Test
 	void servicesAreCreatedWithFullConfiguration() {
 		this.contextRunner
@@ -229,6 +665,39 @@ class ServiceBrokerAutoConfigurationTest {
 
 	}
 
+	@TestConfiguration
+	protected static class BlockingServicesWithCatalogConfiguration {
+
+		@Bean
+		protected Catalog catalog() {
+			return Catalog.builder().build();
+		}
+
+		@Bean
+		protected BlockingServiceInstanceService blockingServiceInstanceService() {
+			return new BlockingServiceInstanceService() {
+
+				@Override
+				public CreateServiceInstanceResponse createServiceInstance(CreateServiceInstanceRequest request) {
+					return CreateServiceInstanceResponse.builder().build();
+				}
+
+				@Override
+				public DeleteServiceInstanceResponse deleteServiceInstance(DeleteServiceInstanceRequest request) {
+					return DeleteServiceInstanceResponse.builder().build();
+				}
+
+			};
+		}
+
+		@Bean
+		protected BlockingServiceInstanceBindingService blockingServiceInstanceBindingService() {
+			return new BlockingServiceInstanceBindingService() {
+			};
+		}
+
+	}
+
 	@TestConfiguration
 	protected static class FullServicesConfiguration {
 
@@ -316,4 +785,24 @@ class ServiceBrokerAutoConfigurationTest {
 
 	}
 
+	private static final class FixedMessageInterpolator implements MessageInterpolator {
+
+		private final String message;
+
+		private FixedMessageInterpolator(String message) {
+			this.message = message;
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			return this.message;
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			return this.message;
+		}
+
+	}
+
 }
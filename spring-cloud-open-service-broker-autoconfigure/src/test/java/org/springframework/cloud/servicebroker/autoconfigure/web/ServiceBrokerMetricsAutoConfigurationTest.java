@@ -0,0 +1,162 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.servicebroker.controller.CachingOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.DefaultOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.service.caching.CacheMetrics;
+import org.springframework.cloud.servicebroker.service.caching.ServiceResponseCache;
+import org.springframework.cloud.servicebroker.service.caching.ServiceResponseCacheMetrics;
+import org.springframework.cloud.servicebroker.service.metrics.MetricsServiceDecorator;
+import org.springframework.cloud.servicebroker.service.metrics.ServiceBrokerMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceBrokerMetricsAutoConfigurationTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ServiceBrokerMetricsAutoConfiguration.class));
+
+	@Test
+	void metricsAreConfiguredWithMeterRegistry() {
+		this.contextRunner
+				.withUserConfiguration(MeterRegistryConfiguration.class)
+				.run(context -> {
+					assertThat(context).hasSingleBean(ServiceBrokerMetrics.class);
+					assertThat(context).hasSingleBean(MetricsServiceDecorator.class);
+					ServiceBrokerMetrics metrics = context.getBean(ServiceBrokerMetrics.class);
+					assertThat(ReflectionTestUtils.getField(metrics, "serviceIdTag")).isEqualTo(true);
+					assertThat(ReflectionTestUtils.getField(metrics, "planIdTag")).isEqualTo(true);
+					assertThat(ReflectionTestUtils.getField(metrics, "percentileHistogram")).isEqualTo(true);
+				});
+	}
+
+	@Test
+	void metricsAreConfiguredWithProperties() {
+		this.contextRunner
+				.withUserConfiguration(MeterRegistryConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.metrics.service-id-tag=false",
+						"spring.cloud.openservicebroker.metrics.plan-id-tag=false",
+						"spring.cloud.openservicebroker.metrics.percentile-histogram=false")
+				.run(context -> {
+					ServiceBrokerMetrics metrics = context.getBean(ServiceBrokerMetrics.class);
+					assertThat(ReflectionTestUtils.getField(metrics, "serviceIdTag")).isEqualTo(false);
+					assertThat(ReflectionTestUtils.getField(metrics, "planIdTag")).isEqualTo(false);
+					assertThat(ReflectionTestUtils.getField(metrics, "percentileHistogram")).isEqualTo(false);
+				});
+	}
+
+	@Test
+	void metricsAreNotConfiguredWithoutMeterRegistry() {
+		this.contextRunner
+				.run(context -> {
+					assertThat(context).doesNotHaveBean(ServiceBrokerMetrics.class);
+					assertThat(context).doesNotHaveBean(MetricsServiceDecorator.class);
+				});
+	}
+
+	@Test
+	void metricsAreNotConfiguredWhenDisabled() {
+		this.contextRunner
+				.withUserConfiguration(MeterRegistryConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.metrics.enabled=false")
+				.run(context -> {
+					assertThat(context).doesNotHaveBean(ServiceBrokerMetrics.class);
+					assertThat(context).doesNotHaveBean(MetricsServiceDecorator.class);
+				});
+	}
+
+	@Test
+	void responseCacheMetricsAreConfiguredWithResponseCache() {
+		this.contextRunner
+				.withUserConfiguration(MeterRegistryConfiguration.class, ServiceResponseCacheConfiguration.class)
+				.run(context -> {
+					assertThat(context).hasSingleBean(ServiceResponseCacheMetrics.class);
+					assertThat(context.getBean(MeterRegistry.class).find(ServiceResponseCacheMetrics.GETS_METRIC)
+							.functionCounters()).hasSize(4);
+				});
+	}
+
+	@Test
+	void responseCacheMetricsAreNotConfiguredWithoutResponseCache() {
+		this.contextRunner
+				.withUserConfiguration(MeterRegistryConfiguration.class)
+				.run(context -> assertThat(context).doesNotHaveBean(ServiceResponseCacheMetrics.class));
+	}
+
+	@Test
+	void originatingIdentityCacheMetricsAreConfiguredWithCachingDecoder() {
+		this.contextRunner
+				.withUserConfiguration(MeterRegistryConfiguration.class, OriginatingIdentityCacheConfiguration.class)
+				.run(context -> {
+					assertThat(context).hasBean("originatingIdentityCacheMetrics");
+					assertThat(context.getBean(MeterRegistry.class).find(CacheMetrics.GETS_METRIC)
+							.tag("cache", "originating_identities")
+							.functionCounters()).hasSize(2);
+				});
+	}
+
+	@Test
+	void originatingIdentityCacheMetricsAreNotConfiguredWithoutCachingDecoder() {
+		this.contextRunner
+				.withUserConfiguration(MeterRegistryConfiguration.class)
+				.run(context -> assertThat(context).doesNotHaveBean("originatingIdentityCacheMetrics"));
+	}
+
+	@TestConfiguration
+	protected static class MeterRegistryConfiguration {
+
+		@Bean
+		public MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+	}
+
+	@TestConfiguration
+	protected static class ServiceResponseCacheConfiguration {
+
+		@Bean
+		public ServiceResponseCache serviceResponseCache() {
+			return new ServiceResponseCache(10, Duration.ofMinutes(1));
+		}
+
+	}
+
+	@TestConfiguration
+	protected static class OriginatingIdentityCacheConfiguration {
+
+		@Bean
+		public CachingOriginatingIdentityDecoder originatingIdentityDecoder() {
+			return new CachingOriginatingIdentityDecoder(new DefaultOriginatingIdentityDecoder(), 10,
+					Duration.ofMinutes(1));
+		}
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web.reactive;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.controller.AdmissionControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlWebFilterTest {
+
+	private final AdmissionControl admissionControl = new AdmissionControl(1, 1, 1);
+
+	private final AdmissionControlWebFilter webFilter = new AdmissionControlWebFilter(this.admissionControl);
+
+	@Test
+	void requestWithinLimitIsAdmitted() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+				.put("/v2/service_instances/instance-id")
+				.build());
+
+		this.webFilter.filter(exchange, ex -> Mono.empty()).block();
+
+		assertThat(exchange.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(this.admissionControl.getLimit("createServiceInstance").getInFlight()).isZero();
+	}
+
+	@Test
+	void requestBeyondLimitIsRejected() {
+		MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest
+				.put("/v2/service_instances/instance-one")
+				.build());
+		MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest
+				.put("/v2/service_instances/instance-two")
+				.build());
+		WebFilterChain chain = ex -> {
+			this.webFilter.filter(second, unexpected -> Mono.error(new IllegalStateException())).block();
+			return Mono.empty();
+		};
+
+		this.webFilter.filter(first, chain).block();
+
+		assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(second.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(second.getResponse().getBodyAsString().block()).contains("TooManyRequests");
+	}
+
+	@Test
+	void otherOperationsAreLimitedSeparately() {
+		MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest
+				.put("/v2/service_instances/instance-one")
+				.build());
+		MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest
+				.get("/v2/service_instances/instance-two/last_operation")
+				.build());
+		WebFilterChain chain = ex -> {
+			this.webFilter.filter(second, admitted -> Mono.empty()).block();
+			return Mono.empty();
+		};
+
+		this.webFilter.filter(first, chain).block();
+
+		assertThat(second.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	@Test
+	void otherRequestsAreNotLimited() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+				.get("/actuator/health")
+				.build());
+
+		this.webFilter.filter(exchange, ex -> Mono.empty()).block();
+
+		assertThat(exchange.getResponse().getStatusCode()).isNotEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+}
@@ -16,11 +16,15 @@
 
 package org.springframework.cloud.servicebroker.autoconfigure.web.reactive;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import reactor.core.publisher.Mono;
 
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerApiVersionErrorMessage;
 import org.springframework.cloud.servicebroker.model.BrokerApiVersion;
+import org.springframework.cloud.servicebroker.model.error.ErrorMessage;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -92,6 +96,30 @@ class ApiVersionWebFilterTest {
 		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
 	}
 
+	@Test
+	void versionMismatchWritesErrorMessage() throws Exception {
+		setUpVersionResponse("9.\"9");
+		BrokerApiVersion brokerApiVersion = new BrokerApiVersion("header", "8.8");
+		ApiVersionWebFilter webFilter = new ApiVersionWebFilter(brokerApiVersion);
+		webFilter.filter(exchange, chain).block();
+		assertThat(exchange.getResponse().getBodyAsString().block())
+				.isEqualTo(toJson(ServiceBrokerApiVersionErrorMessage.from("8.8", "9.\"9").toString()));
+	}
+
+	@Test
+	void versionHeaderIsMissingWritesErrorMessage() throws Exception {
+		setUpVersionResponse(null);
+		BrokerApiVersion brokerApiVersion = new BrokerApiVersion("header", "9.9");
+		ApiVersionWebFilter webFilter = new ApiVersionWebFilter(brokerApiVersion);
+		webFilter.filter(exchange, chain).block();
+		assertThat(exchange.getResponse().getBodyAsString().block())
+				.isEqualTo(toJson(ServiceBrokerApiVersionErrorMessage.from("9.9", null).toString()));
+	}
+
+	private String toJson(String message) throws JsonProcessingException {
+		return new ObjectMapper().writeValueAsString(ErrorMessage.builder().message(message).build());
+	}
+
 	private void setUpVersionResponse(String version) {
 		MockServerHttpRequest request;
 		if (version == null) {
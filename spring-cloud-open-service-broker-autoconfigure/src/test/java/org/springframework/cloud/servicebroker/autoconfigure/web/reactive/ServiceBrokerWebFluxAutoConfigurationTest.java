@@ -24,6 +24,8 @@ import org.springframework.boot.test.context.runner.ReactiveWebApplicationContex
 import org.springframework.cloud.servicebroker.autoconfigure.web.AbstractServiceBrokerWebAutoConfigurationTest;
 import org.springframework.cloud.servicebroker.autoconfigure.web.exception.ServiceInstanceServiceBeanDoesNotExistException;
 import org.springframework.cloud.servicebroker.controller.CatalogController;
+import org.springframework.cloud.servicebroker.controller.PrecompiledValidationAdvice;
+import org.springframework.cloud.servicebroker.controller.SerializedCatalogController;
 import org.springframework.cloud.servicebroker.controller.ServiceBrokerWebFluxExceptionHandler;
 import org.springframework.cloud.servicebroker.controller.ServiceInstanceBindingController;
 import org.springframework.cloud.servicebroker.controller.ServiceInstanceController;
@@ -49,6 +51,45 @@ class ServiceBrokerWebFluxAutoConfigurationTest extends AbstractServiceBrokerWeb
 						.hasSingleBean(ServiceBrokerWebFluxExceptionHandler.class));
 	}
 
+	@Test
+	void serializedCatalogControllerIsCreatedWhenEnabled() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.serialized-catalog.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(SerializedCatalogController.class)
+						.doesNotHaveBean(CatalogController.class));
+	}
+
+	@Test
+	void admissionControlIsNotAppliedByDefault() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.run(context -> assertThat(context).doesNotHaveBean(AdmissionControlWebFilter.class));
+	}
+
+	@Test
+	void admissionControlIsAppliedWhenEnabled() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.admission-control.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(AdmissionControlWebFilter.class));
+	}
+
+	@Test
+	void precompiledValidationIsNotAppliedByDefault() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.run(context -> assertThat(context).doesNotHaveBean(PrecompiledValidationAdvice.class));
+	}
+
+	@Test
+	void precompiledValidationIsAppliedWhenEnabled() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.precompiled-validation.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(PrecompiledValidationAdvice.class));
+	}
+
 	@Test
 	void controllersAreNotCreatedWithMissingInstanceService() {
 		webApplicationContextRunner()
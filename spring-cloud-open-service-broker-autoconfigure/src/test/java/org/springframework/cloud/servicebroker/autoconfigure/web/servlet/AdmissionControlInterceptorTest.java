@@ -0,0 +1,83 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.autoconfigure.web.servlet;
+
+import jakarta.servlet.DispatcherType;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.controller.AdmissionControl;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerUnavailableException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AdmissionControlInterceptorTest {
+
+	private final AdmissionControl admissionControl = new AdmissionControl(1, 1, 1);
+
+	private final AdmissionControlInterceptor interceptor = new AdmissionControlInterceptor(this.admissionControl);
+
+	@Test
+	void requestWithinLimitIsAdmittedAndReleased() {
+		MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/v2/service_instances/instance-id");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertThat(this.interceptor.preHandle(request, response, null)).isTrue();
+		assertThat(this.admissionControl.getLimit("createServiceInstance").getInFlight()).isEqualTo(1);
+
+		this.interceptor.afterCompletion(request, response, null, null);
+		assertThat(this.admissionControl.getLimit("createServiceInstance").getInFlight()).isZero();
+	}
+
+	@Test
+	void requestBeyondLimitIsRejected() {
+		MockHttpServletRequest first = new MockHttpServletRequest("PUT", "/v2/service_instances/instance-one");
+		MockHttpServletRequest second = new MockHttpServletRequest("PUT", "/v2/service_instances/instance-two");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		this.interceptor.preHandle(first, new MockHttpServletResponse(), null);
+
+		assertThatExceptionOfType(ServiceBrokerUnavailableException.class)
+				.isThrownBy(() -> this.interceptor.preHandle(second, response, null));
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+	}
+
+	@Test
+	void asyncDispatchIsNotAdmittedAgain() {
+		MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/v2/service_instances/instance-id");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		this.interceptor.preHandle(request, response, null);
+		request.setDispatcherType(DispatcherType.ASYNC);
+
+		assertThat(this.interceptor.preHandle(request, response, null)).isTrue();
+		assertThat(this.admissionControl.getLimit("createServiceInstance").getInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	void otherRequestsAreNotLimited() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+
+		assertThat(this.interceptor.preHandle(request, new MockHttpServletResponse(), null)).isTrue();
+		this.interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+	}
+
+}
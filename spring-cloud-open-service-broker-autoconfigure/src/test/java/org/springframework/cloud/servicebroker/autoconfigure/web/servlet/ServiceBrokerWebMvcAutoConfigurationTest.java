@@ -18,16 +18,30 @@ package org.springframework.cloud.servicebroker.autoconfigure.web.servlet;
 
 
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.UnsatisfiedDependencyException;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
 import org.springframework.cloud.servicebroker.autoconfigure.web.AbstractServiceBrokerWebAutoConfigurationTest;
 import org.springframework.cloud.servicebroker.autoconfigure.web.exception.ServiceInstanceServiceBeanDoesNotExistException;
 import org.springframework.cloud.servicebroker.controller.CatalogController;
+import org.springframework.cloud.servicebroker.controller.PrecompiledValidationAdvice;
+import org.springframework.cloud.servicebroker.controller.SerializedCatalogController;
 import org.springframework.cloud.servicebroker.controller.ServiceBrokerWebMvcExceptionHandler;
 import org.springframework.cloud.servicebroker.controller.ServiceInstanceBindingController;
 import org.springframework.cloud.servicebroker.controller.ServiceInstanceController;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceEventService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,6 +64,64 @@ class ServiceBrokerWebMvcAutoConfigurationTest extends AbstractServiceBrokerWebA
 						.hasSingleBean(ServiceBrokerWebMvcExceptionHandler.class));
 	}
 
+	@Test
+	void serializedCatalogControllerIsCreatedWhenEnabled() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.serialized-catalog.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(SerializedCatalogController.class)
+						.doesNotHaveBean(CatalogController.class));
+	}
+
+	@Test
+	void serviceDecoratorsAreAppliedInOrder() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class, ServiceDecoratorConfiguration.class)
+				.run(context -> {
+					Object service = ReflectionTestUtils.getField(
+							context.getBean(ServiceInstanceController.class), "service");
+					assertThat(service).isInstanceOf(DecoratedServiceInstanceService.class);
+					DecoratedServiceInstanceService outer = (DecoratedServiceInstanceService) service;
+					assertThat(outer.getName()).isEqualTo("first");
+					assertThat(outer.getDelegate()).isInstanceOf(DecoratedServiceInstanceService.class);
+					DecoratedServiceInstanceService inner = (DecoratedServiceInstanceService) outer.getDelegate();
+					assertThat(inner.getName()).isEqualTo("second");
+					assertThat(inner.getDelegate()).isInstanceOf(ServiceInstanceEventService.class);
+				});
+	}
+
+	@Test
+	void admissionControlIsNotAppliedByDefault() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.run(context -> assertThat(context).doesNotHaveBean(AdmissionControlInterceptor.class)
+						.doesNotHaveBean(AdmissionControlWebMvcConfigurer.class));
+	}
+
+	@Test
+	void admissionControlIsAppliedWhenEnabled() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.admission-control.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(AdmissionControlInterceptor.class)
+						.hasSingleBean(AdmissionControlWebMvcConfigurer.class));
+	}
+
+	@Test
+	void precompiledValidationIsNotAppliedByDefault() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.run(context -> assertThat(context).doesNotHaveBean(PrecompiledValidationAdvice.class));
+	}
+
+	@Test
+	void precompiledValidationIsAppliedWhenEnabled() {
+		webApplicationContextRunner()
+				.withUserConfiguration(FullServicesConfiguration.class)
+				.withPropertyValues("spring.cloud.openservicebroker.precompiled-validation.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(PrecompiledValidationAdvice.class));
+	}
+
 	@Test
 	void controllersAreNotCreatedWithMissingInstanceService() {
 		webApplicationContextRunner()
@@ -66,4 +138,61 @@ class ServiceBrokerWebMvcAutoConfigurationTest extends AbstractServiceBrokerWebA
 		return new WebApplicationContextRunner().withConfiguration(autoConfigurations());
 	}
 
+	@TestConfiguration
+	protected static class ServiceDecoratorConfiguration {
+
+		@Bean
+		@Order(2)
+		protected ServiceDecorator secondDecorator() {
+			return decorator("second");
+		}
+
+		@Bean
+		@Order(1)
+		protected ServiceDecorator firstDecorator() {
+			return decorator("first");
+		}
+
+		private static ServiceDecorator decorator(String name) {
+			return new ServiceDecorator() {
+				@Override
+				public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService service) {
+					return new DecoratedServiceInstanceService(name, service);
+				}
+			};
+		}
+
+	}
+
+	private static final class DecoratedServiceInstanceService implements ServiceInstanceService {
+
+		private final String name;
+
+		private final ServiceInstanceService delegate;
+
+		private DecoratedServiceInstanceService(String name, ServiceInstanceService delegate) {
+			this.name = name;
+			this.delegate = delegate;
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+		ServiceInstanceService getDelegate() {
+			return this.delegate;
+		}
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			return this.delegate.createServiceInstance(request);
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return this.delegate.deleteServiceInstance(request);
+		}
+
+	}
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.autoconfigure.web.reactive.ApiVersionWebFilter;
+import org.springframework.cloud.servicebroker.model.BrokerApiVersion;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+/**
+ * Measures the {@link ApiVersionWebFilter} for requests that carry the expected API version, a different API version,
+ * and no API version. Run with the {@code gc} profiler to see the allocations made on each path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiVersionFilterBenchmark {
+
+	private static final String PATH = "/v2/catalog";
+
+	private final BrokerApiVersion brokerApiVersion = new BrokerApiVersion("2.17");
+
+	private final ApiVersionWebFilter filter = new ApiVersionWebFilter(brokerApiVersion);
+
+	private final WebFilterChain chain = exchange -> Mono.empty();
+
+	@Benchmark
+	public Object matchingVersion() {
+		return filter(brokerApiVersion.getApiVersion());
+	}
+
+	@Benchmark
+	public Object mismatchedVersion() {
+		return filter("1.0");
+	}
+
+	@Benchmark
+	public Object missingVersion() {
+		return filter(null);
+	}
+
+	private Object filter(String version) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(PATH);
+		if (version != null) {
+			request.header(brokerApiVersion.getBrokerApiVersionHeader(), version);
+		}
+		MockServerWebExchange exchange = MockServerWebExchange.from(request.build());
+		this.filter.filter(exchange, this.chain).block();
+		return exchange.getResponse().getStatusCode();
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.cloud.servicebroker.controller.SerializedCatalogController;
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.MethodSchema;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.cloud.servicebroker.model.catalog.Schemas;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceInstanceSchema;
+import org.springframework.cloud.servicebroker.service.BeanCatalogService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares serializing a catalog with plan schemas for each request with serving the pre-serialized catalog from
+ * {@link SerializedCatalogController}, with and without a matching {@code If-None-Match} header.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogSerializationBenchmark {
+
+	@Param({"10", "100"})
+	private int serviceCount;
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private Catalog catalog;
+
+	private SerializedCatalogController controller;
+
+	private final HttpHeaders headers = new HttpHeaders();
+
+	private final HttpHeaders conditionalHeaders = new HttpHeaders();
+
+	@Setup
+	public void setUp() {
+		List<ServiceDefinition> serviceDefinitions = new ArrayList<>();
+		for (int i = 0; i < serviceCount; i++) {
+			serviceDefinitions.add(ServiceDefinition.builder()
+					.id("service-definition-id-" + i)
+					.name("service-definition-" + i)
+					.description("Service Definition " + i)
+					.bindable(true)
+					.tags("tag-a", "tag-b")
+					.plans(plan(i, 1), plan(i, 2), plan(i, 3))
+					.build());
+		}
+		this.catalog = Catalog.builder().serviceDefinitions(serviceDefinitions).build();
+		this.controller = new SerializedCatalogController(new BeanCatalogService(catalog), objectMapper);
+		this.conditionalHeaders.setIfNoneMatch(controller.getCatalog(headers).block().getHeaders().getETag());
+	}
+
+	@Benchmark
+	public byte[] serializePerRequest() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(catalog);
+	}
+
+	@Benchmark
+	public ResponseEntity<byte[]> preSerialized() {
+		return controller.getCatalog(headers).block();
+	}
+
+	@Benchmark
+	public ResponseEntity<byte[]> notModified() {
+		return controller.getCatalog(conditionalHeaders).block();
+	}
+
+	private static Plan plan(int service, int plan) {
+		Map<String, Object> properties = new HashMap<>();
+		for (int i = 0; i < 10; i++) {
+			Map<String, Object> property = new HashMap<>();
+			property.put("type", "string");
+			property.put("description", "Property " + i + " of plan " + plan + " of service " + service);
+			properties.put("property-" + i, property);
+		}
+		Map<String, Object> schema = new HashMap<>();
+		schema.put("$schema", "http://json-schema.org/draft-04/schema#");
+		schema.put("type", "object");
+		schema.put("properties", properties);
+		return Plan.builder()
+				.id("plan-id-" + service + "-" + plan)
+				.name("plan-" + plan)
+				.description("Plan " + plan)
+				.schemas(Schemas.builder()
+						.serviceInstanceSchema(ServiceInstanceSchema.builder()
+								.createMethodSchema(MethodSchema.builder()
+										.parameters(schema)
+										.build())
+								.build())
+						.build())
+				.build();
+	}
+
+}
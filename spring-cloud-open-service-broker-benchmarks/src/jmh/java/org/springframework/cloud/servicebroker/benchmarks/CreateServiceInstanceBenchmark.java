@@ -0,0 +1,102 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.controller.ServiceInstanceController;
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.BeanCatalogService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Measures {@link ServiceInstanceController#createServiceInstance} end to end, from the controller method to the
+ * response entity, with a service instance service that completes immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateServiceInstanceBenchmark {
+
+	private static final String ORIGINATING_IDENTITY = "cloudfoundry " + Base64.getEncoder().encodeToString(
+			"{\"user_id\":\"683ea748-3092-4ff4-b656-39cacc4d5360\"}".getBytes(StandardCharsets.UTF_8));
+
+	private static final Map<String, String> PATH_VARIABLES = Collections.emptyMap();
+
+	private final ServiceInstanceController controller = new ServiceInstanceController(
+			new BeanCatalogService(Catalog.builder()
+					.serviceDefinitions(ServiceDefinition.builder()
+							.id("service-definition-id")
+							.name("service-definition")
+							.description("Service Definition")
+							.plans(Plan.builder()
+									.id("plan-id")
+									.name("plan")
+									.description("Plan")
+									.build())
+							.build())
+					.build()),
+			new NoOpServiceInstanceService());
+
+	@Benchmark
+	public ResponseEntity<CreateServiceInstanceResponse> createServiceInstance() {
+		CreateServiceInstanceRequest request = CreateServiceInstanceRequest.builder()
+				.serviceDefinitionId("service-definition-id")
+				.planId("plan-id")
+				.parameters("key", "value")
+				.build();
+		return controller.createServiceInstance(PATH_VARIABLES, "service-instance-id", false, null,
+				ORIGINATING_IDENTITY, "request-id", request).block();
+	}
+
+	private static final class NoOpServiceInstanceService implements ServiceInstanceService {
+
+		private final Mono<CreateServiceInstanceResponse> createResponse = Mono.just(
+				CreateServiceInstanceResponse.builder().build());
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			return this.createResponse;
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return Mono.just(DeleteServiceInstanceResponse.builder().build());
+		}
+
+	}
+
+}
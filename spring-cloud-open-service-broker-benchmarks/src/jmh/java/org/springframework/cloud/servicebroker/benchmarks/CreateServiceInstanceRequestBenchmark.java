@@ -0,0 +1,70 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures JSON deserialization of a {@link CreateServiceInstanceRequest} body with parameters, a platform context
+ * and maintenance info.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateServiceInstanceRequestBenchmark {
+
+	private static final byte[] BODY = ("{"
+			+ "\"service_id\":\"service-definition-id\","
+			+ "\"plan_id\":\"plan-id\","
+			+ "\"organization_guid\":\"organization-guid\","
+			+ "\"space_guid\":\"space-guid\","
+			+ "\"context\":{\"platform\":\"cloudfoundry\",\"organization_guid\":\"organization-guid\","
+			+ "\"space_guid\":\"space-guid\",\"instance_name\":\"instance\"},"
+			+ "\"parameters\":{\"size\":\"large\",\"replicas\":3,\"tags\":[\"a\",\"b\"],"
+			+ "\"settings\":{\"backup\":true,\"retention\":7}},"
+			+ "\"maintenance_info\":{\"version\":\"1.1.0\",\"description\":\"Patch\"}"
+			+ "}").getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private final ObjectReader reader = objectMapper.readerFor(CreateServiceInstanceRequest.class);
+
+	@Benchmark
+	public CreateServiceInstanceRequest objectMapper() throws IOException {
+		return objectMapper.readValue(BODY, CreateServiceInstanceRequest.class);
+	}
+
+	@Benchmark
+	public CreateServiceInstanceRequest objectReader() throws IOException {
+		return reader.readValue(BODY);
+	}
+
+}
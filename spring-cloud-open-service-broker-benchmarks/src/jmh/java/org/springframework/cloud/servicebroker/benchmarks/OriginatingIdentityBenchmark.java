@@ -0,0 +1,72 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.cloud.servicebroker.controller.DefaultOriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.controller.OriginatingIdentityDecoder;
+import org.springframework.cloud.servicebroker.model.CloudFoundryContext;
+import org.springframework.cloud.servicebroker.model.Context;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures decoding of the originating identity header. Run with the {@code gc} profiler to compare allocations per
+ * request between building an {@link ObjectMapper} for each header, as the controllers did before the decoder was
+ * introduced, and the shared reader used by {@link DefaultOriginatingIdentityDecoder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OriginatingIdentityBenchmark {
+
+	private static final String HEADER = "cloudfoundry " + Base64.getEncoder().encodeToString(
+			"{\"user_id\":\"683ea748-3092-4ff4-b656-39cacc4d5360\"}".getBytes(StandardCharsets.UTF_8));
+
+	private final OriginatingIdentityDecoder decoder = new DefaultOriginatingIdentityDecoder();
+
+	@Benchmark
+	public Context objectMapperPerRequest() throws IOException {
+		String[] parts = HEADER.split(" ", 2);
+		String json = new String(Base64.getDecoder().decode(parts[1].getBytes()));
+		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		Map<String, Object> properties = objectMapper.readValue(json, new TypeReference<Map<String, Object>>() {
+		});
+		return CloudFoundryContext.builder()
+				.properties(properties)
+				.build();
+	}
+
+	@Benchmark
+	public Context sharedDecoder() {
+		return decoder.decode(HEADER);
+	}
+
+}
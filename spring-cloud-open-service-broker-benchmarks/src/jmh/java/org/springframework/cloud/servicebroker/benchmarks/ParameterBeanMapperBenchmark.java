@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.SuppressPropertiesBeanIntrospector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.cloud.servicebroker.model.util.ParameterBeanMapperUtils;
+
+/**
+ * Measures {@link ParameterBeanMapperUtils#mapParametersToBean(Map, Class)} for a bean with a few properties of
+ * different types, compared with populating the bean through a new {@link BeanUtilsBean} for each call, as the
+ * method did before binders were cached for each type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParameterBeanMapperBenchmark {
+
+	private final Map<String, Object> parameters = new HashMap<>();
+
+	public ParameterBeanMapperBenchmark() {
+		parameters.put("name", "instance");
+		parameters.put("replicas", 3);
+		parameters.put("backup", true);
+		parameters.put("region", "us-east-1");
+		parameters.put("unknown", "ignored");
+	}
+
+	@Benchmark
+	public InstanceParameters mapParametersToBean() {
+		return ParameterBeanMapperUtils.mapParametersToBean(parameters, InstanceParameters.class);
+	}
+
+	@Benchmark
+	public InstanceParameters beanUtilsPopulate() throws IllegalAccessException, InvocationTargetException {
+		InstanceParameters bean = new InstanceParameters();
+		BeanUtilsBean beanUtils = new BeanUtilsBean();
+		beanUtils.getPropertyUtils().addBeanIntrospector(SuppressPropertiesBeanIntrospector.SUPPRESS_CLASS);
+		beanUtils.populate(bean, parameters);
+		return bean;
+	}
+
+	/**
+	 * Parameters bean populated by the benchmark
+	 */
+	public static class InstanceParameters {
+
+		private String name;
+
+		private int replicas;
+
+		private boolean backup;
+
+		private String region;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getReplicas() {
+			return replicas;
+		}
+
+		public void setReplicas(int replicas) {
+			this.replicas = replicas;
+		}
+
+		public boolean isBackup() {
+			return backup;
+		}
+
+		public void setBackup(boolean backup) {
+			this.backup = backup;
+		}
+
+		public String getRegion() {
+			return region;
+		}
+
+		public void setRegion(String region) {
+			this.region = region;
+		}
+
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.controller.BaseController;
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.cloud.servicebroker.service.BeanCatalogService;
+import org.springframework.cloud.servicebroker.service.CatalogService;
+
+/**
+ * Compares resolving a plan by scanning the plans of a service definition with a {@link Flux} pipeline, as the
+ * controllers did before plans were indexed, with resolving it through the catalog index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlanLookupBenchmark {
+
+	private static final String SERVICE_ID = "service-definition-id";
+
+	@Param({"10", "100", "500"})
+	private int planCount;
+
+	private ServiceDefinition serviceDefinition;
+
+	private String planId;
+
+	private PlanLookupController controller;
+
+	@Setup
+	public void setUp() {
+		List<Plan> plans = new ArrayList<>();
+		for (int i = 0; i < planCount; i++) {
+			plans.add(Plan.builder()
+					.id("plan-id-" + i)
+					.name("plan-" + i)
+					.description("Plan " + i)
+					.build());
+		}
+		this.serviceDefinition = ServiceDefinition.builder()
+				.id(SERVICE_ID)
+				.name("service-definition")
+				.description("Service Definition")
+				.plans(plans)
+				.build();
+		this.planId = "plan-id-" + (planCount - 1);
+		this.controller = new PlanLookupController(new BeanCatalogService(Catalog.builder()
+				.serviceDefinitions(this.serviceDefinition)
+				.build()));
+	}
+
+	@Benchmark
+	public Plan fluxScan() {
+		return Mono.justOrEmpty(serviceDefinition)
+				.flatMap(serviceDef -> Mono.justOrEmpty(serviceDef.getPlans())
+						.flatMap(plans -> Flux.fromIterable(plans)
+								.filter(plan -> plan.getId().equals(planId))
+								.singleOrEmpty()))
+				.block();
+	}
+
+	@Benchmark
+	public Plan catalogIndex() {
+		return controller.lookup(serviceDefinition, planId);
+	}
+
+	private static final class PlanLookupController extends BaseController {
+
+		private PlanLookupController(CatalogService catalogService) {
+			super(catalogService);
+		}
+
+		private Plan lookup(ServiceDefinition serviceDefinition, String planId) {
+			return getServiceDefinitionPlan(serviceDefinition, planId).block();
+		}
+
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import jakarta.validation.Validation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.cloud.servicebroker.controller.PrecompiledRequestValidator;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+/**
+ * Measures validation of a create service instance request body, as performed by the controllers for each request.
+ * Compares the Bean Validation provider, which the application validator delegates to, with the
+ * {@link PrecompiledRequestValidator}, for a valid request and for a request with missing required fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestValidationBenchmark {
+
+	private final Validator beanValidator = new SpringValidatorAdapter(Validation.byDefaultProvider()
+			.configure()
+			.messageInterpolator(new ParameterMessageInterpolator())
+			.buildValidatorFactory()
+			.getValidator());
+
+	private final Validator precompiledValidator = new PrecompiledRequestValidator();
+
+	private final CreateServiceInstanceRequest validRequest = CreateServiceInstanceRequest.builder()
+			.serviceInstanceId("service-instance-id")
+			.serviceDefinitionId("service-definition-id")
+			.planId("plan-id")
+			.build();
+
+	private final CreateServiceInstanceRequest invalidRequest = CreateServiceInstanceRequest.builder()
+			.serviceInstanceId("service-instance-id")
+			.serviceDefinitionId("service-definition-id")
+			.build();
+
+	@Benchmark
+	public Errors beanValidationValidRequest() {
+		return validate(beanValidator, validRequest);
+	}
+
+	@Benchmark
+	public Errors precompiledValidRequest() {
+		return validate(precompiledValidator, validRequest);
+	}
+
+	@Benchmark
+	public Errors beanValidationInvalidRequest() {
+		return validate(beanValidator, invalidRequest);
+	}
+
+	@Benchmark
+	public Errors precompiledInvalidRequest() {
+		return validate(precompiledValidator, invalidRequest);
+	}
+
+	private static Errors validate(Validator validator, Object target) {
+		Errors errors = new BeanPropertyBindingResult(target, "request");
+		validator.validate(target, errors);
+		return errors;
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceEventService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.cloud.servicebroker.service.events.EventFlowRegistries;
+import org.springframework.cloud.servicebroker.service.events.flows.CreateServiceInstanceCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.CreateServiceInstanceInitializationFlow;
+
+/**
+ * Measures the overhead of {@link ServiceInstanceEventService} when creating a service instance with a number of
+ * registered initialization and completion flows that complete immediately. With no flows, the request is passed to
+ * the service directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ServiceInstanceEventServiceBenchmark {
+
+	@Param({"0", "1", "10"})
+	private int flowCount;
+
+	private ServiceInstanceEventService eventService;
+
+	private CreateServiceInstanceRequest request;
+
+	@Setup
+	public void setUp() {
+		EventFlowRegistries registries = new EventFlowRegistries();
+		for (int i = 0; i < flowCount; i++) {
+			registries.getCreateInstanceRegistry()
+					.addInitializationFlow(new CreateServiceInstanceInitializationFlow() {
+					})
+					.block();
+			registries.getCreateInstanceRegistry()
+					.addCompletionFlow(new CreateServiceInstanceCompletionFlow() {
+					})
+					.block();
+		}
+		this.eventService = new ServiceInstanceEventService(new NoOpServiceInstanceService(), registries);
+		this.request = CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("service-instance-id")
+				.serviceDefinitionId("service-definition-id")
+				.planId("plan-id")
+				.build();
+	}
+
+	@Benchmark
+	public CreateServiceInstanceResponse createServiceInstance() {
+		return eventService.createServiceInstance(request).block();
+	}
+
+	private static final class NoOpServiceInstanceService implements ServiceInstanceService {
+
+		private final Mono<CreateServiceInstanceResponse> createResponse = Mono.just(
+				CreateServiceInstanceResponse.builder().build());
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			return this.createResponse;
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return Mono.just(DeleteServiceInstanceResponse.builder().build());
+		}
+
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.Assert;
+
+/**
+ * A limit on the number of requests processed concurrently, learned from the observed processing time of requests.
+ * <p>
+ * Each completed request is a sample. While processing times stay close to their long term average the limit grows by
+ * roughly the square root of the limit, and as processing times rise above the average the limit shrinks in proportion.
+ * A failed request, such as one that timed out, reduces the limit multiplicatively. Samples taken while fewer than half
+ * of the permitted requests are in flight do not change the limit, so a lightly loaded broker does not grow its limit
+ * without bound.
+ */
+public class AdaptiveConcurrencyLimit {
+
+	private static final double SMOOTHING = 0.2;
+
+	private static final double TOLERANCE = 1.5;
+
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private static final int LONG_WINDOW = 600;
+
+	private final int minimumLimit;
+
+	private final int maximumLimit;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private volatile int limit;
+
+	private volatile long averageNanos;
+
+	private double estimatedLimit;
+
+	/**
+	 * Construct a new {@link AdaptiveConcurrencyLimit}
+	 *
+	 * @param initialLimit the limit before any requests have completed
+	 * @param minimumLimit the lowest limit
+	 * @param maximumLimit the highest limit
+	 */
+	public AdaptiveConcurrencyLimit(int initialLimit, int minimumLimit, int maximumLimit) {
+		Assert.isTrue(minimumLimit > 0, "minimumLimit must be greater than 0");
+		Assert.isTrue(minimumLimit <= initialLimit && initialLimit <= maximumLimit,
+				"initialLimit must be between minimumLimit and maximumLimit");
+		this.minimumLimit = minimumLimit;
+		this.maximumLimit = maximumLimit;
+		this.limit = initialLimit;
+		this.estimatedLimit = initialLimit;
+	}
+
+	/**
+	 * Admit a request if fewer requests than the limit are in flight. An admitted request must be followed by exactly
+	 * one call to {@link #release(long, boolean)}.
+	 *
+	 * @return true if the request was admitted
+	 */
+	public boolean tryAcquire() {
+		int current;
+		do {
+			current = this.inFlight.get();
+			if (current >= this.limit) {
+				return false;
+			}
+		}
+		while (!this.inFlight.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	/**
+	 * Complete an admitted request, and adjust the limit from its processing time
+	 *
+	 * @param elapsedNanos the time taken to process the request
+	 * @param failed true if the request failed in a way that indicates overload
+	 */
+	public void release(long elapsedNanos, boolean failed) {
+		int inFlightAtCompletion = this.inFlight.getAndDecrement();
+		update(elapsedNanos, failed, inFlightAtCompletion);
+	}
+
+	private synchronized void update(long elapsedNanos, boolean failed, int inFlightAtCompletion) {
+		if (failed) {
+			setEstimatedLimit(this.estimatedLimit * BACKOFF_RATIO);
+			return;
+		}
+		if (elapsedNanos <= 0) {
+			return;
+		}
+		long average = this.averageNanos;
+		if (average == 0) {
+			average = elapsedNanos;
+		}
+		else {
+			average += (elapsedNanos - average) / LONG_WINDOW;
+			if (average > 2 * elapsedNanos) {
+				// recover quickly after a period of slow requests has passed
+				average -= average / 20;
+			}
+		}
+		this.averageNanos = average;
+		if (inFlightAtCompletion < this.estimatedLimit / 2) {
+			return;
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * average / elapsedNanos));
+		double newLimit = this.estimatedLimit * gradient + Math.sqrt(this.estimatedLimit);
+		setEstimatedLimit(this.estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+	}
+
+	private void setEstimatedLimit(double estimatedLimit) {
+		this.estimatedLimit = Math.max(this.minimumLimit, Math.min(this.maximumLimit, estimatedLimit));
+		this.limit = (int) this.estimatedLimit;
+	}
+
+	/**
+	 * Get the number of requests that may be processed concurrently
+	 *
+	 * @return the limit
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * Get the number of admitted requests that have not completed
+	 *
+	 * @return the number of requests
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Get the time a rejected client should wait before retrying, which is the long term average processing time
+	 * rounded up to whole seconds
+	 *
+	 * @return the time, at least one second
+	 */
+	public Duration getRetryAfter() {
+		long seconds = (this.averageNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+		return Duration.ofSeconds(Math.max(1, seconds));
+	}
+
+}
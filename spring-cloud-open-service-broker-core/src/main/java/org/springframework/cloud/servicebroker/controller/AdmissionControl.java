@@ -0,0 +1,219 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerUnavailableException;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+import org.springframework.util.Assert;
+
+/**
+ * Admission control for service broker API requests, applied by the web stack before a request body is read. Each
+ * operation, such as creating a service instance or getting the last operation of a binding, has a separate
+ * {@link AdaptiveConcurrencyLimit}, so that a surge of one kind of request does not starve the others. Requests beyond
+ * the limit should be rejected with a {@link #createRejectionException() rejection exception} and a
+ * {@literal Retry-After} header.
+ */
+public class AdmissionControl {
+
+	private static final String API_PATH = "/v2/";
+
+	private static final String SERVICE_INSTANCES = "service_instances";
+
+	private static final String SERVICE_BINDINGS = "service_bindings";
+
+	private static final String LAST_OPERATION = "last_operation";
+
+	private static final String REJECTION_ERROR_CODE = "TooManyRequests";
+
+	private static final String REJECTION_MESSAGE = "too many concurrent requests, retry later";
+
+	private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+	private final int initialLimit;
+
+	private final int minimumLimit;
+
+	private final int maximumLimit;
+
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Construct a new {@link AdmissionControl}
+	 *
+	 * @param initialLimit the limit for each operation before any requests have completed
+	 * @param minimumLimit the lowest limit for each operation
+	 * @param maximumLimit the highest limit for each operation
+	 */
+	public AdmissionControl(int initialLimit, int minimumLimit, int maximumLimit) {
+		this(initialLimit, minimumLimit, maximumLimit, System::nanoTime);
+	}
+
+	AdmissionControl(int initialLimit, int minimumLimit, int maximumLimit, LongSupplier nanoClock) {
+		Assert.isTrue(minimumLimit > 0, "minimumLimit must be greater than 0");
+		Assert.isTrue(minimumLimit <= initialLimit && initialLimit <= maximumLimit,
+				"initialLimit must be between minimumLimit and maximumLimit");
+		this.initialLimit = initialLimit;
+		this.minimumLimit = minimumLimit;
+		this.maximumLimit = maximumLimit;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Identify the operation requested, using the operation names of {@link ServiceBrokerOperations}
+	 *
+	 * @param method the HTTP method of the request
+	 * @param path the path of the request within the application
+	 * @return the operation, or {@literal null} if the request is not a service broker API request
+	 */
+	public String getOperation(String method, String path) {
+		int index = path.indexOf(API_PATH);
+		if (index < 0) {
+			return null;
+		}
+		String[] segments = path.substring(index + API_PATH.length()).split("/");
+		if (segments.length == 1 && "catalog".equals(segments[0])) {
+			return "GET".equals(method) ? ServiceBrokerOperations.GET_CATALOG : null;
+		}
+		if (segments.length < 2 || !SERVICE_INSTANCES.equals(segments[0])) {
+			return null;
+		}
+		if (segments.length == 2) {
+			return instanceOperation(method);
+		}
+		if (segments.length == 3 && LAST_OPERATION.equals(segments[2])) {
+			return "GET".equals(method) ? ServiceBrokerOperations.GET_LAST_SERVICE_OPERATION : null;
+		}
+		if (!SERVICE_BINDINGS.equals(segments[2])) {
+			return null;
+		}
+		if (segments.length == 4) {
+			return bindingOperation(method);
+		}
+		if (segments.length == 5 && LAST_OPERATION.equals(segments[4])) {
+			return "GET".equals(method) ? ServiceBrokerOperations.GET_LAST_SERVICE_BINDING_OPERATION : null;
+		}
+		return null;
+	}
+
+	private static String instanceOperation(String method) {
+		switch (method) {
+			case "PUT":
+				return ServiceBrokerOperations.CREATE_SERVICE_INSTANCE;
+			case "GET":
+				return ServiceBrokerOperations.GET_SERVICE_INSTANCE;
+			case "PATCH":
+				return ServiceBrokerOperations.UPDATE_SERVICE_INSTANCE;
+			case "DELETE":
+				return ServiceBrokerOperations.DELETE_SERVICE_INSTANCE;
+			default:
+				return null;
+		}
+	}
+
+	private static String bindingOperation(String method) {
+		switch (method) {
+			case "PUT":
+				return ServiceBrokerOperations.CREATE_SERVICE_INSTANCE_BINDING;
+			case "GET":
+				return ServiceBrokerOperations.GET_SERVICE_INSTANCE_BINDING;
+			case "DELETE":
+				return ServiceBrokerOperations.DELETE_SERVICE_INSTANCE_BINDING;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Admit a request for an operation if the limit for the operation allows
+	 *
+	 * @param operation the operation
+	 * @return a permit that must be released when the request completes, or {@literal null} if the request is
+	 * 		rejected
+	 */
+	public Permit tryAcquire(String operation) {
+		AdaptiveConcurrencyLimit limit = getLimit(operation);
+		if (!limit.tryAcquire()) {
+			return null;
+		}
+		return new Permit(limit, this.nanoClock);
+	}
+
+	/**
+	 * Get the time a client whose request for an operation was rejected should wait before retrying
+	 *
+	 * @param operation the operation
+	 * @return the time
+	 */
+	public Duration getRetryAfter(String operation) {
+		return getLimit(operation).getRetryAfter();
+	}
+
+	/**
+	 * Create an exception that describes a rejected request. A new instance is returned for each rejection, so that
+	 * exceptions thrown for concurrent requests do not share stack traces or suppressed exceptions.
+	 *
+	 * @return the exception
+	 */
+	public ServiceBrokerUnavailableException createRejectionException() {
+		return new ServiceBrokerUnavailableException(REJECTION_ERROR_CODE, REJECTION_MESSAGE);
+	}
+
+	/**
+	 * Get the limit for an operation
+	 *
+	 * @param operation the operation
+	 * @return the limit
+	 */
+	public AdaptiveConcurrencyLimit getLimit(String operation) {
+		return this.limits.computeIfAbsent(operation,
+				key -> new AdaptiveConcurrencyLimit(this.initialLimit, this.minimumLimit, this.maximumLimit));
+	}
+
+	/**
+	 * An admitted request
+	 */
+	public static final class Permit {
+
+		private final AdaptiveConcurrencyLimit limit;
+
+		private final LongSupplier nanoClock;
+
+		private final long startedAt;
+
+		private Permit(AdaptiveConcurrencyLimit limit, LongSupplier nanoClock) {
+			this.limit = limit;
+			this.nanoClock = nanoClock;
+			this.startedAt = nanoClock.getAsLong();
+		}
+
+		/**
+		 * Complete the request
+		 *
+		 * @param failed true if the request failed in a way that indicates overload, such as a server error
+		 */
+		public void release(boolean failed) {
+			this.limit.release(this.nanoClock.getAsLong() - this.startedAt, failed);
+		}
+
+	}
+
+}
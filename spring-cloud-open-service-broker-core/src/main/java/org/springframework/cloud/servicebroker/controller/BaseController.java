@@ -16,30 +16,22 @@
 
 package org.springframework.cloud.servicebroker.controller;
 
-import java.io.IOException;
-import java.util.Map;
+import java.time.Duration;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import org.springframework.cloud.servicebroker.exception.ServiceBrokerInvalidOriginatingIdentityException;
 import org.springframework.cloud.servicebroker.exception.ServiceDefinitionDoesNotExistException;
 import org.springframework.cloud.servicebroker.exception.ServiceDefinitionPlanDoesNotExistException;
 import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerRequest;
 import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
-import org.springframework.cloud.servicebroker.model.CloudFoundryContext;
 import org.springframework.cloud.servicebroker.model.Context;
-import org.springframework.cloud.servicebroker.model.KubernetesContext;
-import org.springframework.cloud.servicebroker.model.PlatformContext;
 import org.springframework.cloud.servicebroker.model.ServiceBrokerRequest;
 import org.springframework.cloud.servicebroker.model.catalog.Plan;
 import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.cloud.servicebroker.service.CatalogIndex;
 import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
-import org.springframework.util.Base64Utils;
 
 /**
  * Base functionality shared by controllers.
@@ -50,17 +42,43 @@ import org.springframework.util.Base64Utils;
  */
 public class BaseController {
 
-	private static final int ORIGINATING_IDENTITY_HEADER_PARTS = 2;
-
 	protected CatalogService catalogService;
 
+	protected final RequestLogger requestLogger;
+
+	private final OriginatingIdentityDecoder originatingIdentityDecoder;
+
 	/**
 	 * Construct a new {@link BaseController}
 	 *
 	 * @param catalogService the catalog service
 	 */
 	public BaseController(CatalogService catalogService) {
+		this(catalogService, new DefaultOriginatingIdentityDecoder());
+	}
+
+	/**
+	 * Construct a new {@link BaseController}
+	 *
+	 * @param catalogService the catalog service
+	 * @param originatingIdentityDecoder the decoder for the originating identity header
+	 */
+	public BaseController(CatalogService catalogService, OriginatingIdentityDecoder originatingIdentityDecoder) {
+		this(catalogService, originatingIdentityDecoder, new RequestLogger());
+	}
+
+	/**
+	 * Construct a new {@link BaseController}
+	 *
+	 * @param catalogService the catalog service
+	 * @param originatingIdentityDecoder the decoder for the originating identity header
+	 * @param requestLogger the logger for request summaries
+	 */
+	public BaseController(CatalogService catalogService, OriginatingIdentityDecoder originatingIdentityDecoder,
+			RequestLogger requestLogger) {
 		this.catalogService = catalogService;
+		this.originatingIdentityDecoder = originatingIdentityDecoder;
+		this.requestLogger = requestLogger;
 	}
 
 	/**
@@ -131,12 +149,29 @@ public class BaseController {
 	 * @param planId the plan ID
 	 * @return the Plan
 	 */
+	@SuppressWarnings("PMD.CompareObjectsWithEquals")
 	protected Mono<Plan> getServiceDefinitionPlan(ServiceDefinition serviceDefinition, String planId) {
-		return Mono.justOrEmpty(serviceDefinition)
-				.flatMap(serviceDef -> Mono.justOrEmpty(serviceDef.getPlans())
-						.flatMap(plans -> Flux.fromIterable(plans)
-								.filter(plan -> plan.getId().equals(planId))
-								.singleOrEmpty()));
+		if (serviceDefinition == null) {
+			return Mono.empty();
+		}
+		// only use the index if it was built from the same service definition, as the catalog may have been replaced
+		CatalogIndex catalogIndex = catalogService.getCatalogIndex();
+		if (catalogIndex != null
+				&& catalogIndex.getServiceDefinition(serviceDefinition.getId()) == serviceDefinition) {
+			return Mono.justOrEmpty(catalogIndex.getPlan(serviceDefinition.getId(), planId));
+		}
+		return Mono.justOrEmpty(findPlan(serviceDefinition, planId));
+	}
+
+	private Plan findPlan(ServiceDefinition serviceDefinition, String planId) {
+		if (serviceDefinition.getPlans() != null) {
+			for (Plan plan : serviceDefinition.getPlans()) {
+				if (plan.getId().equals(planId)) {
+					return plan;
+				}
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -158,65 +193,7 @@ public class BaseController {
 	 * @return the Context
 	 */
 	protected Context parseOriginatingIdentity(String originatingIdentityString) {
-		if (originatingIdentityString == null) {
-			return null;
-		}
-
-		String[] parts = splitOriginatingIdentityHeaderParts(originatingIdentityString);
-		String encodedProperties = decodeOriginatingIdentityHeader(parts[1]);
-		Map<String, Object> properties = parseOriginatingIdentityHeader(encodedProperties);
-		String platform = parts[0];
-
-		if (CloudFoundryContext.CLOUD_FOUNDRY_PLATFORM.equals(platform)) {
-			return CloudFoundryContext.builder()
-					.properties(properties)
-					.build();
-		}
-		else if (KubernetesContext.KUBERNETES_PLATFORM.equals(platform)) {
-			return KubernetesContext.builder()
-					.properties(properties)
-					.build();
-		}
-		else {
-			return PlatformContext.builder()
-					.platform(platform)
-					.properties(properties)
-					.build();
-		}
-	}
-
-	private String[] splitOriginatingIdentityHeaderParts(String header) {
-		String[] parts = header.split(" ", ORIGINATING_IDENTITY_HEADER_PARTS);
-		if (parts.length != ORIGINATING_IDENTITY_HEADER_PARTS) {
-			throw new ServiceBrokerInvalidOriginatingIdentityException("Expected platform and properties values in "
-					+ ServiceBrokerRequest.ORIGINATING_IDENTITY_HEADER + " header in request");
-		}
-		return parts;
-	}
-
-	private String decodeOriginatingIdentityHeader(String encodedProperties) {
-		try {
-			return new String(Base64Utils.decode(encodedProperties.getBytes()));
-		}
-		catch (IllegalArgumentException e) {
-			throw new ServiceBrokerInvalidOriginatingIdentityException("Error decoding JSON properties from "
-					+ ServiceBrokerRequest.ORIGINATING_IDENTITY_HEADER + " header in request", e);
-		}
-	}
-
-	private Map<String, Object> parseOriginatingIdentityHeader(String encodedProperties) {
-		try {
-			return readJsonFromString(encodedProperties);
-		}
-		catch (IOException e) {
-			throw new ServiceBrokerInvalidOriginatingIdentityException("Error parsing JSON properties from "
-					+ ServiceBrokerRequest.ORIGINATING_IDENTITY_HEADER + " header in request", e);
-		}
-	}
-
-	private Map<String, Object> readJsonFromString(String value) throws IOException {
-		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
-		return objectMapper.readValue(value, new TypeReference<Map<String, Object>>() {});
+		return originatingIdentityDecoder.decode(originatingIdentityString);
 	}
 
 	/**
@@ -232,4 +209,19 @@ public class BaseController {
 		return HttpStatus.OK;
 	}
 
+	/**
+	 * Build the headers of a response to a request for the last operation
+	 *
+	 * @param retryAfter the time the platform should wait before polling again, or {@literal null}
+	 * @return the headers, with a {@literal Retry-After} header in whole seconds if a time is provided
+	 */
+	protected HttpHeaders getLastOperationHeaders(Duration retryAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		if (retryAfter != null && !retryAfter.isNegative()) {
+			long seconds = retryAfter.getSeconds() + (retryAfter.getNano() > 0 ? 1 : 0);
+			headers.set(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+		}
+		return headers;
+	}
+
 }
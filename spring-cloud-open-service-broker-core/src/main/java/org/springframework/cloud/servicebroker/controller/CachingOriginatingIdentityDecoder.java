@@ -0,0 +1,159 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cloud.servicebroker.model.Context;
+import org.springframework.cloud.servicebroker.service.caching.CacheStatistics;
+import org.springframework.cloud.servicebroker.service.support.MapEvictor;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link OriginatingIdentityDecoder} that keeps a bounded cache of decoded {@link Context} objects keyed by the raw
+ * header value. Platforms send the same header value for every request made by a user, so repeated values are served
+ * from the cache instead of being decoded again. Entries expire after a fixed time to live.
+ * <p>
+ * The cache is read without locking. When it grows beyond its maximum size, expired entries and then the least
+ * recently used entries are evicted, so the size may briefly exceed the maximum while decodes run concurrently.
+ * <p>
+ * Cached contexts are shared between requests, so they are made unmodifiable with
+ * {@link Context#makeUnmodifiable()} before they are cached.
+ */
+public class CachingOriginatingIdentityDecoder implements OriginatingIdentityDecoder, CacheStatistics {
+
+	private final OriginatingIdentityDecoder delegate;
+
+	private final long timeToLiveMillis;
+
+	private final Clock clock;
+
+	private final ConcurrentMap<String, CachedContext> cache = new ConcurrentHashMap<>();
+
+	private final MapEvictor<String, CachedContext> evictor;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Construct a new {@link CachingOriginatingIdentityDecoder}
+	 *
+	 * @param delegate the decoder used when a header value is not cached
+	 * @param maximumSize the maximum number of cached header values
+	 * @param timeToLive the time after which a cached header value expires
+	 */
+	public CachingOriginatingIdentityDecoder(OriginatingIdentityDecoder delegate, int maximumSize,
+			Duration timeToLive) {
+		this(delegate, maximumSize, timeToLive, Clock.systemUTC());
+	}
+
+	/**
+	 * Construct a new {@link CachingOriginatingIdentityDecoder}
+	 *
+	 * @param delegate the decoder used when a header value is not cached
+	 * @param maximumSize the maximum number of cached header values
+	 * @param timeToLive the time after which a cached header value expires
+	 * @param clock the clock used to expire cached header values
+	 */
+	public CachingOriginatingIdentityDecoder(OriginatingIdentityDecoder delegate, int maximumSize,
+			Duration timeToLive, Clock clock) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than zero");
+		Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+				"timeToLive must be positive");
+		this.delegate = delegate;
+		this.timeToLiveMillis = timeToLive.toMillis();
+		this.clock = clock;
+		this.evictor = new MapEvictor<>(this.cache, maximumSize, cached -> cached.lastAccess,
+				cached -> cached.expiresAt);
+	}
+
+	@Override
+	public Context decode(String originatingIdentityString) {
+		if (originatingIdentityString == null) {
+			return null;
+		}
+		long now = this.clock.millis();
+		CachedContext cached = this.cache.get(originatingIdentityString);
+		if (cached != null && cached.expiresAt > now) {
+			this.hits.increment();
+			cached.lastAccess = now;
+			return cached.context;
+		}
+		this.misses.increment();
+		Context context = this.delegate.decode(originatingIdentityString);
+		if (context != null) {
+			context.makeUnmodifiable();
+		}
+		this.cache.put(originatingIdentityString, new CachedContext(context, now + this.timeToLiveMillis, now));
+		this.evictor.evictIfFull(now);
+		return context;
+	}
+
+	/**
+	 * Get the number of header values that were served from the cache
+	 *
+	 * @return the number of cache hits
+	 */
+	@Override
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Get the number of header values that were decoded because they were not cached or had expired
+	 *
+	 * @return the number of cache misses
+	 */
+	@Override
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Get the number of header values currently in the cache, including any that have expired but have not yet been
+	 * replaced or evicted
+	 *
+	 * @return the number of cached header values
+	 */
+	@Override
+	public int size() {
+		return this.cache.size();
+	}
+
+	private static final class CachedContext {
+
+		private final Context context;
+
+		private final long expiresAt;
+
+		private volatile long lastAccess;
+
+		private CachedContext(Context context, long expiresAt, long lastAccess) {
+			this.context = context;
+			this.expiresAt = expiresAt;
+			this.lastAccess = lastAccess;
+		}
+
+	}
+
+}
@@ -23,6 +23,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.cloud.servicebroker.annotation.ServiceBrokerRestController;
 import org.springframework.cloud.servicebroker.model.catalog.Catalog;
 import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -51,6 +52,16 @@ public class CatalogController extends BaseController {
 		super(service);
 	}
 
+	/**
+	 * Construct a new {@link CatalogController}
+	 *
+	 * @param service the catalog service
+	 * @param requestLogger the logger for request summaries
+	 */
+	public CatalogController(CatalogService service, RequestLogger requestLogger) {
+		super(service, new DefaultOriginatingIdentityDecoder(), requestLogger);
+	}
+
 	/**
 	 * REST controller for getting a catalog
 	 *
@@ -59,13 +70,8 @@ public class CatalogController extends BaseController {
 	@GetMapping({"/v2/catalog", "{platformInstanceId}/v2/catalog"})
 	public Mono<ResponseEntity<Catalog>> getCatalog(@RequestHeader HttpHeaders httpHeaders) {
 		return catalogService.getResponseEntityCatalog(httpHeaders)
-				.switchIfEmpty(catalogService.getCatalog()
-						.doOnRequest(v -> LOG.info("Retrieving catalog"))
-						.doOnSuccess(catalog -> {
-							LOG.info("Success retrieving catalog");
-							LOG.debug("catalog={}", catalog);
-						})
-						.doOnError(e -> LOG.error("Error retrieving catalog. error=" + e.getMessage(), e))
+				.switchIfEmpty(requestLogger.log(LOG, ServiceBrokerOperations.GET_CATALOG, null, null, null,
+						catalogService.getCatalog())
 						.flatMap(catalog -> Mono.just(ResponseEntity
 								.ok()
 								.body(catalog))));
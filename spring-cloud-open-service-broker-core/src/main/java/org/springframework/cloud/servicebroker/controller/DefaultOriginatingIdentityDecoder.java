@@ -0,0 +1,124 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerInvalidOriginatingIdentityException;
+import org.springframework.cloud.servicebroker.model.CloudFoundryContext;
+import org.springframework.cloud.servicebroker.model.Context;
+import org.springframework.cloud.servicebroker.model.KubernetesContext;
+import org.springframework.cloud.servicebroker.model.PlatformContext;
+import org.springframework.cloud.servicebroker.model.ServiceBrokerRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Default implementation of {@link OriginatingIdentityDecoder}. The header value is expected to contain the platform
+ * name followed by a Base64 encoded JSON object of properties. The JSON is read with a single shared
+ * {@link ObjectReader}, which is immutable and safe to use concurrently.
+ */
+public class DefaultOriginatingIdentityDecoder implements OriginatingIdentityDecoder {
+
+	private static final int ORIGINATING_IDENTITY_HEADER_PARTS = 2;
+
+	private static final TypeReference<Map<String, Object>> PROPERTIES_TYPE = new TypeReference<>() {
+	};
+
+	private final ObjectReader propertiesReader;
+
+	/**
+	 * Construct a new {@link DefaultOriginatingIdentityDecoder} using an {@link ObjectMapper} with the Spring
+	 * default configuration
+	 */
+	public DefaultOriginatingIdentityDecoder() {
+		this(Jackson2ObjectMapperBuilder.json().build());
+	}
+
+	/**
+	 * Construct a new {@link DefaultOriginatingIdentityDecoder}
+	 *
+	 * @param objectMapper the object mapper used to read the JSON properties
+	 */
+	public DefaultOriginatingIdentityDecoder(ObjectMapper objectMapper) {
+		this.propertiesReader = objectMapper.readerFor(PROPERTIES_TYPE);
+	}
+
+	@Override
+	public Context decode(String originatingIdentityString) {
+		if (originatingIdentityString == null) {
+			return null;
+		}
+
+		String[] parts = splitOriginatingIdentityHeaderParts(originatingIdentityString);
+		byte[] json = decodeOriginatingIdentityHeader(parts[1]);
+		Map<String, Object> properties = parseOriginatingIdentityHeader(json);
+		String platform = parts[0];
+
+		if (CloudFoundryContext.CLOUD_FOUNDRY_PLATFORM.equals(platform)) {
+			return CloudFoundryContext.builder()
+					.properties(properties)
+					.build();
+		}
+		else if (KubernetesContext.KUBERNETES_PLATFORM.equals(platform)) {
+			return KubernetesContext.builder()
+					.properties(properties)
+					.build();
+		}
+		else {
+			return PlatformContext.builder()
+					.platform(platform)
+					.properties(properties)
+					.build();
+		}
+	}
+
+	private String[] splitOriginatingIdentityHeaderParts(String header) {
+		String[] parts = header.split(" ", ORIGINATING_IDENTITY_HEADER_PARTS);
+		if (parts.length != ORIGINATING_IDENTITY_HEADER_PARTS) {
+			throw new ServiceBrokerInvalidOriginatingIdentityException("Expected platform and properties values in "
+					+ ServiceBrokerRequest.ORIGINATING_IDENTITY_HEADER + " header in request");
+		}
+		return parts;
+	}
+
+	private byte[] decodeOriginatingIdentityHeader(String encodedProperties) {
+		try {
+			return Base64.getDecoder().decode(encodedProperties);
+		}
+		catch (IllegalArgumentException e) {
+			throw new ServiceBrokerInvalidOriginatingIdentityException("Error decoding JSON properties from "
+					+ ServiceBrokerRequest.ORIGINATING_IDENTITY_HEADER + " header in request", e);
+		}
+	}
+
+	private Map<String, Object> parseOriginatingIdentityHeader(byte[] json) {
+		try {
+			return this.propertiesReader.readValue(json);
+		}
+		catch (IOException e) {
+			throw new ServiceBrokerInvalidOriginatingIdentityException("Error parsing JSON properties from "
+					+ ServiceBrokerRequest.ORIGINATING_IDENTITY_HEADER + " header in request", e);
+		}
+	}
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerInvalidOriginatingIdentityException;
+import org.springframework.cloud.servicebroker.model.Context;
+import org.springframework.cloud.servicebroker.model.ServiceBrokerRequest;
+
+/**
+ * Decodes the value of the {@link ServiceBrokerRequest#ORIGINATING_IDENTITY_HEADER} header into a platform specific
+ * {@link Context}. Service brokers may provide a bean of this type to replace the default decoding.
+ *
+ * @see DefaultOriginatingIdentityDecoder
+ */
+@FunctionalInterface
+public interface OriginatingIdentityDecoder {
+
+	/**
+	 * Decode the originating identity header value into a platform specific context
+	 *
+	 * @param originatingIdentityString identity of the user that initiated the request from the platform
+	 * @return the Context, or null if the header value is null
+	 * @throws ServiceBrokerInvalidOriginatingIdentityException if the header value is not valid
+	 */
+	Context decode(String originatingIdentityString);
+
+}
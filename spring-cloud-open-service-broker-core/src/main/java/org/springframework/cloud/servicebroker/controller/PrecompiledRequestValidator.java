@@ -0,0 +1,394 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintTarget;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ValidateUnwrappedValue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * A {@link Validator} for request bodies that reads the Bean Validation constraints of each request type once, when
+ * it is constructed, instead of resolving constraint metadata for every request.
+ * <p>
+ * Fields annotated with {@link NotNull}, {@link NotEmpty} or {@link NotBlank} in the default group are checked with
+ * the same semantics as the Bean Validation provider, and violations are reported as field errors with the same
+ * error codes and arguments. The default message of a violation is the message template of the constraint resolved
+ * by a {@link MessageInterpolator}, so it matches the Bean Validation provider as long as the same interpolator is
+ * used. A type with any other constraint, or with cascaded validation, is not supported, so that it continues to be
+ * validated by the Bean Validation provider.
+ */
+public class PrecompiledRequestValidator implements Validator {
+
+	private final MessageInterpolator messageInterpolator;
+
+	private final Map<Class<?>, List<FieldConstraint>> constraints;
+
+	/**
+	 * Construct a new {@link PrecompiledRequestValidator} for the request bodies of the service broker API that
+	 * resolves messages with the default message interpolator of the Bean Validation provider
+	 */
+	public PrecompiledRequestValidator() {
+		this(defaultMessageInterpolator());
+	}
+
+	/**
+	 * Construct a new {@link PrecompiledRequestValidator} for the request bodies of the service broker API
+	 *
+	 * @param messageInterpolator the interpolator used to resolve the messages of violations
+	 */
+	public PrecompiledRequestValidator(MessageInterpolator messageInterpolator) {
+		this(messageInterpolator, CreateServiceInstanceRequest.class, UpdateServiceInstanceRequest.class,
+				CreateServiceInstanceBindingRequest.class);
+	}
+
+	/**
+	 * Construct a new {@link PrecompiledRequestValidator} that resolves messages with the default message
+	 * interpolator of the Bean Validation provider
+	 *
+	 * @param types the types to validate
+	 */
+	public PrecompiledRequestValidator(Class<?>... types) {
+		this(defaultMessageInterpolator(), types);
+	}
+
+	/**
+	 * Construct a new {@link PrecompiledRequestValidator}
+	 *
+	 * @param messageInterpolator the interpolator used to resolve the messages of violations
+	 * @param types the types to validate
+	 */
+	public PrecompiledRequestValidator(MessageInterpolator messageInterpolator, Class<?>... types) {
+		Assert.notNull(messageInterpolator, "messageInterpolator must not be null");
+		this.messageInterpolator = messageInterpolator;
+		Map<Class<?>, List<FieldConstraint>> compiled = new HashMap<>();
+		for (Class<?> type : types) {
+			List<FieldConstraint> fieldConstraints = compile(type);
+			if (fieldConstraints != null) {
+				compiled.put(type, fieldConstraints);
+			}
+		}
+		this.constraints = Collections.unmodifiableMap(compiled);
+	}
+
+	@Override
+	public boolean supports(Class<?> clazz) {
+		return this.constraints.containsKey(clazz);
+	}
+
+	@Override
+	public void validate(Object target, Errors errors) {
+		List<FieldConstraint> fieldConstraints = this.constraints.get(target.getClass());
+		if (fieldConstraints == null) {
+			throw new IllegalArgumentException("Unsupported type " + target.getClass().getName());
+		}
+		for (FieldConstraint constraint : fieldConstraints) {
+			Object value = ReflectionUtils.getField(constraint.field, target);
+			if (!constraint.kind.isValid(value)) {
+				String field = constraint.field.getName();
+				Object[] arguments = {new DefaultMessageSourceResolvable(
+						new String[] {errors.getObjectName() + Errors.NESTED_PATH_SEPARATOR + field, field}, field)};
+				String message = this.messageInterpolator.interpolate(constraint.descriptor.getMessageTemplate(),
+						new ConstraintContext(constraint.descriptor, value));
+				errors.rejectValue(field, constraint.kind.code, arguments, message);
+			}
+		}
+	}
+
+	private static MessageInterpolator defaultMessageInterpolator() {
+		try {
+			return Validation.byDefaultProvider().configure().getDefaultMessageInterpolator();
+		}
+		catch (ValidationException ex) {
+			// no Expression Language implementation, which the default constraint messages do not use
+			return new ParameterMessageInterpolator();
+		}
+	}
+
+	private static List<FieldConstraint> compile(Class<?> type) {
+		List<FieldConstraint> fieldConstraints = new ArrayList<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			if (hasValidation(current.getAnnotations())) {
+				return null;
+			}
+			for (Method method : current.getDeclaredMethods()) {
+				if (hasValidation(method.getAnnotations())) {
+					return null;
+				}
+			}
+			for (Field field : current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers())) {
+					continue;
+				}
+				for (Annotation annotation : field.getAnnotations()) {
+					Kind kind = Kind.of(annotation);
+					if (kind != null) {
+						ReflectionUtils.makeAccessible(field);
+						fieldConstraints.add(new FieldConstraint(field, kind, new AnnotationDescriptor(annotation)));
+					}
+					else if (isValidation(annotation)) {
+						return null;
+					}
+				}
+			}
+		}
+		return fieldConstraints;
+	}
+
+	private static boolean hasValidation(Annotation[] annotations) {
+		for (Annotation annotation : annotations) {
+			if (isValidation(annotation)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isValidation(Annotation annotation) {
+		Class<? extends Annotation> annotationType = annotation.annotationType();
+		String name = annotationType.getName();
+		return annotationType == Valid.class || annotationType.isAnnotationPresent(Constraint.class)
+				|| name.startsWith("jakarta.validation.") || name.startsWith("org.hibernate.validator.");
+	}
+
+	private enum Kind {
+
+		NOT_NULL(NotNull.class),
+
+		NOT_EMPTY(NotEmpty.class),
+
+		NOT_BLANK(NotBlank.class);
+
+		private final Class<? extends Annotation> annotationType;
+
+		private final String code;
+
+		Kind(Class<? extends Annotation> annotationType) {
+			this.annotationType = annotationType;
+			this.code = annotationType.getSimpleName();
+		}
+
+		static Kind of(Annotation annotation) {
+			for (Kind kind : values()) {
+				if (kind.annotationType == annotation.annotationType() && isDefaultGroup(annotation)) {
+					return kind;
+				}
+			}
+			return null;
+		}
+
+		private static boolean isDefaultGroup(Annotation annotation) {
+			Object groups = AnnotationUtils.getValue(annotation, "groups");
+			return groups instanceof Class<?>[] && ((Class<?>[]) groups).length == 0;
+		}
+
+		boolean isValid(Object value) {
+			if (value == null) {
+				return false;
+			}
+			switch (this) {
+				case NOT_EMPTY:
+					return length(value) > 0;
+				case NOT_BLANK:
+					return value.toString().trim().length() > 0;
+				default:
+					return true;
+			}
+		}
+
+		private static int length(Object value) {
+			if (value instanceof CharSequence) {
+				return ((CharSequence) value).length();
+			}
+			if (value instanceof Collection) {
+				return ((Collection<?>) value).size();
+			}
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).size();
+			}
+			if (value.getClass().isArray()) {
+				return Array.getLength(value);
+			}
+			return 1;
+		}
+
+	}
+
+	private static final class FieldConstraint {
+
+		private final Field field;
+
+		private final Kind kind;
+
+		private final AnnotationDescriptor descriptor;
+
+		private FieldConstraint(Field field, Kind kind, AnnotationDescriptor descriptor) {
+			this.field = field;
+			this.kind = kind;
+			this.descriptor = descriptor;
+		}
+
+	}
+
+	/**
+	 * The metadata of a constraint annotation, as exposed to a {@link MessageInterpolator}.
+	 */
+	private static final class AnnotationDescriptor implements ConstraintDescriptor<Annotation> {
+
+		private final Annotation annotation;
+
+		private final String messageTemplate;
+
+		private final Set<Class<? extends Payload>> payload;
+
+		private final Map<String, Object> attributes;
+
+		@SuppressWarnings("unchecked")
+		private AnnotationDescriptor(Annotation annotation) {
+			this.annotation = annotation;
+			this.messageTemplate = (String) AnnotationUtils.getValue(annotation, "message");
+			this.payload = Collections.unmodifiableSet(new HashSet<>(
+					Arrays.asList((Class<? extends Payload>[]) AnnotationUtils.getValue(annotation, "payload"))));
+			this.attributes = Collections.unmodifiableMap(AnnotationUtils.getAnnotationAttributes(annotation));
+		}
+
+		@Override
+		public Annotation getAnnotation() {
+			return this.annotation;
+		}
+
+		@Override
+		public String getMessageTemplate() {
+			return this.messageTemplate;
+		}
+
+		@Override
+		public Set<Class<?>> getGroups() {
+			return Collections.singleton(Default.class);
+		}
+
+		@Override
+		public Set<Class<? extends Payload>> getPayload() {
+			return this.payload;
+		}
+
+		@Override
+		public ConstraintTarget getValidationAppliesTo() {
+			return null;
+		}
+
+		@Override
+		public List<Class<? extends ConstraintValidator<Annotation, ?>>> getConstraintValidatorClasses() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return this.attributes;
+		}
+
+		@Override
+		public Set<ConstraintDescriptor<?>> getComposingConstraints() {
+			return Collections.emptySet();
+		}
+
+		@Override
+		public boolean isReportAsSingleViolation() {
+			return false;
+		}
+
+		@Override
+		public ValidateUnwrappedValue getValueUnwrapping() {
+			return ValidateUnwrappedValue.DEFAULT;
+		}
+
+		@Override
+		public <U> U unwrap(Class<U> type) {
+			throw new ValidationException("Type " + type.getName() + " is not supported");
+		}
+
+	}
+
+	/**
+	 * The context in which the message of a violation is resolved.
+	 */
+	private static final class ConstraintContext implements MessageInterpolator.Context {
+
+		private final ConstraintDescriptor<?> descriptor;
+
+		private final Object validatedValue;
+
+		private ConstraintContext(ConstraintDescriptor<?> descriptor, Object validatedValue) {
+			this.descriptor = descriptor;
+			this.validatedValue = validatedValue;
+		}
+
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return this.descriptor;
+		}
+
+		@Override
+		public Object getValidatedValue() {
+			return this.validatedValue;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			throw new ValidationException("Type " + type.getName() + " is not supported");
+		}
+
+	}
+
+}
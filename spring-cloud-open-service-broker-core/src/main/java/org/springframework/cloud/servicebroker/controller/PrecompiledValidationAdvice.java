@@ -0,0 +1,62 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import org.springframework.cloud.servicebroker.annotation.ServiceBrokerRestController;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+
+/**
+ * Validates the request bodies of the service broker controllers with a {@link PrecompiledRequestValidator} in place
+ * of the validator configured for the application. Request bodies of types that the validator does not support are
+ * validated as usual.
+ * <p>
+ * Violations are reported through the same binding exceptions as the configured validator. Their messages are
+ * resolved by the message interpolator of the {@link PrecompiledRequestValidator}, so error responses only match
+ * those of the configured validator when both use the same interpolator.
+ */
+@ControllerAdvice(annotations = ServiceBrokerRestController.class)
+public class PrecompiledValidationAdvice {
+
+	private final PrecompiledRequestValidator validator;
+
+	/**
+	 * Construct a new {@link PrecompiledValidationAdvice}
+	 *
+	 * @param validator the validator
+	 */
+	public PrecompiledValidationAdvice(PrecompiledRequestValidator validator) {
+		Assert.notNull(validator, "validator must not be null");
+		this.validator = validator;
+	}
+
+	/**
+	 * Replace the validators of a data binder whose target is supported by the {@link PrecompiledRequestValidator}
+	 *
+	 * @param binder the data binder
+	 */
+	@InitBinder
+	public void initBinder(WebDataBinder binder) {
+		Object target = binder.getTarget();
+		if (target != null && this.validator.supports(target.getClass())) {
+			binder.replaceValidators(this.validator);
+		}
+	}
+
+}
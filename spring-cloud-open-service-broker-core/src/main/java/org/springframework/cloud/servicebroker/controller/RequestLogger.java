@@ -0,0 +1,211 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+import org.springframework.util.Assert;
+
+/**
+ * Logs a single summary event for each request processed by the controllers.
+ * <p>
+ * The summary is logged when the operation completes, at a level and sample rate that can be configured for each
+ * operation, and contains the operation, the service instance and binding IDs, the outcome and the duration. The
+ * request and response are only included when the logger is enabled for {@literal DEBUG}. Failed operations are
+ * always logged at {@literal ERROR}, regardless of sampling. No message is built unless the summary is logged.
+ */
+public class RequestLogger {
+
+	private static final String SUMMARY = "operation={}, serviceInstanceId={}, bindingId={}, outcome={}, " +
+			"durationMs={}";
+
+	private static final String DEBUG_SUMMARY = SUMMARY + ", request={}, response={}";
+
+	private static final String ERROR_SUMMARY = SUMMARY + ", error={}";
+
+	private final Settings defaults;
+
+	private final Map<String, Settings> operations;
+
+	/**
+	 * Construct a new {@link RequestLogger} that logs every request at {@literal INFO}
+	 */
+	public RequestLogger() {
+		this(new Settings(Level.INFO, 1.0), Collections.emptyMap());
+	}
+
+	/**
+	 * Construct a new {@link RequestLogger}
+	 *
+	 * @param defaults the settings for operations without specific settings
+	 * @param operations the settings for specific operations, keyed by operation name. Names are matched ignoring
+	 * case and dashes, so that {@literal create-service-instance} matches
+	 * {@link ServiceBrokerOperations#CREATE_SERVICE_INSTANCE}.
+	 */
+	public RequestLogger(Settings defaults, Map<String, Settings> operations) {
+		Assert.notNull(defaults, "defaults must not be null");
+		Assert.notNull(operations, "operations must not be null");
+		this.defaults = defaults;
+		this.operations = new HashMap<>();
+		operations.forEach((name, settings) -> this.operations.put(resolveOperation(name), settings));
+	}
+
+	/**
+	 * Log a summary of the operation performed by the provided {@link Mono} when it completes
+	 *
+	 * @param logger the logger to which the summary is written
+	 * @param operation the name of the operation
+	 * @param serviceInstanceId the service instance ID, or null
+	 * @param bindingId the service instance binding ID, or null
+	 * @param request the request, included in the summary at {@literal DEBUG}
+	 * @param mono the operation
+	 * @param <T> the type of the response
+	 * @return the logged operation
+	 */
+	public <T> Mono<T> log(Logger logger, String operation, String serviceInstanceId, String bindingId,
+			Object request, Mono<T> mono) {
+		Settings settings = this.operations.getOrDefault(operation, this.defaults);
+		boolean summaryEnabled = settings.isSampled() && isEnabled(logger, settings.level);
+		if (!summaryEnabled && !logger.isErrorEnabled()) {
+			return mono;
+		}
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			Mono<T> logged = mono.doOnError(e -> logger.error(ERROR_SUMMARY, operation, serviceInstanceId,
+					bindingId, "error", elapsedMillis(start), e.toString(), e));
+			if (!summaryEnabled) {
+				return logged;
+			}
+			return logged.doOnSuccess(response -> {
+				if (logger.isDebugEnabled()) {
+					log(logger, settings.level, DEBUG_SUMMARY, operation, serviceInstanceId, bindingId,
+							outcome(response), elapsedMillis(start), request, response);
+				}
+				else {
+					log(logger, settings.level, SUMMARY, operation, serviceInstanceId, bindingId,
+							outcome(response), elapsedMillis(start));
+				}
+			});
+		});
+	}
+
+	private static String resolveOperation(String name) {
+		String normalized = name.replace("-", "");
+		for (String operation : ServiceBrokerOperations.ALL) {
+			if (operation.equalsIgnoreCase(normalized)) {
+				return operation;
+			}
+		}
+		throw new IllegalArgumentException("Unknown operation '" + name + "', expected one of " +
+				ServiceBrokerOperations.ALL);
+	}
+
+	private static boolean isEnabled(Logger logger, Level level) {
+		switch (level) {
+			case ERROR:
+				return logger.isErrorEnabled();
+			case WARN:
+				return logger.isWarnEnabled();
+			case INFO:
+				return logger.isInfoEnabled();
+			case DEBUG:
+				return logger.isDebugEnabled();
+			default:
+				return logger.isTraceEnabled();
+		}
+	}
+
+	private static void log(Logger logger, Level level, String format, Object... arguments) {
+		switch (level) {
+			case ERROR:
+				logger.error(format, arguments);
+				break;
+			case WARN:
+				logger.warn(format, arguments);
+				break;
+			case INFO:
+				logger.info(format, arguments);
+				break;
+			case DEBUG:
+				logger.debug(format, arguments);
+				break;
+			default:
+				logger.trace(format, arguments);
+				break;
+		}
+	}
+
+	private static long elapsedMillis(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+	private static String outcome(Object response) {
+		if (response instanceof AsyncServiceBrokerResponse && ((AsyncServiceBrokerResponse) response).isAsync()) {
+			return "async";
+		}
+		return "sync";
+	}
+
+	/**
+	 * The level and sample rate of the summaries logged for an operation
+	 */
+	public static final class Settings {
+
+		private final Level level;
+
+		private final double sampleRate;
+
+		/**
+		 * Construct a new {@link Settings}
+		 *
+		 * @param level the level of the summary, or null to log only failed operations
+		 * @param sampleRate the fraction of successful operations that are logged, between 0 and 1
+		 */
+		public Settings(Level level, double sampleRate) {
+			Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "sampleRate must be between 0 and 1");
+			this.level = level;
+			this.sampleRate = sampleRate;
+		}
+
+		public Level getLevel() {
+			return this.level;
+		}
+
+		public double getSampleRate() {
+			return this.sampleRate;
+		}
+
+		private boolean isSampled() {
+			if (this.level == null || this.sampleRate <= 0) {
+				return false;
+			}
+			return this.sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < this.sampleRate;
+		}
+
+	}
+
+}
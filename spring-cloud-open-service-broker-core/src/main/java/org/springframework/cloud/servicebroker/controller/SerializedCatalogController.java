@@ -0,0 +1,215 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.annotation.ServiceBrokerRestController;
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.SerializedCatalog;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+/**
+ * Provide endpoints for the catalog API that respond with a pre-serialized catalog.
+ * <p>
+ * The catalog is serialized to JSON once, and again only when the {@link CatalogService} returns a different
+ * {@link Catalog} instance. When the catalog service provides a {@link CatalogService#getSerializedCatalog()
+ * serialized catalog} of the same catalog, it is used as-is. Responses carry a strong ETag, requests with a matching
+ * {@code If-None-Match} header are answered with {@code 304 Not Modified}, and a gzip encoded representation is
+ * served to clients that accept it. The serialized bytes are written to the response as-is on both the WebFlux and
+ * the WebMVC stacks.
+ * <p>
+ * This controller may be used in place of {@link CatalogController}. The
+ * {@link CatalogService#getResponseEntityCatalog(HttpHeaders)} method is not used by this controller.
+ *
+ * @see <a href="https://github.com/openservicebrokerapi/servicebroker/blob/master/spec.md#catalog-management">Open
+ * 		Service Broker API specification</a>
+ */
+@ServiceBrokerRestController
+public class SerializedCatalogController extends BaseController {
+
+	private static final Logger LOG = LoggerFactory.getLogger(SerializedCatalogController.class);
+
+	private static final String GZIP = "gzip";
+
+	private final ObjectMapper objectMapper;
+
+	private final AtomicReference<SerializedCatalog> serializedCatalog = new AtomicReference<>();
+
+	/**
+	 * Construct a new {@link SerializedCatalogController}
+	 *
+	 * @param service the catalog service
+	 */
+	public SerializedCatalogController(CatalogService service) {
+		this(service, Jackson2ObjectMapperBuilder.json().build());
+	}
+
+	/**
+	 * Construct a new {@link SerializedCatalogController}
+	 *
+	 * @param service the catalog service
+	 * @param objectMapper the object mapper used to serialize the catalog
+	 */
+	public SerializedCatalogController(CatalogService service, ObjectMapper objectMapper) {
+		super(service);
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Construct a new {@link SerializedCatalogController}
+	 *
+	 * @param service the catalog service
+	 * @param objectMapper the object mapper used to serialize the catalog
+	 * @param requestLogger the logger for request summaries
+	 */
+	public SerializedCatalogController(CatalogService service, ObjectMapper objectMapper,
+			RequestLogger requestLogger) {
+		super(service, new DefaultOriginatingIdentityDecoder(), requestLogger);
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * REST controller for getting a catalog
+	 *
+	 * @param httpHeaders the request headers
+	 * @return the serialized catalog, or a not modified response
+	 */
+	@GetMapping({"/v2/catalog", "{platformInstanceId}/v2/catalog"})
+	public Mono<ResponseEntity<byte[]>> getCatalog(@RequestHeader HttpHeaders httpHeaders) {
+		return requestLogger.log(LOG, ServiceBrokerOperations.GET_CATALOG, null, null, null,
+						catalogService.getCatalog())
+				.map(catalog -> toResponseEntity(serialize(catalog), httpHeaders));
+	}
+
+	@SuppressWarnings("PMD.CompareObjectsWithEquals")
+	private SerializedCatalog serialize(Catalog catalog) {
+		SerializedCatalog current = this.serializedCatalog.get();
+		if (current != null && current.getCatalog() == catalog) {
+			return current;
+		}
+		SerializedCatalog updated = serviceSerializedCatalog(catalog);
+		if (updated == null) {
+			updated = SerializedCatalog.of(catalog, this.objectMapper);
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Serialized catalog, etag={}, size={}, gzipSize={}", updated.getETag(),
+					updated.getBody().length, updated.getGzipBody().length);
+		}
+		this.serializedCatalog.set(updated);
+		return updated;
+	}
+
+	@SuppressWarnings("PMD.CompareObjectsWithEquals")
+	private SerializedCatalog serviceSerializedCatalog(Catalog catalog) {
+		SerializedCatalog serialized = catalogService.getSerializedCatalog();
+		if (serialized != null && serialized.getCatalog() == catalog) {
+			return serialized;
+		}
+		return null;
+	}
+
+	private ResponseEntity<byte[]> toResponseEntity(SerializedCatalog catalog, HttpHeaders httpHeaders) {
+		boolean gzip = acceptsGzip(httpHeaders);
+		String eTag = gzip ? catalog.getGzipETag() : catalog.getETag();
+		if (matchesIfNoneMatch(httpHeaders, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(eTag)
+					.varyBy(HttpHeaders.ACCEPT_ENCODING)
+					.build();
+		}
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.eTag(eTag)
+				.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+					.body(catalog.getGzipBody());
+		}
+		return builder.body(catalog.getBody());
+	}
+
+	private static boolean acceptsGzip(HttpHeaders httpHeaders) {
+		if (httpHeaders == null) {
+			return false;
+		}
+		List<String> values = httpHeaders.get(HttpHeaders.ACCEPT_ENCODING);
+		if (values == null) {
+			return false;
+		}
+		for (String value : values) {
+			for (String coding : value.split(",")) {
+				String[] parts = coding.split(";");
+				if (GZIP.equals(parts[0].trim().toLowerCase(Locale.ROOT)) && !hasZeroQuality(parts)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasZeroQuality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim();
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2)) <= 0;
+				}
+				catch (NumberFormatException e) {
+					return false;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean matchesIfNoneMatch(HttpHeaders httpHeaders, String eTag) {
+		if (httpHeaders == null) {
+			return false;
+		}
+		List<String> candidates;
+		try {
+			candidates = httpHeaders.getIfNoneMatch();
+		}
+		catch (IllegalArgumentException e) {
+			return false;
+		}
+		for (String candidate : candidates) {
+			String tag = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+			if ("*".equals(tag) || eTag.equals(tag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -16,12 +16,15 @@
 
 package org.springframework.cloud.servicebroker.controller;
 
+import java.time.Duration;
+
 import org.slf4j.Logger;
 
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerApiVersionException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerApiVersionMissingException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerAsyncRequiredException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerBindingRequiresAppException;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerCapacityExceededException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerConcurrencyException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerCreateOperationInProgressException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerDeleteOperationInProgressException;
@@ -30,6 +33,7 @@ import org.springframework.cloud.servicebroker.exception.ServiceBrokerInvalidOri
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerInvalidParametersException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerMaintenanceInfoConflictException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerOperationInProgressException;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerRateLimitExceededException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerUnavailableException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerUpdateOperationInProgressException;
 import org.springframework.cloud.servicebroker.exception.ServiceDefinitionDoesNotExistException;
@@ -41,7 +45,9 @@ import org.springframework.cloud.servicebroker.exception.ServiceInstanceExistsEx
 import org.springframework.cloud.servicebroker.exception.ServiceInstanceUpdateNotSupportedException;
 import org.springframework.cloud.servicebroker.model.error.ErrorMessage;
 import org.springframework.cloud.servicebroker.model.error.OperationInProgressMessage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -233,6 +239,30 @@ public abstract class ServiceBrokerExceptionHandler {
 		return getErrorResponse(ex);
 	}
 
+	/**
+	 * Handle a {@link ServiceBrokerRateLimitExceededException}
+	 *
+	 * @param ex the exception
+	 * @return an error message, with a {@literal Retry-After} header if the time to wait is known
+	 */
+	@ExceptionHandler(ServiceBrokerRateLimitExceededException.class)
+	public ResponseEntity<ErrorMessage> handleException(ServiceBrokerRateLimitExceededException ex) {
+		return withRetryAfter(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS), ex.getRetryAfter())
+				.body(getErrorResponse(ex));
+	}
+
+	/**
+	 * Handle a {@link ServiceBrokerCapacityExceededException}
+	 *
+	 * @param ex the exception
+	 * @return an error message, with a {@literal Retry-After} header if the time to wait is known
+	 */
+	@ExceptionHandler(ServiceBrokerCapacityExceededException.class)
+	public ResponseEntity<ErrorMessage> handleException(ServiceBrokerCapacityExceededException ex) {
+		return withRetryAfter(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE), ex.getRetryAfter())
+				.body(getErrorResponse(ex));
+	}
+
 	/**
 	 * Handle a {@link ServiceBrokerException}
 	 *
@@ -389,4 +419,12 @@ public abstract class ServiceBrokerExceptionHandler {
 		return getErrorResponse(message.toString());
 	}
 
+	private static ResponseEntity.BodyBuilder withRetryAfter(ResponseEntity.BodyBuilder response, Duration retryAfter) {
+		if (retryAfter != null) {
+			long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+			response.header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+		}
+		return response;
+	}
+
 }
@@ -41,6 +41,7 @@ import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceB
 import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
 import org.springframework.cloud.servicebroker.model.instance.OperationState;
 import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -70,8 +71,6 @@ public class ServiceInstanceBindingController extends BaseController {
 
 	private static final String PATH_MAPPING = "/v2/service_instances/{instanceId}/service_bindings/{bindingId}";
 
-	private static final String DEBUG_REQUEST = "request={}";
-
 	private final ServiceInstanceBindingService service;
 
 	/**
@@ -86,6 +85,34 @@ public class ServiceInstanceBindingController extends BaseController {
 		this.service = serviceInstanceBindingService;
 	}
 
+	/**
+	 * Construct a new {@link ServiceInstanceBindingController}
+	 *
+	 * @param catalogService the catalog service
+	 * @param serviceInstanceBindingService the service instance binding service
+	 * @param originatingIdentityDecoder the decoder for the originating identity header
+	 */
+	public ServiceInstanceBindingController(CatalogService catalogService,
+			ServiceInstanceBindingService serviceInstanceBindingService,
+			OriginatingIdentityDecoder originatingIdentityDecoder) {
+		super(catalogService, originatingIdentityDecoder);
+		this.service = serviceInstanceBindingService;
+	}
+
+	/**
+	 * Construct a new {@link ServiceInstanceBindingController}
+	 *
+	 * @param catalogService the catalog service
+	 * @param serviceInstanceBindingService the service instance binding service
+	 * @param originatingIdentityDecoder the decoder for the originating identity header
+	 * @param requestLogger the logger for request summaries
+	 */
+	public ServiceInstanceBindingController(CatalogService catalogService, ServiceInstanceBindingService serviceInstanceBindingService,
+			OriginatingIdentityDecoder originatingIdentityDecoder, RequestLogger requestLogger) {
+		super(catalogService, originatingIdentityDecoder, requestLogger);
+		this.service = serviceInstanceBindingService;
+	}
+
 	/**
 	 * REST controller for creating a service instance binding
 	 *
@@ -126,18 +153,8 @@ public class ServiceInstanceBindingController extends BaseController {
 						pathVariables.get(ServiceBrokerRequest.PLATFORM_INSTANCE_ID_VARIABLE),
 						apiInfoLocation, originatingIdentityString, requestIdentity, acceptsIncomplete))
 				.cast(CreateServiceInstanceBindingRequest.class)
-				.flatMap(req -> service.createServiceInstanceBinding(req)
-						.doOnRequest(v -> {
-							LOG.info("Creating a service instance binding");
-							LOG.debug(DEBUG_REQUEST, req);
-						})
-						.doOnSuccess(response -> {
-							LOG.info("Creating a service instance binding succeeded");
-							LOG.debug("serviceInstanceId={}, bindingId={}, response={}", serviceInstanceId, bindingId,
-									response);
-						})
-						.doOnError(e -> LOG.error("Error creating service instance binding. error=" +
-								e.getMessage(), e)))
+				.flatMap(req -> requestLogger.log(LOG, ServiceBrokerOperations.CREATE_SERVICE_INSTANCE_BINDING,
+						serviceInstanceId, bindingId, req, service.createServiceInstanceBinding(req)))
 				.map(response -> new ResponseEntity<>(response, getCreateResponseCode(response)))
 				.switchIfEmpty(Mono.just(new ResponseEntity<>(HttpStatus.CREATED)));
 	}
@@ -191,17 +208,8 @@ public class ServiceInstanceBindingController extends BaseController {
 				.originatingIdentity(parseOriginatingIdentity(originatingIdentityString))
 				.requestIdentity(requestIdentity)
 				.build())
-				.flatMap(req -> service.getServiceInstanceBinding(req)
-						.doOnRequest(v -> {
-							LOG.info("Getting a service instance binding");
-							LOG.debug(DEBUG_REQUEST, req);
-						})
-						.doOnSuccess(response -> {
-							LOG.info("Getting a service instance binding succeeded");
-							LOG.debug("bindingId={}", bindingId);
-						})
-						.doOnError(e -> LOG.error("Error getting service instance binding. error=" +
-								e.getMessage(), e)))
+				.flatMap(req -> requestLogger.log(LOG, ServiceBrokerOperations.GET_SERVICE_INSTANCE_BINDING,
+						serviceInstanceId, bindingId, req, service.getServiceInstanceBinding(req)))
 				.map(response -> new ResponseEntity<>(response, HttpStatus.OK))
 				.switchIfEmpty(Mono.just(new ResponseEntity<>(HttpStatus.OK)))
 				.onErrorResume(e -> {
@@ -251,21 +259,13 @@ public class ServiceInstanceBindingController extends BaseController {
 				.originatingIdentity(parseOriginatingIdentity(originatingIdentityString))
 				.requestIdentity(requestIdentity)
 				.build())
-				.flatMap(request -> service.getLastOperation(request)
-						.doOnRequest(v -> {
-							LOG.info("Getting service instance binding last operation");
-							LOG.debug(DEBUG_REQUEST, request);
-						})
-						.doOnSuccess(aVoid -> {
-							LOG.info("Getting service instance binding last operation succeeded");
-							LOG.debug("serviceInstanceId={}, bindingId={}", serviceInstanceId, bindingId);
-						})
-						.doOnError(e -> LOG.error("Error getting service instance binding last operation. error=" +
-								e.getMessage(), e)))
+				.flatMap(request -> requestLogger.log(LOG, ServiceBrokerOperations.GET_LAST_SERVICE_BINDING_OPERATION,
+						serviceInstanceId, bindingId, request, service.getLastOperation(request)))
 				.flatMap(response -> Mono
 						.just(response.getState().equals(OperationState.SUCCEEDED) && response.isDeleteOperation())
 						.flatMap(isSuccessfulDelete ->
 								Mono.just(new ResponseEntity<>(response,
+										getLastOperationHeaders(response.getRetryAfter()),
 										isSuccessfulDelete ? HttpStatus.GONE : HttpStatus.OK))));
 	}
 
@@ -312,17 +312,8 @@ public class ServiceInstanceBindingController extends BaseController {
 								.originatingIdentity(parseOriginatingIdentity(originatingIdentityString))
 								.requestIdentity(requestIdentity)
 								.build()))
-				.flatMap(req -> service.deleteServiceInstanceBinding(req)
-						.doOnRequest(v -> {
-							LOG.info("Deleting a service instance binding");
-							LOG.debug(DEBUG_REQUEST, req);
-						})
-						.doOnSuccess(aVoid -> {
-							LOG.info("Deleting a service instance binding succeeded");
-							LOG.debug("bindingId={}", bindingId);
-						})
-						.doOnError(e -> LOG.error("Error deleting a service instance binding. error=" +
-								e.getMessage(), e)))
+				.flatMap(req -> requestLogger.log(LOG, ServiceBrokerOperations.DELETE_SERVICE_INSTANCE_BINDING,
+						serviceInstanceId, bindingId, req, service.deleteServiceInstanceBinding(req)))
 				.map(response -> new ResponseEntity<>(response, getAsyncResponseCode(response)))
 				.switchIfEmpty(Mono.just(new ResponseEntity<>(HttpStatus.OK)))
 				.onErrorResume(e -> {
@@ -40,6 +40,7 @@ import org.springframework.cloud.servicebroker.model.instance.OperationState;
 import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
 import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
 import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -70,10 +71,6 @@ public class ServiceInstanceController extends BaseController {
 
 	private static final String PATH_MAPPING = "/v2/service_instances/{instanceId}";
 
-	private static final String DEBUG_REQUEST = "request={}";
-
-	private static final String DEBUG_RESPONSE = "serviceInstanceId={}, response={}";
-
 	private final ServiceInstanceService service;
 
 	/**
@@ -87,6 +84,33 @@ public class ServiceInstanceController extends BaseController {
 		this.service = serviceInstanceService;
 	}
 
+	/**
+	 * Construct a new {@link ServiceInstanceController}
+	 *
+	 * @param catalogService the catalog service
+	 * @param serviceInstanceService the service instance service
+	 * @param originatingIdentityDecoder the decoder for the originating identity header
+	 */
+	public ServiceInstanceController(CatalogService catalogService, ServiceInstanceService serviceInstanceService,
+			OriginatingIdentityDecoder originatingIdentityDecoder) {
+		super(catalogService, originatingIdentityDecoder);
+		this.service = serviceInstanceService;
+	}
+
+	/**
+	 * Construct a new {@link ServiceInstanceController}
+	 *
+	 * @param catalogService the catalog service
+	 * @param serviceInstanceService the service instance service
+	 * @param originatingIdentityDecoder the decoder for the originating identity header
+	 * @param requestLogger the logger for request summaries
+	 */
+	public ServiceInstanceController(CatalogService catalogService, ServiceInstanceService serviceInstanceService,
+			OriginatingIdentityDecoder originatingIdentityDecoder, RequestLogger requestLogger) {
+		super(catalogService, originatingIdentityDecoder, requestLogger);
+		this.service = serviceInstanceService;
+	}
+
 	/**
 	 * REST controller for creating a service instance
 	 *
@@ -123,16 +147,8 @@ public class ServiceInstanceController extends BaseController {
 						pathVariables.get(ServiceBrokerRequest.PLATFORM_INSTANCE_ID_VARIABLE), apiInfoLocation,
 						originatingIdentityString, requestIdentity, acceptsIncomplete))
 				.cast(CreateServiceInstanceRequest.class)
-				.flatMap(req -> service.createServiceInstance(req)
-						.doOnRequest(v -> {
-							LOG.info("Creating a service instance");
-							LOG.debug(DEBUG_REQUEST, req);
-						})
-						.doOnSuccess(response -> {
-							LOG.info("Creating a service instance succeeded");
-							LOG.debug(DEBUG_RESPONSE, serviceInstanceId, response);
-						})
-						.doOnError(e -> LOG.error("Error creating service instance. error=" + e.getMessage(), e)))
+				.flatMap(req -> requestLogger.log(LOG, ServiceBrokerOperations.CREATE_SERVICE_INSTANCE,
+						serviceInstanceId, null, req, service.createServiceInstance(req)))
 				.map(response -> new ResponseEntity<>(response, getCreateResponseCode(response)))
 				.switchIfEmpty(Mono.just(new ResponseEntity<>(HttpStatus.CREATED)));
 	}
@@ -180,16 +196,8 @@ public class ServiceInstanceController extends BaseController {
 				.originatingIdentity(parseOriginatingIdentity(originatingIdentityString))
 				.requestIdentity(requestIdentity)
 				.build())
-				.flatMap(request -> service.getServiceInstance(request)
-						.doOnRequest(v -> {
-							LOG.info("Getting service instance");
-							LOG.debug(DEBUG_REQUEST, request);
-						})
-						.doOnSuccess(response -> {
-							LOG.info("Getting service instance succeeded");
-							LOG.debug(DEBUG_RESPONSE, serviceInstanceId, response);
-						})
-						.doOnError(e -> LOG.error("Error getting service instance. error=" + e.getMessage(), e)))
+				.flatMap(request -> requestLogger.log(LOG, ServiceBrokerOperations.GET_SERVICE_INSTANCE,
+						serviceInstanceId, null, request, service.getServiceInstance(request)))
 				.map(response -> new ResponseEntity<>(response, HttpStatus.OK))
 				.switchIfEmpty(Mono.just(new ResponseEntity<>(HttpStatus.OK)))
 				.onErrorResume(e -> {
@@ -235,21 +243,13 @@ public class ServiceInstanceController extends BaseController {
 				.originatingIdentity(parseOriginatingIdentity(originatingIdentityString))
 				.requestIdentity(requestIdentity)
 				.build())
-				.flatMap(request -> service.getLastOperation(request)
-						.doOnRequest(v -> {
-							LOG.info("Getting service instance last operation");
-							LOG.debug(DEBUG_REQUEST, request);
-						})
-						.doOnSuccess(response -> {
-							LOG.info("Getting service instance last operation succeeded");
-							LOG.debug(DEBUG_RESPONSE, serviceInstanceId, response);
-						})
-						.doOnError(e -> LOG.error("Error getting service instance last operation. error=" +
-								e.getMessage(), e)))
+				.flatMap(request -> requestLogger.log(LOG, ServiceBrokerOperations.GET_LAST_SERVICE_OPERATION,
+						serviceInstanceId, null, request, service.getLastOperation(request)))
 				.map(response -> {
 					boolean isSuccessfulDelete = OperationState.SUCCEEDED.equals(response.getState()) && response
 							.isDeleteOperation();
-					return new ResponseEntity<>(response, isSuccessfulDelete ? HttpStatus.GONE : HttpStatus.OK);
+					return new ResponseEntity<>(response, getLastOperationHeaders(response.getRetryAfter()),
+							isSuccessfulDelete ? HttpStatus.GONE : HttpStatus.OK);
 				})
 				.onErrorResume(e -> {
 					if (e instanceof ServiceInstanceDoesNotExistException) {
@@ -302,16 +302,8 @@ public class ServiceInstanceController extends BaseController {
 								.originatingIdentity(parseOriginatingIdentity(originatingIdentityString))
 								.requestIdentity(requestIdentity)
 								.build()))
-				.flatMap(request -> service.deleteServiceInstance(request)
-						.doOnRequest(v -> {
-							LOG.info("Deleting a service instance");
-							LOG.debug(DEBUG_REQUEST, request);
-						})
-						.doOnSuccess(response -> {
-							LOG.info("Deleting a service instance succeeded");
-							LOG.debug(DEBUG_RESPONSE, serviceInstanceId, response);
-						})
-						.doOnError(e -> LOG.error("Error deleting a service instance. error=" + e.getMessage(), e)))
+				.flatMap(request -> requestLogger.log(LOG, ServiceBrokerOperations.DELETE_SERVICE_INSTANCE,
+						serviceInstanceId, null, request, service.deleteServiceInstance(request)))
 				.map(response -> new ResponseEntity<>(response, getAsyncResponseCode(response)))
 				.switchIfEmpty(Mono.just(new ResponseEntity<>(HttpStatus.OK)))
 				.onErrorResume(e -> {
@@ -361,16 +353,8 @@ public class ServiceInstanceController extends BaseController {
 						pathVariables.get(ServiceBrokerRequest.PLATFORM_INSTANCE_ID_VARIABLE), apiInfoLocation,
 						originatingIdentityString, requestIdentity, acceptsIncomplete))
 				.cast(UpdateServiceInstanceRequest.class)
-				.flatMap(req -> service.updateServiceInstance(req)
-						.doOnRequest(v -> {
-							LOG.info("Updating service instance");
-							LOG.debug(DEBUG_REQUEST, request);
-						})
-						.doOnSuccess(response -> {
-							LOG.info("Updating service instance succeeded");
-							LOG.debug(DEBUG_RESPONSE, serviceInstanceId, response);
-						})
-						.doOnError(e -> LOG.error("Error updating service instance. error=" + e.getMessage(), e)))
+				.flatMap(req -> requestLogger.log(LOG, ServiceBrokerOperations.UPDATE_SERVICE_INSTANCE,
+						serviceInstanceId, null, req, service.updateServiceInstance(req)))
 				.map(response -> new ResponseEntity<>(response, getAsyncResponseCode(response)))
 				.switchIfEmpty(Mono.just(new ResponseEntity<>(HttpStatus.OK)));
 	}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.exception;
+
+import java.time.Duration;
+
+/**
+ * Thrown to indicate that a service broker cannot accept more operations until some of the operations in progress
+ * have completed.
+ *
+ * <p>
+ * Throwing this exception will result in an HTTP status code {@literal 503 SERVICE UNAVAILABLE} being returned to the
+ * platform, with a {@literal Retry-After} header if a time to wait is provided.
+ */
+public class ServiceBrokerCapacityExceededException extends ServiceBrokerUnavailableException {
+
+	private static final long serialVersionUID = -2931507824735216348L;
+
+	/**
+	 * Error code indicating the service broker has no capacity for more operations
+	 */
+	public static final String CAPACITY_EXCEEDED_ERROR = "CapacityExceeded";
+
+	private final Duration retryAfter;
+
+	/**
+	 * Construct an exception with the provided message.
+	 *
+	 * @param message the exception message
+	 */
+	public ServiceBrokerCapacityExceededException(String message) {
+		this(message, null);
+	}
+
+	/**
+	 * Construct an exception with the provided message and time to wait before retrying.
+	 *
+	 * @param message the exception message
+	 * @param retryAfter the time the caller should wait before retrying, or {@literal null} if not known
+	 */
+	public ServiceBrokerCapacityExceededException(String message, Duration retryAfter) {
+		super(CAPACITY_EXCEEDED_ERROR, message);
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * Get the time the caller should wait before retrying
+	 *
+	 * @return the time, or {@literal null} if not known
+	 */
+	public Duration getRetryAfter() {
+		return this.retryAfter;
+	}
+
+}
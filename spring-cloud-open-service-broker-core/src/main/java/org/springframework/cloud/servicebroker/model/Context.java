@@ -16,7 +16,10 @@
 
 package org.springframework.cloud.servicebroker.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -54,6 +57,8 @@ public class Context {
 	@JsonAnySetter
 	protected final Map<String, Object> properties = new HashMap<>();
 
+	private transient boolean unmodifiable;
+
 	/**
 	 * Create a new Context
 	 */
@@ -86,13 +91,43 @@ public class Context {
 	/**
 	 * Get all properties in the context.
 	 *
-	 * @return the collection of properties
+	 * @return the collection of properties, or an unmodifiable view of it once {@link #makeUnmodifiable()} has been
+	 * called
 	 */
 	@JsonIgnore
 	public Map<String, Object> getProperties() {
+		if (this.unmodifiable) {
+			return Collections.unmodifiableMap(this.properties);
+		}
 		return this.properties;
 	}
 
+	/**
+	 * Prevent any further changes to the properties of this context, including the maps and lists nested in them. A
+	 * context that is shared between requests, for example by a caching {@literal OriginatingIdentityDecoder}, should
+	 * be made unmodifiable before it is shared.
+	 */
+	public void makeUnmodifiable() {
+		if (!this.unmodifiable) {
+			this.properties.replaceAll((key, value) -> unmodifiableValue(value));
+			this.unmodifiable = true;
+		}
+	}
+
+	private static Object unmodifiableValue(Object value) {
+		if (value instanceof Map) {
+			Map<Object, Object> map = new HashMap<>();
+			((Map<?, ?>) value).forEach((key, nested) -> map.put(key, unmodifiableValue(nested)));
+			return Collections.unmodifiableMap(map);
+		}
+		if (value instanceof List) {
+			List<Object> list = new ArrayList<>();
+			((List<?>) value).forEach(nested -> list.add(unmodifiableValue(nested)));
+			return Collections.unmodifiableList(list);
+		}
+		return value;
+	}
+
 	/**
 	 * Get the value of a property in the context with the given key.
 	 *
@@ -123,6 +158,7 @@ public class Context {
 	 * @param value the value of the property
 	 */
 	protected void setStringProperty(String key, String value) {
+		assertModifiable();
 		if (StringUtils.hasText(key) && StringUtils.hasText(value)) {
 			this.properties.put(key,value);
 		}
@@ -147,11 +183,18 @@ public class Context {
 	 * @param map the map to set as the value of the property
 	 */
 	protected void setMapProperty(String key, Map<String, Object> map) {
+		assertModifiable();
 		if (StringUtils.hasText(key) && !CollectionUtils.isEmpty(map)) {
 			this.properties.put(key, map);
 		}
 	}
 
+	private void assertModifiable() {
+		if (this.unmodifiable) {
+			throw new UnsupportedOperationException("The properties of this context cannot be modified");
+		}
+	}
+
 	@Override
 	public final boolean equals(Object o) {
 		if (this == o) {
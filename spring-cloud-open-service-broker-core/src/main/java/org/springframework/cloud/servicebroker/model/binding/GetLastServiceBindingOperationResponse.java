@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.servicebroker.model.binding;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
@@ -47,6 +48,9 @@ public class GetLastServiceBindingOperationResponse {
 	@JsonIgnore
 	private final boolean deleteOperation;
 
+	@JsonIgnore
+	private final Duration retryAfter;
+
 	/**
 	 * Construct a new {@link GetLastServiceBindingOperationResponse}
 	 */
@@ -62,9 +66,23 @@ public class GetLastServiceBindingOperationResponse {
 	 * @param deleteOperation is delete operation
 	 */
 	public GetLastServiceBindingOperationResponse(OperationState state, String description, boolean deleteOperation) {
+		this(state, description, deleteOperation, null);
+	}
+
+	/**
+	 * Construct a new {@link GetLastServiceBindingOperationResponse}
+	 *
+	 * @param state the current state
+	 * @param description the description
+	 * @param deleteOperation is delete operation
+	 * @param retryAfter the time the platform should wait before polling again
+	 */
+	public GetLastServiceBindingOperationResponse(OperationState state, String description, boolean deleteOperation,
+			Duration retryAfter) {
 		this.state = state;
 		this.description = description;
 		this.deleteOperation = deleteOperation;
+		this.retryAfter = retryAfter;
 	}
 
 	/**
@@ -94,6 +112,15 @@ public class GetLastServiceBindingOperationResponse {
 		return this.deleteOperation;
 	}
 
+	/**
+	 * Get the time the platform should wait before polling for the state of the operation again.
+	 *
+	 * @return the time, or {@literal null} if not provided
+	 */
+	public Duration getRetryAfter() {
+		return this.retryAfter;
+	}
+
 	/**
 	 * Create a builder that provides a fluent API for constructing a {@literal GetLastServiceBindingOperationResponse}.
 	 *
@@ -115,7 +142,8 @@ public class GetLastServiceBindingOperationResponse {
 		return that.canEqual(this) &&
 				deleteOperation == that.deleteOperation &&
 				state == that.state &&
-				Objects.equals(description, that.description);
+				Objects.equals(description, that.description) &&
+				Objects.equals(retryAfter, that.retryAfter);
 	}
 
 	/**
@@ -130,7 +158,7 @@ public class GetLastServiceBindingOperationResponse {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(state, description, deleteOperation);
+		return Objects.hash(state, description, deleteOperation, retryAfter);
 	}
 
 	@Override
@@ -139,6 +167,7 @@ public class GetLastServiceBindingOperationResponse {
 				"state=" + state +
 				", description='" + description + '\'' +
 				", deleteOperation=" + deleteOperation +
+				", retryAfter=" + retryAfter +
 				'}';
 	}
 
@@ -153,6 +182,8 @@ public class GetLastServiceBindingOperationResponse {
 
 		private boolean deleteOperation;
 
+		private Duration retryAfter;
+
 		private GetLastServiceBindingOperationResponseBuilder() {
 		}
 
@@ -209,13 +240,28 @@ public class GetLastServiceBindingOperationResponse {
 			return this;
 		}
 
+		/**
+		 * Set the time the platform should wait before polling for the state of the operation again. Can be
+		 * {@literal null}.
+		 *
+		 * <p>
+		 * This value will set the {@literal Retry-After} header of the response to the platform.
+		 *
+		 * @param retryAfter the time
+		 * @return the builder
+		 */
+		public GetLastServiceBindingOperationResponseBuilder retryAfter(Duration retryAfter) {
+			this.retryAfter = retryAfter;
+			return this;
+		}
+
 		/**
 		 * Construct a {@link GetLastServiceBindingOperationResponse} from the provided values.
 		 *
 		 * @return the newly constructed {@literal GetLastServiceOperationResponse}
 		 */
 		public GetLastServiceBindingOperationResponse build() {
-			return new GetLastServiceBindingOperationResponse(state, description, deleteOperation);
+			return new GetLastServiceBindingOperationResponse(state, description, deleteOperation, retryAfter);
 		}
 
 	}
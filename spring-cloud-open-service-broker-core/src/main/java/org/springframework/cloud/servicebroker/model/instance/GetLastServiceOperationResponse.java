@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.servicebroker.model.instance;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
@@ -52,6 +53,9 @@ public class GetLastServiceOperationResponse {
 	@JsonIgnore
 	private final boolean deleteOperation;
 
+	@JsonIgnore
+	private final Duration retryAfter;
+
 	/**
 	 * Construct a new {@link GetLastServiceOperationResponse}
 	 */
@@ -85,11 +89,27 @@ public class GetLastServiceOperationResponse {
 	 */
 	public GetLastServiceOperationResponse(OperationState state, String description, Boolean instanceUsable,
 			Boolean updateRepeatable, boolean deleteOperation) {
+		this(state, description, instanceUsable, updateRepeatable, deleteOperation, null);
+	}
+
+	/**
+	 * Construct a new {@link GetLastServiceOperationResponse}
+	 *
+	 * @param state the current state
+	 * @param description the description
+	 * @param instanceUsable is the instance usable
+	 * @param updateRepeatable is the update repeatable
+	 * @param deleteOperation is delete operation
+	 * @param retryAfter the time the platform should wait before polling again
+	 */
+	public GetLastServiceOperationResponse(OperationState state, String description, Boolean instanceUsable,
+			Boolean updateRepeatable, boolean deleteOperation, Duration retryAfter) {
 		this.state = state;
 		this.description = description;
 		this.instanceUsable = instanceUsable;
 		this.updateRepeatable = updateRepeatable;
 		this.deleteOperation = deleteOperation;
+		this.retryAfter = retryAfter;
 	}
 
 	/**
@@ -137,6 +157,15 @@ public class GetLastServiceOperationResponse {
 		return this.deleteOperation;
 	}
 
+	/**
+	 * Get the time the platform should wait before polling for the state of the operation again.
+	 *
+	 * @return the time, or {@literal null} if not provided
+	 */
+	public Duration getRetryAfter() {
+		return this.retryAfter;
+	}
+
 	/**
 	 * Create a builder that provides a fluent API for constructing a {@literal GetLastServiceOperationResponse}.
 	 *
@@ -170,12 +199,13 @@ public class GetLastServiceOperationResponse {
 				Objects.equals(description, that.description) &&
 				Objects.equals(instanceUsable, that.instanceUsable) &&
 				Objects.equals(updateRepeatable, that.updateRepeatable) &&
-				deleteOperation == that.deleteOperation;
+				deleteOperation == that.deleteOperation &&
+				Objects.equals(retryAfter, that.retryAfter);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(state, description, instanceUsable, updateRepeatable, deleteOperation);
+		return Objects.hash(state, description, instanceUsable, updateRepeatable, deleteOperation, retryAfter);
 	}
 
 	@Override
@@ -186,6 +216,7 @@ public class GetLastServiceOperationResponse {
 				", instanceUsable=" + instanceUsable + '\'' +
 				", updateRepeatable=" + updateRepeatable + '\'' +
 				", deleteOperation=" + deleteOperation +
+				", retryAfter=" + retryAfter +
 				'}';
 	}
 
@@ -204,6 +235,8 @@ public class GetLastServiceOperationResponse {
 
 		private boolean deleteOperation;
 
+		private Duration retryAfter;
+
 		private GetLastServiceOperationResponseBuilder() {
 		}
 
@@ -290,6 +323,21 @@ public class GetLastServiceOperationResponse {
 			return this;
 		}
 
+		/**
+		 * Set the time the platform should wait before polling for the state of the operation again. Can be
+		 * {@literal null}.
+		 *
+		 * <p>
+		 * This value will set the {@literal Retry-After} header of the response to the platform.
+		 *
+		 * @param retryAfter the time
+		 * @return the builder
+		 */
+		public GetLastServiceOperationResponseBuilder retryAfter(Duration retryAfter) {
+			this.retryAfter = retryAfter;
+			return this;
+		}
+
 		/**
 		 * Construct a {@link GetLastServiceOperationResponse} from the provided values.
 		 *
@@ -297,7 +345,7 @@ public class GetLastServiceOperationResponse {
 		 */
 		public GetLastServiceOperationResponse build() {
 			return new GetLastServiceOperationResponse(state, description, instanceUsable, updateRepeatable,
-					deleteOperation);
+					deleteOperation, retryAfter);
 		}
 
 	}
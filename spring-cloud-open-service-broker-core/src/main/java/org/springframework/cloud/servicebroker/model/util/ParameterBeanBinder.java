@@ -0,0 +1,256 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.model.util;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.ConvertUtilsBean;
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.MethodUtils;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Populates new instances of a Java bean type from parameter maps. The constructor, the writable properties and a
+ * type converter for each property are resolved once, when the binder is created, and properties are set through
+ * method handles.
+ * <p>
+ * Values are converted with the same converters, and with the same rules, as
+ * {@link BeanUtilsBean#populate(Object, Map)}. Nested, indexed and mapped property names are populated by the
+ * {@link BeanUtilsBean}.
+ *
+ * @param <T> the type of the bean
+ */
+final class ParameterBeanBinder<T> {
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final Class<T> type;
+
+	private final BeanUtilsBean beanUtils;
+
+	private final MethodHandle constructor;
+
+	private final Map<String, PropertyBinder> properties;
+
+	private final boolean mappedProperties;
+
+	private ParameterBeanBinder(Class<T> type, BeanUtilsBean beanUtils, MethodHandle constructor,
+			Map<String, PropertyBinder> properties, boolean mappedProperties) {
+		this.type = type;
+		this.beanUtils = beanUtils;
+		this.constructor = constructor;
+		this.properties = properties;
+		this.mappedProperties = mappedProperties;
+	}
+
+	/**
+	 * Create a binder for the specified type
+	 *
+	 * @param type the type of the bean
+	 * @param beanUtils the {@link BeanUtilsBean} that provides the property descriptors and converters
+	 * @param <T> the type of the bean
+	 * @return the binder
+	 * @throws IllegalArgumentException if the type cannot be instantiated
+	 */
+	static <T> ParameterBeanBinder<T> of(Class<T> type, BeanUtilsBean beanUtils) {
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+			throw mappingException(type, new InstantiationException(type.getName()));
+		}
+		try {
+			Constructor<T> constructor = type.getDeclaredConstructor();
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			MethodHandle constructorHandle = lookup.unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+			Map<String, PropertyBinder> properties = new HashMap<>();
+			boolean simple = !DynaBean.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type);
+			if (simple) {
+				ConvertUtilsBean convertUtils = beanUtils.getConvertUtils();
+				for (PropertyDescriptor descriptor : beanUtils.getPropertyUtils().getPropertyDescriptors(type)) {
+					if (descriptor.getWriteMethod() != null && descriptor.getPropertyType() != null) {
+						Method writeMethod = MethodUtils.getAccessibleMethod(type, descriptor.getWriteMethod());
+						MethodHandle setter = (writeMethod != null) ? lookup.unreflect(writeMethod).asType(SETTER_TYPE)
+								: null;
+						properties.put(descriptor.getName(),
+								new PropertyBinder(descriptor.getName(), descriptor.getPropertyType(), setter,
+										convertUtils));
+					}
+				}
+			}
+			return new ParameterBeanBinder<>(type, beanUtils, constructorHandle, properties,
+					!simple || hasMappedProperties(type));
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			throw mappingException(type, e);
+		}
+	}
+
+	/**
+	 * Instantiate the bean and populate its properties from the provided parameters
+	 *
+	 * @param parameters the parameters, may be {@literal null}
+	 * @return the populated bean
+	 * @throws IllegalArgumentException if the bean cannot be instantiated or populated
+	 */
+	T bind(Map<String, Object> parameters) {
+		T bean = instantiate();
+		if (parameters == null) {
+			return bean;
+		}
+		for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+			String name = parameter.getKey();
+			if (name == null) {
+				continue;
+			}
+			PropertyBinder property = this.properties.get(name);
+			if (property != null) {
+				property.set(bean, parameter.getValue(), this.type);
+			}
+			else if (this.mappedProperties || isExpression(name)) {
+				setProperty(bean, name, parameter.getValue());
+			}
+		}
+		return bean;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T instantiate() {
+		try {
+			return (T) this.constructor.invokeExact();
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw mappingException(this.type, e);
+		}
+	}
+
+	private void setProperty(T bean, String name, Object value) {
+		try {
+			this.beanUtils.setProperty(bean, name, value);
+		}
+		catch (IllegalAccessException | InvocationTargetException e) {
+			throw mappingException(this.type, e);
+		}
+	}
+
+	private static boolean isExpression(String name) {
+		return name.indexOf('.') >= 0 || name.indexOf('[') >= 0 || name.indexOf('(') >= 0;
+	}
+
+	private static boolean hasMappedProperties(Class<?> type) {
+		for (Method method : type.getMethods()) {
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			String name = method.getName();
+			if (parameterTypes.length > 0 && parameterTypes[0] == String.class
+					&& ((name.startsWith("get") && parameterTypes.length == 1)
+							|| (name.startsWith("set") && parameterTypes.length == 2))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static IllegalArgumentException mappingException(Class<?> type, Throwable cause) {
+		return new IllegalArgumentException("Error mapping parameters to class of type " + type.getName(), cause);
+	}
+
+	private static final class PropertyBinder {
+
+		private final String name;
+
+		private final Class<?> type;
+
+		private final Class<?> valueType;
+
+		private final MethodHandle setter;
+
+		private final ConvertUtilsBean convertUtils;
+
+		private final Converter converter;
+
+		private final Converter stringConverter;
+
+		private PropertyBinder(String name, Class<?> type, MethodHandle setter, ConvertUtilsBean convertUtils) {
+			this.name = name;
+			this.type = type;
+			this.valueType = ClassUtils.resolvePrimitiveIfNecessary(type);
+			this.setter = setter;
+			this.convertUtils = convertUtils;
+			this.converter = convertUtils.lookup(type);
+			this.stringConverter = (this.converter != null) ? this.converter : convertUtils.lookup(String.class);
+		}
+
+		void set(Object bean, Object value, Class<?> beanType) {
+			if (this.setter == null) {
+				throw mappingException(beanType, new NoSuchMethodException(
+						"Property '" + this.name + "' has no accessible setter method in class " + beanType.getName()));
+			}
+			Object converted = convert(value);
+			if (converted == null ? this.type.isPrimitive() : !this.valueType.isInstance(converted)) {
+				throw new IllegalArgumentException("Cannot set property '" + this.name + "' of type "
+						+ this.type.getName() + " in class " + beanType.getName() + " to a value of type "
+						+ ((converted != null) ? converted.getClass().getName() : "null"));
+			}
+			try {
+				this.setter.invokeExact(bean, converted);
+			}
+			catch (Error e) {
+				throw e;
+			}
+			catch (Throwable e) {
+				throw mappingException(beanType, e);
+			}
+		}
+
+		private Object convert(Object value) {
+			if (this.type.isArray()) {
+				if (value == null) {
+					return this.convertUtils.convert(new String[] {null}, this.type);
+				}
+				if (value instanceof String) {
+					return this.convertUtils.convert((String) value, this.type);
+				}
+				if (value instanceof String[]) {
+					return this.convertUtils.convert((String[]) value, this.type);
+				}
+			}
+			else if (value instanceof String) {
+				return this.stringConverter.convert(this.type, value);
+			}
+			else if (value instanceof String[]) {
+				return this.stringConverter.convert(this.type, ((String[]) value)[0]);
+			}
+			return (this.converter != null) ? this.converter.convert(this.type, value) : value;
+		}
+
+	}
+
+}
@@ -16,12 +16,13 @@
 
 package org.springframework.cloud.servicebroker.model.util;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
 import org.apache.commons.beanutils.BeanUtilsBean;
 import org.apache.commons.beanutils.SuppressPropertiesBeanIntrospector;
 
+import org.springframework.util.ConcurrentReferenceHashMap;
+
 /**
  * Utilities for mapping parameter maps to Java beans.
  *
@@ -29,12 +30,19 @@ import org.apache.commons.beanutils.SuppressPropertiesBeanIntrospector;
  */
 public final class ParameterBeanMapperUtils {
 
+	private static final BeanUtilsBean BEAN_UTILS = createBeanUtils();
+
+	private static final Map<Class<?>, ParameterBeanBinder<?>> BINDERS = new ConcurrentReferenceHashMap<>();
+
 	private ParameterBeanMapperUtils() {
 	}
 
 	/**
 	 * Instantiates an object of the specified type and populates properties of the object from the provided
 	 * parameters.
+	 * <p>
+	 * The properties and type converters of each type are resolved on first use and cached, so mapping parameters
+	 * to a type that has already been mapped does not require introspection.
 	 *
 	 * @param parameters a {@link Map} of values to populate the object from
 	 * @param cls the {@link Class} representing the type of the object to instantiate and populate
@@ -42,18 +50,18 @@ public final class ParameterBeanMapperUtils {
 	 * @return the instantiated and populated object
 	 */
 	public static <T> T mapParametersToBean(Map<String, Object> parameters, Class<T> cls) {
-		try {
-			T bean = cls.getDeclaredConstructor().newInstance();
-
-			BeanUtilsBean beanUtils = new BeanUtilsBean();
-			beanUtils.getPropertyUtils().addBeanIntrospector(SuppressPropertiesBeanIntrospector.SUPPRESS_CLASS);
-			beanUtils.populate(bean, parameters);
-
-			return bean;
-		}
-		catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
-			throw new IllegalArgumentException("Error mapping parameters to class of type " + cls.getName(), e);
-		}
+		return binder(cls).bind(parameters);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ParameterBeanBinder<T> binder(Class<T> cls) {
+		return (ParameterBeanBinder<T>) BINDERS.computeIfAbsent(cls, type -> ParameterBeanBinder.of(type, BEAN_UTILS));
+	}
+
+	private static BeanUtilsBean createBeanUtils() {
+		BeanUtilsBean beanUtils = new BeanUtilsBean();
+		beanUtils.getPropertyUtils().addBeanIntrospector(SuppressPropertiesBeanIntrospector.SUPPRESS_CLASS);
+		return beanUtils;
 	}
 
 }
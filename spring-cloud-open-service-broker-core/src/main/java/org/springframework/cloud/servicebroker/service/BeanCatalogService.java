@@ -16,9 +16,6 @@
 
 package org.springframework.cloud.servicebroker.service;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import reactor.core.publisher.Mono;
 
 import org.springframework.cloud.servicebroker.model.catalog.Catalog;
@@ -33,7 +30,7 @@ public class BeanCatalogService implements CatalogService {
 
 	private final Catalog catalog;
 
-	private final Map<String, ServiceDefinition> serviceDefs = new HashMap<>();
+	private final CatalogIndex catalogIndex;
 
 	/**
 	 * Construct a service with the provided {@link Catalog bean}.
@@ -42,11 +39,7 @@ public class BeanCatalogService implements CatalogService {
 	 */
 	public BeanCatalogService(Catalog catalog) {
 		this.catalog = catalog;
-		initializeMap();
-	}
-
-	private void initializeMap() {
-		catalog.getServiceDefinitions().forEach(def -> serviceDefs.put(def.getId(), def));
+		this.catalogIndex = CatalogIndex.of(catalog);
 	}
 
 	@Override
@@ -56,7 +49,12 @@ public class BeanCatalogService implements CatalogService {
 
 	@Override
 	public Mono<ServiceDefinition> getServiceDefinition(final String serviceId) {
-		return Mono.justOrEmpty(serviceDefs.get(serviceId));
+		return Mono.justOrEmpty(catalogIndex.getServiceDefinition(serviceId));
+	}
+
+	@Override
+	public CatalogIndex getCatalogIndex() {
+		return catalogIndex;
 	}
 
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+
+/**
+ * An immutable index of the service definitions and plans in a {@link Catalog}, keyed by service definition ID and
+ * by service definition ID and plan ID. The index is built once from a catalog and provides constant-time lookups.
+ */
+public final class CatalogIndex {
+
+	private static final CatalogIndex EMPTY = new CatalogIndex(Collections.emptyMap(), Collections.emptyMap());
+
+	private final Map<String, ServiceDefinition> serviceDefinitions;
+
+	private final Map<String, Map<String, Plan>> plans;
+
+	private CatalogIndex(Map<String, ServiceDefinition> serviceDefinitions, Map<String, Map<String, Plan>> plans) {
+		this.serviceDefinitions = serviceDefinitions;
+		this.plans = plans;
+	}
+
+	/**
+	 * Build an index of the service definitions and plans in the provided {@link Catalog}
+	 *
+	 * @param catalog the catalog
+	 * @return the index
+	 */
+	public static CatalogIndex of(Catalog catalog) {
+		if (catalog == null || catalog.getServiceDefinitions() == null) {
+			return EMPTY;
+		}
+		Map<String, ServiceDefinition> serviceDefinitions = new HashMap<>();
+		Map<String, Map<String, Plan>> plans = new HashMap<>();
+		for (ServiceDefinition serviceDefinition : catalog.getServiceDefinitions()) {
+			serviceDefinitions.put(serviceDefinition.getId(), serviceDefinition);
+			Map<String, Plan> servicePlans = new HashMap<>();
+			if (serviceDefinition.getPlans() != null) {
+				for (Plan plan : serviceDefinition.getPlans()) {
+					servicePlans.put(plan.getId(), plan);
+				}
+			}
+			plans.put(serviceDefinition.getId(), Collections.unmodifiableMap(servicePlans));
+		}
+		return new CatalogIndex(Collections.unmodifiableMap(serviceDefinitions), Collections.unmodifiableMap(plans));
+	}
+
+	/**
+	 * Get a service definition by ID
+	 *
+	 * @param serviceId the ID of the service definition
+	 * @return the service definition, or null if it is not in the index
+	 */
+	public ServiceDefinition getServiceDefinition(String serviceId) {
+		return this.serviceDefinitions.get(serviceId);
+	}
+
+	/**
+	 * Get a plan by service definition ID and plan ID
+	 *
+	 * @param serviceId the ID of the service definition
+	 * @param planId the ID of the plan
+	 * @return the plan, or null if it is not in the index
+	 */
+	public Plan getPlan(String serviceId, String planId) {
+		Map<String, Plan> servicePlans = this.plans.get(serviceId);
+		return servicePlans == null ? null : servicePlans.get(planId);
+	}
+
+	/**
+	 * Determine whether the index contains a service definition with the provided ID
+	 *
+	 * @param serviceId the ID of the service definition
+	 * @return true if the service definition is in the index
+	 */
+	public boolean containsServiceDefinition(String serviceId) {
+		return this.serviceDefinitions.containsKey(serviceId);
+	}
+
+}
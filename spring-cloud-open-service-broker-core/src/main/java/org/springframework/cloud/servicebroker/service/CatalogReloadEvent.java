@@ -0,0 +1,62 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * An {@link ApplicationEvent} that requests a {@link ReloadableCatalogService} to publish a new catalog snapshot. If
+ * the event carries a {@link Catalog}, that catalog is published. Otherwise, the catalog is reloaded from the source
+ * of the service.
+ */
+public class CatalogReloadEvent extends ApplicationEvent {
+
+	private static final long serialVersionUID = -6419521187362719841L;
+
+	private final transient Catalog catalog;
+
+	/**
+	 * Construct an event that reloads the catalog from the source of the service
+	 *
+	 * @param source the object on which the event initially occurred
+	 */
+	public CatalogReloadEvent(Object source) {
+		this(source, null);
+	}
+
+	/**
+	 * Construct an event that publishes the provided catalog
+	 *
+	 * @param source the object on which the event initially occurred
+	 * @param catalog the catalog to publish
+	 */
+	public CatalogReloadEvent(Object source, Catalog catalog) {
+		super(source);
+		this.catalog = catalog;
+	}
+
+	/**
+	 * Get the catalog to publish
+	 *
+	 * @return the catalog, or null if the catalog should be reloaded from the source of the service
+	 */
+	public Catalog getCatalog() {
+		return this.catalog;
+	}
+
+}
@@ -47,6 +47,29 @@ public interface CatalogService {
 	 */
 	<T extends ServiceDefinition> Mono<T> getServiceDefinition(String serviceId);
 
+	/**
+	 * Return a precomputed {@link CatalogIndex} of the service definitions and plans in the catalog. Implementing
+	 * service brokers that hold a catalog in memory may provide an index to allow plans to be resolved in constant
+	 * time when processing requests. The index must be rebuilt when the catalog changes.
+	 *
+	 * @return the catalog index, or null if the implementation does not provide one
+	 */
+	default CatalogIndex getCatalogIndex() {
+		return null;
+	}
+
+	/**
+	 * Return the {@link SerializedCatalog serialized representation} of the current catalog. Implementing service
+	 * brokers that hold a catalog in memory may serialize it once when it changes, so that the serialized catalog can
+	 * be written to responses without serializing the catalog for each request. Services that decorate a
+	 * {@link CatalogService} should delegate this method.
+	 *
+	 * @return the serialized catalog, or null if the implementation does not provide one
+	 */
+	default SerializedCatalog getSerializedCatalog() {
+		return null;
+	}
+
 	/**
 	 * Return the {@link ResponseEntity} with catalog of services provided by the service broker. Implementing
 	 * service brokers may use this method to manage ETag responses and caching of the catalog. This ResponseEntity
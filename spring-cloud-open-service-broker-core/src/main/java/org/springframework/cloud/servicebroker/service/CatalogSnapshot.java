@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+
+/**
+ * An immutable view of a {@link Catalog}, together with its {@link CatalogIndex} and, optionally, its
+ * {@link SerializedCatalog serialized representation}. All parts of a snapshot are built from the same catalog, so
+ * a request that reads from a single snapshot sees a consistent catalog even when a newer snapshot is published.
+ */
+public final class CatalogSnapshot {
+
+	private final Catalog catalog;
+
+	private final CatalogIndex catalogIndex;
+
+	private final SerializedCatalog serializedCatalog;
+
+	private CatalogSnapshot(Catalog catalog, CatalogIndex catalogIndex, SerializedCatalog serializedCatalog) {
+		this.catalog = catalog;
+		this.catalogIndex = catalogIndex;
+		this.serializedCatalog = serializedCatalog;
+	}
+
+	/**
+	 * Build a snapshot of the provided {@link Catalog} without a serialized representation
+	 *
+	 * @param catalog the catalog
+	 * @return the snapshot
+	 */
+	public static CatalogSnapshot of(Catalog catalog) {
+		return new CatalogSnapshot(catalog, CatalogIndex.of(catalog), null);
+	}
+
+	/**
+	 * Build a snapshot of the provided {@link Catalog}, serializing the catalog with the provided
+	 * {@link ObjectMapper}
+	 *
+	 * @param catalog the catalog
+	 * @param objectMapper the object mapper used to serialize the catalog
+	 * @return the snapshot
+	 */
+	public static CatalogSnapshot of(Catalog catalog, ObjectMapper objectMapper) {
+		return new CatalogSnapshot(catalog, CatalogIndex.of(catalog), SerializedCatalog.of(catalog, objectMapper));
+	}
+
+	/**
+	 * Get the catalog
+	 *
+	 * @return the catalog
+	 */
+	public Catalog getCatalog() {
+		return this.catalog;
+	}
+
+	/**
+	 * Get the index of the catalog
+	 *
+	 * @return the catalog index
+	 */
+	public CatalogIndex getCatalogIndex() {
+		return this.catalogIndex;
+	}
+
+	/**
+	 * Get the serialized representation of the catalog
+	 *
+	 * @return the serialized catalog, or null if the snapshot was built without one
+	 */
+	public SerializedCatalog getSerializedCatalog() {
+		return this.serializedCatalog;
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.context.ApplicationListener;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of the {@link CatalogService} whose {@link Catalog} can be replaced while the service broker is
+ * running.
+ * <p>
+ * The current catalog is held in an immutable {@link CatalogSnapshot} behind a single atomic reference. Reading the
+ * catalog never takes a lock, and a new snapshot is fully built before it is published, so requests in flight keep
+ * the snapshot they started with. A new snapshot is published when {@link #reload()} or {@link #update(Catalog)} is
+ * called, or when a {@link CatalogReloadEvent} is published in the application context.
+ */
+public class ReloadableCatalogService implements CatalogService, ApplicationListener<CatalogReloadEvent> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ReloadableCatalogService.class);
+
+	private final Supplier<Catalog> catalogSource;
+
+	private final ObjectMapper objectMapper;
+
+	private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+
+	/**
+	 * Construct a service that loads the {@link Catalog} from the provided source
+	 *
+	 * @param catalogSource the source of the catalog
+	 */
+	public ReloadableCatalogService(Supplier<Catalog> catalogSource) {
+		this(catalogSource, null);
+	}
+
+	/**
+	 * Construct a service that loads the {@link Catalog} from the provided source and pre-serializes each loaded
+	 * catalog with the provided {@link ObjectMapper}
+	 *
+	 * @param catalogSource the source of the catalog
+	 * @param objectMapper the object mapper used to serialize the catalog, or null to skip pre-serialization
+	 */
+	public ReloadableCatalogService(Supplier<Catalog> catalogSource, ObjectMapper objectMapper) {
+		Assert.notNull(catalogSource, "catalogSource must not be null");
+		this.catalogSource = catalogSource;
+		this.objectMapper = objectMapper;
+		reload();
+	}
+
+	@Override
+	public Mono<Catalog> getCatalog() {
+		return Mono.just(this.snapshot.get().getCatalog());
+	}
+
+	@Override
+	public Mono<ServiceDefinition> getServiceDefinition(String serviceId) {
+		return Mono.justOrEmpty(this.snapshot.get().getCatalogIndex().getServiceDefinition(serviceId));
+	}
+
+	@Override
+	public CatalogIndex getCatalogIndex() {
+		return this.snapshot.get().getCatalogIndex();
+	}
+
+	@Override
+	public SerializedCatalog getSerializedCatalog() {
+		return this.snapshot.get().getSerializedCatalog();
+	}
+
+	/**
+	 * Get the current catalog snapshot
+	 *
+	 * @return the snapshot
+	 */
+	public CatalogSnapshot getSnapshot() {
+		return this.snapshot.get();
+	}
+
+	/**
+	 * Load the catalog from the source of the service and publish a new snapshot
+	 *
+	 * @return the published snapshot
+	 */
+	public CatalogSnapshot reload() {
+		Catalog catalog = this.catalogSource.get();
+		Assert.state(catalog != null, "catalogSource must not return null");
+		return update(catalog);
+	}
+
+	/**
+	 * Publish a new snapshot of the provided catalog
+	 *
+	 * @param catalog the catalog
+	 * @return the published snapshot
+	 */
+	public CatalogSnapshot update(Catalog catalog) {
+		Assert.notNull(catalog, "catalog must not be null");
+		CatalogSnapshot updated = this.objectMapper != null ? CatalogSnapshot.of(catalog, this.objectMapper)
+				: CatalogSnapshot.of(catalog);
+		this.snapshot.set(updated);
+		LOG.info("Published catalog snapshot with {} service definitions",
+				catalog.getServiceDefinitions() == null ? 0 : catalog.getServiceDefinitions().size());
+		return updated;
+	}
+
+	/**
+	 * Publish a new snapshot in response to a {@link CatalogReloadEvent}. If the new catalog cannot be loaded, the
+	 * error is logged and the current snapshot is retained.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	@SuppressWarnings("PMD.AvoidCatchingGenericException")
+	public void onApplicationEvent(CatalogReloadEvent event) {
+		try {
+			if (event.getCatalog() != null) {
+				update(event.getCatalog());
+			}
+			else {
+				reload();
+			}
+		}
+		catch (RuntimeException e) {
+			LOG.error("Error reloading catalog, retaining the current catalog. error={}", e.getMessage(), e);
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+
+/**
+ * A {@link Catalog} serialized once into identity and gzip encoded JSON representations, each with a strong entity
+ * tag derived from the content of the JSON representation.
+ */
+public final class SerializedCatalog {
+
+	private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+	private final Catalog catalog;
+
+	private final byte[] body;
+
+	private final byte[] gzipBody;
+
+	private final String eTag;
+
+	private final String gzipETag;
+
+	private SerializedCatalog(Catalog catalog, byte[] body, byte[] gzipBody, String hash) {
+		this.catalog = catalog;
+		this.body = body;
+		this.gzipBody = gzipBody;
+		this.eTag = "\"" + hash + "\"";
+		this.gzipETag = "\"" + hash + GZIP_ETAG_SUFFIX + "\"";
+	}
+
+	/**
+	 * Serialize the provided {@link Catalog} to JSON
+	 *
+	 * @param catalog the catalog
+	 * @param objectMapper the object mapper used to serialize the catalog
+	 * @return the serialized catalog
+	 */
+	public static SerializedCatalog of(Catalog catalog, ObjectMapper objectMapper) {
+		byte[] body;
+		try {
+			body = objectMapper.writeValueAsBytes(catalog);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unable to serialize catalog", e);
+		}
+		return new SerializedCatalog(catalog, body, gzip(body), hash(body));
+	}
+
+	/**
+	 * Get the catalog that was serialized
+	 *
+	 * @return the catalog
+	 */
+	public Catalog getCatalog() {
+		return this.catalog;
+	}
+
+	/**
+	 * Get the identity encoded JSON representation of the catalog. The returned array is shared and must not be
+	 * modified.
+	 *
+	 * @return the JSON bytes
+	 */
+	public byte[] getBody() {
+		return this.body;
+	}
+
+	/**
+	 * Get the gzip encoded JSON representation of the catalog. The returned array is shared and must not be modified.
+	 *
+	 * @return the gzip encoded JSON bytes
+	 */
+	public byte[] getGzipBody() {
+		return this.gzipBody;
+	}
+
+	/**
+	 * Get the strong entity tag of the identity encoded representation, including the enclosing quotes
+	 *
+	 * @return the entity tag
+	 */
+	public String getETag() {
+		return this.eTag;
+	}
+
+	/**
+	 * Get the strong entity tag of the gzip encoded representation, including the enclosing quotes
+	 *
+	 * @return the entity tag
+	 */
+	public String getGzipETag() {
+		return this.gzipETag;
+	}
+
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+			gzip.write(body);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Unable to compress catalog", e);
+		}
+		return output.toByteArray();
+	}
+
+	private static String hash(byte[] body) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+}
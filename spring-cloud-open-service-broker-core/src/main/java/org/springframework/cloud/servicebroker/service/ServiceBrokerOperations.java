@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The names of the operations of the Open Service Broker API, as used when logging, limiting and admitting requests.
+ */
+public final class ServiceBrokerOperations {
+
+	/**
+	 * The operation name used when retrieving the catalog
+	 */
+	public static final String GET_CATALOG = "getCatalog";
+
+	/**
+	 * The operation name used when creating a service instance
+	 */
+	public static final String CREATE_SERVICE_INSTANCE = "createServiceInstance";
+
+	/**
+	 * The operation name used when retrieving a service instance
+	 */
+	public static final String GET_SERVICE_INSTANCE = "getServiceInstance";
+
+	/**
+	 * The operation name used when retrieving the last operation of a service instance
+	 */
+	public static final String GET_LAST_SERVICE_OPERATION = "getLastServiceOperation";
+
+	/**
+	 * The operation name used when updating a service instance
+	 */
+	public static final String UPDATE_SERVICE_INSTANCE = "updateServiceInstance";
+
+	/**
+	 * The operation name used when deleting a service instance
+	 */
+	public static final String DELETE_SERVICE_INSTANCE = "deleteServiceInstance";
+
+	/**
+	 * The operation name used when creating a service instance binding
+	 */
+	public static final String CREATE_SERVICE_INSTANCE_BINDING = "createServiceInstanceBinding";
+
+	/**
+	 * The operation name used when retrieving a service instance binding
+	 */
+	public static final String GET_SERVICE_INSTANCE_BINDING = "getServiceInstanceBinding";
+
+	/**
+	 * The operation name used when retrieving the last operation of a service instance binding
+	 */
+	public static final String GET_LAST_SERVICE_BINDING_OPERATION = "getLastServiceBindingOperation";
+
+	/**
+	 * The operation name used when deleting a service instance binding
+	 */
+	public static final String DELETE_SERVICE_INSTANCE_BINDING = "deleteServiceInstanceBinding";
+
+	/**
+	 * The names of all operations
+	 */
+	public static final List<String> ALL = Collections.unmodifiableList(Arrays.asList(GET_CATALOG,
+			CREATE_SERVICE_INSTANCE, GET_SERVICE_INSTANCE, GET_LAST_SERVICE_OPERATION, UPDATE_SERVICE_INSTANCE,
+			DELETE_SERVICE_INSTANCE, CREATE_SERVICE_INSTANCE_BINDING, GET_SERVICE_INSTANCE_BINDING,
+			GET_LAST_SERVICE_BINDING_OPERATION, DELETE_SERVICE_INSTANCE_BINDING));
+
+	private ServiceBrokerOperations() {
+	}
+
+}
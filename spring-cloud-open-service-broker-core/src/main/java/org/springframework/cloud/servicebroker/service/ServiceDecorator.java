@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+/**
+ * Decorates the services that are invoked by the service broker controllers. Beans of this type are applied by the
+ * auto-configuration when the controllers are created, in order, with the first decorator in order being the
+ * outermost. Each method returns the provided service unchanged by default.
+ */
+public interface ServiceDecorator {
+
+	/**
+	 * Decorate the {@link CatalogService} used by the controllers
+	 *
+	 * @param catalogService the catalog service
+	 * @return the decorated catalog service
+	 */
+	default CatalogService decorateCatalogService(CatalogService catalogService) {
+		return catalogService;
+	}
+
+	/**
+	 * Decorate the {@link ServiceInstanceService} used by the controllers
+	 *
+	 * @param serviceInstanceService the service instance service
+	 * @return the decorated service instance service
+	 */
+	default ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return serviceInstanceService;
+	}
+
+	/**
+	 * Decorate the {@link ServiceInstanceBindingService} used by the controllers
+	 *
+	 * @param serviceInstanceBindingService the service instance binding service
+	 * @return the decorated service instance binding service
+	 */
+	default ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return serviceInstanceBindingService;
+	}
+
+}
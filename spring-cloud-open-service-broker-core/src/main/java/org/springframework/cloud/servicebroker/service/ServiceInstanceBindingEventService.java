@@ -31,6 +31,9 @@ import org.springframework.cloud.servicebroker.service.events.EventFlowRegistrie
 /**
  * Internal implementation of {@link ServiceInstanceBindingService} that attaches event hooks to the requests to create
  * and delete service instance bindings
+ * <p>
+ * Requests are passed to the service directly, without attaching any hooks, while the registry for the operation is
+ * empty. Flows that are added to a registry later apply to the requests that follow.
  *
  * @author Roy Clarkson
  */
@@ -54,6 +57,9 @@ public class ServiceInstanceBindingEventService implements ServiceInstanceBindin
 	@Override
 	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
 			CreateServiceInstanceBindingRequest request) {
+		if (flows.getCreateInstanceBindingRegistry().isEmpty()) {
+			return service.createServiceInstanceBinding(request);
+		}
 		return flows.getCreateInstanceBindingRegistry().getInitializationFlows(request)
 				.then(service.createServiceInstanceBinding(request))
 				.onErrorResume(e -> flows.getCreateInstanceBindingRegistry().getErrorFlows(request, e)
@@ -70,6 +76,9 @@ public class ServiceInstanceBindingEventService implements ServiceInstanceBindin
 	@Override
 	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
 			GetLastServiceBindingOperationRequest request) {
+		if (flows.getAsyncOperationBindingRegistry().isEmpty()) {
+			return service.getLastOperation(request);
+		}
 		return flows.getAsyncOperationBindingRegistry().getInitializationFlows(request)
 				.then(service.getLastOperation(request))
 				.onErrorResume(e -> flows.getAsyncOperationBindingRegistry().getErrorFlows(request, e)
@@ -81,6 +90,9 @@ public class ServiceInstanceBindingEventService implements ServiceInstanceBindin
 	@Override
 	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
 			DeleteServiceInstanceBindingRequest request) {
+		if (flows.getDeleteInstanceBindingRegistry().isEmpty()) {
+			return service.deleteServiceInstanceBinding(request);
+		}
 		return flows.getDeleteInstanceBindingRegistry().getInitializationFlows(request)
 				.then(service.deleteServiceInstanceBinding(request))
 				.onErrorResume(e -> flows.getDeleteInstanceBindingRegistry().getErrorFlows(request, e)
@@ -33,6 +33,9 @@ import org.springframework.cloud.servicebroker.service.events.EventFlowRegistrie
 /**
  * Internal implementation of {@link ServiceInstanceService} that attaches event hooks to requests related to
  * provisioning, updating, and deprovisioning service instances.
+ * <p>
+ * Requests are passed to the service directly, without attaching any hooks, while the registry for the operation is
+ * empty. Flows that are added to a registry later apply to the requests that follow.
  *
  * @author Roy Clarkson
  */
@@ -56,6 +59,9 @@ public class ServiceInstanceEventService implements ServiceInstanceService {
 
 	@Override
 	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		if (flows.getCreateInstanceRegistry().isEmpty()) {
+			return service.createServiceInstance(request);
+		}
 		return flows.getCreateInstanceRegistry().getInitializationFlows(request)
 				.then(service.createServiceInstance(request))
 				.onErrorResume(e -> flows.getCreateInstanceRegistry().getErrorFlows(request, e)
@@ -71,6 +77,9 @@ public class ServiceInstanceEventService implements ServiceInstanceService {
 
 	@Override
 	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		if (flows.getAsyncOperationRegistry().isEmpty()) {
+			return service.getLastOperation(request);
+		}
 		return flows.getAsyncOperationRegistry().getInitializationFlows(request)
 				.then(service.getLastOperation(request))
 				.onErrorResume(e -> flows.getAsyncOperationRegistry().getErrorFlows(request, e)
@@ -81,6 +90,9 @@ public class ServiceInstanceEventService implements ServiceInstanceService {
 
 	@Override
 	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		if (flows.getDeleteInstanceRegistry().isEmpty()) {
+			return service.deleteServiceInstance(request);
+		}
 		return flows.getDeleteInstanceRegistry().getInitializationFlows(request)
 				.then(service.deleteServiceInstance(request))
 				.onErrorResume(e -> flows.getDeleteInstanceRegistry().getErrorFlows(request, e)
@@ -91,6 +103,9 @@ public class ServiceInstanceEventService implements ServiceInstanceService {
 
 	@Override
 	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		if (flows.getUpdateInstanceRegistry().isEmpty()) {
+			return service.updateServiceInstance(request);
+		}
 		return flows.getUpdateInstanceRegistry().getInitializationFlows(request)
 				.then(service.updateServiceInstance(request))
 				.onErrorResume(e -> flows.getUpdateInstanceRegistry().getErrorFlows(request, e)
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceBindingDoesNotExistException;
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceBindingExistsException;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A variant of {@link ServiceInstanceBindingService} for service brokers that process requests by blocking the
+ * calling thread. The framework adapts implementations with a {@link BlockingServiceInstanceBindingServiceAdapter}.
+ * <p>
+ * Each method has the same contract as the corresponding method of {@link ServiceInstanceBindingService}, and may
+ * throw the same exceptions.
+ */
+public interface BlockingServiceInstanceBindingService {
+
+	/**
+	 * Create a new binding to a service instance.
+	 *
+	 * @param request containing the details of the request
+	 * @return a {@link CreateServiceInstanceBindingResponse} on successful processing of the request
+	 * @throws ServiceInstanceBindingExistsException if a binding with the given ID is already known to the broker
+	 * @see ServiceInstanceBindingService#createServiceInstanceBinding(CreateServiceInstanceBindingRequest)
+	 */
+	default CreateServiceInstanceBindingResponse createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		throw new UnsupportedOperationException("This service broker does not support creating service bindings.");
+	}
+
+	/**
+	 * Get the details of a binding to a service instance.
+	 *
+	 * @param request containing the details of the request
+	 * @return a {@link GetServiceInstanceBindingResponse} on successful processing of the request
+	 * @throws ServiceInstanceBindingDoesNotExistException if a binding with the given ID is not known to the broker
+	 * @see ServiceInstanceBindingService#getServiceInstanceBinding(GetServiceInstanceBindingRequest)
+	 */
+	default GetServiceInstanceBindingResponse getServiceInstanceBinding(GetServiceInstanceBindingRequest request) {
+		throw new UnsupportedOperationException("This service broker does not support retrieving service bindings. " +
+				"The service broker should set 'bindings_retrievable:false' in the service catalog, " +
+				"or provide an implementation of the fetch binding API.");
+	}
+
+	/**
+	 * Get the status of the last requested operation for a service instance binding.
+	 *
+	 * @param request containing the details of the request
+	 * @return a {@link GetLastServiceBindingOperationResponse} on successful processing of the request
+	 * @throws ServiceInstanceBindingDoesNotExistException if a binding with the given ID is not known to the broker
+	 * @see ServiceInstanceBindingService#getLastOperation(GetLastServiceBindingOperationRequest)
+	 */
+	default GetLastServiceBindingOperationResponse getLastOperation(GetLastServiceBindingOperationRequest request) {
+		throw new UnsupportedOperationException("This service broker does not support getting the status of " +
+				"an asynchronous operation. " +
+				"If the service broker returns '202 Accepted' in response to a bind or unbind request, " +
+				"it must also provide an implementation of the get last operation API.");
+	}
+
+	/**
+	 * Delete a service instance binding.
+	 *
+	 * @param request containing the details of the request
+	 * @return a {@link DeleteServiceInstanceBindingResponse} on successful processing of the request
+	 * @throws ServiceInstanceBindingDoesNotExistException if a binding with the given ID is not known to the broker
+	 * @see ServiceInstanceBindingService#deleteServiceInstanceBinding(DeleteServiceInstanceBindingRequest)
+	 */
+	default DeleteServiceInstanceBindingResponse deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		throw new UnsupportedOperationException("This service broker does not support deleting service bindings.");
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.util.Assert;
+
+/**
+ * Adapts a {@link BlockingServiceInstanceBindingService} to a {@link ServiceInstanceBindingService} by invoking each
+ * method on a {@link Scheduler} that allows blocking. A {@literal null} response completes the returned {@link Mono}
+ * without a value.
+ */
+public class BlockingServiceInstanceBindingServiceAdapter implements ServiceInstanceBindingService {
+
+	private final BlockingServiceInstanceBindingService delegate;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Construct a new {@link BlockingServiceInstanceBindingServiceAdapter} that invokes the service on the
+	 * {@link Schedulers#boundedElastic() bounded elastic} scheduler
+	 *
+	 * @param delegate the blocking service
+	 */
+	public BlockingServiceInstanceBindingServiceAdapter(BlockingServiceInstanceBindingService delegate) {
+		this(delegate, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Construct a new {@link BlockingServiceInstanceBindingServiceAdapter}
+	 *
+	 * @param delegate the blocking service
+	 * @param scheduler the scheduler to invoke the service on
+	 */
+	public BlockingServiceInstanceBindingServiceAdapter(BlockingServiceInstanceBindingService delegate,
+			Scheduler scheduler) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.notNull(scheduler, "scheduler must not be null");
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		return Mono.fromCallable(() -> this.delegate.createServiceInstanceBinding(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		return Mono.fromCallable(() -> this.delegate.getServiceInstanceBinding(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		return Mono.fromCallable(() -> this.delegate.getLastOperation(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return Mono.fromCallable(() -> this.delegate.deleteServiceInstanceBinding(request))
+				.subscribeOn(this.scheduler);
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.util.Assert;
+
+/**
+ * Adapts a {@link BlockingServiceInstanceService} to a {@link ServiceInstanceService} by invoking each method on a
+ * {@link Scheduler} that allows blocking. A {@literal null} response completes the returned {@link Mono} without a
+ * value.
+ */
+public class BlockingServiceInstanceServiceAdapter implements ServiceInstanceService {
+
+	private final BlockingServiceInstanceService delegate;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Construct a new {@link BlockingServiceInstanceServiceAdapter} that invokes the service on the
+	 * {@link Schedulers#boundedElastic() bounded elastic} scheduler
+	 *
+	 * @param delegate the blocking service
+	 */
+	public BlockingServiceInstanceServiceAdapter(BlockingServiceInstanceService delegate) {
+		this(delegate, Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Construct a new {@link BlockingServiceInstanceServiceAdapter}
+	 *
+	 * @param delegate the blocking service
+	 * @param scheduler the scheduler to invoke the service on
+	 */
+	public BlockingServiceInstanceServiceAdapter(BlockingServiceInstanceService delegate, Scheduler scheduler) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.notNull(scheduler, "scheduler must not be null");
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		return Mono.fromCallable(() -> this.delegate.createServiceInstance(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+		return Mono.fromCallable(() -> this.delegate.getServiceInstance(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		return Mono.fromCallable(() -> this.delegate.getLastOperation(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		return Mono.fromCallable(() -> this.delegate.deleteServiceInstance(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		return Mono.fromCallable(() -> this.delegate.updateServiceInstance(request))
+				.subscribeOn(this.scheduler);
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ServiceDecorator} that subscribes to the service instance and service instance binding services on a
+ * {@link Scheduler} that allows blocking, for reactive implementations that block the calling thread.
+ * <p>
+ * Every decorator applied after this one, and the services themselves, are invoked on the scheduler.
+ */
+public class OffloadingServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which is the innermost of the decorators provided by the framework so that only the
+	 * services, and decorators ordered after this one, run on the scheduler
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 1000;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Construct a new {@link OffloadingServiceDecorator} that offloads to the {@link Schedulers#boundedElastic()
+	 * bounded elastic} scheduler
+	 */
+	public OffloadingServiceDecorator() {
+		this(Schedulers.boundedElastic());
+	}
+
+	/**
+	 * Construct a new {@link OffloadingServiceDecorator}
+	 *
+	 * @param scheduler the scheduler to subscribe to the services on
+	 */
+	public OffloadingServiceDecorator(Scheduler scheduler) {
+		Assert.notNull(scheduler, "scheduler must not be null");
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new OffloadingServiceInstanceService(serviceInstanceService, this.scheduler);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new OffloadingServiceInstanceBindingService(serviceInstanceBindingService, this.scheduler);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
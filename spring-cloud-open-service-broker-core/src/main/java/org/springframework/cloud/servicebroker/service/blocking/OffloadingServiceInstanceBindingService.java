@@ -0,0 +1,78 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A {@link ServiceInstanceBindingService} that invokes and subscribes to another service on a {@link Scheduler}.
+ */
+class OffloadingServiceInstanceBindingService implements ServiceInstanceBindingService {
+
+	private final ServiceInstanceBindingService delegate;
+
+	private final Scheduler scheduler;
+
+	OffloadingServiceInstanceBindingService(ServiceInstanceBindingService delegate, Scheduler scheduler) {
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		return Mono.<CreateServiceInstanceBindingResponse>defer(
+				() -> this.delegate.createServiceInstanceBinding(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		return Mono.<GetServiceInstanceBindingResponse>defer(
+				() -> this.delegate.getServiceInstanceBinding(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		return Mono.<GetLastServiceBindingOperationResponse>defer(
+				() -> this.delegate.getLastOperation(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return Mono.<DeleteServiceInstanceBindingResponse>defer(
+				() -> this.delegate.deleteServiceInstanceBinding(request))
+				.subscribeOn(this.scheduler);
+	}
+
+}
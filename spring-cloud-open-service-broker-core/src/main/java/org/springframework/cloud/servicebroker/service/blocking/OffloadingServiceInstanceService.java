@@ -0,0 +1,83 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+/**
+ * A {@link ServiceInstanceService} that invokes and subscribes to another service on a {@link Scheduler}.
+ */
+class OffloadingServiceInstanceService implements ServiceInstanceService {
+
+	private final ServiceInstanceService delegate;
+
+	private final Scheduler scheduler;
+
+	OffloadingServiceInstanceService(ServiceInstanceService delegate, Scheduler scheduler) {
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		return Mono.<CreateServiceInstanceResponse>defer(
+				() -> this.delegate.createServiceInstance(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+		return Mono.<GetServiceInstanceResponse>defer(
+				() -> this.delegate.getServiceInstance(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		return Mono.<GetLastServiceOperationResponse>defer(
+				() -> this.delegate.getLastOperation(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		return Mono.<DeleteServiceInstanceResponse>defer(
+				() -> this.delegate.deleteServiceInstance(request))
+				.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		return Mono.<UpdateServiceInstanceResponse>defer(
+				() -> this.delegate.updateServiceInstance(request))
+				.subscribeOn(this.scheduler);
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Binds meters for a single cache to a {@link MeterRegistry}.
+ * <p>
+ * The {@code osb.cache.gets} counter is tagged with the {@code cache} name and the {@code result}, one of {@code hit}
+ * or {@code miss}, so that the hit ratio of the cache is the rate of hits divided by the rate of all gets. The
+ * {@code osb.cache.size} gauge is tagged with the {@code cache} name.
+ */
+public class CacheMetrics implements MeterBinder {
+
+	/**
+	 * The name of the counter of lookups served from, or loaded into, a cache
+	 */
+	public static final String GETS_METRIC = "osb.cache.gets";
+
+	/**
+	 * The name of the gauge of the number of entries in a cache
+	 */
+	public static final String SIZE_METRIC = "osb.cache.size";
+
+	private final String name;
+
+	private final CacheStatistics cache;
+
+	/**
+	 * Construct a new {@link CacheMetrics}
+	 *
+	 * @param name the value of the {@code cache} tag
+	 * @param cache the cache
+	 */
+	public CacheMetrics(String name, CacheStatistics cache) {
+		Assert.hasText(name, "name must not be empty");
+		Assert.notNull(cache, "cache must not be null");
+		this.name = name;
+		this.cache = cache;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder(GETS_METRIC, this.cache, CacheStatistics::getHitCount)
+				.tag("cache", this.name)
+				.tag("result", "hit")
+				.register(registry);
+		FunctionCounter.builder(GETS_METRIC, this.cache, CacheStatistics::getMissCount)
+				.tag("cache", this.name)
+				.tag("result", "miss")
+				.register(registry);
+		Gauge.builder(SIZE_METRIC, this.cache, CacheStatistics::size)
+				.tag("cache", this.name)
+				.register(registry);
+	}
+
+}
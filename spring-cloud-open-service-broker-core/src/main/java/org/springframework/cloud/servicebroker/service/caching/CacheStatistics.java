@@ -0,0 +1,45 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+/**
+ * Statistics of a cache that can be bound to a meter registry by {@link CacheMetrics}.
+ */
+public interface CacheStatistics {
+
+	/**
+	 * Get the number of lookups that were served from the cache
+	 *
+	 * @return the number of cache hits
+	 */
+	long getHitCount();
+
+	/**
+	 * Get the number of lookups that were not cached or had expired
+	 *
+	 * @return the number of cache misses
+	 */
+	long getMissCount();
+
+	/**
+	 * Get the number of entries currently in the cache
+	 *
+	 * @return the number of cached entries
+	 */
+	int size();
+
+}
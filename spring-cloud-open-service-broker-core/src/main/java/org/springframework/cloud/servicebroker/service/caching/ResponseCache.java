@@ -0,0 +1,226 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.service.support.MapEvictor;
+import org.springframework.util.Assert;
+
+/**
+ * A bounded cache of responses. Responses are loaded when a key is not cached or has expired, and entries expire after
+ * a fixed time to live. Errors are not cached.
+ * <p>
+ * The cache is read without locking. When it grows beyond its maximum size, expired entries and then the entries that
+ * expire first are evicted, so the size may briefly exceed the maximum while responses are loaded concurrently.
+ * <p>
+ * A key that is being loaded holds a marker in the cache until the response arrives. Invalidating the key removes the
+ * marker, so that a response read before a change cannot be cached after the change, while responses being loaded for
+ * other keys are still cached. Keys can be grouped, so that all the keys of a group are invalidated together without
+ * scanning the cache.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the responses
+ */
+public class ResponseCache<K, V> implements CacheStatistics {
+
+	private final long timeToLiveMillis;
+
+	private final Clock clock;
+
+	private final Function<? super K, ?> grouping;
+
+	private final ConcurrentMap<K, CachedResponse<V>> cache = new ConcurrentHashMap<>();
+
+	private final MapEvictor<K, CachedResponse<V>> evictor;
+
+	private final Map<Object, Set<K>> groups = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Construct a new {@link ResponseCache}
+	 *
+	 * @param maximumSize the maximum number of cached responses
+	 * @param timeToLive the time after which a cached response expires
+	 * @param clock the clock used to expire cached responses
+	 */
+	public ResponseCache(int maximumSize, Duration timeToLive, Clock clock) {
+		this(maximumSize, timeToLive, clock, null);
+	}
+
+	/**
+	 * Construct a new {@link ResponseCache} whose keys are grouped for {@link #invalidateGroup invalidation}
+	 *
+	 * @param maximumSize the maximum number of cached responses
+	 * @param timeToLive the time after which a cached response expires
+	 * @param clock the clock used to expire cached responses
+	 * @param grouping the function that returns the group of a key, or {@literal null} if keys are not grouped
+	 */
+	public ResponseCache(int maximumSize, Duration timeToLive, Clock clock, Function<? super K, ?> grouping) {
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than zero");
+		Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+				"timeToLive must be positive");
+		Assert.notNull(clock, "clock must not be null");
+		this.timeToLiveMillis = timeToLive.toMillis();
+		this.clock = clock;
+		this.grouping = grouping;
+		this.evictor = new MapEvictor<>(this.cache, maximumSize, cached -> cached.expiresAt,
+				cached -> cached.expiresAt, (key, cached) -> ungroup(key));
+	}
+
+	/**
+	 * Get the cached response for a key, or load and cache it when it is not cached or has expired. The cache is
+	 * consulted when the returned {@link Mono} is subscribed to.
+	 *
+	 * @param key the key
+	 * @param loader supplies the response when it is not cached
+	 * @return the response
+	 */
+	public Mono<V> get(K key, Supplier<Mono<V>> loader) {
+		return Mono.defer(() -> {
+			long now = this.clock.millis();
+			CachedResponse<V> cached = this.cache.get(key);
+			if (cached != null && cached.response != null && cached.expiresAt > now) {
+				this.hits.increment();
+				return Mono.just(cached.response);
+			}
+			this.misses.increment();
+			long expiresAt = now + this.timeToLiveMillis;
+			CachedResponse<V> loading = new CachedResponse<>(null, expiresAt);
+			startLoading(key, loading);
+			this.evictor.evictIfFull(now);
+			return loader.get()
+					.doOnNext(response -> this.cache.replace(key, loading, new CachedResponse<>(response, expiresAt)))
+					.doFinally(signal -> {
+						if (this.cache.remove(key, loading)) {
+							ungroup(key);
+						}
+					});
+		});
+	}
+
+	/**
+	 * Remove the cached response for a key. A response that is being loaded for the key is not cached.
+	 *
+	 * @param key the key
+	 */
+	public void invalidate(K key) {
+		if (this.cache.remove(key) != null) {
+			ungroup(key);
+		}
+	}
+
+	/**
+	 * Remove the cached responses for all keys in a group. Responses that are being loaded for those keys are not
+	 * cached.
+	 *
+	 * @param group the group
+	 */
+	public void invalidateGroup(Object group) {
+		this.groups.computeIfPresent(group, (g, keys) -> {
+			keys.forEach(this.cache::remove);
+			return null;
+		});
+	}
+
+	/**
+	 * Get the number of responses that were served from the cache
+	 *
+	 * @return the number of cache hits
+	 */
+	@Override
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Get the number of responses that were loaded because they were not cached or had expired
+	 *
+	 * @return the number of cache misses
+	 */
+	@Override
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * Get the number of responses currently in the cache, including any that are being loaded, and any that have
+	 * expired but have not yet been replaced or evicted
+	 *
+	 * @return the number of cached responses
+	 */
+	@Override
+	public int size() {
+		return this.cache.size();
+	}
+
+	private void startLoading(K key, CachedResponse<V> loading) {
+		if (this.grouping == null) {
+			this.cache.put(key, loading);
+			return;
+		}
+		this.groups.compute(this.grouping.apply(key), (group, keys) -> {
+			Set<K> grouped = (keys != null) ? keys : new HashSet<>();
+			grouped.add(key);
+			this.cache.put(key, loading);
+			return grouped;
+		});
+	}
+
+	private void ungroup(K key) {
+		if (this.grouping == null) {
+			return;
+		}
+		this.groups.computeIfPresent(this.grouping.apply(key), (group, keys) -> {
+			if (!this.cache.containsKey(key)) {
+				keys.remove(key);
+			}
+			return keys.isEmpty() ? null : keys;
+		});
+	}
+
+	/**
+	 * A cached response, or a marker for a response that is being loaded when the response is {@literal null}
+	 */
+	private static final class CachedResponse<V> {
+
+		private final V response;
+
+		private final long expiresAt;
+
+		private CachedResponse(V response, long expiresAt) {
+			this.response = response;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
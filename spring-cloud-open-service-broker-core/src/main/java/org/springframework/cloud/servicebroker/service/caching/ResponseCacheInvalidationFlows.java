@@ -0,0 +1,99 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.DeleteServiceInstanceBindingCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.DeleteServiceInstanceCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.UpdateServiceInstanceCompletionFlow;
+import org.springframework.util.Assert;
+
+/**
+ * Completion flows that remove responses from a {@link ServiceResponseCache} when the resources they describe change.
+ * <p>
+ * A service instance is removed when it is updated, and a service instance and its bindings are removed when the
+ * service instance is deleted. A service instance binding is removed when it is deleted. Asynchronous operations
+ * remove the resource again when the last operation reports that the operation has finished.
+ */
+public class ResponseCacheInvalidationFlows implements UpdateServiceInstanceCompletionFlow,
+		DeleteServiceInstanceCompletionFlow, AsyncOperationServiceInstanceCompletionFlow,
+		DeleteServiceInstanceBindingCompletionFlow, AsyncOperationServiceInstanceBindingCompletionFlow {
+
+	private final ServiceResponseCache cache;
+
+	/**
+	 * Construct a new {@link ResponseCacheInvalidationFlows}
+	 *
+	 * @param cache the response cache
+	 */
+	public ResponseCacheInvalidationFlows(ServiceResponseCache cache) {
+		Assert.notNull(cache, "cache must not be null");
+		this.cache = cache;
+	}
+
+	@Override
+	public Mono<Void> complete(UpdateServiceInstanceRequest request, UpdateServiceInstanceResponse response) {
+		return Mono.fromRunnable(() -> this.cache.invalidateServiceInstance(request.getServiceInstanceId()));
+	}
+
+	@Override
+	public Mono<Void> complete(DeleteServiceInstanceRequest request, DeleteServiceInstanceResponse response) {
+		return Mono.fromRunnable(() -> this.cache.invalidateServiceInstanceAndBindings(
+				request.getServiceInstanceId()));
+	}
+
+	@Override
+	public Mono<Void> complete(GetLastServiceOperationRequest request, GetLastServiceOperationResponse response) {
+		if (response.getState() == OperationState.IN_PROGRESS) {
+			return Mono.empty();
+		}
+		return Mono.fromRunnable(() -> this.cache.invalidateServiceInstanceAndBindings(
+				request.getServiceInstanceId()));
+	}
+
+	@Override
+	public Mono<Void> complete(DeleteServiceInstanceBindingRequest request,
+			DeleteServiceInstanceBindingResponse response) {
+		return Mono.fromRunnable(() -> this.cache.invalidateServiceInstanceBinding(request.getServiceInstanceId(),
+				request.getBindingId()));
+	}
+
+	@Override
+	public Mono<Void> complete(GetLastServiceBindingOperationRequest request,
+			GetLastServiceBindingOperationResponse response) {
+		if (response.getState() == OperationState.IN_PROGRESS) {
+			return Mono.empty();
+		}
+		return Mono.fromRunnable(() -> this.cache.invalidateServiceInstanceBinding(request.getServiceInstanceId(),
+				request.getBindingId()));
+	}
+
+}
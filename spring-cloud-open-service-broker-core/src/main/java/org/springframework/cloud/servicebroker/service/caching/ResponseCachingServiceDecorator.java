@@ -0,0 +1,68 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ServiceDecorator} that serves requests to fetch service instances and service instance bindings from a
+ * {@link ServiceResponseCache}, calling the services only when a response is not cached or has expired.
+ * <p>
+ * Cached responses are removed by {@link ResponseCacheInvalidationFlows} when a service instance is updated or
+ * deleted, or a service instance binding is deleted.
+ */
+public class ResponseCachingServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which applies it inside the metrics decorator so that cached responses are
+	 * recorded in metrics
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 200;
+
+	private final ServiceResponseCache cache;
+
+	/**
+	 * Construct a new {@link ResponseCachingServiceDecorator}
+	 *
+	 * @param cache the response cache
+	 */
+	public ResponseCachingServiceDecorator(ServiceResponseCache cache) {
+		Assert.notNull(cache, "cache must not be null");
+		this.cache = cache;
+	}
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new ResponseCachingServiceInstanceService(serviceInstanceService, this.cache);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new ResponseCachingServiceInstanceBindingService(serviceInstanceBindingService, this.cache);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
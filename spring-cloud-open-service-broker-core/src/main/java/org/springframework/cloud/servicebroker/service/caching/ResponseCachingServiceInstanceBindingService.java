@@ -0,0 +1,72 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A {@link ServiceInstanceBindingService} that serves requests to fetch service instance bindings from a cache.
+ */
+class ResponseCachingServiceInstanceBindingService implements ServiceInstanceBindingService {
+
+	private final ServiceInstanceBindingService delegate;
+
+	private final ServiceResponseCache cache;
+
+	ResponseCachingServiceInstanceBindingService(ServiceInstanceBindingService delegate,
+			ServiceResponseCache cache) {
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		return this.delegate.createServiceInstanceBinding(request);
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		return this.cache.getServiceInstanceBindings().get(
+				ServiceResponseCache.bindingKey(request.getServiceInstanceId(), request.getBindingId()),
+				() -> this.delegate.getServiceInstanceBinding(request));
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		return this.delegate.getLastOperation(request);
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return this.delegate.deleteServiceInstanceBinding(request);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+
+/**
+ * Caches of the responses to requests to fetch service instances and service instance bindings. Service instances
+ * are keyed by service instance ID, and service instance bindings by service instance ID and binding ID. Service
+ * instance bindings are grouped by service instance ID, so that the bindings of a service instance are invalidated
+ * without scanning the cache.
+ */
+public class ServiceResponseCache {
+
+	private final ResponseCache<String, GetServiceInstanceResponse> serviceInstances;
+
+	private final ResponseCache<List<String>, GetServiceInstanceBindingResponse> serviceInstanceBindings;
+
+	/**
+	 * Construct a new {@link ServiceResponseCache}
+	 *
+	 * @param maximumSize the maximum number of cached responses of each kind
+	 * @param timeToLive the time after which a cached response expires
+	 */
+	public ServiceResponseCache(int maximumSize, Duration timeToLive) {
+		this(maximumSize, timeToLive, Clock.systemUTC());
+	}
+
+	/**
+	 * Construct a new {@link ServiceResponseCache}
+	 *
+	 * @param maximumSize the maximum number of cached responses of each kind
+	 * @param timeToLive the time after which a cached response expires
+	 * @param clock the clock used to expire cached responses
+	 */
+	public ServiceResponseCache(int maximumSize, Duration timeToLive, Clock clock) {
+		this.serviceInstances = new ResponseCache<>(maximumSize, timeToLive, clock);
+		this.serviceInstanceBindings = new ResponseCache<>(maximumSize, timeToLive, clock, key -> key.get(0));
+	}
+
+	/**
+	 * Get the cache of service instance responses
+	 *
+	 * @return the cache
+	 */
+	public ResponseCache<String, GetServiceInstanceResponse> getServiceInstances() {
+		return this.serviceInstances;
+	}
+
+	/**
+	 * Get the cache of service instance binding responses
+	 *
+	 * @return the cache
+	 */
+	public ResponseCache<List<String>, GetServiceInstanceBindingResponse> getServiceInstanceBindings() {
+		return this.serviceInstanceBindings;
+	}
+
+	/**
+	 * Remove the cached response for a service instance
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 */
+	public void invalidateServiceInstance(String serviceInstanceId) {
+		this.serviceInstances.invalidate(serviceInstanceId);
+	}
+
+	/**
+	 * Remove the cached responses for a service instance and all of its service instance bindings
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 */
+	public void invalidateServiceInstanceAndBindings(String serviceInstanceId) {
+		this.serviceInstances.invalidate(serviceInstanceId);
+		this.serviceInstanceBindings.invalidateGroup(serviceInstanceId);
+	}
+
+	/**
+	 * Remove the cached response for a service instance binding
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID
+	 */
+	public void invalidateServiceInstanceBinding(String serviceInstanceId, String bindingId) {
+		this.serviceInstanceBindings.invalidate(bindingKey(serviceInstanceId, bindingId));
+	}
+
+	static List<String> bindingKey(String serviceInstanceId, String bindingId) {
+		return Arrays.asList(serviceInstanceId, bindingId);
+	}
+
+}
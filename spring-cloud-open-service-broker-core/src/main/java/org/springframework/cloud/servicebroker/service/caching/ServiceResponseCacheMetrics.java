@@ -0,0 +1,62 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Binds meters for the caches of a {@link ServiceResponseCache} to a {@link MeterRegistry}.
+ * <p>
+ * The {@code osb.cache.gets} counter is tagged with the {@code cache}, one of {@code service_instances} or
+ * {@code service_instance_bindings}, and the {@code result}, one of {@code hit} or {@code miss}, so that the hit ratio
+ * of each cache is the rate of hits divided by the rate of all gets. The {@code osb.cache.size} gauge is tagged with
+ * the {@code cache}.
+ */
+public class ServiceResponseCacheMetrics implements MeterBinder {
+
+	/**
+	 * The name of the counter of requests served from, or loaded into, a cache
+	 */
+	public static final String GETS_METRIC = CacheMetrics.GETS_METRIC;
+
+	/**
+	 * The name of the gauge of the number of responses in a cache
+	 */
+	public static final String SIZE_METRIC = CacheMetrics.SIZE_METRIC;
+
+	private final ServiceResponseCache cache;
+
+	/**
+	 * Construct a new {@link ServiceResponseCacheMetrics}
+	 *
+	 * @param cache the response cache
+	 */
+	public ServiceResponseCacheMetrics(ServiceResponseCache cache) {
+		Assert.notNull(cache, "cache must not be null");
+		this.cache = cache;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		new CacheMetrics("service_instances", this.cache.getServiceInstances()).bindTo(registry);
+		new CacheMetrics("service_instance_bindings", this.cache.getServiceInstanceBindings()).bindTo(registry);
+	}
+
+}
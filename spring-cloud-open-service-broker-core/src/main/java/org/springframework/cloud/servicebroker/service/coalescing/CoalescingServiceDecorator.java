@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+
+/**
+ * A {@link ServiceDecorator} that coalesces concurrent identical requests to retrieve service instances, service
+ * instance bindings and their last operations, so that the decorated services receive one call per request at a time.
+ * <p>
+ * Requests are identical when they have the same platform instance ID, service instance ID, binding ID, service
+ * definition ID, plan ID and operation. Other request fields, such as the originating identity, do not distinguish
+ * requests, so coalescing should only be enabled when the responses of the decorated services do not depend on them.
+ * Requests that create, update or delete are not coalesced.
+ */
+public class CoalescingServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which applies it inside the metrics decorator so that metrics record every
+	 * request, including those that share a response
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 300;
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new CoalescingServiceInstanceService(serviceInstanceService);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new CoalescingServiceInstanceBindingService(serviceInstanceBindingService);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
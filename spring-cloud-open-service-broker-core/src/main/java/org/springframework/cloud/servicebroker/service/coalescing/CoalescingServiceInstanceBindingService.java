@@ -0,0 +1,80 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A {@link ServiceInstanceBindingService} that coalesces concurrent identical requests to retrieve a service instance
+ * binding or its last operation.
+ */
+class CoalescingServiceInstanceBindingService implements ServiceInstanceBindingService {
+
+	private final ServiceInstanceBindingService delegate;
+
+	private final SingleFlight<List<String>, GetServiceInstanceBindingResponse> bindingCalls = new SingleFlight<>();
+
+	private final SingleFlight<List<String>, GetLastServiceBindingOperationResponse> lastOperationCalls =
+			new SingleFlight<>();
+
+	CoalescingServiceInstanceBindingService(ServiceInstanceBindingService delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		return this.delegate.createServiceInstanceBinding(request);
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		List<String> key = Arrays.asList(request.getPlatformInstanceId(), request.getServiceInstanceId(),
+				request.getBindingId(), request.getServiceDefinitionId(), request.getPlanId());
+		return this.bindingCalls.execute(key, () -> this.delegate.getServiceInstanceBinding(request));
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		List<String> key = Arrays.asList(request.getPlatformInstanceId(), request.getServiceInstanceId(),
+				request.getBindingId(), request.getServiceDefinitionId(), request.getPlanId(),
+				request.getOperation());
+		return this.lastOperationCalls.execute(key, () -> this.delegate.getLastOperation(request));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return this.delegate.deleteServiceInstanceBinding(request);
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+/**
+ * A {@link ServiceInstanceService} that coalesces concurrent identical requests to retrieve a service instance or its
+ * last operation.
+ */
+class CoalescingServiceInstanceService implements ServiceInstanceService {
+
+	private final ServiceInstanceService delegate;
+
+	private final SingleFlight<List<String>, GetServiceInstanceResponse> instanceCalls = new SingleFlight<>();
+
+	private final SingleFlight<List<String>, GetLastServiceOperationResponse> lastOperationCalls =
+			new SingleFlight<>();
+
+	CoalescingServiceInstanceService(ServiceInstanceService delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		return this.delegate.createServiceInstance(request);
+	}
+
+	@Override
+	public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+		List<String> key = Arrays.asList(request.getPlatformInstanceId(), request.getServiceInstanceId(),
+				request.getServiceDefinitionId(), request.getPlanId());
+		return this.instanceCalls.execute(key, () -> this.delegate.getServiceInstance(request));
+	}
+
+	@Override
+	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		List<String> key = Arrays.asList(request.getPlatformInstanceId(), request.getServiceInstanceId(),
+				request.getServiceDefinitionId(), request.getPlanId(), request.getOperation());
+		return this.lastOperationCalls.execute(key, () -> this.delegate.getLastOperation(request));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		return this.delegate.deleteServiceInstance(request);
+	}
+
+	@Override
+	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		return this.delegate.updateServiceInstance(request);
+	}
+
+}
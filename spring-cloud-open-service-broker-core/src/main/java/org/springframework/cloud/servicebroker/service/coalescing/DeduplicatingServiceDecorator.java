@@ -0,0 +1,61 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceBindingExistsException;
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceExistsException;
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+
+/**
+ * A {@link ServiceDecorator} that deduplicates requests to create a service instance or service instance binding that
+ * arrive while an earlier request to create the same resource is still in progress, as when a platform retries a
+ * request that timed out.
+ * <p>
+ * A duplicate request with the same service definition ID, plan ID, parameters and context as the request in progress
+ * receives the result of that request, without calling the decorated service. A duplicate request that differs fails
+ * with a {@link ServiceInstanceExistsException} or {@link ServiceInstanceBindingExistsException}, without calling the
+ * decorated service. Requests that arrive after the request in progress has completed are passed to the decorated
+ * service.
+ */
+public class DeduplicatingServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which applies it outside the concurrency control decorator so that retries are not
+	 * rejected with a concurrency error
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 400;
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new DeduplicatingServiceInstanceService(serviceInstanceService);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new DeduplicatingServiceInstanceBindingService(serviceInstanceBindingService);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceBindingExistsException;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A {@link ServiceInstanceBindingService} that deduplicates concurrent requests to create the same service instance
+ * binding.
+ */
+class DeduplicatingServiceInstanceBindingService implements ServiceInstanceBindingService {
+
+	private final ServiceInstanceBindingService delegate;
+
+	private final SingleFlight<List<String>, CreateServiceInstanceBindingResponse> createCalls =
+			new SingleFlight<>();
+
+	DeduplicatingServiceInstanceBindingService(ServiceInstanceBindingService delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		List<String> key = Arrays.asList(request.getPlatformInstanceId(), request.getServiceInstanceId(),
+				request.getBindingId());
+		List<Object> fingerprint = Arrays.asList(request.getServiceDefinitionId(), request.getPlanId(),
+				request.getAppGuid(), request.getBindResource(), request.getParameters(), request.getContext());
+		return this.createCalls.execute(key, fingerprint, () -> this.delegate.createServiceInstanceBinding(request),
+				() -> new ServiceInstanceBindingExistsException(request.getServiceInstanceId(),
+						request.getBindingId()));
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		return this.delegate.getServiceInstanceBinding(request);
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		return this.delegate.getLastOperation(request);
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return this.delegate.deleteServiceInstanceBinding(request);
+	}
+
+}
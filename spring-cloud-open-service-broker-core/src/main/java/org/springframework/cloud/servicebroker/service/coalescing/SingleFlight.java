@@ -0,0 +1,140 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Shares one in-flight {@link Mono} among all concurrent subscribers that request the same key.
+ * <p>
+ * The first request for a key subscribes to the {@link Mono} provided by its supplier. Requests for the same key that
+ * arrive before that {@link Mono} terminates receive its result, including an error or an empty completion, without
+ * calling their supplier. Once the {@link Mono} terminates, the key is released and the next request calls its
+ * supplier again, so results are never reused after the call that produced them has completed. The shared call is not
+ * cancelled when its subscribers cancel.
+ * <p>
+ * A call may be made with a fingerprint, in which case a request for the same key with a different fingerprint fails
+ * instead of sharing the in-flight call.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of value
+ */
+public final class SingleFlight<K, V> {
+
+	private final Map<K, Call<V>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder calls = new LongAdder();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	/**
+	 * Return a {@link Mono} that shares the in-flight call for the key, or makes a new call using the supplier
+	 *
+	 * @param key the key identifying identical calls
+	 * @param supplier the supplier of the call
+	 * @return the shared call
+	 */
+	public Mono<V> execute(K key, Supplier<Mono<V>> supplier) {
+		return execute(key, null, supplier, IllegalStateException::new);
+	}
+
+	/**
+	 * Return a {@link Mono} that shares the in-flight call for the key if that call was made with an equal
+	 * fingerprint, fails if the in-flight call for the key was made with a different fingerprint, or makes a new call
+	 * using the supplier
+	 *
+	 * @param key the key identifying the call
+	 * @param fingerprint the value that identical calls for the key have in common
+	 * @param supplier the supplier of the call
+	 * @param mismatch the supplier of the error returned when the in-flight call has a different fingerprint
+	 * @return the shared call
+	 */
+	@SuppressWarnings("PMD.CompareObjectsWithEquals")
+	public Mono<V> execute(K key, Object fingerprint, Supplier<Mono<V>> supplier,
+			Supplier<? extends Throwable> mismatch) {
+		return Mono.defer(() -> {
+			Call<V> existing = this.inFlight.get(key);
+			if (existing == null) {
+				AtomicReference<Call<V>> created = new AtomicReference<>();
+				existing = this.inFlight.computeIfAbsent(key, k -> {
+					Call<V> call = new Call<>(fingerprint, Mono.defer(supplier)
+							.doFinally(signal -> this.inFlight.remove(k, created.get()))
+							.share());
+					created.set(call);
+					return call;
+				});
+				if (existing == created.get()) {
+					this.calls.increment();
+					return existing.result;
+				}
+			}
+			if (!Objects.equals(existing.fingerprint, fingerprint)) {
+				return Mono.error(mismatch.get());
+			}
+			this.coalesced.increment();
+			return existing.result;
+		});
+	}
+
+	/**
+	 * Return the number of calls that are currently in flight
+	 *
+	 * @return the number of calls
+	 */
+	public int getInFlightCount() {
+		return this.inFlight.size();
+	}
+
+	/**
+	 * Return the number of calls that were made using a supplier
+	 *
+	 * @return the number of calls
+	 */
+	public long getCallCount() {
+		return this.calls.sum();
+	}
+
+	/**
+	 * Return the number of requests that shared a call that was already in flight
+	 *
+	 * @return the number of requests
+	 */
+	public long getCoalescedCount() {
+		return this.coalesced.sum();
+	}
+
+	private static final class Call<V> {
+
+		private final Object fingerprint;
+
+		private final Mono<V> result;
+
+		private Call(Object fingerprint, Mono<V> result) {
+			this.fingerprint = fingerprint;
+			this.result = result;
+		}
+
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.concurrency;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceBindingDoesNotExistException;
+import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A {@link ServiceInstanceBindingService} that admits one operation at a time for each service instance binding.
+ */
+class GatedServiceInstanceBindingService implements ServiceInstanceBindingService {
+
+	private final ServiceInstanceBindingService delegate;
+
+	private final OperationGate gate;
+
+	GatedServiceInstanceBindingService(ServiceInstanceBindingService delegate, OperationGate gate) {
+		this.delegate = delegate;
+		this.gate = gate;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		return this.gate.execute(request.getServiceInstanceId(), request.getBindingId(),
+				AsyncServiceBrokerResponse::isAsync, AsyncServiceBrokerResponse::getOperation,
+				() -> this.delegate.createServiceInstanceBinding(request));
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		return this.delegate.getServiceInstanceBinding(request);
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		String serviceInstanceId = request.getServiceInstanceId();
+		String bindingId = request.getBindingId();
+		String operation = request.getOperation();
+		return this.delegate.getLastOperation(request)
+				.doOnNext(response -> {
+					if (response.getState() == OperationState.IN_PROGRESS) {
+						this.gate.renew(serviceInstanceId, bindingId, operation);
+					}
+					else {
+						this.gate.release(serviceInstanceId, bindingId, operation);
+					}
+				})
+				.doOnError(ServiceInstanceBindingDoesNotExistException.class,
+						e -> this.gate.release(serviceInstanceId, bindingId, operation));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return this.gate.execute(request.getServiceInstanceId(), request.getBindingId(),
+				AsyncServiceBrokerResponse::isAsync, AsyncServiceBrokerResponse::getOperation,
+				() -> this.delegate.deleteServiceInstanceBinding(request));
+	}
+
+}
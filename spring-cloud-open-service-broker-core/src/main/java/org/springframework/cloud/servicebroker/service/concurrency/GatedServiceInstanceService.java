@@ -0,0 +1,93 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.concurrency;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceDoesNotExistException;
+import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+/**
+ * A {@link ServiceInstanceService} that admits one operation at a time for each service instance.
+ */
+class GatedServiceInstanceService implements ServiceInstanceService {
+
+	private final ServiceInstanceService delegate;
+
+	private final OperationGate gate;
+
+	GatedServiceInstanceService(ServiceInstanceService delegate, OperationGate gate) {
+		this.delegate = delegate;
+		this.gate = gate;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		return this.gate.execute(request.getServiceInstanceId(), null, AsyncServiceBrokerResponse::isAsync,
+				AsyncServiceBrokerResponse::getOperation,
+				() -> this.delegate.createServiceInstance(request));
+	}
+
+	@Override
+	public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+		return this.delegate.getServiceInstance(request);
+	}
+
+	@Override
+	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		String serviceInstanceId = request.getServiceInstanceId();
+		String operation = request.getOperation();
+		return this.delegate.getLastOperation(request)
+				.doOnNext(response -> {
+					if (response.getState() == OperationState.IN_PROGRESS) {
+						this.gate.renew(serviceInstanceId, null, operation);
+					}
+					else {
+						this.gate.release(serviceInstanceId, null, operation);
+					}
+				})
+				.doOnError(ServiceInstanceDoesNotExistException.class,
+						e -> this.gate.release(serviceInstanceId, null, operation));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		return this.gate.execute(request.getServiceInstanceId(), null, AsyncServiceBrokerResponse::isAsync,
+				AsyncServiceBrokerResponse::getOperation,
+				() -> this.delegate.deleteServiceInstance(request));
+	}
+
+	@Override
+	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		return this.gate.execute(request.getServiceInstanceId(), null, AsyncServiceBrokerResponse::isAsync,
+				AsyncServiceBrokerResponse::getOperation,
+				() -> this.delegate.updateServiceInstance(request));
+	}
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.concurrency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerCapacityExceededException;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerConcurrencyException;
+import org.springframework.util.Assert;
+
+/**
+ * Allows one operation at a time for each service instance and service instance binding, and rejects other operations
+ * on the same resource with a {@link ServiceBrokerConcurrencyException}.
+ * <p>
+ * Operations are admitted or rejected with a single non-blocking update of a concurrent map, so operations on
+ * different resources never wait for each other. An operation holds the gate for its resource until the call
+ * completes, or, when the call starts an asynchronous operation, until the gate is {@link #release released} for
+ * that operation. Each hold expires after the configured time to live unless it is {@link #renew renewed}, so that
+ * operations that are abandoned by the platform do not hold their resource forever. The number of held resources is
+ * bounded. When the bound is reached and no hold has expired, operations on resources that are not held are rejected
+ * with a {@link ServiceBrokerCapacityExceededException} that asks the platform to retry later. While the bound is
+ * reached, expired holds are looked for at most once a second.
+ */
+public final class OperationGate {
+
+	private static final long EVICTION_INTERVAL_MILLIS = 1000;
+
+	private static final Duration RETRY_AFTER = Duration.ofMillis(EVICTION_INTERVAL_MILLIS);
+
+	private final Map<List<String>, Hold> holds = new ConcurrentHashMap<>();
+
+	private final int maximumHolds;
+
+	private final long timeToLiveMillis;
+
+	private final Clock clock;
+
+	private final AtomicLong nextEvictionAt = new AtomicLong();
+
+	/**
+	 * Construct a new {@link OperationGate}
+	 *
+	 * @param maximumHolds the maximum number of resources that can be held at the same time
+	 * @param timeToLive the time after which a hold that has not been renewed expires
+	 */
+	public OperationGate(int maximumHolds, Duration timeToLive) {
+		this(maximumHolds, timeToLive, Clock.systemUTC());
+	}
+
+	/**
+	 * Construct a new {@link OperationGate}
+	 *
+	 * @param maximumHolds the maximum number of resources that can be held at the same time
+	 * @param timeToLive the time after which a hold that has not been renewed expires
+	 * @param clock the clock used to expire holds
+	 */
+	public OperationGate(int maximumHolds, Duration timeToLive, Clock clock) {
+		Assert.isTrue(maximumHolds > 0, "maximumHolds must be greater than zero");
+		Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero(),
+				"timeToLive must be positive");
+		Assert.notNull(clock, "clock must not be null");
+		this.maximumHolds = maximumHolds;
+		this.timeToLiveMillis = timeToLive.toMillis();
+		this.clock = clock;
+	}
+
+	/**
+	 * Return a {@link Mono} that holds the gate for a resource while the call is made. The {@link Mono} fails with a
+	 * {@link ServiceBrokerConcurrencyException} if another operation holds the resource, or with a
+	 * {@link ServiceBrokerCapacityExceededException} if the maximum number of resources are held
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 * @param holdAfterCompletion tests whether the result of the call starts an operation that keeps the resource
+	 * held until it is released
+	 * @param operation the function that returns the operation ID, or {@literal null}, of a result that keeps the
+	 * resource held
+	 * @param call the supplier of the call
+	 * @param <T> the type of result
+	 * @return the call
+	 */
+	public <T> Mono<T> execute(String serviceInstanceId, String bindingId, Predicate<? super T> holdAfterCompletion,
+			Function<? super T, String> operation, Supplier<Mono<T>> call) {
+		return Mono.defer(() -> {
+			List<String> key = key(serviceInstanceId, bindingId);
+			if (!this.holds.containsKey(key) && !hasCapacity()) {
+				return Mono.error(new ServiceBrokerCapacityExceededException(
+						"Too many operations are in progress", RETRY_AFTER));
+			}
+			Hold hold = acquire(key);
+			if (hold == null) {
+				return Mono.error(new ServiceBrokerConcurrencyException(bindingId == null
+						? "Another operation is in progress for service instance " + serviceInstanceId
+						: "Another operation is in progress for service instance binding " + bindingId));
+			}
+			AtomicBoolean held = new AtomicBoolean();
+			return Mono.defer(call)
+					.doOnNext(result -> {
+						if (holdAfterCompletion.test(result)) {
+							hold.operation = operation.apply(result);
+							held.set(true);
+						}
+					})
+					.doFinally(signal -> {
+						if (held.get()) {
+							hold.handOff(expiry());
+						}
+						else {
+							this.holds.remove(key, hold);
+						}
+					});
+		});
+	}
+
+	/**
+	 * Extend the hold on a resource whose asynchronous operation is still in progress. The hold is only extended if it
+	 * was taken for the same operation.
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 * @param operation the operation ID, or {@literal null} if the service does not return one
+	 */
+	public void renew(String serviceInstanceId, String bindingId, String operation) {
+		Hold hold = this.holds.get(key(serviceInstanceId, bindingId));
+		if (hold != null && hold.isHeldFor(operation)) {
+			hold.renew(expiry());
+		}
+	}
+
+	/**
+	 * Release the hold on a resource whose asynchronous operation has completed. The hold is only released if it was
+	 * taken for the same operation, so that a poll for an earlier operation does not release the hold of a later one.
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 * @param operation the operation ID, or {@literal null} if the service does not return one
+	 */
+	public void release(String serviceInstanceId, String bindingId, String operation) {
+		List<String> key = key(serviceInstanceId, bindingId);
+		Hold hold = this.holds.get(key);
+		if (hold != null && hold.isHeldFor(operation)) {
+			this.holds.remove(key, hold);
+		}
+	}
+
+	/**
+	 * Remove the holds that have expired. Expired holds are also removed when an operation on the same resource is
+	 * admitted, and at most once a second while the number of holds is at the maximum.
+	 */
+	public void evictExpired() {
+		long now = this.clock.millis();
+		this.holds.values().removeIf(hold -> hold.isExpired(now));
+	}
+
+	/**
+	 * Return the number of resources that are currently held
+	 *
+	 * @return the number of held resources
+	 */
+	public int getHoldCount() {
+		return this.holds.size();
+	}
+
+	private boolean hasCapacity() {
+		if (this.holds.size() < this.maximumHolds) {
+			return true;
+		}
+		long now = this.clock.millis();
+		long nextEvictionAt = this.nextEvictionAt.get();
+		if (now < nextEvictionAt
+				|| !this.nextEvictionAt.compareAndSet(nextEvictionAt, now + EVICTION_INTERVAL_MILLIS)) {
+			return false;
+		}
+		evictExpired();
+		return this.holds.size() < this.maximumHolds;
+	}
+
+	private Hold acquire(List<String> key) {
+		Hold hold = new Hold(expiry());
+		Hold existing = this.holds.putIfAbsent(key, hold);
+		if (existing == null) {
+			return hold;
+		}
+		if (existing.isExpired(this.clock.millis()) && this.holds.replace(key, existing, hold)) {
+			return hold;
+		}
+		return null;
+	}
+
+	private long expiry() {
+		return this.clock.millis() + this.timeToLiveMillis;
+	}
+
+	private static List<String> key(String serviceInstanceId, String bindingId) {
+		return Arrays.asList(serviceInstanceId, bindingId);
+	}
+
+	private static final class Hold {
+
+		private volatile long expiresAt;
+
+		private volatile String operation;
+
+		private volatile boolean handedOff;
+
+		private Hold(long expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+
+		private void handOff(long expiresAt) {
+			this.expiresAt = expiresAt;
+			this.handedOff = true;
+		}
+
+		private void renew(long expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isHeldFor(String operation) {
+			return this.handedOff && Objects.equals(this.operation, operation);
+		}
+
+		private boolean isExpired(long now) {
+			return this.expiresAt < now;
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.concurrency;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerCapacityExceededException;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerConcurrencyException;
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ServiceDecorator} that rejects a request to create, update or delete a service instance or service
+ * instance binding with a {@link ServiceBrokerConcurrencyException} while another such request for the same resource
+ * is in progress. When the maximum number of resources are held, requests for other resources are rejected with a
+ * {@link ServiceBrokerCapacityExceededException}.
+ * <p>
+ * An asynchronous operation keeps its resource held until a request for the last operation reports that it has
+ * completed, or until its hold expires without the last operation being requested. Requests to retrieve resources are
+ * not affected.
+ *
+ * @see OperationGate
+ */
+public class OperationGateServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which applies it outside the operation tracking decorator so that last operation
+	 * responses served from the operation store also release holds
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 600;
+
+	private final OperationGate operationGate;
+
+	/**
+	 * Construct a new {@link OperationGateServiceDecorator}
+	 *
+	 * @param operationGate the operation gate
+	 */
+	public OperationGateServiceDecorator(OperationGate operationGate) {
+		Assert.notNull(operationGate, "operationGate must not be null");
+		this.operationGate = operationGate;
+	}
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new GatedServiceInstanceService(serviceInstanceService, this.operationGate);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new GatedServiceInstanceBindingService(serviceInstanceBindingService, this.operationGate);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
@@ -22,6 +22,7 @@ import reactor.core.publisher.Flux;
 
 import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
 import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingCompletionFlow;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingErrorFlow;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingInitializationFlow;
@@ -36,6 +37,8 @@ public class AsyncOperationServiceInstanceBindingEventFlowRegistry
 		AsyncOperationServiceInstanceBindingCompletionFlow, AsyncOperationServiceInstanceBindingErrorFlow,
 		GetLastServiceBindingOperationRequest, GetLastServiceBindingOperationResponse> {
 
+	private volatile OperationStateTracker stateTracker;
+
 	/**
 	 * Construct a new {@link AsyncOperationServiceInstanceBindingEventFlowRegistry}
 	 */
@@ -56,24 +59,48 @@ public class AsyncOperationServiceInstanceBindingEventFlowRegistry
 		super(initializationFlows, completionFlows, errorFlows);
 	}
 
+	/**
+	 * Get the tracker of observed operation states, if completion flows run only on state transitions
+	 *
+	 * @return the tracker, or {@literal null} if completion flows run for every response
+	 */
+	public OperationStateTracker getStateTracker() {
+		return this.stateTracker;
+	}
+
+	/**
+	 * Set a tracker of observed operation states. Completion flows then run only when the state reported for
+	 * an operation on a binding changes, such as when the operation reaches {@link OperationState#SUCCEEDED} or
+	 * {@link OperationState#FAILED}, rather than for every poll of the last operation.
+	 *
+	 * @param stateTracker the tracker, or {@literal null} to run completion flows for every response
+	 */
+	public void setStateTracker(OperationStateTracker stateTracker) {
+		this.stateTracker = stateTracker;
+	}
+
 	@Override
 	public Flux<Void> getInitializationFlows(GetLastServiceBindingOperationRequest request) {
-		return getInitializationFlowsInternal()
-				.flatMap(flow -> flow.initialize(request));
+		return executeInitializationFlows(flow -> flow.initialize(request));
 	}
 
 	@Override
 	public Flux<Void> getCompletionFlows(
 			GetLastServiceBindingOperationRequest request, GetLastServiceBindingOperationResponse response) {
 
-		return getCompletionFlowsInternal()
-				.flatMap(flow -> flow.complete(request, response));
+		OperationStateTracker tracker = this.stateTracker;
+		if (tracker != null) {
+			if (!tracker.transition(request.getServiceInstanceId(), request.getBindingId(), request.getOperation(),
+					response.getState())) {
+				return Flux.empty();
+			}
+		}
+		return executeCompletionFlows(flow -> flow.complete(request, response));
 	}
 
 	@Override
 	public Flux<Void> getErrorFlows(GetLastServiceBindingOperationRequest request, Throwable t) {
-		return getErrorFlowsInternal()
-				.flatMap(flow -> flow.error(request, t));
+		return executeErrorFlows(flow -> flow.error(request, t));
 	}
 
 }
@@ -22,6 +22,7 @@ import reactor.core.publisher.Flux;
 
 import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
 import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceCompletionFlow;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceErrorFlow;
 import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceInitializationFlow;
@@ -36,6 +37,8 @@ public class AsyncOperationServiceInstanceEventFlowRegistry
 		AsyncOperationServiceInstanceCompletionFlow, AsyncOperationServiceInstanceErrorFlow, GetLastServiceOperationRequest,
 		GetLastServiceOperationResponse> {
 
+	private volatile OperationStateTracker stateTracker;
+
 	/**
 	 * Construct a new {@link AsyncOperationServiceInstanceEventFlowRegistry}
 	 */
@@ -58,23 +61,47 @@ public class AsyncOperationServiceInstanceEventFlowRegistry
 		super(initializationFlows, completionFlows, errorFlows);
 	}
 
+	/**
+	 * Get the tracker of observed operation states, if completion flows run only on state transitions
+	 *
+	 * @return the tracker, or {@literal null} if completion flows run for every response
+	 */
+	public OperationStateTracker getStateTracker() {
+		return this.stateTracker;
+	}
+
+	/**
+	 * Set a tracker of observed operation states. Completion flows then run only when the state reported for an
+	 * operation on a service instance changes, such as when the operation reaches {@link OperationState#SUCCEEDED}
+	 * or {@link OperationState#FAILED}, rather than for every poll of the last operation.
+	 *
+	 * @param stateTracker the tracker, or {@literal null} to run completion flows for every response
+	 */
+	public void setStateTracker(OperationStateTracker stateTracker) {
+		this.stateTracker = stateTracker;
+	}
+
 	@Override
 	public Flux<Void> getInitializationFlows(GetLastServiceOperationRequest request) {
-		return getInitializationFlowsInternal()
-				.flatMap(flow -> flow.initialize(request));
+		return executeInitializationFlows(flow -> flow.initialize(request));
 	}
 
 	@Override
 	public Flux<Void> getCompletionFlows(GetLastServiceOperationRequest request,
 			GetLastServiceOperationResponse response) {
-		return getCompletionFlowsInternal()
-				.flatMap(flow -> flow.complete(request, response));
+		OperationStateTracker tracker = this.stateTracker;
+		if (tracker != null) {
+			if (!tracker.transition(request.getServiceInstanceId(), null, request.getOperation(),
+					response.getState())) {
+				return Flux.empty();
+			}
+		}
+		return executeCompletionFlows(flow -> flow.complete(request, response));
 	}
 
 	@Override
 	public Flux<Void> getErrorFlows(GetLastServiceOperationRequest request, Throwable t) {
-		return getErrorFlowsInternal()
-				.flatMap(flow -> flow.error(request, t));
+		return executeErrorFlows(flow -> flow.error(request, t));
 	}
 
 }
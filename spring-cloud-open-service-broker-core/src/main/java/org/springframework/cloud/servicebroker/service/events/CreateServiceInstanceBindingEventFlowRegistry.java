@@ -60,21 +60,18 @@ public class CreateServiceInstanceBindingEventFlowRegistry
 
 	@Override
 	public Flux<Void> getInitializationFlows(CreateServiceInstanceBindingRequest request) {
-		return getInitializationFlowsInternal()
-				.flatMap(flow -> flow.initialize(request));
+		return executeInitializationFlows(flow -> flow.initialize(request));
 	}
 
 	@Override
 	public Flux<Void> getCompletionFlows(CreateServiceInstanceBindingRequest request,
 			CreateServiceInstanceBindingResponse response) {
-		return getCompletionFlowsInternal()
-				.flatMap(flow -> flow.complete(request, response));
+		return executeCompletionFlows(flow -> flow.complete(request, response));
 	}
 
 	@Override
 	public Flux<Void> getErrorFlows(CreateServiceInstanceBindingRequest request, Throwable t) {
-		return getErrorFlowsInternal()
-				.flatMap(flow -> flow.error(request, t));
+		return executeErrorFlows(flow -> flow.error(request, t));
 	}
 
 }
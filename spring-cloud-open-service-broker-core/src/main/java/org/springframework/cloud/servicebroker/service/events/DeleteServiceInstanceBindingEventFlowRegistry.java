@@ -60,21 +60,18 @@ public class DeleteServiceInstanceBindingEventFlowRegistry
 
 	@Override
 	public Flux<Void> getInitializationFlows(DeleteServiceInstanceBindingRequest request) {
-		return getInitializationFlowsInternal()
-				.flatMap(flow -> flow.initialize(request));
+		return executeInitializationFlows(flow -> flow.initialize(request));
 	}
 
 	@Override
 	public Flux<Void> getCompletionFlows(DeleteServiceInstanceBindingRequest request,
 			DeleteServiceInstanceBindingResponse response) {
-		return getCompletionFlowsInternal()
-				.flatMap(flow -> flow.complete(request, response));
+		return executeCompletionFlows(flow -> flow.complete(request, response));
 	}
 
 	@Override
 	public Flux<Void> getErrorFlows(DeleteServiceInstanceBindingRequest request, Throwable t) {
-		return getErrorFlowsInternal()
-				.flatMap(flow -> flow.error(request, t));
+		return executeErrorFlows(flow -> flow.error(request, t));
 	}
 
 }
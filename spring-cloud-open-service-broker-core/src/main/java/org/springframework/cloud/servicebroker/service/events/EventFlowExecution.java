@@ -0,0 +1,221 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.events;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
+
+import org.springframework.util.Assert;
+
+/**
+ * Defines how the flows in an {@link EventFlowRegistry} are executed.
+ * <p>
+ * Flows are executed either sequentially, in the order of the registry, or in parallel with a bounded concurrency.
+ * Each flow may be given a timeout, after which it fails with a {@link java.util.concurrent.TimeoutException}, and
+ * may be subscribed to on a {@link Scheduler} so that flows that block do not hold up the thread processing the
+ * request. Completion flows may be detached from the request, in which case the response is returned without waiting
+ * for them and their failures are logged.
+ * <p>
+ * Instances are immutable. The default execution runs flows in parallel and waits for all of them, which matches the
+ * behavior of previous versions.
+ */
+public final class EventFlowExecution {
+
+	private static final Logger LOG = LoggerFactory.getLogger(EventFlowExecution.class);
+
+	private static final EventFlowExecution DEFAULT = new EventFlowExecution(Mode.PARALLEL, Queues.SMALL_BUFFER_SIZE,
+			null, null, false);
+
+	private final Mode mode;
+
+	private final int concurrency;
+
+	private final Duration timeout;
+
+	private final Scheduler scheduler;
+
+	private final boolean detachedCompletionFlows;
+
+	private EventFlowExecution(Mode mode, int concurrency, Duration timeout, Scheduler scheduler,
+			boolean detachedCompletionFlows) {
+		this.mode = mode;
+		this.concurrency = concurrency;
+		this.timeout = timeout;
+		this.scheduler = scheduler;
+		this.detachedCompletionFlows = detachedCompletionFlows;
+	}
+
+	/**
+	 * Execute flows in parallel and wait for all of them
+	 *
+	 * @return the execution
+	 */
+	public static EventFlowExecution defaults() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Execute flows one after another, in the order of the registry
+	 *
+	 * @return the execution
+	 */
+	public static EventFlowExecution sequential() {
+		return new EventFlowExecution(Mode.SEQUENTIAL, 1, null, null, false);
+	}
+
+	/**
+	 * Execute flows in parallel, with at most the provided number of flows running at the same time
+	 *
+	 * @param concurrency the maximum number of flows running at the same time
+	 * @return the execution
+	 */
+	public static EventFlowExecution parallel(int concurrency) {
+		Assert.isTrue(concurrency > 0, "concurrency must be greater than zero");
+		return new EventFlowExecution(Mode.PARALLEL, concurrency, null, null, false);
+	}
+
+	/**
+	 * Fail each flow that does not complete within the provided timeout
+	 *
+	 * @param timeout the timeout, or null for no timeout
+	 * @return a copy of this execution with the timeout
+	 */
+	public EventFlowExecution withTimeout(Duration timeout) {
+		Assert.isTrue(timeout == null || !timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+		return new EventFlowExecution(this.mode, this.concurrency, timeout, this.scheduler,
+				this.detachedCompletionFlows);
+	}
+
+	/**
+	 * Subscribe to each flow on the provided scheduler, such as
+	 * {@link reactor.core.scheduler.Schedulers#boundedElastic()} for flows that block
+	 *
+	 * @param scheduler the scheduler, or null to subscribe on the calling thread
+	 * @return a copy of this execution with the scheduler
+	 */
+	public EventFlowExecution withScheduler(Scheduler scheduler) {
+		return new EventFlowExecution(this.mode, this.concurrency, this.timeout, scheduler,
+				this.detachedCompletionFlows);
+	}
+
+	/**
+	 * Whether completion flows are detached from the request, so that the response is returned without waiting for
+	 * them
+	 *
+	 * @param detachedCompletionFlows true to detach completion flows
+	 * @return a copy of this execution with the completion flow setting
+	 */
+	public EventFlowExecution withDetachedCompletionFlows(boolean detachedCompletionFlows) {
+		return new EventFlowExecution(this.mode, this.concurrency, this.timeout, this.scheduler,
+				detachedCompletionFlows);
+	}
+
+	public Mode getMode() {
+		return this.mode;
+	}
+
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	public boolean isDetachedCompletionFlows() {
+		return this.detachedCompletionFlows;
+	}
+
+	/**
+	 * Execute the provided flows. The array is not copied, so it must not be modified.
+	 *
+	 * @param flows the flows
+	 * @param invoker the function that invokes a flow
+	 * @param <F> the type of flow
+	 * @return a Flux that completes when the flows have completed
+	 */
+	<F> Flux<Void> execute(F[] flows, Function<F, Mono<Void>> invoker) {
+		if (flows.length == 0) {
+			return Flux.empty();
+		}
+		Flux<F> source = Flux.fromArray(flows);
+		if (this.mode == Mode.SEQUENTIAL) {
+			return source.concatMap(flow -> invoke(flow, invoker));
+		}
+		return source.flatMap(flow -> invoke(flow, invoker), this.concurrency);
+	}
+
+	/**
+	 * Execute the provided completion flows, detaching them from the caller if configured. The array is not copied,
+	 * so it must not be modified.
+	 *
+	 * @param flows the completion flows
+	 * @param invoker the function that invokes a flow
+	 * @param <F> the type of flow
+	 * @return a Flux that completes when the flows have completed, or immediately if they are detached
+	 */
+	<F> Flux<Void> executeCompletion(F[] flows, Function<F, Mono<Void>> invoker) {
+		if (!this.detachedCompletionFlows || flows.length == 0) {
+			return execute(flows, invoker);
+		}
+		return Flux.defer(() -> {
+			execute(flows, invoker)
+					.subscribe(null, e -> LOG.warn("Detached completion flow failed. error={}", e.toString(), e));
+			return Flux.empty();
+		});
+	}
+
+	private <F> Mono<Void> invoke(F flow, Function<F, Mono<Void>> invoker) {
+		Mono<Void> mono = Mono.defer(() -> invoker.apply(flow));
+		if (this.timeout != null) {
+			mono = mono.timeout(this.timeout);
+		}
+		if (this.scheduler != null) {
+			mono = mono.subscribeOn(this.scheduler);
+		}
+		return mono;
+	}
+
+	/**
+	 * The order in which flows are executed
+	 */
+	public enum Mode {
+
+		/**
+		 * Flows are executed one after another, in the order of the registry
+		 */
+		SEQUENTIAL,
+
+		/**
+		 * Flows are executed at the same time, up to the configured concurrency
+		 */
+		PARALLEL
+
+	}
+
+}
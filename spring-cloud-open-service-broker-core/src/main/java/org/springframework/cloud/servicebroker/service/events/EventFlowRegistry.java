@@ -16,15 +16,28 @@
 
 package org.springframework.cloud.servicebroker.service.events;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import org.apache.commons.collections.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.util.Assert;
+
 /**
  * Abstract class for defining an event flow registry
+ * <p>
+ * Flows are kept in the order defined by {@link org.springframework.core.Ordered} and
+ * {@link org.springframework.core.annotation.Order @Order}, and are executed as defined by the
+ * {@link EventFlowExecution} of the registry.
+ * <p>
+ * Flows may be added while requests are being processed. Each kind of flow is held in an immutable array that is
+ * replaced when a flow is added, so requests execute the flows that were registered when they started, without
+ * locking.
  *
  * @author Roy Clarkson
  * @param <I> type of initialization flow
@@ -35,11 +48,15 @@ import reactor.core.publisher.Mono;
  */
 public abstract class EventFlowRegistry<I, C, E, R, S> {
 
-	private final List<Mono<I>> initializationFlows = new ArrayList<>();
+	private static final Object[] NO_FLOWS = new Object[0];
+
+	private final AtomicReference<Object[]> initializationFlows = new AtomicReference<>(NO_FLOWS);
+
+	private final AtomicReference<Object[]> completionFlows = new AtomicReference<>(NO_FLOWS);
 
-	private final List<Mono<C>> completionFlows = new ArrayList<>();
+	private final AtomicReference<Object[]> errorFlows = new AtomicReference<>(NO_FLOWS);
 
-	private final List<Mono<E>> errorFlows = new ArrayList<>();
+	private volatile EventFlowExecution execution = EventFlowExecution.defaults();
 
 	/**
 	 * Construct a new {@link EventFlowRegistry}
@@ -58,16 +75,47 @@ public abstract class EventFlowRegistry<I, C, E, R, S> {
 	 */
 	protected EventFlowRegistry(List<I> initializationFlows, List<C> completionFlows, List<E> errorFlows) {
 		if (CollectionUtils.isNotEmpty(initializationFlows)) {
-			initializationFlows.forEach(flow -> this.initializationFlows.add(Mono.just(flow)));
+			this.initializationFlows.set(sort(initializationFlows.toArray()));
 		}
 		if (CollectionUtils.isNotEmpty(completionFlows)) {
-			completionFlows.forEach(flow -> this.completionFlows.add(Mono.just(flow)));
+			this.completionFlows.set(sort(completionFlows.toArray()));
 		}
 		if (CollectionUtils.isNotEmpty(errorFlows)) {
-			errorFlows.forEach(flow -> this.errorFlows.add(Mono.just(flow)));
+			this.errorFlows.set(sort(errorFlows.toArray()));
 		}
 	}
 
+	/**
+	 * Return the {@link EventFlowExecution} used to execute the flows
+	 *
+	 * @return the execution
+	 */
+	public EventFlowExecution getExecution() {
+		return this.execution;
+	}
+
+	/**
+	 * Set the {@link EventFlowExecution} used to execute the flows
+	 *
+	 * @param execution the execution
+	 */
+	public void setExecution(EventFlowExecution execution) {
+		Assert.notNull(execution, "execution must not be null");
+		this.execution = execution;
+	}
+
+	/**
+	 * Whether the registry has no initialization, completion or error flows. Services that apply the flows of an empty
+	 * registry may call the underlying service directly, so subclasses that provide flows other than those added to
+	 * the registry should override this method.
+	 *
+	 * @return true if no flows are registered
+	 */
+	public boolean isEmpty() {
+		return this.initializationFlows.get().length == 0 && this.completionFlows.get().length == 0
+				&& this.errorFlows.get().length == 0;
+	}
+
 	/**
 	 * Add an initialization flow
 	 *
@@ -76,7 +124,7 @@ public abstract class EventFlowRegistry<I, C, E, R, S> {
 	 */
 	public Mono<Void> addInitializationFlow(I object) {
 		return Mono.justOrEmpty(object)
-				.map(flow -> this.initializationFlows.add(Mono.just(flow)))
+				.doOnNext(flow -> add(this.initializationFlows, flow))
 				.then();
 	}
 
@@ -94,7 +142,17 @@ public abstract class EventFlowRegistry<I, C, E, R, S> {
 	 * @return a Flux of initialization flows
 	 */
 	protected Flux<I> getInitializationFlowsInternal() {
-		return Flux.merge(this.initializationFlows);
+		return Flux.fromArray(snapshot(this.initializationFlows));
+	}
+
+	/**
+	 * Executes the initialization flows as defined by the {@link EventFlowExecution} of the registry
+	 *
+	 * @param invoker the function that invokes a flow
+	 * @return a Flux of initialization flows
+	 */
+	protected Flux<Void> executeInitializationFlows(Function<I, Mono<Void>> invoker) {
+		return this.execution.execute(snapshot(this.initializationFlows), invoker);
 	}
 
 	/**
@@ -105,7 +163,7 @@ public abstract class EventFlowRegistry<I, C, E, R, S> {
 	 */
 	public Mono<Void> addCompletionFlow(C object) {
 		return Mono.justOrEmpty(object)
-				.map(flow -> this.completionFlows.add(Mono.just(flow)))
+				.doOnNext(flow -> add(this.completionFlows, flow))
 				.then();
 	}
 
@@ -124,7 +182,17 @@ public abstract class EventFlowRegistry<I, C, E, R, S> {
 	 * @return a Flux of completion flows
 	 */
 	protected Flux<C> getCompletionFlowsInternal() {
-		return Flux.merge(this.completionFlows);
+		return Flux.fromArray(snapshot(this.completionFlows));
+	}
+
+	/**
+	 * Executes the completion flows as defined by the {@link EventFlowExecution} of the registry
+	 *
+	 * @param invoker the function that invokes a flow
+	 * @return a Flux of completion flows
+	 */
+	protected Flux<Void> executeCompletionFlows(Function<C, Mono<Void>> invoker) {
+		return this.execution.executeCompletion(snapshot(this.completionFlows), invoker);
 	}
 
 	/**
@@ -135,7 +203,7 @@ public abstract class EventFlowRegistry<I, C, E, R, S> {
 	 */
 	public Mono<Void> addErrorFlow(E object) {
 		return Mono.justOrEmpty(object)
-				.map(flow -> this.errorFlows.add(Mono.just(flow)))
+				.doOnNext(flow -> add(this.errorFlows, flow))
 				.then();
 	}
 
@@ -154,7 +222,39 @@ public abstract class EventFlowRegistry<I, C, E, R, S> {
 	 * @return a Flux of error flows
 	 */
 	protected Flux<E> getErrorFlowsInternal() {
-		return Flux.merge(this.errorFlows);
+		return Flux.fromArray(snapshot(this.errorFlows));
+	}
+
+	/**
+	 * Executes the error flows as defined by the {@link EventFlowExecution} of the registry
+	 *
+	 * @param invoker the function that invokes a flow
+	 * @return a Flux of error flows
+	 */
+	protected Flux<Void> executeErrorFlows(Function<E, Mono<Void>> invoker) {
+		return this.execution.execute(snapshot(this.errorFlows), invoker);
+	}
+
+	private static void add(AtomicReference<Object[]> flows, Object flow) {
+		Object[] current;
+		Object[] updated;
+		do {
+			current = flows.get();
+			updated = Arrays.copyOf(current, current.length + 1);
+			updated[current.length] = flow;
+			sort(updated);
+		}
+		while (!flows.compareAndSet(current, updated));
+	}
+
+	private static Object[] sort(Object[] flows) {
+		AnnotationAwareOrderComparator.sort(flows);
+		return flows;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <F> F[] snapshot(AtomicReference<Object[]> flows) {
+		return (F[]) flows.get();
 	}
 
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.events;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.service.support.MapEvictor;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps the last {@link OperationState} observed for each asynchronous operation, so that a state reported by
+ * repeated last operation polls can be told apart from a state transition.
+ * <p>
+ * The number of tracked operations is bounded. When the limit is reached the least recently polled operations are
+ * forgotten, and their next observed state is treated as a transition.
+ */
+public class OperationStateTracker {
+
+	private final ConcurrentMap<OperationKey, ObservedState> states = new ConcurrentHashMap<>();
+
+	private final AtomicLong polls = new AtomicLong();
+
+	private final MapEvictor<OperationKey, ObservedState> evictor;
+
+	/**
+	 * Construct a new {@link OperationStateTracker}
+	 *
+	 * @param maximumSize the maximum number of tracked operations
+	 */
+	public OperationStateTracker(int maximumSize) {
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than zero");
+		this.evictor = new MapEvictor<>(this.states, maximumSize, observed -> observed.poll);
+	}
+
+	/**
+	 * Record the state observed for an operation
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 * @param operation the operation, as provided by the platform
+	 * @param state the observed state
+	 * @return true if the operation was not tracked or its last observed state was different
+	 */
+	public boolean transition(String serviceInstanceId, String bindingId, String operation, OperationState state) {
+		OperationKey key = new OperationKey(serviceInstanceId, bindingId, operation);
+		ObservedState previous = this.states.put(key, new ObservedState(state, this.polls.incrementAndGet()));
+		if (previous == null) {
+			this.evictor.evictIfFull(0);
+			return true;
+		}
+		return previous.state != state;
+	}
+
+	/**
+	 * Get the number of tracked operations
+	 *
+	 * @return the number of tracked operations
+	 */
+	public int size() {
+		return this.states.size();
+	}
+
+	private static final class OperationKey {
+
+		private final String serviceInstanceId;
+
+		private final String bindingId;
+
+		private final String operation;
+
+		private OperationKey(String serviceInstanceId, String bindingId, String operation) {
+			this.serviceInstanceId = serviceInstanceId;
+			this.bindingId = bindingId;
+			this.operation = operation;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof OperationKey)) {
+				return false;
+			}
+			OperationKey that = (OperationKey) o;
+			return Objects.equals(this.serviceInstanceId, that.serviceInstanceId)
+					&& Objects.equals(this.bindingId, that.bindingId)
+					&& Objects.equals(this.operation, that.operation);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = Objects.hashCode(this.serviceInstanceId);
+			result = 31 * result + Objects.hashCode(this.bindingId);
+			return 31 * result + Objects.hashCode(this.operation);
+		}
+
+	}
+
+	private static final class ObservedState {
+
+		private final OperationState state;
+
+		private final long poll;
+
+		private ObservedState(OperationState state, long poll) {
+			this.state = state;
+			this.poll = poll;
+		}
+
+	}
+
+}
@@ -59,20 +59,17 @@ public class UpdateServiceInstanceEventFlowRegistry extends EventFlowRegistry<Up
 
 	@Override
 	public Flux<Void> getInitializationFlows(UpdateServiceInstanceRequest request) {
-		return getInitializationFlowsInternal()
-				.flatMap(flow -> flow.initialize(request));
+		return executeInitializationFlows(flow -> flow.initialize(request));
 	}
 
 	@Override
 	public Flux<Void> getCompletionFlows(UpdateServiceInstanceRequest request, UpdateServiceInstanceResponse response) {
-		return getCompletionFlowsInternal()
-				.flatMap(flow -> flow.complete(request, response));
+		return executeCompletionFlows(flow -> flow.complete(request, response));
 	}
 
 	@Override
 	public Flux<Void> getErrorFlows(UpdateServiceInstanceRequest request, Throwable t) {
-		return getErrorFlowsInternal()
-				.flatMap(flow -> flow.error(request, t));
+		return executeErrorFlows(flow -> flow.error(request, t));
 	}
 
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.metrics;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.cloud.servicebroker.service.CatalogIndex;
+import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.SerializedCatalog;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * A {@link CatalogService} that records the retrieval of the catalog. Lookups of service definitions are made for
+ * every request and are not recorded.
+ */
+class MeteredCatalogService implements CatalogService {
+
+	private final CatalogService delegate;
+
+	private final ServiceBrokerMetrics metrics;
+
+	MeteredCatalogService(CatalogService delegate, ServiceBrokerMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public Mono<Catalog> getCatalog() {
+		return this.metrics.record("getCatalog", null, null, this.delegate.getCatalog());
+	}
+
+	@Override
+	public Mono<ServiceDefinition> getServiceDefinition(String serviceId) {
+		return this.delegate.getServiceDefinition(serviceId);
+	}
+
+	@Override
+	public CatalogIndex getCatalogIndex() {
+		return this.delegate.getCatalogIndex();
+	}
+
+	@Override
+	public SerializedCatalog getSerializedCatalog() {
+		return this.delegate.getSerializedCatalog();
+	}
+
+	@Override
+	public Mono<ResponseEntity<Catalog>> getResponseEntityCatalog(HttpHeaders httpHeaders) {
+		return this.delegate.getResponseEntityCatalog(httpHeaders);
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.metrics;
+
+import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+
+/**
+ * A {@link ServiceDecorator} that records {@link ServiceBrokerMetrics} for each service broker operation.
+ */
+public class MetricsServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which is the outermost of the decorators provided by the framework so that
+	 * metrics record every request
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+	private final ServiceBrokerMetrics metrics;
+
+	/**
+	 * Construct a new {@link MetricsServiceDecorator}
+	 *
+	 * @param metrics the metrics to record
+	 */
+	public MetricsServiceDecorator(ServiceBrokerMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	@Override
+	public CatalogService decorateCatalogService(CatalogService catalogService) {
+		return new MeteredCatalogService(catalogService, this.metrics);
+	}
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new MeteredServiceInstanceService(serviceInstanceService, this.metrics);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new MeteredServiceInstanceBindingService(serviceInstanceBindingService, this.metrics);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+
+/**
+ * Records a timer and an error counter for each service broker operation.
+ * <p>
+ * Meters are tagged with the operation, and optionally with the service definition ID and plan ID. The IDs are only
+ * taken from service definitions and plans that were resolved from the catalog, so the number of tag values is bounded
+ * by the size of the catalog. Operations that are not resolved against the catalog, such as fetching a service
+ * instance, are tagged with {@code none}. Timers are also tagged with the outcome of the operation, which is one of
+ * {@code sync}, {@code async}, {@code error} or {@code cancelled}, and with the simple class name of the exception
+ * for failed operations.
+ */
+public final class ServiceBrokerMetrics {
+
+	/**
+	 * The name of the timer recorded for each operation
+	 */
+	public static final String OPERATIONS_METRIC = "osb.operations";
+
+	/**
+	 * The name of the counter incremented for each failed operation
+	 */
+	public static final String ERRORS_METRIC = "osb.operation.errors";
+
+	static final String NONE = "none";
+
+	private final MeterRegistry registry;
+
+	private final boolean serviceIdTag;
+
+	private final boolean planIdTag;
+
+	private final boolean percentileHistogram;
+
+	/**
+	 * Construct a new {@link ServiceBrokerMetrics} that tags meters with service definition and plan IDs and publishes
+	 * percentile histograms
+	 *
+	 * @param registry the meter registry
+	 */
+	public ServiceBrokerMetrics(MeterRegistry registry) {
+		this(registry, true, true, true);
+	}
+
+	/**
+	 * Construct a new {@link ServiceBrokerMetrics}
+	 *
+	 * @param registry the meter registry
+	 * @param serviceIdTag whether to tag meters with the service definition ID
+	 * @param planIdTag whether to tag meters with the plan ID
+	 * @param percentileHistogram whether to publish percentile histograms for the timers
+	 */
+	public ServiceBrokerMetrics(MeterRegistry registry, boolean serviceIdTag, boolean planIdTag,
+			boolean percentileHistogram) {
+		this.registry = registry;
+		this.serviceIdTag = serviceIdTag;
+		this.planIdTag = planIdTag;
+		this.percentileHistogram = percentileHistogram;
+	}
+
+	/**
+	 * Record the operation performed by the provided {@link Mono}. The timer starts when the {@link Mono} is
+	 * subscribed to.
+	 *
+	 * @param operation the name of the operation
+	 * @param serviceDefinition the service definition resolved from the catalog, or null
+	 * @param plan the plan resolved from the catalog, or null
+	 * @param mono the operation
+	 * @param <T> the type of the response
+	 * @return the recorded operation
+	 */
+	public <T> Mono<T> record(String operation, ServiceDefinition serviceDefinition, Plan plan, Mono<T> mono) {
+		Tags tags = tags(operation, serviceDefinition, plan);
+		return Mono.defer(() -> {
+			Timer.Sample sample = Timer.start(this.registry);
+			return mono
+					.doOnSuccess(response -> stop(sample, tags, outcome(response), NONE))
+					.doOnError(e -> {
+						stop(sample, tags, "error", e.getClass().getSimpleName());
+						Counter.builder(ERRORS_METRIC)
+								.tags(tags)
+								.tag("exception", e.getClass().getSimpleName())
+								.register(this.registry)
+								.increment();
+					})
+					.doOnCancel(() -> stop(sample, tags, "cancelled", NONE));
+		});
+	}
+
+	private Tags tags(String operation, ServiceDefinition serviceDefinition, Plan plan) {
+		Tags tags = Tags.of("operation", operation);
+		if (this.serviceIdTag) {
+			tags = tags.and("service_id", serviceDefinition == null ? NONE : serviceDefinition.getId());
+		}
+		if (this.planIdTag) {
+			tags = tags.and("plan_id", plan == null ? NONE : plan.getId());
+		}
+		return tags;
+	}
+
+	private void stop(Timer.Sample sample, Tags tags, String outcome, String exception) {
+		sample.stop(Timer.builder(OPERATIONS_METRIC)
+				.tags(tags)
+				.tag("outcome", outcome)
+				.tag("exception", exception)
+				.publishPercentileHistogram(this.percentileHistogram)
+				.register(this.registry));
+	}
+
+	private static String outcome(Object response) {
+		if (response instanceof AsyncServiceBrokerResponse && ((AsyncServiceBrokerResponse) response).isAsync()) {
+			return "async";
+		}
+		return "sync";
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ServiceDecorator} that responds asynchronously to create, update and delete service instance requests that
+ * the decorated service does not complete within a latency budget.
+ * <p>
+ * When the platform accepts an asynchronous response and the decorated service has not responded within the budget,
+ * the request is answered with an asynchronous response that carries a generated operation identifier, and the
+ * service continues processing the request in the background. The result is recorded in an {@link OperationStore},
+ * and requests for the last operation with the generated identifier are answered from the store. Requests that
+ * complete within the budget, and requests that do not accept an asynchronous response, are answered as returned by
+ * the decorated service.
+ * <p>
+ * The store must not be shared with an {@link OperationTrackingServiceDecorator}, which records the operations that
+ * this decorator accepts on behalf of the service.
+ */
+public class AsyncPromotionServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which applies it outside the {@link OperationTrackingServiceDecorator} so that
+	 * promoted operations are answered from their own store
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 800;
+
+	private static final String OPERATION_PREFIX = "promoted-";
+
+	private final OperationStore operationStore;
+
+	private final Duration budget;
+
+	private final Clock clock;
+
+	/**
+	 * Construct a new {@link AsyncPromotionServiceDecorator} that records operations in an
+	 * {@link InMemoryOperationStore}
+	 *
+	 * @param budget the time after which a request that accepts an asynchronous response is answered asynchronously
+	 */
+	public AsyncPromotionServiceDecorator(Duration budget) {
+		this(new InMemoryOperationStore(), budget);
+	}
+
+	/**
+	 * Construct a new {@link AsyncPromotionServiceDecorator}
+	 *
+	 * @param operationStore the store of operations that are answered asynchronously
+	 * @param budget the time after which a request that accepts an asynchronous response is answered asynchronously
+	 */
+	public AsyncPromotionServiceDecorator(OperationStore operationStore, Duration budget) {
+		this(operationStore, budget, Clock.systemUTC());
+	}
+
+	/**
+	 * Construct a new {@link AsyncPromotionServiceDecorator}
+	 *
+	 * @param operationStore the store of operations that are answered asynchronously
+	 * @param budget the time after which a request that accepts an asynchronous response is answered asynchronously
+	 * @param clock the clock used to timestamp operations
+	 */
+	public AsyncPromotionServiceDecorator(OperationStore operationStore, Duration budget, Clock clock) {
+		Assert.notNull(operationStore, "operationStore must not be null");
+		Assert.isTrue(budget != null && !budget.isNegative() && !budget.isZero(), "budget must be positive");
+		Assert.notNull(clock, "clock must not be null");
+		this.operationStore = operationStore;
+		this.budget = budget;
+		this.clock = clock;
+	}
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new AsyncPromotionServiceInstanceService(serviceInstanceService, this);
+	}
+
+	OperationStore getOperationStore() {
+		return this.operationStore;
+	}
+
+	Duration getBudget() {
+		return this.budget;
+	}
+
+	Clock getClock() {
+		return this.clock;
+	}
+
+	String generateOperation() {
+		return OPERATION_PREFIX + UUID.randomUUID();
+	}
+
+	boolean isGenerated(String operation) {
+		return operation != null && operation.startsWith(OPERATION_PREFIX);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
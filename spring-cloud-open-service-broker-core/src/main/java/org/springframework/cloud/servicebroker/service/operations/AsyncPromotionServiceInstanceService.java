@@ -0,0 +1,255 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceDoesNotExistException;
+import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.cloud.servicebroker.service.support.MapEvictor;
+
+/**
+ * A {@link ServiceInstanceService} that answers requests asynchronously when another service does not respond within a
+ * latency budget.
+ * <p>
+ * If the service responds asynchronously after the request was answered, requests for the generated operation are
+ * passed to the service with the operation identifier it returned, until the service reports that the operation
+ * completed. The number of such handed off operations is bounded, and an operation that is not polled for the
+ * time-to-live is forgotten, after which its last operation is answered from the {@link OperationStore}.
+ */
+class AsyncPromotionServiceInstanceService implements ServiceInstanceService {
+
+	static final Duration HAND_OFF_TIME_TO_LIVE = Duration.ofHours(1);
+
+	static final int MAXIMUM_HAND_OFFS = 10_000;
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncPromotionServiceInstanceService.class);
+
+	private final ServiceInstanceService delegate;
+
+	private final AsyncPromotionServiceDecorator promotion;
+
+	private final OperationStore store;
+
+	private final ConcurrentMap<String, HandedOffOperation> handedOffOperations = new ConcurrentHashMap<>();
+
+	private final long handOffTimeToLiveMillis;
+
+	private final MapEvictor<String, HandedOffOperation> evictor;
+
+	AsyncPromotionServiceInstanceService(ServiceInstanceService delegate, AsyncPromotionServiceDecorator promotion) {
+		this(delegate, promotion, HAND_OFF_TIME_TO_LIVE, MAXIMUM_HAND_OFFS);
+	}
+
+	AsyncPromotionServiceInstanceService(ServiceInstanceService delegate, AsyncPromotionServiceDecorator promotion,
+			Duration handOffTimeToLive, int maximumHandOffs) {
+		this.delegate = delegate;
+		this.promotion = promotion;
+		this.store = promotion.getOperationStore();
+		this.handOffTimeToLiveMillis = handOffTimeToLive.toMillis();
+		this.evictor = new MapEvictor<>(this.handedOffOperations, maximumHandOffs, handedOff -> handedOff.expiresAt,
+				handedOff -> handedOff.expiresAt);
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		if (!request.isAsyncAccepted()) {
+			return this.delegate.createServiceInstance(request);
+		}
+		return promote(request.getServiceInstanceId(), false, this.delegate.createServiceInstance(request),
+				operation -> CreateServiceInstanceResponse.builder().async(true).operation(operation).build());
+	}
+
+	@Override
+	public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+		return this.delegate.getServiceInstance(request);
+	}
+
+	@Override
+	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		String operation = request.getOperation();
+		if (!this.promotion.isGenerated(operation)) {
+			return this.delegate.getLastOperation(request);
+		}
+		HandedOffOperation handedOff = this.handedOffOperations.get(request.getServiceInstanceId());
+		if (handedOff != null && handedOff.operation.equals(operation)) {
+			long now = this.promotion.getClock().millis();
+			if (handedOff.expiresAt > now) {
+				handedOff.expiresAt = now + this.handOffTimeToLiveMillis;
+				return getHandedOffOperation(request, handedOff);
+			}
+			this.handedOffOperations.remove(request.getServiceInstanceId(), handedOff);
+		}
+		return this.store.getOperation(request.getServiceInstanceId(), null)
+				.filter(record -> operation.equals(record.getOperation()))
+				.map(record -> GetLastServiceOperationResponse.builder()
+						.operationState(record.getState())
+						.description(record.getDescription())
+						.deleteOperation(record.isDeleteOperation())
+						.build())
+				.switchIfEmpty(Mono.defer(() -> this.delegate.getLastOperation(request)));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		if (!request.isAsyncAccepted()) {
+			return this.delegate.deleteServiceInstance(request);
+		}
+		return promote(request.getServiceInstanceId(), true, this.delegate.deleteServiceInstance(request),
+				operation -> DeleteServiceInstanceResponse.builder().async(true).operation(operation).build());
+	}
+
+	@Override
+	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		if (!request.isAsyncAccepted()) {
+			return this.delegate.updateServiceInstance(request);
+		}
+		return promote(request.getServiceInstanceId(), false, this.delegate.updateServiceInstance(request),
+				operation -> UpdateServiceInstanceResponse.builder().async(true).operation(operation).build());
+	}
+
+	private <T extends AsyncServiceBrokerResponse> Mono<T> promote(String serviceInstanceId, boolean deleteOperation,
+			Mono<T> responses, Function<String, T> asyncResponse) {
+		return Mono.deferContextual(contextView -> {
+			// the service is subscribed to independently of the request, so that it is not cancelled by the timeout
+			Sinks.One<T> result = Sinks.one();
+			responses.subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty,
+					Context.of(contextView));
+			return result.asMono().timeout(this.promotion.getBudget(), Mono.defer(() -> {
+				String operation = this.promotion.generateOperation();
+				this.handedOffOperations.remove(serviceInstanceId);
+				return this.store.saveOperation(record(serviceInstanceId, operation, deleteOperation,
+								OperationState.IN_PROGRESS, null))
+						.doOnSuccess(saved -> recordResult(serviceInstanceId, operation, deleteOperation,
+								result.asMono()))
+						.thenReturn(asyncResponse.apply(operation));
+			}));
+		});
+	}
+
+	private <T extends AsyncServiceBrokerResponse> void recordResult(String serviceInstanceId, String operation,
+			boolean deleteOperation, Mono<T> result) {
+		result.materialize()
+				.flatMap(signal -> {
+					T response = signal.get();
+					if (response != null && response.isAsync()) {
+						handOff(serviceInstanceId, operation, response.getOperation());
+						return Mono.empty();
+					}
+					return this.store.saveOperation(completedRecord(serviceInstanceId, operation, deleteOperation,
+							signal));
+				})
+				.onErrorResume(e -> {
+					LOG.warn("Error recording the result of operation {} for service instance {}. error={}", operation,
+							serviceInstanceId, e.getMessage(), e);
+					return Mono.empty();
+				})
+				.subscribe();
+	}
+
+	private void handOff(String serviceInstanceId, String operation, String serviceOperation) {
+		long now = this.promotion.getClock().millis();
+		this.handedOffOperations.put(serviceInstanceId,
+				new HandedOffOperation(operation, serviceOperation, now + this.handOffTimeToLiveMillis));
+		this.evictor.evictIfFull(now);
+	}
+
+	private Mono<GetLastServiceOperationResponse> getHandedOffOperation(GetLastServiceOperationRequest request,
+			HandedOffOperation handedOff) {
+		GetLastServiceOperationRequest serviceRequest = GetLastServiceOperationRequest.builder()
+				.serviceInstanceId(request.getServiceInstanceId())
+				.serviceDefinitionId(request.getServiceDefinitionId())
+				.planId(request.getPlanId())
+				.operation(handedOff.serviceOperation)
+				.platformInstanceId(request.getPlatformInstanceId())
+				.apiInfoLocation(request.getApiInfoLocation())
+				.originatingIdentity(request.getOriginatingIdentity())
+				.requestIdentity(request.getRequestIdentity())
+				.build();
+		return this.delegate.getLastOperation(serviceRequest)
+				.flatMap(response -> {
+					if (response.getState() == null || response.getState() == OperationState.IN_PROGRESS) {
+						return Mono.just(response);
+					}
+					return this.store.saveOperation(record(request.getServiceInstanceId(), handedOff.operation,
+									response.isDeleteOperation(), response.getState(), response.getDescription()))
+							.doOnSuccess(saved -> this.handedOffOperations.remove(request.getServiceInstanceId(),
+									handedOff))
+							.thenReturn(response);
+				});
+	}
+
+	private OperationRecord completedRecord(String serviceInstanceId, String operation, boolean deleteOperation,
+			Signal<?> signal) {
+		Throwable error = signal.getThrowable();
+		if (error == null || (deleteOperation && error instanceof ServiceInstanceDoesNotExistException)) {
+			return record(serviceInstanceId, operation, deleteOperation, OperationState.SUCCEEDED, null);
+		}
+		return record(serviceInstanceId, operation, deleteOperation, OperationState.FAILED, error.getMessage());
+	}
+
+	private OperationRecord record(String serviceInstanceId, String operation, boolean deleteOperation,
+			OperationState state, String description) {
+		return OperationRecord.builder()
+				.serviceInstanceId(serviceInstanceId)
+				.operation(operation)
+				.state(state)
+				.description(description)
+				.deleteOperation(deleteOperation)
+				.updatedAt(this.promotion.getClock().instant())
+				.build();
+	}
+
+	private static final class HandedOffOperation {
+
+		private final String operation;
+
+		private final String serviceOperation;
+
+		private volatile long expiresAt;
+
+		private HandedOffOperation(String operation, String serviceOperation, long expiresAt) {
+			this.operation = operation;
+			this.serviceOperation = serviceOperation;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
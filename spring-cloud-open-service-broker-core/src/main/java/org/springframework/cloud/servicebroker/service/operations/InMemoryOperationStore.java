@@ -0,0 +1,137 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * An {@link OperationStore} that keeps operations in memory.
+ * <p>
+ * Operations are retrieved without locking. A completed operation is kept for the configured retention period after
+ * it was last updated, so that the memory used by the store is bounded by the number of recent operations rather than
+ * by the number of service instances and bindings. Operations that are in progress are kept until they complete or
+ * are removed. When a saved operation was updated before the stored operation, the stored operation is kept, so that a
+ * late response from the service does not overwrite a more recent state.
+ */
+public class InMemoryOperationStore implements OperationStore {
+
+	private static final int SAVES_PER_EVICTION = 1024;
+
+	private final Map<List<String>, OperationRecord> operations = new ConcurrentHashMap<>();
+
+	private final AtomicLong saves = new AtomicLong();
+
+	private final Duration retention;
+
+	private final Clock clock;
+
+	/**
+	 * Construct a new {@link InMemoryOperationStore} that keeps completed operations for one hour
+	 */
+	public InMemoryOperationStore() {
+		this(Duration.ofHours(1));
+	}
+
+	/**
+	 * Construct a new {@link InMemoryOperationStore}
+	 *
+	 * @param retention the time for which completed operations are kept
+	 */
+	public InMemoryOperationStore(Duration retention) {
+		this(retention, Clock.systemUTC());
+	}
+
+	/**
+	 * Construct a new {@link InMemoryOperationStore}
+	 *
+	 * @param retention the time for which completed operations are kept
+	 * @param clock the clock used to expire completed operations
+	 */
+	public InMemoryOperationStore(Duration retention, Clock clock) {
+		Assert.isTrue(retention != null && !retention.isNegative() && !retention.isZero(),
+				"retention must be positive");
+		Assert.notNull(clock, "clock must not be null");
+		this.retention = retention;
+		this.clock = clock;
+	}
+
+	@Override
+	public Mono<OperationRecord> getOperation(String serviceInstanceId, String bindingId) {
+		return Mono.fromSupplier(() -> {
+			List<String> key = key(serviceInstanceId, bindingId);
+			OperationRecord operation = this.operations.get(key);
+			if (operation != null && isExpired(operation)) {
+				this.operations.remove(key, operation);
+				return null;
+			}
+			return operation;
+		});
+	}
+
+	@Override
+	public Mono<Void> saveOperation(OperationRecord operation) {
+		return Mono.fromRunnable(() -> {
+			this.operations.merge(key(operation.getServiceInstanceId(), operation.getBindingId()), operation,
+					(stored, saved) -> saved.getUpdatedAt().isBefore(stored.getUpdatedAt()) ? stored : saved);
+			if (this.saves.incrementAndGet() % SAVES_PER_EVICTION == 0) {
+				evictExpired();
+			}
+		});
+	}
+
+	@Override
+	public Mono<Void> removeOperation(String serviceInstanceId, String bindingId) {
+		return Mono.fromRunnable(() -> this.operations.remove(key(serviceInstanceId, bindingId)));
+	}
+
+	/**
+	 * Remove the completed operations that are older than the retention period. Expired operations are also removed
+	 * as they are retrieved, and periodically as operations are saved.
+	 */
+	public void evictExpired() {
+		this.operations.values().removeIf(this::isExpired);
+	}
+
+	/**
+	 * Return the number of operations in the store
+	 *
+	 * @return the number of operations
+	 */
+	public int size() {
+		return this.operations.size();
+	}
+
+	private boolean isExpired(OperationRecord operation) {
+		return operation.isCompleted()
+				&& operation.getUpdatedAt().plus(this.retention).isBefore(this.clock.instant());
+	}
+
+	private static List<String> key(String serviceInstanceId, String bindingId) {
+		return Arrays.asList(serviceInstanceId, bindingId);
+	}
+
+}
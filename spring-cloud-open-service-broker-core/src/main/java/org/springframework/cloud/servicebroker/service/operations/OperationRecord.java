@@ -0,0 +1,340 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.util.Assert;
+
+/**
+ * The state of the last operation of a service instance or service instance binding, as kept by an
+ * {@link OperationStore}.
+ */
+public final class OperationRecord {
+
+	private final String serviceInstanceId;
+
+	private final String bindingId;
+
+	private final String operation;
+
+	private final OperationState state;
+
+	private final String description;
+
+	private final boolean deleteOperation;
+
+	private final Boolean instanceUsable;
+
+	private final Boolean updateRepeatable;
+
+	private final Instant updatedAt;
+
+	private OperationRecord(OperationRecordBuilder builder) {
+		Assert.notNull(builder.serviceInstanceId, "serviceInstanceId must not be null");
+		Assert.notNull(builder.state, "state must not be null");
+		Assert.notNull(builder.updatedAt, "updatedAt must not be null");
+		this.serviceInstanceId = builder.serviceInstanceId;
+		this.bindingId = builder.bindingId;
+		this.operation = builder.operation;
+		this.state = builder.state;
+		this.description = builder.description;
+		this.deleteOperation = builder.deleteOperation;
+		this.instanceUsable = builder.instanceUsable;
+		this.updateRepeatable = builder.updateRepeatable;
+		this.updatedAt = builder.updatedAt;
+	}
+
+	/**
+	 * Get the service instance ID
+	 *
+	 * @return the service instance ID
+	 */
+	public String getServiceInstanceId() {
+		return this.serviceInstanceId;
+	}
+
+	/**
+	 * Get the binding ID, or {@literal null} for a service instance operation
+	 *
+	 * @return the binding ID
+	 */
+	public String getBindingId() {
+		return this.bindingId;
+	}
+
+	/**
+	 * Get the operation identifier returned by the service broker when the operation was started
+	 *
+	 * @return the operation identifier
+	 */
+	public String getOperation() {
+		return this.operation;
+	}
+
+	/**
+	 * Get the state of the operation
+	 *
+	 * @return the state
+	 */
+	public OperationState getState() {
+		return this.state;
+	}
+
+	/**
+	 * Get the description of the operation state
+	 *
+	 * @return the description
+	 */
+	public String getDescription() {
+		return this.description;
+	}
+
+	/**
+	 * Get whether the operation deletes the service instance or service instance binding
+	 *
+	 * @return true if the operation is a delete operation
+	 */
+	public boolean isDeleteOperation() {
+		return this.deleteOperation;
+	}
+
+	/**
+	 * Get whether the service instance is usable while the operation is in progress or after it failed
+	 *
+	 * @return whether the service instance is usable
+	 */
+	public Boolean isInstanceUsable() {
+		return this.instanceUsable;
+	}
+
+	/**
+	 * Get whether a failed update operation can be repeated
+	 *
+	 * @return whether the update operation can be repeated
+	 */
+	public Boolean isUpdateRepeatable() {
+		return this.updateRepeatable;
+	}
+
+	/**
+	 * Get the time at which the state of the operation was last recorded
+	 *
+	 * @return the time
+	 */
+	public Instant getUpdatedAt() {
+		return this.updatedAt;
+	}
+
+	/**
+	 * Get whether the operation has completed, either successfully or not
+	 *
+	 * @return true if the operation has completed
+	 */
+	public boolean isCompleted() {
+		return this.state != OperationState.IN_PROGRESS;
+	}
+
+	/**
+	 * Create a builder that provides a fluent API for constructing an {@literal OperationRecord}.
+	 *
+	 * @return the builder
+	 */
+	public static OperationRecordBuilder builder() {
+		return new OperationRecordBuilder();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof OperationRecord)) {
+			return false;
+		}
+		OperationRecord that = (OperationRecord) o;
+		return this.deleteOperation == that.deleteOperation &&
+				Objects.equals(this.serviceInstanceId, that.serviceInstanceId) &&
+				Objects.equals(this.bindingId, that.bindingId) &&
+				Objects.equals(this.operation, that.operation) &&
+				this.state == that.state &&
+				Objects.equals(this.description, that.description) &&
+				Objects.equals(this.instanceUsable, that.instanceUsable) &&
+				Objects.equals(this.updateRepeatable, that.updateRepeatable) &&
+				Objects.equals(this.updatedAt, that.updatedAt);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.serviceInstanceId, this.bindingId, this.operation, this.state, this.description,
+				this.deleteOperation, this.instanceUsable, this.updateRepeatable, this.updatedAt);
+	}
+
+	@Override
+	public String toString() {
+		return "OperationRecord{" +
+				"serviceInstanceId='" + this.serviceInstanceId + '\'' +
+				", bindingId='" + this.bindingId + '\'' +
+				", operation='" + this.operation + '\'' +
+				", state=" + this.state +
+				", description='" + this.description + '\'' +
+				", deleteOperation=" + this.deleteOperation +
+				", instanceUsable=" + this.instanceUsable +
+				", updateRepeatable=" + this.updateRepeatable +
+				", updatedAt=" + this.updatedAt +
+				'}';
+	}
+
+	/**
+	 * Provides a fluent API for constructing an {@link OperationRecord}.
+	 */
+	public static final class OperationRecordBuilder {
+
+		private String serviceInstanceId;
+
+		private String bindingId;
+
+		private String operation;
+
+		private OperationState state;
+
+		private String description;
+
+		private boolean deleteOperation;
+
+		private Boolean instanceUsable;
+
+		private Boolean updateRepeatable;
+
+		private Instant updatedAt;
+
+		private OperationRecordBuilder() {
+		}
+
+		/**
+		 * Set the service instance ID
+		 *
+		 * @param serviceInstanceId the service instance ID
+		 * @return the builder
+		 */
+		public OperationRecordBuilder serviceInstanceId(String serviceInstanceId) {
+			this.serviceInstanceId = serviceInstanceId;
+			return this;
+		}
+
+		/**
+		 * Set the binding ID. Not set for a service instance operation.
+		 *
+		 * @param bindingId the binding ID
+		 * @return the builder
+		 */
+		public OperationRecordBuilder bindingId(String bindingId) {
+			this.bindingId = bindingId;
+			return this;
+		}
+
+		/**
+		 * Set the operation identifier returned by the service broker when the operation was started
+		 *
+		 * @param operation the operation identifier
+		 * @return the builder
+		 */
+		public OperationRecordBuilder operation(String operation) {
+			this.operation = operation;
+			return this;
+		}
+
+		/**
+		 * Set the state of the operation
+		 *
+		 * @param state the state
+		 * @return the builder
+		 */
+		public OperationRecordBuilder state(OperationState state) {
+			this.state = state;
+			return this;
+		}
+
+		/**
+		 * Set the description of the operation state
+		 *
+		 * @param description the description
+		 * @return the builder
+		 */
+		public OperationRecordBuilder description(String description) {
+			this.description = description;
+			return this;
+		}
+
+		/**
+		 * Set whether the operation deletes the service instance or service instance binding
+		 *
+		 * @param deleteOperation true if the operation is a delete operation
+		 * @return the builder
+		 */
+		public OperationRecordBuilder deleteOperation(boolean deleteOperation) {
+			this.deleteOperation = deleteOperation;
+			return this;
+		}
+
+		/**
+		 * Set whether the service instance is usable while the operation is in progress or after it failed
+		 *
+		 * @param instanceUsable whether the service instance is usable
+		 * @return the builder
+		 */
+		public OperationRecordBuilder instanceUsable(Boolean instanceUsable) {
+			this.instanceUsable = instanceUsable;
+			return this;
+		}
+
+		/**
+		 * Set whether a failed update operation can be repeated
+		 *
+		 * @param updateRepeatable whether the update operation can be repeated
+		 * @return the builder
+		 */
+		public OperationRecordBuilder updateRepeatable(Boolean updateRepeatable) {
+			this.updateRepeatable = updateRepeatable;
+			return this;
+		}
+
+		/**
+		 * Set the time at which the state of the operation was recorded
+		 *
+		 * @param updatedAt the time
+		 * @return the builder
+		 */
+		public OperationRecordBuilder updatedAt(Instant updatedAt) {
+			this.updatedAt = updatedAt;
+			return this;
+		}
+
+		/**
+		 * Construct an {@link OperationRecord} from the provided values.
+		 *
+		 * @return the newly constructed {@literal OperationRecord}
+		 */
+		public OperationRecord build() {
+			return new OperationRecord(this);
+		}
+
+	}
+
+}
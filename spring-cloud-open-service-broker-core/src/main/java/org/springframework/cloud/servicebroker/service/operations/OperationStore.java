@@ -0,0 +1,59 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores the state of the last asynchronous operation of each service instance and service instance binding.
+ * <p>
+ * A service instance operation is stored with a {@literal null} binding ID. Service brokers that complete operations
+ * in the background may save the final state of an operation to the store, so that requests for the last operation are
+ * answered without calling the service.
+ *
+ * @see OperationTrackingServiceDecorator
+ */
+public interface OperationStore {
+
+	/**
+	 * Retrieve the last operation of a service instance or service instance binding
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 * @return the operation, or an empty {@link Mono} if no operation is stored
+	 */
+	Mono<OperationRecord> getOperation(String serviceInstanceId, String bindingId);
+
+	/**
+	 * Save the last operation of a service instance or service instance binding, replacing any operation that was
+	 * stored for it
+	 *
+	 * @param operation the operation
+	 * @return an empty {@link Mono} that completes once the operation is saved
+	 */
+	Mono<Void> saveOperation(OperationRecord operation);
+
+	/**
+	 * Remove the last operation of a service instance or service instance binding
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 * @return an empty {@link Mono} that completes once the operation is removed
+	 */
+	Mono<Void> removeOperation(String serviceInstanceId, String bindingId);
+
+}
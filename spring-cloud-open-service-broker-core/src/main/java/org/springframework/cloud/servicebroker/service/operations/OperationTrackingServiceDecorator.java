@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A {@link ServiceDecorator} that records asynchronous operations in an {@link OperationStore} and answers requests
+ * for the last operation from the store.
+ * <p>
+ * When the decorated service accepts an asynchronous create, update or delete request, the operation is recorded as
+ * {@link org.springframework.cloud.servicebroker.model.instance.OperationState#IN_PROGRESS in progress}. A request for
+ * the last operation is answered from the store when the stored operation has completed, or when it is in progress and
+ * was updated within the refresh interval. Otherwise the decorated service is called, and its response is recorded.
+ * A stored operation is only used for requests that carry the same operation identifier. Synchronous responses remove
+ * the stored operation, as the platform does not poll for them.
+ */
+public class OperationTrackingServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which applies it inside the decorators that hold or advise on asynchronous
+	 * operations
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 900;
+
+	private final OperationStore operationStore;
+
+	private final Duration refreshInterval;
+
+	private final Clock clock;
+
+	/**
+	 * Construct a new {@link OperationTrackingServiceDecorator}
+	 *
+	 * @param operationStore the store of operations
+	 * @param refreshInterval the time after which an operation in progress is refreshed from the decorated service
+	 */
+	public OperationTrackingServiceDecorator(OperationStore operationStore, Duration refreshInterval) {
+		this(operationStore, refreshInterval, Clock.systemUTC());
+	}
+
+	/**
+	 * Construct a new {@link OperationTrackingServiceDecorator}
+	 *
+	 * @param operationStore the store of operations
+	 * @param refreshInterval the time after which an operation in progress is refreshed from the decorated service
+	 * @param clock the clock used to timestamp operations
+	 */
+	public OperationTrackingServiceDecorator(OperationStore operationStore, Duration refreshInterval, Clock clock) {
+		Assert.notNull(operationStore, "operationStore must not be null");
+		Assert.isTrue(refreshInterval != null && !refreshInterval.isNegative(),
+				"refreshInterval must not be negative");
+		Assert.notNull(clock, "clock must not be null");
+		this.operationStore = operationStore;
+		this.refreshInterval = refreshInterval;
+		this.clock = clock;
+	}
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new OperationTrackingServiceInstanceService(serviceInstanceService, this);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new OperationTrackingServiceInstanceBindingService(serviceInstanceBindingService, this);
+	}
+
+	OperationStore getOperationStore() {
+		return this.operationStore;
+	}
+
+	Clock getClock() {
+		return this.clock;
+	}
+
+	boolean isCurrent(OperationRecord operation, String requestedOperation) {
+		if (!ObjectUtils.nullSafeEquals(operation.getOperation(), requestedOperation)) {
+			return false;
+		}
+		return operation.isCompleted()
+				|| !operation.getUpdatedAt().plus(this.refreshInterval).isBefore(this.clock.instant());
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
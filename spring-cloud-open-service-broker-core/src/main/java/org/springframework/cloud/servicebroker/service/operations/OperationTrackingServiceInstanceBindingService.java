@@ -0,0 +1,126 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A {@link ServiceInstanceBindingService} that records service instance binding operations in an
+ * {@link OperationStore}.
+ */
+class OperationTrackingServiceInstanceBindingService implements ServiceInstanceBindingService {
+
+	private final ServiceInstanceBindingService delegate;
+
+	private final OperationTrackingServiceDecorator tracking;
+
+	private final OperationStore store;
+
+	OperationTrackingServiceInstanceBindingService(ServiceInstanceBindingService delegate,
+			OperationTrackingServiceDecorator tracking) {
+		this.delegate = delegate;
+		this.tracking = tracking;
+		this.store = tracking.getOperationStore();
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		return track(request.getServiceInstanceId(), request.getBindingId(), false,
+				this.delegate.createServiceInstanceBinding(request));
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		return this.delegate.getServiceInstanceBinding(request);
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		return this.store.getOperation(request.getServiceInstanceId(), request.getBindingId())
+				.filter(operation -> this.tracking.isCurrent(operation, request.getOperation()))
+				.map(operation -> GetLastServiceBindingOperationResponse.builder()
+						.operationState(operation.getState())
+						.description(operation.getDescription())
+						.deleteOperation(operation.isDeleteOperation())
+						.build())
+				.switchIfEmpty(Mono.defer(() -> refreshLastOperation(request)));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return track(request.getServiceInstanceId(), request.getBindingId(), true,
+				this.delegate.deleteServiceInstanceBinding(request));
+	}
+
+	private Mono<GetLastServiceBindingOperationResponse> refreshLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		return this.delegate.getLastOperation(request)
+				.flatMap(response -> {
+					if (response.getState() == null) {
+						return Mono.just(response);
+					}
+					return this.store.saveOperation(OperationRecord.builder()
+							.serviceInstanceId(request.getServiceInstanceId())
+							.bindingId(request.getBindingId())
+							.operation(request.getOperation())
+							.state(response.getState())
+							.description(response.getDescription())
+							.deleteOperation(response.isDeleteOperation())
+							.updatedAt(this.tracking.getClock().instant())
+							.build())
+							.thenReturn(response);
+				});
+	}
+
+	private <T extends AsyncServiceBrokerResponse> Mono<T> track(String serviceInstanceId, String bindingId,
+			boolean deleteOperation, Mono<T> responses) {
+		return responses
+				.flatMap(response -> {
+					if (!response.isAsync()) {
+						return this.store.removeOperation(serviceInstanceId, bindingId).thenReturn(response);
+					}
+					return this.store.saveOperation(OperationRecord.builder()
+							.serviceInstanceId(serviceInstanceId)
+							.bindingId(bindingId)
+							.operation(response.getOperation())
+							.state(OperationState.IN_PROGRESS)
+							.deleteOperation(deleteOperation)
+							.updatedAt(this.tracking.getClock().instant())
+							.build())
+							.thenReturn(response);
+				})
+				.switchIfEmpty(Mono.defer(() -> this.store.removeOperation(serviceInstanceId, bindingId)
+						.then(Mono.empty())));
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+/**
+ * A {@link ServiceInstanceService} that records service instance operations in an {@link OperationStore}.
+ */
+class OperationTrackingServiceInstanceService implements ServiceInstanceService {
+
+	private final ServiceInstanceService delegate;
+
+	private final OperationTrackingServiceDecorator tracking;
+
+	private final OperationStore store;
+
+	OperationTrackingServiceInstanceService(ServiceInstanceService delegate,
+			OperationTrackingServiceDecorator tracking) {
+		this.delegate = delegate;
+		this.tracking = tracking;
+		this.store = tracking.getOperationStore();
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		return track(request.getServiceInstanceId(), false, this.delegate.createServiceInstance(request));
+	}
+
+	@Override
+	public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+		return this.delegate.getServiceInstance(request);
+	}
+
+	@Override
+	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		return this.store.getOperation(request.getServiceInstanceId(), null)
+				.filter(operation -> this.tracking.isCurrent(operation, request.getOperation()))
+				.map(operation -> GetLastServiceOperationResponse.builder()
+						.operationState(operation.getState())
+						.description(operation.getDescription())
+						.deleteOperation(operation.isDeleteOperation())
+						.instanceUsable(operation.isInstanceUsable())
+						.updateRepeatable(operation.isUpdateRepeatable())
+						.build())
+				.switchIfEmpty(Mono.defer(() -> refreshLastOperation(request)));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		return track(request.getServiceInstanceId(), true, this.delegate.deleteServiceInstance(request));
+	}
+
+	@Override
+	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		return track(request.getServiceInstanceId(), false, this.delegate.updateServiceInstance(request));
+	}
+
+	private Mono<GetLastServiceOperationResponse> refreshLastOperation(GetLastServiceOperationRequest request) {
+		return this.delegate.getLastOperation(request)
+				.flatMap(response -> {
+					if (response.getState() == null) {
+						return Mono.just(response);
+					}
+					return this.store.saveOperation(OperationRecord.builder()
+							.serviceInstanceId(request.getServiceInstanceId())
+							.operation(request.getOperation())
+							.state(response.getState())
+							.description(response.getDescription())
+							.deleteOperation(response.isDeleteOperation())
+							.instanceUsable(response.isInstanceUsable())
+							.updateRepeatable(response.isUpdateRepeatable())
+							.updatedAt(this.tracking.getClock().instant())
+							.build())
+							.thenReturn(response);
+				});
+	}
+
+	private <T extends AsyncServiceBrokerResponse> Mono<T> track(String serviceInstanceId, boolean deleteOperation,
+			Mono<T> responses) {
+		return responses
+				.flatMap(response -> {
+					if (!response.isAsync()) {
+						return this.store.removeOperation(serviceInstanceId, null).thenReturn(response);
+					}
+					return this.store.saveOperation(OperationRecord.builder()
+							.serviceInstanceId(serviceInstanceId)
+							.operation(response.getOperation())
+							.state(OperationState.IN_PROGRESS)
+							.deleteOperation(deleteOperation)
+							.updatedAt(this.tracking.getClock().instant())
+							.build())
+							.thenReturn(response);
+				})
+				.switchIfEmpty(Mono.defer(() -> this.store.removeOperation(serviceInstanceId, null)
+						.then(Mono.empty())));
+	}
+
+}
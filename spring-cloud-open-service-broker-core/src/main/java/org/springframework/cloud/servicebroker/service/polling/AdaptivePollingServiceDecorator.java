@@ -0,0 +1,67 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.polling;
+
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ServiceDecorator} that times asynchronous operations with a {@link PollingAdvisor}, and sets the advised
+ * time to wait before polling again on responses to requests for the last operation.
+ * <p>
+ * Responses that already provide a time to wait, and responses for operations that have completed, are not changed.
+ */
+public class AdaptivePollingServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which applies it outside the operation tracking decorator so that last operation
+	 * responses served from the operation store are also advised
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 700;
+
+	private final PollingAdvisor pollingAdvisor;
+
+	/**
+	 * Construct a new {@link AdaptivePollingServiceDecorator}
+	 *
+	 * @param pollingAdvisor the polling advisor
+	 */
+	public AdaptivePollingServiceDecorator(PollingAdvisor pollingAdvisor) {
+		Assert.notNull(pollingAdvisor, "pollingAdvisor must not be null");
+		this.pollingAdvisor = pollingAdvisor;
+	}
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new AdaptivePollingServiceInstanceService(serviceInstanceService, this.pollingAdvisor);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new AdaptivePollingServiceInstanceBindingService(serviceInstanceBindingService, this.pollingAdvisor);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
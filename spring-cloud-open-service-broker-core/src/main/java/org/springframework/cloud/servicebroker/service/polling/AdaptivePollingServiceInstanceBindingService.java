@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.polling;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A {@link ServiceInstanceBindingService} that advises platforms when to poll for the last operation of a service
+ * instance binding.
+ */
+class AdaptivePollingServiceInstanceBindingService implements ServiceInstanceBindingService {
+
+	private final ServiceInstanceBindingService delegate;
+
+	private final PollingAdvisor advisor;
+
+	AdaptivePollingServiceInstanceBindingService(ServiceInstanceBindingService delegate, PollingAdvisor advisor) {
+		this.delegate = delegate;
+		this.advisor = advisor;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		return this.delegate.createServiceInstanceBinding(request)
+				.doOnNext(response -> {
+					if (response.isAsync()) {
+						this.advisor.operationStarted(request.getServiceInstanceId(), request.getBindingId(),
+								"create", request.getServiceDefinitionId(), request.getPlan());
+					}
+				});
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		return this.delegate.getServiceInstanceBinding(request);
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		String serviceInstanceId = request.getServiceInstanceId();
+		String bindingId = request.getBindingId();
+		return this.delegate.getLastOperation(request)
+				.map(response -> {
+					if (response.getState() != OperationState.IN_PROGRESS) {
+						this.advisor.operationCompleted(serviceInstanceId, bindingId);
+						return response;
+					}
+					if (response.getRetryAfter() != null) {
+						return response;
+					}
+					Duration retryAfter = this.advisor.getRetryAfter(serviceInstanceId, bindingId);
+					if (retryAfter == null) {
+						return response;
+					}
+					return GetLastServiceBindingOperationResponse.builder()
+							.operationState(response.getState())
+							.description(response.getDescription())
+							.deleteOperation(response.isDeleteOperation())
+							.retryAfter(retryAfter)
+							.build();
+				});
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return this.delegate.deleteServiceInstanceBinding(request)
+				.doOnNext(response -> {
+					if (response.isAsync()) {
+						this.advisor.operationStarted(request.getServiceInstanceId(), request.getBindingId(),
+								"delete", request.getServiceDefinitionId(), request.getPlan());
+					}
+				});
+	}
+
+}
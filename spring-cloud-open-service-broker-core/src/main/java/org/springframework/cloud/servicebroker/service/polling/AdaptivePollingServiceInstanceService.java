@@ -0,0 +1,115 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.polling;
+
+import java.time.Duration;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+/**
+ * A {@link ServiceInstanceService} that advises platforms when to poll for the last operation of a service instance.
+ */
+class AdaptivePollingServiceInstanceService implements ServiceInstanceService {
+
+	private final ServiceInstanceService delegate;
+
+	private final PollingAdvisor advisor;
+
+	AdaptivePollingServiceInstanceService(ServiceInstanceService delegate, PollingAdvisor advisor) {
+		this.delegate = delegate;
+		this.advisor = advisor;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		return this.delegate.createServiceInstance(request)
+				.doOnNext(response -> {
+					if (response.isAsync()) {
+						this.advisor.operationStarted(request.getServiceInstanceId(), null, "create",
+								request.getServiceDefinitionId(), request.getPlan());
+					}
+				});
+	}
+
+	@Override
+	public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+		return this.delegate.getServiceInstance(request);
+	}
+
+	@Override
+	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		String serviceInstanceId = request.getServiceInstanceId();
+		return this.delegate.getLastOperation(request)
+				.map(response -> {
+					if (response.getState() != OperationState.IN_PROGRESS) {
+						this.advisor.operationCompleted(serviceInstanceId, null);
+						return response;
+					}
+					if (response.getRetryAfter() != null) {
+						return response;
+					}
+					Duration retryAfter = this.advisor.getRetryAfter(serviceInstanceId, null);
+					if (retryAfter == null) {
+						return response;
+					}
+					return GetLastServiceOperationResponse.builder()
+							.operationState(response.getState())
+							.description(response.getDescription())
+							.instanceUsable(response.isInstanceUsable())
+							.updateRepeatable(response.isUpdateRepeatable())
+							.deleteOperation(response.isDeleteOperation())
+							.retryAfter(retryAfter)
+							.build();
+				});
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		return this.delegate.deleteServiceInstance(request)
+				.doOnNext(response -> {
+					if (response.isAsync()) {
+						this.advisor.operationStarted(request.getServiceInstanceId(), null, "delete",
+								request.getServiceDefinitionId(), request.getPlan());
+					}
+				});
+	}
+
+	@Override
+	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		return this.delegate.updateServiceInstance(request)
+				.doOnNext(response -> {
+					if (response.isAsync()) {
+						this.advisor.operationStarted(request.getServiceInstanceId(), null, "update",
+								request.getServiceDefinitionId(), request.getPlan());
+					}
+				});
+	}
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.polling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An online histogram of the times taken by asynchronous operations to complete, in buckets whose bounds double from
+ * one second up to {@link #MAXIMUM_SECONDS}.
+ * <p>
+ * Recording and estimating never lock. Once the number of recorded times reaches a threshold, all counts are halved,
+ * so that the histogram follows changes in the completion times. Halving is not atomic with concurrent recording, so
+ * counts are approximate.
+ */
+final class CompletionTimeHistogram {
+
+	static final int BUCKETS = 21;
+
+	static final long MAXIMUM_SECONDS = 1L << (BUCKETS - 1);
+
+	private static final long DECAY_THRESHOLD = 1024;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+	private final AtomicLong total = new AtomicLong();
+
+	/**
+	 * Record the time taken by an operation to complete
+	 *
+	 * @param seconds the time in seconds
+	 */
+	void record(long seconds) {
+		this.counts.incrementAndGet(bucket(seconds));
+		if (this.total.incrementAndGet() >= DECAY_THRESHOLD) {
+			decay();
+		}
+	}
+
+	/**
+	 * Estimate the remaining time to completion of an operation that has not completed after the elapsed time, as the
+	 * median of the recorded times that are longer than the elapsed time
+	 *
+	 * @param elapsedSeconds the time since the operation started, in seconds
+	 * @return the estimated remaining time in seconds, or -1 if no recorded time is longer than the elapsed time
+	 */
+	long estimateRemaining(long elapsedSeconds) {
+		int first = bucket(elapsedSeconds);
+		long remaining = 0;
+		for (int i = first; i < BUCKETS; i++) {
+			remaining += this.counts.get(i);
+		}
+		if (remaining == 0) {
+			return -1;
+		}
+		long cumulative = 0;
+		for (int i = first; i < BUCKETS; i++) {
+			cumulative += this.counts.get(i);
+			if (cumulative * 2 >= remaining) {
+				long lower = Math.max(lowerBound(i), elapsedSeconds);
+				long upper = Math.max(upperBound(i), lower);
+				return Math.max((lower + upper) / 2 - elapsedSeconds, 1);
+			}
+		}
+		return Math.max(upperBound(BUCKETS - 1) - elapsedSeconds, 1);
+	}
+
+	/**
+	 * Return the approximate number of recorded times
+	 *
+	 * @return the number of recorded times
+	 */
+	long getCount() {
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			count += this.counts.get(i);
+		}
+		return count;
+	}
+
+	private void decay() {
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			count += this.counts.updateAndGet(i, c -> c / 2);
+		}
+		this.total.set(count);
+	}
+
+	private static int bucket(long seconds) {
+		if (seconds <= 1) {
+			return 0;
+		}
+		return Math.min(Long.SIZE - Long.numberOfLeadingZeros(seconds - 1), BUCKETS - 1);
+	}
+
+	private static long lowerBound(int bucket) {
+		return bucket == 0 ? 0 : 1L << (bucket - 1);
+	}
+
+	private static long upperBound(int bucket) {
+		return 1L << bucket;
+	}
+
+}
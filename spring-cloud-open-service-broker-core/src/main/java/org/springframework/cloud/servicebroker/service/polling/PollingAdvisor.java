@@ -0,0 +1,202 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.polling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.util.Assert;
+
+/**
+ * Advises platforms how long to wait before polling again for the last operation of a service instance or service
+ * instance binding.
+ * <p>
+ * The time taken by each asynchronous operation to complete is recorded in a histogram for its service definition,
+ * plan, resource type and operation type. While an operation is in progress, the advised time is the median remaining
+ * time of the recorded operations that took longer than the time elapsed so far, limited to the configured minimum and
+ * maximum intervals and to the maximum polling duration of the plan. No time is advised until an operation of the same
+ * kind has completed.
+ * <p>
+ * At most the configured number of operations are tracked at a time. Operations that are not polled to completion
+ * are forgotten once they are older than the longest time the histograms record.
+ */
+public class PollingAdvisor {
+
+	private static final long MAXIMUM_AGE_MILLIS = Duration.ofSeconds(CompletionTimeHistogram.MAXIMUM_SECONDS)
+			.toMillis();
+
+	private final Map<List<String>, CompletionTimeHistogram> histograms = new ConcurrentHashMap<>();
+
+	private final Map<List<String>, StartedOperation> operations = new ConcurrentHashMap<>();
+
+	private final Duration minimumInterval;
+
+	private final Duration maximumInterval;
+
+	private final int maximumOperations;
+
+	private final Clock clock;
+
+	/**
+	 * Construct a new {@link PollingAdvisor}
+	 *
+	 * @param minimumInterval the shortest time to advise
+	 * @param maximumInterval the longest time to advise
+	 * @param maximumOperations the maximum number of operations tracked at a time
+	 */
+	public PollingAdvisor(Duration minimumInterval, Duration maximumInterval, int maximumOperations) {
+		this(minimumInterval, maximumInterval, maximumOperations, Clock.systemUTC());
+	}
+
+	/**
+	 * Construct a new {@link PollingAdvisor}
+	 *
+	 * @param minimumInterval the shortest time to advise
+	 * @param maximumInterval the longest time to advise
+	 * @param maximumOperations the maximum number of operations tracked at a time
+	 * @param clock the clock used to time operations
+	 */
+	public PollingAdvisor(Duration minimumInterval, Duration maximumInterval, int maximumOperations, Clock clock) {
+		Assert.isTrue(minimumInterval != null && !minimumInterval.isNegative() && !minimumInterval.isZero(),
+				"minimumInterval must be positive");
+		Assert.isTrue(maximumInterval != null && maximumInterval.compareTo(minimumInterval) >= 0,
+				"maximumInterval must not be less than minimumInterval");
+		Assert.isTrue(maximumOperations > 0, "maximumOperations must be greater than zero");
+		Assert.notNull(clock, "clock must not be null");
+		this.minimumInterval = minimumInterval;
+		this.maximumInterval = maximumInterval;
+		this.maximumOperations = maximumOperations;
+		this.clock = clock;
+	}
+
+	/**
+	 * Record that an asynchronous operation has started
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 * @param operationType the type of operation, such as {@literal create}, {@literal update} or {@literal delete}
+	 * @param serviceDefinitionId the service definition ID
+	 * @param plan the plan, or {@literal null} if not known
+	 */
+	public void operationStarted(String serviceInstanceId, String bindingId, String operationType,
+			String serviceDefinitionId, Plan plan) {
+		List<String> key = key(serviceInstanceId, bindingId);
+		if (this.operations.size() >= this.maximumOperations && !this.operations.containsKey(key)) {
+			evictExpired();
+			if (this.operations.size() >= this.maximumOperations) {
+				return;
+			}
+		}
+		List<String> histogramKey = Arrays.asList(serviceDefinitionId, plan != null ? plan.getId() : null,
+				bindingId == null ? "instance" : "binding", operationType);
+		Integer maximumPollingDuration = plan != null ? plan.getMaximumPollingDuration() : null;
+		this.operations.put(key, new StartedOperation(histogramKey, this.clock.millis(),
+				maximumPollingDuration != null ? Duration.ofSeconds(maximumPollingDuration).toMillis() : -1));
+	}
+
+	/**
+	 * Return the time the platform should wait before polling again for an operation that is in progress
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 * @return the time, or {@literal null} if no time can be advised
+	 */
+	public Duration getRetryAfter(String serviceInstanceId, String bindingId) {
+		StartedOperation operation = this.operations.get(key(serviceInstanceId, bindingId));
+		if (operation == null) {
+			return null;
+		}
+		CompletionTimeHistogram histogram = this.histograms.get(operation.histogramKey);
+		if (histogram == null) {
+			return null;
+		}
+		long elapsedMillis = Math.max(this.clock.millis() - operation.startedAt, 0);
+		long remainingSeconds = histogram.estimateRemaining(elapsedMillis / 1000);
+		if (remainingSeconds < 0) {
+			return null;
+		}
+		Duration retryAfter = Duration.ofSeconds(remainingSeconds);
+		if (retryAfter.compareTo(this.maximumInterval) > 0) {
+			retryAfter = this.maximumInterval;
+		}
+		if (operation.maximumPollingMillis >= 0) {
+			Duration pollingTimeLeft = Duration.ofMillis(operation.maximumPollingMillis - elapsedMillis);
+			if (retryAfter.compareTo(pollingTimeLeft) > 0) {
+				retryAfter = pollingTimeLeft;
+			}
+		}
+		if (retryAfter.compareTo(this.minimumInterval) < 0) {
+			retryAfter = this.minimumInterval;
+		}
+		return retryAfter;
+	}
+
+	/**
+	 * Record that an asynchronous operation has completed, either successfully or not
+	 *
+	 * @param serviceInstanceId the service instance ID
+	 * @param bindingId the binding ID, or {@literal null} for a service instance operation
+	 */
+	public void operationCompleted(String serviceInstanceId, String bindingId) {
+		StartedOperation operation = this.operations.remove(key(serviceInstanceId, bindingId));
+		if (operation != null) {
+			long elapsedMillis = Math.max(this.clock.millis() - operation.startedAt, 0);
+			this.histograms.computeIfAbsent(operation.histogramKey, k -> new CompletionTimeHistogram())
+					.record((elapsedMillis + 999) / 1000);
+		}
+	}
+
+	/**
+	 * Return the number of operations that are currently tracked
+	 *
+	 * @return the number of operations
+	 */
+	public int getOperationCount() {
+		return this.operations.size();
+	}
+
+	private void evictExpired() {
+		long oldest = this.clock.millis() - MAXIMUM_AGE_MILLIS;
+		this.operations.values().removeIf(operation -> operation.startedAt < oldest);
+	}
+
+	private static List<String> key(String serviceInstanceId, String bindingId) {
+		return Arrays.asList(serviceInstanceId, bindingId);
+	}
+
+	private static final class StartedOperation {
+
+		private final List<String> histogramKey;
+
+		private final long startedAt;
+
+		private final long maximumPollingMillis;
+
+		private StartedOperation(List<String> histogramKey, long startedAt, long maximumPollingMillis) {
+			this.histogramKey = histogramKey;
+			this.startedAt = startedAt;
+			this.maximumPollingMillis = maximumPollingMillis;
+		}
+
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * A number of requests permitted in a period of time. Requests may be made in a burst of up to the full number, after
+ * which permits are replenished evenly over the period.
+ */
+public final class RateLimit {
+
+	private final int limit;
+
+	private final Duration period;
+
+	/**
+	 * Construct a new {@link RateLimit}
+	 *
+	 * @param limit the number of requests permitted in each period
+	 * @param period the period
+	 */
+	public RateLimit(int limit, Duration period) {
+		Assert.isTrue(limit > 0, "limit must be greater than 0");
+		Assert.isTrue(period != null && !period.isNegative() && !period.isZero(), "period must be positive");
+		this.limit = limit;
+		this.period = period;
+	}
+
+	/**
+	 * Get the number of requests permitted in each period
+	 *
+	 * @return the number of requests
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * Get the period
+	 *
+	 * @return the period
+	 */
+	public Duration getPeriod() {
+		return this.period;
+	}
+
+	@Override
+	public String toString() {
+		return "RateLimit{" +
+				"limit=" + limit +
+				", period=" + period +
+				'}';
+	}
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.cloud.servicebroker.model.Context;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+import org.springframework.util.Assert;
+
+/**
+ * Limits the rate of requests to each operation from each caller with a {@link TokenBucket token bucket}. A caller is
+ * identified by the platform instance ID of the request, the user ID in the originating identity of the request, or
+ * both, according to the {@link Partition}.
+ * <p>
+ * Buckets that have refilled completely are discarded, and at most {@code maximumKeys} buckets are kept. When that
+ * many callers are being limited at once, requests from further callers are not limited.
+ */
+public class RateLimiter {
+
+	/**
+	 * Originating identity properties that identify the user, in order of preference
+	 */
+	static final List<String> USER_KEYS = Collections.unmodifiableList(Arrays.asList("user_id", "uid", "username"));
+
+	/**
+	 * Operations that are limited
+	 */
+	static final List<String> OPERATIONS = Collections.unmodifiableList(Arrays.asList(
+			ServiceBrokerOperations.CREATE_SERVICE_INSTANCE,
+			ServiceBrokerOperations.GET_SERVICE_INSTANCE,
+			ServiceBrokerOperations.GET_LAST_SERVICE_OPERATION,
+			ServiceBrokerOperations.UPDATE_SERVICE_INSTANCE,
+			ServiceBrokerOperations.DELETE_SERVICE_INSTANCE,
+			ServiceBrokerOperations.CREATE_SERVICE_INSTANCE_BINDING,
+			ServiceBrokerOperations.GET_SERVICE_INSTANCE_BINDING,
+			ServiceBrokerOperations.GET_LAST_SERVICE_BINDING_OPERATION,
+			ServiceBrokerOperations.DELETE_SERVICE_INSTANCE_BINDING));
+
+	private static final int ACQUISITIONS_PER_EVICTION = 1024;
+
+	/**
+	 * How callers are identified
+	 */
+	public enum Partition {
+
+		/**
+		 * Identify callers by platform instance ID
+		 */
+		PLATFORM,
+
+		/**
+		 * Identify callers by originating user ID
+		 */
+		USER,
+
+		/**
+		 * Identify callers by platform instance ID and originating user ID
+		 */
+		PLATFORM_AND_USER
+
+	}
+
+	private final Map<List<String>, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+	private final AtomicLong acquisitions = new AtomicLong();
+
+	private final RateLimit defaultLimit;
+
+	private final Map<String, RateLimit> operationLimits;
+
+	private final Partition partition;
+
+	private final int maximumKeys;
+
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Construct a new {@link RateLimiter}
+	 *
+	 * @param defaultLimit the limit for operations without a specific limit
+	 * @param operationLimits limits for specific operations, keyed by operation name. Names are matched ignoring case
+	 * and dashes, so that {@literal create-service-instance} matches {@literal createServiceInstance}.
+	 * @param partition how callers are identified
+	 * @param maximumKeys the maximum number of buckets kept
+	 */
+	public RateLimiter(RateLimit defaultLimit, Map<String, RateLimit> operationLimits, Partition partition,
+			int maximumKeys) {
+		this(defaultLimit, operationLimits, partition, maximumKeys, System::nanoTime);
+	}
+
+	RateLimiter(RateLimit defaultLimit, Map<String, RateLimit> operationLimits, Partition partition, int maximumKeys,
+			LongSupplier nanoClock) {
+		Assert.notNull(defaultLimit, "defaultLimit must not be null");
+		Assert.notNull(partition, "partition must not be null");
+		Assert.isTrue(maximumKeys > 0, "maximumKeys must be greater than 0");
+		this.defaultLimit = defaultLimit;
+		this.operationLimits = new HashMap<>();
+		if (operationLimits != null) {
+			operationLimits.forEach((name, limit) -> this.operationLimits.put(resolveOperation(name), limit));
+		}
+		this.partition = partition;
+		this.maximumKeys = maximumKeys;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Take a permit for a request
+	 *
+	 * @param operation the name of the operation requested
+	 * @param platformInstanceId the platform instance ID of the request, or {@literal null}
+	 * @param originatingIdentity the originating identity of the request, or {@literal null}
+	 * @return {@literal null} if the request is permitted, otherwise the time to wait until it would be
+	 */
+	public Duration tryAcquire(String operation, String platformInstanceId, Context originatingIdentity) {
+		long now = this.nanoClock.getAsLong();
+		if (this.acquisitions.incrementAndGet() % ACQUISITIONS_PER_EVICTION == 0) {
+			evictExpired();
+		}
+		List<String> key = Arrays.asList(operation, partitionKey(platformInstanceId, originatingIdentity));
+		TokenBucket bucket = this.buckets.get(key);
+		if (bucket == null) {
+			if (this.buckets.size() >= this.maximumKeys) {
+				evictExpired();
+				if (this.buckets.size() >= this.maximumKeys) {
+					return null;
+				}
+			}
+			bucket = this.buckets.computeIfAbsent(key, k -> new TokenBucket(getLimit(operation), now));
+		}
+		long waitNanos = bucket.tryTake(now);
+		return waitNanos == 0 ? null : Duration.ofNanos(waitNanos);
+	}
+
+	/**
+	 * Get the limit for an operation
+	 *
+	 * @param operation the name of the operation
+	 * @return the limit
+	 */
+	public RateLimit getLimit(String operation) {
+		return this.operationLimits.getOrDefault(operation, this.defaultLimit);
+	}
+
+	/**
+	 * Discard buckets that have refilled completely
+	 */
+	public void evictExpired() {
+		long now = this.nanoClock.getAsLong();
+		this.buckets.values().removeIf(bucket -> bucket.isFull(now));
+	}
+
+	/**
+	 * Get the number of buckets kept
+	 *
+	 * @return the number of buckets
+	 */
+	public int size() {
+		return this.buckets.size();
+	}
+
+	private static String resolveOperation(String name) {
+		String normalized = name.replace("-", "");
+		for (String operation : OPERATIONS) {
+			if (operation.equalsIgnoreCase(normalized)) {
+				return operation;
+			}
+		}
+		throw new IllegalArgumentException("Unknown operation '" + name + "', expected one of " + OPERATIONS);
+	}
+
+	private String partitionKey(String platformInstanceId, Context originatingIdentity) {
+		String platform = platformInstanceId == null ? "" : platformInstanceId;
+		switch (this.partition) {
+			case PLATFORM:
+				return platform;
+			case USER:
+				return userId(originatingIdentity);
+			default:
+				return platform + "/" + userId(originatingIdentity);
+		}
+	}
+
+	private static String userId(Context originatingIdentity) {
+		if (originatingIdentity != null) {
+			for (String userKey : USER_KEYS) {
+				Object userId = originatingIdentity.getProperty(userKey);
+				if (userId != null) {
+					return userId.toString();
+				}
+			}
+		}
+		return "";
+	}
+
+}
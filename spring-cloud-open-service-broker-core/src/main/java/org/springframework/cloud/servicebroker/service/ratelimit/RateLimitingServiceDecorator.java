@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerRateLimitExceededException;
+import org.springframework.cloud.servicebroker.service.ServiceDecorator;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ServiceDecorator} that limits the rate of requests to the service instance and service instance binding
+ * services with a {@link RateLimiter}.
+ * <p>
+ * Requests over the limit fail with a {@link ServiceBrokerRateLimitExceededException} without invoking the decorated
+ * service.
+ */
+public class RateLimitingServiceDecorator implements ServiceDecorator, Ordered {
+
+	/**
+	 * The order of this decorator, which applies it inside the caching, coalescing and deduplicating decorators so
+	 * that requests answered without calling the service are not limited
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 500;
+
+	private final RateLimiter rateLimiter;
+
+	/**
+	 * Construct a new {@link RateLimitingServiceDecorator}
+	 *
+	 * @param rateLimiter the rate limiter
+	 */
+	public RateLimitingServiceDecorator(RateLimiter rateLimiter) {
+		Assert.notNull(rateLimiter, "rateLimiter must not be null");
+		this.rateLimiter = rateLimiter;
+	}
+
+	@Override
+	public ServiceInstanceService decorateServiceInstanceService(ServiceInstanceService serviceInstanceService) {
+		return new RateLimitingServiceInstanceService(serviceInstanceService, this.rateLimiter);
+	}
+
+	@Override
+	public ServiceInstanceBindingService decorateServiceInstanceBindingService(
+			ServiceInstanceBindingService serviceInstanceBindingService) {
+		return new RateLimitingServiceInstanceBindingService(serviceInstanceBindingService, this.rateLimiter);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerRateLimitExceededException;
+import org.springframework.cloud.servicebroker.model.ServiceBrokerRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+/**
+ * A {@link ServiceInstanceBindingService} that limits the rate of requests to another service.
+ */
+class RateLimitingServiceInstanceBindingService implements ServiceInstanceBindingService {
+
+	private final ServiceInstanceBindingService delegate;
+
+	private final RateLimiter rateLimiter;
+
+	RateLimitingServiceInstanceBindingService(ServiceInstanceBindingService delegate, RateLimiter rateLimiter) {
+		this.delegate = delegate;
+		this.rateLimiter = rateLimiter;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+			CreateServiceInstanceBindingRequest request) {
+		return limit(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE_BINDING, request,
+				() -> this.delegate.createServiceInstanceBinding(request));
+	}
+
+	@Override
+	public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+			GetServiceInstanceBindingRequest request) {
+		return limit(ServiceBrokerOperations.GET_SERVICE_INSTANCE_BINDING, request,
+				() -> this.delegate.getServiceInstanceBinding(request));
+	}
+
+	@Override
+	public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+			GetLastServiceBindingOperationRequest request) {
+		return limit(ServiceBrokerOperations.GET_LAST_SERVICE_BINDING_OPERATION, request,
+				() -> this.delegate.getLastOperation(request));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+			DeleteServiceInstanceBindingRequest request) {
+		return limit(ServiceBrokerOperations.DELETE_SERVICE_INSTANCE_BINDING, request,
+				() -> this.delegate.deleteServiceInstanceBinding(request));
+	}
+
+	private <T> Mono<T> limit(String operation, ServiceBrokerRequest request, Supplier<Mono<T>> call) {
+		return Mono.defer(() -> {
+			Duration retryAfter = this.rateLimiter.tryAcquire(operation, request.getPlatformInstanceId(),
+					request.getOriginatingIdentity());
+			if (retryAfter != null) {
+				return Mono.error(new ServiceBrokerRateLimitExceededException(
+						"Rate limit exceeded for " + operation, retryAfter));
+			}
+			return call.get();
+		});
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerRateLimitExceededException;
+import org.springframework.cloud.servicebroker.model.ServiceBrokerRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+/**
+ * A {@link ServiceInstanceService} that limits the rate of requests to another service.
+ */
+class RateLimitingServiceInstanceService implements ServiceInstanceService {
+
+	private final ServiceInstanceService delegate;
+
+	private final RateLimiter rateLimiter;
+
+	RateLimitingServiceInstanceService(ServiceInstanceService delegate, RateLimiter rateLimiter) {
+		this.delegate = delegate;
+		this.rateLimiter = rateLimiter;
+	}
+
+	@Override
+	public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+		return limit(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE, request,
+				() -> this.delegate.createServiceInstance(request));
+	}
+
+	@Override
+	public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+		return limit(ServiceBrokerOperations.GET_SERVICE_INSTANCE, request,
+				() -> this.delegate.getServiceInstance(request));
+	}
+
+	@Override
+	public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+		return limit(ServiceBrokerOperations.GET_LAST_SERVICE_OPERATION, request,
+				() -> this.delegate.getLastOperation(request));
+	}
+
+	@Override
+	public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+		return limit(ServiceBrokerOperations.DELETE_SERVICE_INSTANCE, request,
+				() -> this.delegate.deleteServiceInstance(request));
+	}
+
+	@Override
+	public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+		return limit(ServiceBrokerOperations.UPDATE_SERVICE_INSTANCE, request,
+				() -> this.delegate.updateServiceInstance(request));
+	}
+
+	private <T> Mono<T> limit(String operation, ServiceBrokerRequest request, Supplier<Mono<T>> call) {
+		return Mono.defer(() -> {
+			Duration retryAfter = this.rateLimiter.tryAcquire(operation, request.getPlatformInstanceId(),
+					request.getOriginatingIdentity());
+			if (retryAfter != null) {
+				return Mono.error(new ServiceBrokerRateLimitExceededException(
+						"Rate limit exceeded for " + operation, retryAfter));
+			}
+			return call.get();
+		});
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket. The state is the time at which the bucket will be full again, so that taking a token is a
+ * single compare-and-set, and a bucket that is full holds no information and may be discarded.
+ */
+final class TokenBucket {
+
+	private final long intervalNanos;
+
+	private final long capacityNanos;
+
+	private final AtomicLong fullAt;
+
+	TokenBucket(RateLimit rateLimit, long nanoTime) {
+		this.capacityNanos = rateLimit.getPeriod().toNanos();
+		this.intervalNanos = Math.max(1, this.capacityNanos / rateLimit.getLimit());
+		this.fullAt = new AtomicLong(nanoTime);
+	}
+
+	/**
+	 * Take a token
+	 *
+	 * @param nanoTime the current time
+	 * @return zero if a token was taken, or the time to wait until a token is available
+	 */
+	long tryTake(long nanoTime) {
+		while (true) {
+			long current = this.fullAt.get();
+			long next = Math.max(current - nanoTime, 0) + this.intervalNanos;
+			if (next > this.capacityNanos) {
+				return next - this.capacityNanos;
+			}
+			if (this.fullAt.compareAndSet(current, nanoTime + next)) {
+				return 0;
+			}
+		}
+	}
+
+	boolean isFull(long nanoTime) {
+		return this.fullAt.get() - nanoTime <= 0;
+	}
+
+}
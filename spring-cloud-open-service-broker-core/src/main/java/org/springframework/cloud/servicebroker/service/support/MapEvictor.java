@@ -0,0 +1,179 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * Keeps the size of a {@link ConcurrentMap} within a bound. When the map grows beyond its maximum size, expired entries
+ * are removed, followed by the entries with the lowest rank, such as the least recently used, until the map is a
+ * sixteenth below its maximum size. Evicting in batches keeps the cost of ranking every entry low when averaged over
+ * the entries added between evictions.
+ * <p>
+ * One thread evicts at a time, and the map is not locked, so the size may briefly exceed the maximum while entries are
+ * added concurrently. Entries are removed only if they are unchanged since they were ranked.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class MapEvictor<K, V> {
+
+	private static final ToLongFunction<Object> NEVER_EXPIRES = value -> Long.MAX_VALUE;
+
+	private static final BiConsumer<Object, Object> NO_REMOVAL_LISTENER = (key, value) -> {
+	};
+
+	private final ConcurrentMap<K, V> map;
+
+	private final int maximumSize;
+
+	private final int evictedSize;
+
+	private final ToLongFunction<? super V> rank;
+
+	private final ToLongFunction<? super V> expiresAt;
+
+	private final BiConsumer<? super K, ? super V> removalListener;
+
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	/**
+	 * Construct a new {@link MapEvictor} for a map whose entries do not expire
+	 *
+	 * @param map the map
+	 * @param maximumSize the maximum number of entries
+	 * @param rank the rank of a value, where values with a lower rank are evicted first
+	 */
+	public MapEvictor(ConcurrentMap<K, V> map, int maximumSize, ToLongFunction<? super V> rank) {
+		this(map, maximumSize, rank, NEVER_EXPIRES, NO_REMOVAL_LISTENER);
+	}
+
+	/**
+	 * Construct a new {@link MapEvictor}
+	 *
+	 * @param map the map
+	 * @param maximumSize the maximum number of entries
+	 * @param rank the rank of a value, where values with a lower rank are evicted first
+	 * @param expiresAt the time at which a value expires
+	 */
+	public MapEvictor(ConcurrentMap<K, V> map, int maximumSize, ToLongFunction<? super V> rank,
+			ToLongFunction<? super V> expiresAt) {
+		this(map, maximumSize, rank, expiresAt, NO_REMOVAL_LISTENER);
+	}
+
+	/**
+	 * Construct a new {@link MapEvictor}
+	 *
+	 * @param map the map
+	 * @param maximumSize the maximum number of entries
+	 * @param rank the rank of a value, where values with a lower rank are evicted first
+	 * @param expiresAt the time at which a value expires
+	 * @param removalListener called for each entry that is evicted
+	 */
+	public MapEvictor(ConcurrentMap<K, V> map, int maximumSize, ToLongFunction<? super V> rank,
+			ToLongFunction<? super V> expiresAt, BiConsumer<? super K, ? super V> removalListener) {
+		Assert.notNull(map, "map must not be null");
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than zero");
+		Assert.notNull(rank, "rank must not be null");
+		Assert.notNull(expiresAt, "expiresAt must not be null");
+		Assert.notNull(removalListener, "removalListener must not be null");
+		this.map = map;
+		this.maximumSize = maximumSize;
+		this.evictedSize = maximumSize - maximumSize / 16;
+		this.rank = rank;
+		this.expiresAt = expiresAt;
+		this.removalListener = removalListener;
+	}
+
+	/**
+	 * Evict entries if the map has grown beyond its maximum size and no other thread is evicting
+	 *
+	 * @param now the current time, in the units of the expiry times
+	 */
+	public void evictIfFull(long now) {
+		if (this.map.size() <= this.maximumSize || !this.evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			evict(now);
+		}
+		finally {
+			this.evicting.set(false);
+		}
+	}
+
+	private void evict(long now) {
+		List<Candidate<K, V>> candidates = new ArrayList<>(this.map.size());
+		for (Map.Entry<K, V> entry : this.map.entrySet()) {
+			V value = entry.getValue();
+			if (this.expiresAt.applyAsLong(value) <= now) {
+				remove(entry.getKey(), value);
+			}
+			else {
+				candidates.add(new Candidate<>(entry.getKey(), value, this.rank.applyAsLong(value)));
+			}
+		}
+		int excess = this.map.size() - this.evictedSize;
+		if (excess <= 0) {
+			return;
+		}
+		candidates.sort(Comparator.comparingLong(candidate -> candidate.rank));
+		for (int i = 0; i < candidates.size() && excess > 0; i++) {
+			Candidate<K, V> candidate = candidates.get(i);
+			if (remove(candidate.key, candidate.value)) {
+				excess--;
+			}
+		}
+	}
+
+	private boolean remove(K key, V value) {
+		if (this.map.remove(key, value)) {
+			this.removalListener.accept(key, value);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * An entry and its rank when it was ranked, so that entries that are used while they are sorted keep their order
+	 */
+	private static final class Candidate<K, V> {
+
+		private final K key;
+
+		private final V value;
+
+		private final long rank;
+
+		private Candidate(K key, V value, long rank) {
+			this.key = key;
+			this.value = value;
+			this.rank = rank;
+		}
+
+	}
+
+}
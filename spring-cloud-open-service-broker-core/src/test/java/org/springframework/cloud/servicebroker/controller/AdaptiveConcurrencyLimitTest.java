@@ -0,0 +1,109 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 2, 100);
+
+	@Test
+	void requestsBeyondLimitAreNotAdmitted() {
+		for (int i = 0; i < 10; i++) {
+			assertThat(this.limit.tryAcquire()).isTrue();
+		}
+
+		assertThat(this.limit.tryAcquire()).isFalse();
+		assertThat(this.limit.getInFlight()).isEqualTo(10);
+
+		this.limit.release(FAST, false);
+
+		assertThat(this.limit.tryAcquire()).isTrue();
+	}
+
+	@Test
+	void limitGrowsWhileProcessingTimeIsSteady() {
+		for (int i = 0; i < 5; i++) {
+			saturate(FAST);
+		}
+
+		assertThat(this.limit.getLimit()).isGreaterThan(10);
+	}
+
+	@Test
+	void limitShrinksWhenProcessingTimeRises() {
+		saturate(FAST);
+		int steadyLimit = this.limit.getLimit();
+
+		for (int i = 0; i < 3; i++) {
+			saturate(SLOW);
+		}
+
+		assertThat(this.limit.getLimit()).isLessThan(steadyLimit);
+	}
+
+	@Test
+	void limitBacksOffAfterFailureAndStaysWithinBounds() {
+		for (int i = 0; i < 20; i++) {
+			this.limit.tryAcquire();
+			this.limit.release(FAST, true);
+		}
+
+		assertThat(this.limit.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void limitDoesNotGrowWhileLightlyLoaded() {
+		for (int i = 0; i < 100; i++) {
+			this.limit.tryAcquire();
+			this.limit.release(FAST, false);
+		}
+
+		assertThat(this.limit.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void retryAfterIsAverageProcessingTimeRoundedUp() {
+		assertThat(this.limit.getRetryAfter()).isEqualTo(Duration.ofSeconds(1));
+
+		this.limit.tryAcquire();
+		this.limit.release(TimeUnit.MILLISECONDS.toNanos(2500), false);
+
+		assertThat(this.limit.getRetryAfter()).isEqualTo(Duration.ofSeconds(3));
+	}
+
+	private void saturate(long elapsedNanos) {
+		int admitted = 0;
+		while (this.limit.tryAcquire()) {
+			admitted++;
+		}
+		for (int i = 0; i < admitted; i++) {
+			this.limit.release(elapsedNanos, false);
+		}
+	}
+
+}
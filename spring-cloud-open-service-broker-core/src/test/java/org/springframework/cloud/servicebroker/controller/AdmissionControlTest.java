@@ -0,0 +1,114 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlTest {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private final AdmissionControl admissionControl = new AdmissionControl(1, 1, 10, this.nanoTime::get);
+
+	@Test
+	void operationsAreIdentifiedFromRequests() {
+		assertThat(this.admissionControl.getOperation("GET", "/v2/catalog"))
+				.isEqualTo(ServiceBrokerOperations.GET_CATALOG);
+		assertThat(this.admissionControl.getOperation("PUT", "/v2/service_instances/instance-id"))
+				.isEqualTo(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE);
+		assertThat(this.admissionControl.getOperation("GET", "/v2/service_instances/instance-id"))
+				.isEqualTo(ServiceBrokerOperations.GET_SERVICE_INSTANCE);
+		assertThat(this.admissionControl.getOperation("PATCH", "/v2/service_instances/instance-id"))
+				.isEqualTo(ServiceBrokerOperations.UPDATE_SERVICE_INSTANCE);
+		assertThat(this.admissionControl.getOperation("DELETE", "/v2/service_instances/instance-id"))
+				.isEqualTo(ServiceBrokerOperations.DELETE_SERVICE_INSTANCE);
+		assertThat(this.admissionControl.getOperation("GET", "/v2/service_instances/instance-id/last_operation"))
+				.isEqualTo(ServiceBrokerOperations.GET_LAST_SERVICE_OPERATION);
+		assertThat(this.admissionControl.getOperation("PUT",
+				"/v2/service_instances/instance-id/service_bindings/binding-id"))
+				.isEqualTo(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE_BINDING);
+		assertThat(this.admissionControl.getOperation("GET",
+				"/v2/service_instances/instance-id/service_bindings/binding-id"))
+				.isEqualTo(ServiceBrokerOperations.GET_SERVICE_INSTANCE_BINDING);
+		assertThat(this.admissionControl.getOperation("DELETE",
+				"/v2/service_instances/instance-id/service_bindings/binding-id"))
+				.isEqualTo(ServiceBrokerOperations.DELETE_SERVICE_INSTANCE_BINDING);
+		assertThat(this.admissionControl.getOperation("GET",
+				"/v2/service_instances/instance-id/service_bindings/binding-id/last_operation"))
+				.isEqualTo(ServiceBrokerOperations.GET_LAST_SERVICE_BINDING_OPERATION);
+	}
+
+	@Test
+	void operationsAreIdentifiedWithPathPrefixes() {
+		assertThat(this.admissionControl.getOperation("PUT", "/platform-id/v2/service_instances/instance-id"))
+				.isEqualTo(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE);
+		assertThat(this.admissionControl.getOperation("GET", "/broker/platform-id/v2/catalog"))
+				.isEqualTo(ServiceBrokerOperations.GET_CATALOG);
+	}
+
+	@Test
+	void otherRequestsAreNotIdentified() {
+		assertThat(this.admissionControl.getOperation("GET", "/actuator/health")).isNull();
+		assertThat(this.admissionControl.getOperation("POST", "/v2/service_instances/instance-id")).isNull();
+		assertThat(this.admissionControl.getOperation("PATCH",
+				"/v2/service_instances/instance-id/service_bindings/binding-id")).isNull();
+		assertThat(this.admissionControl.getOperation("GET", "/v2/other/instance-id")).isNull();
+		assertThat(this.admissionControl.getOperation("GET", "/v2/service_instances/instance-id/other")).isNull();
+	}
+
+	@Test
+	void requestsBeyondLimitAreRejected() {
+		AdmissionControl.Permit permit = this.admissionControl
+				.tryAcquire(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE);
+
+		assertThat(permit).isNotNull();
+		assertThat(this.admissionControl.tryAcquire(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE)).isNull();
+		assertThat(this.admissionControl.tryAcquire(ServiceBrokerOperations.GET_LAST_SERVICE_OPERATION)).isNotNull();
+
+		permit.release(false);
+
+		assertThat(this.admissionControl.tryAcquire(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE)).isNotNull();
+	}
+
+	@Test
+	void retryAfterFollowsProcessingTime() {
+		AdmissionControl.Permit permit = this.admissionControl
+				.tryAcquire(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE);
+		this.nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(3));
+		permit.release(false);
+
+		assertThat(this.admissionControl.getRetryAfter(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE))
+				.isEqualTo(Duration.ofSeconds(3));
+		assertThat(this.admissionControl.createRejectionException().getErrorMessage().getError())
+				.isEqualTo("TooManyRequests");
+	}
+
+	@Test
+	void eachRejectionHasItsOwnException() {
+		assertThat(this.admissionControl.createRejectionException())
+				.isNotSameAs(this.admissionControl.createRejectionException());
+	}
+
+}
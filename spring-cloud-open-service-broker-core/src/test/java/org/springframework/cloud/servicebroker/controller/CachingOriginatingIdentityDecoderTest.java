@@ -0,0 +1,180 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.CloudFoundryContext;
+import org.springframework.cloud.servicebroker.model.Context;
+import org.springframework.cloud.servicebroker.model.PlatformContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class CachingOriginatingIdentityDecoderTest {
+
+	private final AtomicInteger decodeCount = new AtomicInteger();
+
+	private final OriginatingIdentityDecoder delegate = header -> {
+		decodeCount.incrementAndGet();
+		return PlatformContext.builder()
+				.platform(header)
+				.build();
+	};
+
+	@Test
+	void nullHeaderIsNotCached() {
+		CachingOriginatingIdentityDecoder decoder = new CachingOriginatingIdentityDecoder(delegate, 10,
+				Duration.ofMinutes(1));
+
+		assertThat(decoder.decode(null)).isNull();
+		assertThat(decodeCount).hasValue(0);
+		assertThat(decoder.size()).isZero();
+	}
+
+	@Test
+	void repeatedHeaderIsServedFromCache() {
+		CachingOriginatingIdentityDecoder decoder = new CachingOriginatingIdentityDecoder(delegate, 10,
+				Duration.ofMinutes(1));
+
+		Context first = decoder.decode("header-one");
+		Context second = decoder.decode("header-one");
+
+		assertThat(second).isSameAs(first);
+		assertThat(decodeCount).hasValue(1);
+		assertThat(decoder.getHitCount()).isEqualTo(1);
+		assertThat(decoder.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	void leastRecentlyUsedHeaderIsEvictedWhenFull() {
+		MutableClock clock = new MutableClock();
+		CachingOriginatingIdentityDecoder decoder = new CachingOriginatingIdentityDecoder(delegate, 2,
+				Duration.ofMinutes(1), clock);
+
+		decoder.decode("header-one");
+		clock.advance(Duration.ofSeconds(1));
+		decoder.decode("header-two");
+		clock.advance(Duration.ofSeconds(1));
+		decoder.decode("header-one");
+		clock.advance(Duration.ofSeconds(1));
+		decoder.decode("header-three");
+
+		assertThat(decoder.size()).isEqualTo(2);
+		assertThat(decodeCount).hasValue(3);
+
+		decoder.decode("header-one");
+		decoder.decode("header-three");
+
+		assertThat(decodeCount).hasValue(3);
+
+		decoder.decode("header-two");
+
+		assertThat(decoder.size()).isEqualTo(2);
+		assertThat(decodeCount).hasValue(4);
+	}
+
+	@Test
+	void cachedContextCannotBeModified() {
+		CachingOriginatingIdentityDecoder decoder = new CachingOriginatingIdentityDecoder(
+				header -> CloudFoundryContext.builder()
+						.organizationGuid(header)
+						.organizationAnnotations(new HashMap<>(Collections.singletonMap("key", "value")))
+						.property("labels", new ArrayList<>(Collections.singletonList("label")))
+						.build(),
+				10, Duration.ofMinutes(1));
+
+		CloudFoundryContext context = (CloudFoundryContext) decoder.decode("header-one");
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> context.getProperties().put("key", "value"));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> context.getOrganizationAnnotations().put("key", "other"));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> ((List<?>) context.getProperty("labels")).clear());
+		assertThat(decoder.decode("header-one")).isSameAs(context);
+		assertThat(context.getOrganizationGuid()).isEqualTo("header-one");
+	}
+
+	@Test
+	void expiredHeadersAreEvictedFirstWhenFull() {
+		MutableClock clock = new MutableClock();
+		CachingOriginatingIdentityDecoder decoder = new CachingOriginatingIdentityDecoder(delegate, 2,
+				Duration.ofSeconds(30), clock);
+
+		decoder.decode("header-one");
+		decoder.decode("header-two");
+		clock.advance(Duration.ofSeconds(30));
+		decoder.decode("header-three");
+
+		assertThat(decoder.size()).isEqualTo(1);
+	}
+
+	@Test
+	void expiredHeaderIsDecodedAgain() {
+		MutableClock clock = new MutableClock();
+		CachingOriginatingIdentityDecoder decoder = new CachingOriginatingIdentityDecoder(delegate, 10,
+				Duration.ofSeconds(30), clock);
+
+		decoder.decode("header-one");
+		clock.advance(Duration.ofSeconds(29));
+		decoder.decode("header-one");
+		clock.advance(Duration.ofSeconds(1));
+		decoder.decode("header-one");
+
+		assertThat(decodeCount).hasValue(2);
+		assertThat(decoder.getHitCount()).isEqualTo(1);
+		assertThat(decoder.getMissCount()).isEqualTo(2);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerInvalidOriginatingIdentityException;
+import org.springframework.cloud.servicebroker.model.CloudFoundryContext;
+import org.springframework.cloud.servicebroker.model.Context;
+import org.springframework.cloud.servicebroker.model.PlatformContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DefaultOriginatingIdentityDecoderTest {
+
+	private final DefaultOriginatingIdentityDecoder decoder = new DefaultOriginatingIdentityDecoder();
+
+	@Test
+	void nullHeaderDecodesToNull() {
+		assertThat(decoder.decode(null)).isNull();
+	}
+
+	@Test
+	void cloudFoundryHeaderIsDecoded() {
+		Context context = decoder.decode("cloudfoundry " + encode("{\"user_id\":\"user-guid\"}"));
+
+		assertThat(context).isInstanceOf(CloudFoundryContext.class);
+		assertThat(context.getProperty("user_id")).isEqualTo("user-guid");
+	}
+
+	@Test
+	void unknownPlatformHeaderIsDecoded() {
+		Context context = decoder.decode("test-platform " + encode("{\"key\":\"value\"}"));
+
+		assertThat(context).isInstanceOf(PlatformContext.class);
+		assertThat(context.getPlatform()).isEqualTo("test-platform");
+		assertThat(context.getProperty("key")).isEqualTo("value");
+	}
+
+	@Test
+	void repeatedDecodingProducesEqualContexts() {
+		String header = "cloudfoundry " + encode("{\"user_id\":\"user-guid\"}");
+
+		assertThat(decoder.decode(header)).isEqualTo(decoder.decode(header));
+	}
+
+	@Test
+	void invalidBase64ThrowsException() {
+		assertThrows(ServiceBrokerInvalidOriginatingIdentityException.class, () ->
+				decoder.decode("cloudfoundry not-base64!"));
+	}
+
+	@Test
+	void invalidJsonThrowsException() {
+		assertThrows(ServiceBrokerInvalidOriginatingIdentityException.class, () ->
+				decoder.decode("cloudfoundry " + encode("not-json")));
+	}
+
+	private String encode(String json) {
+		return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PrecompiledRequestValidatorTest {
+
+	private final PrecompiledRequestValidator validator = new PrecompiledRequestValidator();
+
+	@Test
+	void requestBodiesAreSupported() {
+		assertThat(validator.supports(CreateServiceInstanceRequest.class)).isTrue();
+		assertThat(validator.supports(UpdateServiceInstanceRequest.class)).isTrue();
+		assertThat(validator.supports(CreateServiceInstanceBindingRequest.class)).isTrue();
+		assertThat(validator.supports(String.class)).isFalse();
+	}
+
+	@Test
+	void validCreateRequestHasNoErrors() {
+		CreateServiceInstanceRequest request = CreateServiceInstanceRequest.builder()
+				.serviceDefinitionId("service-definition-id")
+				.planId("plan-id")
+				.build();
+
+		assertThat(validate(request).hasErrors()).isFalse();
+	}
+
+	@Test
+	void createRequestWithMissingFieldsIsRejected() {
+		CreateServiceInstanceRequest request = CreateServiceInstanceRequest.builder()
+				.serviceDefinitionId("")
+				.build();
+
+		Errors errors = validate(request);
+
+		assertThat(errors.getFieldErrors()).extracting(FieldError::getField)
+				.containsExactlyInAnyOrder("serviceDefinitionId", "planId");
+		FieldError error = errors.getFieldError("serviceDefinitionId");
+		assertThat(error.getCode()).isEqualTo("NotEmpty");
+		assertThat(error.getCodes()).contains("NotEmpty.request.serviceDefinitionId", "NotEmpty");
+		assertThat(error.getDefaultMessage()).isEqualTo("must not be empty");
+		assertThat(error.getRejectedValue()).isEqualTo("");
+		assertThat(error.getArguments()).hasSize(1);
+		assertThat(((MessageSourceResolvable) error.getArguments()[0]).getCodes())
+				.containsExactly("request.serviceDefinitionId", "serviceDefinitionId");
+	}
+
+	@Test
+	void updateRequestWithMissingServiceDefinitionIdIsRejected() {
+		UpdateServiceInstanceRequest request = UpdateServiceInstanceRequest.builder()
+				.planId("plan-id")
+				.build();
+
+		assertThat(validate(request).getFieldErrors()).extracting(FieldError::getField)
+				.containsExactly("serviceDefinitionId");
+	}
+
+	@Test
+	void bindingRequestWithMissingPlanIdIsRejected() {
+		CreateServiceInstanceBindingRequest request = CreateServiceInstanceBindingRequest.builder()
+				.serviceDefinitionId("service-definition-id")
+				.build();
+
+		assertThat(validate(request).getFieldErrors()).extracting(FieldError::getField)
+				.containsExactly("planId");
+	}
+
+	@Test
+	void constraintsFollowBeanValidationSemantics() {
+		PrecompiledRequestValidator validator = new PrecompiledRequestValidator(SupportedRequest.class);
+
+		Errors invalid = validate(validator, new SupportedRequest(null, " ", Collections.emptyList()));
+		assertThat(invalid.getFieldErrors()).extracting(FieldError::getField, FieldError::getCode)
+				.containsExactlyInAnyOrder(tuple("name", "NotNull"), tuple("description", "NotBlank"),
+						tuple("tags", "NotEmpty"));
+
+		Errors valid = validate(validator, new SupportedRequest("", "description", Collections.singletonList("tag")));
+		assertThat(valid.hasErrors()).isFalse();
+	}
+
+	@Test
+	void messagesAreResolvedWithTheMessageInterpolator() {
+		PrecompiledRequestValidator validator = new PrecompiledRequestValidator(new MessageInterpolator() {
+
+			@Override
+			public String interpolate(String messageTemplate, Context context) {
+				return interpolate(messageTemplate, context, Locale.getDefault());
+			}
+
+			@Override
+			public String interpolate(String messageTemplate, Context context, Locale locale) {
+				return messageTemplate + " " + context.getConstraintDescriptor().getAnnotation().annotationType()
+						.getSimpleName() + " '" + context.getValidatedValue() + "'";
+			}
+
+		}, SupportedRequest.class);
+
+		Errors errors = validate(validator, new SupportedRequest("name", " ", Collections.singletonList("tag")));
+
+		assertThat(errors.getFieldError("description").getDefaultMessage())
+				.isEqualTo("{jakarta.validation.constraints.NotBlank.message} NotBlank ' '");
+	}
+
+	@Test
+	void typesWithOtherConstraintsAreNotSupported() {
+		PrecompiledRequestValidator validator = new PrecompiledRequestValidator(SizedRequest.class,
+				CascadedRequest.class, GroupedRequest.class);
+
+		assertThat(validator.supports(SizedRequest.class)).isFalse();
+		assertThat(validator.supports(CascadedRequest.class)).isFalse();
+		assertThat(validator.supports(GroupedRequest.class)).isFalse();
+		assertThatThrownBy(() -> validate(validator, new SizedRequest()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private Errors validate(Object target) {
+		return validate(this.validator, target);
+	}
+
+	private static Errors validate(PrecompiledRequestValidator validator, Object target) {
+		Errors errors = new BeanPropertyBindingResult(target, "request");
+		validator.validate(target, errors);
+		return errors;
+	}
+
+	static class SupportedRequest {
+
+		@NotNull
+		private final String name;
+
+		@NotBlank
+		private final String description;
+
+		@NotEmpty
+		private final List<String> tags;
+
+		SupportedRequest(String name, String description, List<String> tags) {
+			this.name = name;
+			this.description = description;
+			this.tags = tags;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public String getDescription() {
+			return this.description;
+		}
+
+		public List<String> getTags() {
+			return this.tags;
+		}
+
+	}
+
+	static class SizedRequest {
+
+		@NotEmpty
+		@Size(max = 10)
+		private String name;
+
+		public String getName() {
+			return this.name;
+		}
+
+	}
+
+	static class CascadedRequest {
+
+		@Valid
+		private SupportedRequest nested;
+
+		public SupportedRequest getNested() {
+			return this.nested;
+		}
+
+	}
+
+	static class GroupedRequest {
+
+		@NotEmpty(groups = GroupedRequest.class)
+		private String name;
+
+		public String getName() {
+			return this.name;
+		}
+
+	}
+
+}
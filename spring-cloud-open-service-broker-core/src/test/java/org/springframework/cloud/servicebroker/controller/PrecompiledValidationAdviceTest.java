@@ -0,0 +1,77 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrecompiledValidationAdviceTest {
+
+	private final PrecompiledRequestValidator validator = new PrecompiledRequestValidator();
+
+	private final PrecompiledValidationAdvice advice = new PrecompiledValidationAdvice(validator);
+
+	private final Validator configuredValidator = new Validator() {
+		@Override
+		public boolean supports(Class<?> clazz) {
+			return true;
+		}
+
+		@Override
+		public void validate(Object target, Errors errors) {
+		}
+	};
+
+	@Test
+	void validatorIsReplacedForSupportedRequestBody() {
+		WebDataBinder binder = new WebDataBinder(CreateServiceInstanceRequest.builder().build(), "request");
+		binder.setValidator(configuredValidator);
+
+		advice.initBinder(binder);
+
+		assertThat(binder.getValidators()).containsExactly(validator);
+		binder.validate();
+		assertThat(binder.getBindingResult().getFieldErrorCount()).isEqualTo(2);
+	}
+
+	@Test
+	void validatorIsKeptForUnsupportedTarget() {
+		WebDataBinder binder = new WebDataBinder("instance-id", "request");
+		binder.setValidator(configuredValidator);
+
+		advice.initBinder(binder);
+
+		assertThat(binder.getValidators()).containsExactly(configuredValidator);
+	}
+
+	@Test
+	void validatorIsKeptWithoutTarget() {
+		WebDataBinder binder = new WebDataBinder(null);
+		binder.setValidator(configuredValidator);
+
+		advice.initBinder(binder);
+
+		assertThat(binder.getValidators()).containsExactly(configuredValidator);
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceBrokerOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+
+class RequestLoggerTest {
+
+	private final Logger logger = mock(Logger.class);
+
+	@Test
+	void summaryIsLoggedOnceOnSuccess() {
+		given(this.logger.isInfoEnabled()).willReturn(true);
+		given(this.logger.isErrorEnabled()).willReturn(true);
+
+		StepVerifier.create(new RequestLogger().log(this.logger, ServiceBrokerOperations.CREATE_SERVICE_INSTANCE,
+				"service-instance-id", null, "request", Mono.just(CreateServiceInstanceResponse.builder()
+						.async(true)
+						.build())))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		List<Invocation> info = invocations("info");
+		assertThat(info).hasSize(1);
+		Object[] arguments = (Object[]) info.get(0).getRawArguments()[1];
+		assertThat(arguments).startsWith(ServiceBrokerOperations.CREATE_SERVICE_INSTANCE, "service-instance-id", null,
+				"async");
+		assertThat(arguments).hasSize(5);
+	}
+
+	@Test
+	void requestAndResponseAreLoggedAtDebug() {
+		given(this.logger.isInfoEnabled()).willReturn(true);
+		given(this.logger.isDebugEnabled()).willReturn(true);
+
+		StepVerifier.create(new RequestLogger().log(this.logger, ServiceBrokerOperations.GET_SERVICE_INSTANCE,
+				"service-instance-id", null, "request", Mono.just("response")))
+				.expectNext("response")
+				.verifyComplete();
+
+		List<Invocation> info = invocations("info");
+		assertThat(info).hasSize(1);
+		Object[] arguments = (Object[]) info.get(0).getRawArguments()[1];
+		assertThat(arguments).endsWith("request", "response");
+	}
+
+	@Test
+	void nothingIsLoggedWhenLevelIsDisabled() {
+		Mono<String> mono = Mono.just("response");
+
+		Mono<String> logged = new RequestLogger().log(this.logger, ServiceBrokerOperations.GET_SERVICE_INSTANCE,
+				"service-instance-id", null, "request", mono);
+
+		assertThat(logged).isSameAs(mono);
+	}
+
+	@Test
+	void failureIsLoggedWhenSummaryIsNotSampled() {
+		given(this.logger.isInfoEnabled()).willReturn(true);
+		given(this.logger.isErrorEnabled()).willReturn(true);
+		RequestLogger requestLogger = new RequestLogger(new RequestLogger.Settings(Level.INFO, 0),
+				Collections.emptyMap());
+
+		StepVerifier.create(requestLogger.log(this.logger, ServiceBrokerOperations.DELETE_SERVICE_INSTANCE_BINDING,
+				"service-instance-id", "binding-id", "request", Mono.error(new IllegalStateException("failed"))))
+				.expectError(IllegalStateException.class)
+				.verify();
+
+		assertThat(invocations("info")).isEmpty();
+		List<Invocation> error = invocations("error");
+		assertThat(error).hasSize(1);
+		Object[] arguments = (Object[]) error.get(0).getRawArguments()[1];
+		assertThat(arguments).startsWith(ServiceBrokerOperations.DELETE_SERVICE_INSTANCE_BINDING, "service-instance-id",
+				"binding-id", "error");
+		assertThat(arguments[arguments.length - 1]).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void operationSettingsOverrideDefaults() {
+		given(this.logger.isInfoEnabled()).willReturn(true);
+		given(this.logger.isWarnEnabled()).willReturn(true);
+		RequestLogger requestLogger = new RequestLogger(new RequestLogger.Settings(Level.INFO, 1),
+				Collections.singletonMap("get-last-service-operation", new RequestLogger.Settings(Level.WARN, 1)));
+
+		StepVerifier.create(requestLogger.log(this.logger, ServiceBrokerOperations.GET_LAST_SERVICE_OPERATION,
+				"service-instance-id", null, "request", Mono.just("response")))
+				.expectNext("response")
+				.verifyComplete();
+
+		assertThat(invocations("warn")).hasSize(1);
+		assertThat(invocations("info")).isEmpty();
+	}
+
+	@Test
+	void unknownOperationIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new RequestLogger(
+				new RequestLogger.Settings(Level.INFO, 1),
+				Collections.singletonMap("unknown", new RequestLogger.Settings(Level.WARN, 1))));
+	}
+
+	@Test
+	void invalidSampleRateIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new RequestLogger.Settings(Level.INFO, 1.5));
+	}
+
+	private List<Invocation> invocations(String methodName) {
+		return mockingDetails(this.logger).getInvocations().stream()
+				.filter(invocation -> invocation.getMethod().getName().equals(methodName))
+				.collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.ReloadableCatalogService;
+import org.springframework.cloud.servicebroker.service.SerializedCatalog;
+import org.springframework.cloud.servicebroker.service.metrics.MetricsServiceDecorator;
+import org.springframework.cloud.servicebroker.service.metrics.ServiceBrokerMetrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class SerializedCatalogControllerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	private CatalogService catalogService;
+
+	private SerializedCatalogController controller;
+
+	private Catalog catalog;
+
+	@BeforeEach
+	void setUp() {
+		this.catalog = catalog("service-one-id");
+		this.controller = new SerializedCatalogController(catalogService, objectMapper);
+	}
+
+	@Test
+	void serializedCatalogIsReturned() throws Exception {
+		given(catalogService.getCatalog())
+				.willReturn(Mono.just(catalog));
+
+		ResponseEntity<byte[]> response = controller.getCatalog(new HttpHeaders()).block();
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(response.getHeaders().getETag()).isEqualTo(SerializedCatalog.of(catalog, objectMapper).getETag());
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(catalog));
+	}
+
+	@Test
+	void gzipCatalogIsReturnedWhenAccepted() {
+		given(catalogService.getCatalog())
+				.willReturn(Mono.just(catalog));
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8");
+
+		ResponseEntity<byte[]> response = controller.getCatalog(headers).block();
+
+		SerializedCatalog expected = SerializedCatalog.of(catalog, objectMapper);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getHeaders().getETag()).isEqualTo(expected.getGzipETag());
+		assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+		assertThat(response.getBody()).isEqualTo(expected.getGzipBody());
+	}
+
+	@Test
+	void identityCatalogIsReturnedWhenGzipIsRefused() {
+		given(catalogService.getCatalog())
+				.willReturn(Mono.just(catalog));
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+
+		ResponseEntity<byte[]> response = controller.getCatalog(headers).block();
+
+		assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+	}
+
+	@Test
+	void notModifiedIsReturnedWhenETagMatches() {
+		given(catalogService.getCatalog())
+				.willReturn(Mono.just(catalog));
+		String eTag = controller.getCatalog(new HttpHeaders()).block().getHeaders().getETag();
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch(eTag);
+
+		ResponseEntity<byte[]> response = controller.getCatalog(headers).block();
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+		assertThat(response.getBody()).isNull();
+	}
+
+	@Test
+	void catalogIsReturnedWhenETagDoesNotMatch() {
+		given(catalogService.getCatalog())
+				.willReturn(Mono.just(catalog));
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("\"stale\"");
+
+		ResponseEntity<byte[]> response = controller.getCatalog(headers).block();
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+	}
+
+	@Test
+	void catalogIsSerializedAgainWhenItChanges() {
+		Catalog updatedCatalog = catalog("service-two-id");
+		given(catalogService.getCatalog())
+				.willReturn(Mono.just(catalog), Mono.just(catalog), Mono.just(updatedCatalog));
+
+		byte[] first = controller.getCatalog(new HttpHeaders()).block().getBody();
+		byte[] second = controller.getCatalog(new HttpHeaders()).block().getBody();
+		byte[] third = controller.getCatalog(new HttpHeaders()).block().getBody();
+
+		assertThat(second).isSameAs(first);
+		assertThat(third).isNotEqualTo(first);
+	}
+
+	@Test
+	void serializedSnapshotOfReloadableCatalogServiceIsReturned() {
+		ReloadableCatalogService reloadableCatalogService = new ReloadableCatalogService(() -> catalog,
+				objectMapper);
+		SerializedCatalogController reloadableController = new SerializedCatalogController(reloadableCatalogService,
+				objectMapper);
+
+		byte[] body = reloadableController.getCatalog(new HttpHeaders()).block().getBody();
+
+		assertThat(body).isSameAs(reloadableCatalogService.getSnapshot().getSerializedCatalog().getBody());
+	}
+
+	@Test
+	void serializedSnapshotOfMeteredReloadableCatalogServiceIsReturned() {
+		ReloadableCatalogService reloadableCatalogService = new ReloadableCatalogService(() -> catalog,
+				objectMapper);
+		CatalogService meteredCatalogService = new MetricsServiceDecorator(
+				new ServiceBrokerMetrics(new SimpleMeterRegistry())).decorateCatalogService(reloadableCatalogService);
+		SerializedCatalogController meteredController = new SerializedCatalogController(meteredCatalogService,
+				objectMapper);
+
+		byte[] body = meteredController.getCatalog(new HttpHeaders()).block().getBody();
+
+		assertThat(body).isSameAs(reloadableCatalogService.getSnapshot().getSerializedCatalog().getBody());
+	}
+
+	private Catalog catalog(String serviceId) {
+		return Catalog.builder()
+				.serviceDefinitions(ServiceDefinition.builder()
+						.id(serviceId)
+						.name("service")
+						.description("a service")
+						.build())
+				.build();
+	}
+
+}
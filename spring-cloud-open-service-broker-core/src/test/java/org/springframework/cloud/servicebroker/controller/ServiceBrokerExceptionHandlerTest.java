@@ -16,16 +16,20 @@
 
 package org.springframework.cloud.servicebroker.controller;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerApiVersionException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerAsyncRequiredException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerBindingRequiresAppException;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerCapacityExceededException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerConcurrencyException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerInvalidOriginatingIdentityException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerInvalidParametersException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerOperationInProgressException;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerRateLimitExceededException;
 import org.springframework.cloud.servicebroker.exception.ServiceBrokerUnavailableException;
 import org.springframework.cloud.servicebroker.exception.ServiceDefinitionDoesNotExistException;
 import org.springframework.cloud.servicebroker.exception.ServiceDefinitionPlanDoesNotExistException;
@@ -35,11 +39,16 @@ import org.springframework.cloud.servicebroker.exception.ServiceInstanceDoesNotE
 import org.springframework.cloud.servicebroker.exception.ServiceInstanceExistsException;
 import org.springframework.cloud.servicebroker.exception.ServiceInstanceUpdateNotSupportedException;
 import org.springframework.cloud.servicebroker.model.error.ErrorMessage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.cloud.servicebroker.exception.ServiceBrokerAsyncRequiredException.ASYNC_REQUIRED_ERROR;
 import static org.springframework.cloud.servicebroker.exception.ServiceBrokerBindingRequiresAppException.APP_REQUIRED_ERROR;
+import static org.springframework.cloud.servicebroker.exception.ServiceBrokerCapacityExceededException.CAPACITY_EXCEEDED_ERROR;
 import static org.springframework.cloud.servicebroker.exception.ServiceBrokerConcurrencyException.CONCURRENCY_ERROR;
+import static org.springframework.cloud.servicebroker.exception.ServiceBrokerRateLimitExceededException.RATE_LIMIT_EXCEEDED_ERROR;
 
 abstract class ServiceBrokerExceptionHandlerTest {
 
@@ -168,6 +177,43 @@ abstract class ServiceBrokerExceptionHandlerTest {
 		assertThat(errorMessage.getMessage()).contains("operation in progress");
 	}
 
+	@Test
+	void serviceBrokerRateLimitExceededException() {
+		ServiceBrokerRateLimitExceededException exception =
+				new ServiceBrokerRateLimitExceededException("too many requests", Duration.ofMillis(1500));
+
+		ResponseEntity<ErrorMessage> response = exceptionHandler.handleException(exception);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(response.getBody().getError()).isEqualTo(RATE_LIMIT_EXCEEDED_ERROR);
+		assertThat(response.getBody().getMessage()).contains("too many requests");
+	}
+
+	@Test
+	void serviceBrokerRateLimitExceededExceptionWithoutRetryAfter() {
+		ServiceBrokerRateLimitExceededException exception =
+				new ServiceBrokerRateLimitExceededException("too many requests");
+
+		ResponseEntity<ErrorMessage> response = exceptionHandler.handleException(exception);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(response.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+	}
+
+	@Test
+	void serviceBrokerCapacityExceededException() {
+		ServiceBrokerCapacityExceededException exception =
+				new ServiceBrokerCapacityExceededException("too many operations", Duration.ofSeconds(1));
+
+		ResponseEntity<ErrorMessage> response = exceptionHandler.handleException(exception);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(response.getBody().getError()).isEqualTo(CAPACITY_EXCEEDED_ERROR);
+		assertThat(response.getBody().getMessage()).contains("too many operations");
+	}
+
 	@Test
 	void serviceBrokerException() {
 		ServiceBrokerException exception = new ServiceBrokerException("test message");
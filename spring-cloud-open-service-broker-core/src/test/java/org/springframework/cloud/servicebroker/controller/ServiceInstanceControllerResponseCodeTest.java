@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.servicebroker.controller;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -41,6 +42,7 @@ import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInsta
 import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
 import org.springframework.cloud.servicebroker.service.CatalogService;
 import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -343,6 +345,40 @@ class ServiceInstanceControllerResponseCodeTest {
 				.build(), HttpStatus.OK);
 	}
 
+	@Test
+	void getLastOperationWithRetryAfterGivesRetryAfterHeader() {
+		given(serviceInstanceService.getLastOperation(any(GetLastServiceOperationRequest.class)))
+				.willReturn(Mono.just(GetLastServiceOperationResponse.builder()
+						.operationState(OperationState.IN_PROGRESS)
+						.retryAfter(Duration.ofMillis(2500))
+						.build()));
+
+		ResponseEntity<GetLastServiceOperationResponse> responseEntity = controller
+				.getServiceInstanceLastOperation(pathVariables, null, null, null, null,
+						null, null, null)
+				.block();
+
+		assertThat(responseEntity).isNotNull();
+		assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(responseEntity.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+	}
+
+	@Test
+	void getLastOperationWithoutRetryAfterGivesNoRetryAfterHeader() {
+		given(serviceInstanceService.getLastOperation(any(GetLastServiceOperationRequest.class)))
+				.willReturn(Mono.just(GetLastServiceOperationResponse.builder()
+						.operationState(OperationState.IN_PROGRESS)
+						.build()));
+
+		ResponseEntity<GetLastServiceOperationResponse> responseEntity = controller
+				.getServiceInstanceLastOperation(pathVariables, null, null, null, null,
+						null, null, null)
+				.block();
+
+		assertThat(responseEntity).isNotNull();
+		assertThat(responseEntity.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+	}
+
 	private void validateGetLastOperationWithResponseStatus(GetLastServiceOperationResponse response,
 			HttpStatus expectedStatus) {
 		given(serviceInstanceService.getLastOperation(any(GetLastServiceOperationRequest.class)))
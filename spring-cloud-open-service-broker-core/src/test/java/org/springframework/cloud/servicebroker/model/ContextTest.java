@@ -16,9 +16,16 @@
 
 package org.springframework.cloud.servicebroker.model;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
 class ContextTest {
 
 	@Test
@@ -28,4 +35,27 @@ class ContextTest {
 				.verify();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void unmodifiableContextPropertiesCannotBeChanged() {
+		Context context = PlatformContext.builder()
+				.platform("test-platform")
+				.property("key", "value")
+				.property("nested", new HashMap<>(Collections.singletonMap("nested-key", "nested-value")))
+				.build();
+		Context copy = PlatformContext.builder()
+				.platform("test-platform")
+				.properties(context.getProperties())
+				.build();
+
+		context.makeUnmodifiable();
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> context.getProperties().put("key", "other"));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> ((Map<String, Object>) context.getProperty("nested")).clear());
+		assertThat(context).isEqualTo(copy);
+		assertThat(context.getProperty("key")).isEqualTo("value");
+	}
+
 }
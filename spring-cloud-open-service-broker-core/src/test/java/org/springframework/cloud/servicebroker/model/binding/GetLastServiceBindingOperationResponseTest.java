@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.servicebroker.model.binding;
 
+import java.time.Duration;
+
 import com.jayway.jsonpath.DocumentContext;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
@@ -66,16 +68,19 @@ class GetLastServiceBindingOperationResponseTest {
 				.operationState(OperationState.SUCCEEDED)
 				.description("description")
 				.deleteOperation(true)
+				.retryAfter(Duration.ofSeconds(10))
 				.build();
 
 		assertThat(response.getState()).isEqualTo(OperationState.SUCCEEDED);
 		assertThat(response.getDescription()).isEqualTo("description");
 		assertThat(response.isDeleteOperation()).isEqualTo(true);
+		assertThat(response.getRetryAfter()).isEqualTo(Duration.ofSeconds(10));
 
 		DocumentContext json = JsonUtils.toJsonPath(response);
 
 		assertThat(json).hasPath("$.state").isEqualTo(OperationState.SUCCEEDED.toString());
 		assertThat(json).hasPath("$.description").isEqualTo("description");
+		assertThat(json).hasNoPath("$.retryAfter");
 	}
 
 	@Test
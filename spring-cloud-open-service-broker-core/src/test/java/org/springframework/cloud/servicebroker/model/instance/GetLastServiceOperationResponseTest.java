@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.servicebroker.model.instance;
 
+import java.time.Duration;
+
 import com.jayway.jsonpath.DocumentContext;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
@@ -78,6 +80,7 @@ class GetLastServiceOperationResponseTest {
 				.instanceUsable(false)
 				.updateRepeatable(false)
 				.deleteOperation(true)
+				.retryAfter(Duration.ofSeconds(10))
 				.build();
 
 		assertThat(response.getState()).isEqualTo(OperationState.SUCCEEDED);
@@ -85,6 +88,7 @@ class GetLastServiceOperationResponseTest {
 		assertThat(response.isInstanceUsable()).isFalse();
 		assertThat(response.isUpdateRepeatable()).isFalse();
 		assertThat(response.isDeleteOperation()).isTrue();
+		assertThat(response.getRetryAfter()).isEqualTo(Duration.ofSeconds(10));
 
 		DocumentContext json = JsonUtils.toJsonPath(response);
 
@@ -93,6 +97,7 @@ class GetLastServiceOperationResponseTest {
 		assertThat(json).hasPath("$.instance_usable").isEqualTo(false);
 		assertThat(json).hasPath("$.update_repeatable").isEqualTo(false);
 		assertThat(json).hasNoPath("$.delete_operation");
+		assertThat(json).hasNoPath("$.retry_after");
 	}
 
 	@Test
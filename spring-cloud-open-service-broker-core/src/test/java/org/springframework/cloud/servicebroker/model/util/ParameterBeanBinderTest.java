@@ -0,0 +1,326 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.model.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.SuppressPropertiesBeanIntrospector;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ParameterBeanBinderTest {
+
+	private final BeanUtilsBean beanUtils = createBeanUtils();
+
+	private final ParameterBeanBinder<TestBean> binder = ParameterBeanBinder.of(TestBean.class, beanUtils);
+
+	@Test
+	void valuesOfPropertyTypeAreSet() {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("stringProperty", "value");
+		parameters.put("intProperty", 1);
+		parameters.put("integerProperty", 2);
+		parameters.put("longProperty", 3L);
+		parameters.put("booleanProperty", true);
+		parameters.put("doubleProperty", 4.5d);
+		parameters.put("listProperty", Arrays.asList("one", "two"));
+		parameters.put("mapProperty", Collections.singletonMap("key", "value"));
+
+		TestBean bean = binder.bind(parameters);
+
+		assertThat(bean.getStringProperty()).isEqualTo("value");
+		assertThat(bean.getIntProperty()).isEqualTo(1);
+		assertThat(bean.getIntegerProperty()).isEqualTo(2);
+		assertThat(bean.getLongProperty()).isEqualTo(3L);
+		assertThat(bean.isBooleanProperty()).isTrue();
+		assertThat(bean.getDoubleProperty()).isEqualTo(4.5d);
+		assertThat(bean.getListProperty()).containsExactly("one", "two");
+		assertThat(bean.getMapProperty()).containsEntry("key", "value");
+		assertSameAsBeanUtils(parameters);
+	}
+
+	@Test
+	void valuesAreConvertedLikeBeanUtils() {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("stringProperty", 42);
+		parameters.put("intProperty", "7");
+		parameters.put("integerProperty", 8L);
+		parameters.put("longProperty", "not a number");
+		parameters.put("booleanProperty", "yes");
+		parameters.put("doubleProperty", new String[] {"1.5", "2.5"});
+		parameters.put("arrayProperty", "one,two");
+		parameters.put("intArrayProperty", Arrays.asList(1, "2"));
+
+		TestBean bean = binder.bind(parameters);
+
+		assertThat(bean.getStringProperty()).isEqualTo("42");
+		assertThat(bean.getIntProperty()).isEqualTo(7);
+		assertThat(bean.getIntegerProperty()).isEqualTo(8);
+		assertThat(bean.isBooleanProperty()).isTrue();
+		assertThat(bean.getDoubleProperty()).isEqualTo(1.5d);
+		assertSameAsBeanUtils(parameters);
+	}
+
+	@Test
+	void nullValuesAreConvertedLikeBeanUtils() {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("stringProperty", null);
+		parameters.put("integerProperty", null);
+		parameters.put("listProperty", null);
+		parameters.put("arrayProperty", null);
+
+		assertSameAsBeanUtils(parameters);
+	}
+
+	@Test
+	void nestedAndUnknownPropertiesAreHandledLikeBeanUtils() {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("nestedBean.booleanProperty", "true");
+		parameters.put("listProperty[0]", "replaced");
+		parameters.put("readOnlyProperty", "ignored");
+		parameters.put("unknownProperty", "ignored");
+		parameters.put("class", "ignored");
+
+		TestBean bean = binder.bind(parameters);
+
+		assertThat(bean.getNestedBean().isBooleanProperty()).isTrue();
+		assertThat(bean.getListProperty()).containsExactly("replaced");
+		assertThat(bean.getReadOnlyProperty()).isEqualTo("read-only");
+		assertSameAsBeanUtils(parameters);
+	}
+
+	@Test
+	void nullParametersCreateBean() {
+		assertThat(binder.bind(null)).isNotNull();
+	}
+
+	@Test
+	void valueOfIncompatibleTypeIsRejected() {
+		Map<String, Object> parameters = Collections.singletonMap("nestedBean", Collections.emptyMap());
+		ParameterBeanBinder<WritableNestedBean> binder = ParameterBeanBinder.of(WritableNestedBean.class, beanUtils);
+
+		assertThatThrownBy(() -> binder.bind(parameters)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(catchThrowable(() -> populateWithBeanUtils(parameters, WritableNestedBean.class)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void setterExceptionIsWrapped() {
+		Map<String, Object> parameters = Collections.singletonMap("value", "invalid");
+		ParameterBeanBinder<FailingBean> binder = ParameterBeanBinder.of(FailingBean.class, beanUtils);
+
+		assertThatThrownBy(() -> binder.bind(parameters)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Error mapping parameters to class of type " + FailingBean.class.getName())
+				.hasRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void typeWithoutDefaultConstructorIsRejected() {
+		assertThatThrownBy(() -> ParameterBeanBinder.of(NoDefaultConstructorBean.class, beanUtils))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Error mapping parameters to class of type " + NoDefaultConstructorBean.class.getName());
+	}
+
+	private void assertSameAsBeanUtils(Map<String, Object> parameters) {
+		TestBean expected = populateWithBeanUtils(parameters, TestBean.class);
+
+		assertThat(binder.bind(parameters)).usingRecursiveComparison().isEqualTo(expected);
+	}
+
+	private static <T> T populateWithBeanUtils(Map<String, Object> parameters, Class<T> cls) {
+		try {
+			T bean = cls.getDeclaredConstructor().newInstance();
+			createBeanUtils().populate(bean, parameters);
+			return bean;
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static BeanUtilsBean createBeanUtils() {
+		BeanUtilsBean beanUtils = new BeanUtilsBean();
+		beanUtils.getPropertyUtils().addBeanIntrospector(SuppressPropertiesBeanIntrospector.SUPPRESS_CLASS);
+		return beanUtils;
+	}
+
+	public static final class TestBean {
+
+		private String stringProperty;
+
+		private int intProperty;
+
+		private Integer integerProperty;
+
+		private long longProperty;
+
+		private boolean booleanProperty;
+
+		private double doubleProperty;
+
+		private String[] arrayProperty;
+
+		private int[] intArrayProperty;
+
+		private List<String> listProperty = Arrays.asList("initial");
+
+		private Map<String, Object> mapProperty;
+
+		private final NestedBean nestedBean = new NestedBean();
+
+		public String getStringProperty() {
+			return stringProperty;
+		}
+
+		public void setStringProperty(String stringProperty) {
+			this.stringProperty = stringProperty;
+		}
+
+		public int getIntProperty() {
+			return intProperty;
+		}
+
+		public void setIntProperty(int intProperty) {
+			this.intProperty = intProperty;
+		}
+
+		public Integer getIntegerProperty() {
+			return integerProperty;
+		}
+
+		public void setIntegerProperty(Integer integerProperty) {
+			this.integerProperty = integerProperty;
+		}
+
+		public long getLongProperty() {
+			return longProperty;
+		}
+
+		public void setLongProperty(long longProperty) {
+			this.longProperty = longProperty;
+		}
+
+		public boolean isBooleanProperty() {
+			return booleanProperty;
+		}
+
+		public void setBooleanProperty(boolean booleanProperty) {
+			this.booleanProperty = booleanProperty;
+		}
+
+		public double getDoubleProperty() {
+			return doubleProperty;
+		}
+
+		public void setDoubleProperty(double doubleProperty) {
+			this.doubleProperty = doubleProperty;
+		}
+
+		public String[] getArrayProperty() {
+			return arrayProperty;
+		}
+
+		public void setArrayProperty(String[] arrayProperty) {
+			this.arrayProperty = arrayProperty;
+		}
+
+		public int[] getIntArrayProperty() {
+			return intArrayProperty;
+		}
+
+		public void setIntArrayProperty(int[] intArrayProperty) {
+			this.intArrayProperty = intArrayProperty;
+		}
+
+		public List<String> getListProperty() {
+			return listProperty;
+		}
+
+		public void setListProperty(List<String> listProperty) {
+			this.listProperty = listProperty;
+		}
+
+		public Map<String, Object> getMapProperty() {
+			return mapProperty;
+		}
+
+		public void setMapProperty(Map<String, Object> mapProperty) {
+			this.mapProperty = mapProperty;
+		}
+
+		public String getReadOnlyProperty() {
+			return "read-only";
+		}
+
+		public NestedBean getNestedBean() {
+			return nestedBean;
+		}
+
+	}
+
+	public static final class NestedBean {
+
+		private boolean booleanProperty;
+
+		public boolean isBooleanProperty() {
+			return booleanProperty;
+		}
+
+		public void setBooleanProperty(boolean booleanProperty) {
+			this.booleanProperty = booleanProperty;
+		}
+
+	}
+
+	public static final class WritableNestedBean {
+
+		private NestedBean nestedBean;
+
+		public NestedBean getNestedBean() {
+			return nestedBean;
+		}
+
+		public void setNestedBean(NestedBean nestedBean) {
+			this.nestedBean = nestedBean;
+		}
+
+	}
+
+	public static final class FailingBean {
+
+		public void setValue(String value) {
+			throw new IllegalStateException(value);
+		}
+
+	}
+
+	public static final class NoDefaultConstructorBean {
+
+		public NoDefaultConstructorBean(String value) {
+		}
+
+	}
+
+}
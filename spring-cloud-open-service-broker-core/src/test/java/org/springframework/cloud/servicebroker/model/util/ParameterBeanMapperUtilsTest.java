@@ -41,6 +41,19 @@ class ParameterBeanMapperUtilsTest {
 		assertThat(testBean.getNestedBean().isBooleanProperty()).isEqualTo(true);
 	}
 
+	@Test
+	void mapParametersToNewBeanOnEachCall() {
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("stringProperty", "value1");
+
+		TestBean first = ParameterBeanMapperUtils.mapParametersToBean(parameters, TestBean.class);
+		TestBean second = ParameterBeanMapperUtils.mapParametersToBean(null, TestBean.class);
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(first.getStringProperty()).isEqualTo("value1");
+		assertThat(second.getStringProperty()).isNull();
+	}
+
 	public static final class TestBean {
 
 		private String stringProperty;
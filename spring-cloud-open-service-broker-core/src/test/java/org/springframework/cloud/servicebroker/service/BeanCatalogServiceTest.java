@@ -20,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
 import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,19 +29,29 @@ class BeanCatalogServiceTest {
 
 	private static final String SVC_DEF_ID = "svc-def-id";
 
+	private static final String PLAN_ID = "plan-id";
+
 	private BeanCatalogService service;
 
 	private Catalog catalog;
 
 	private ServiceDefinition serviceDefinition;
 
+	private Plan plan;
+
 	@BeforeEach
 	void setUp() {
+		plan = Plan.builder()
+				.id(PLAN_ID)
+				.name("plan-name")
+				.build();
+
 		serviceDefinition = ServiceDefinition.builder()
 				.id(SVC_DEF_ID)
 				.name("Name")
 				.description("Description")
 				.bindable(true)
+				.plans(plan)
 				.build();
 
 		catalog = Catalog.builder()
@@ -65,4 +76,15 @@ class BeanCatalogServiceTest {
 		assertThat(service.getServiceDefinition("NOT_THERE").block()).isNull();
 	}
 
+	@Test
+	void planIsFoundInCatalogIndex() {
+		assertThat(service.getCatalogIndex().getPlan(SVC_DEF_ID, PLAN_ID)).isEqualTo(plan);
+	}
+
+	@Test
+	void planIsNotFoundInCatalogIndex() {
+		assertThat(service.getCatalogIndex().getPlan(SVC_DEF_ID, "NOT_THERE")).isNull();
+		assertThat(service.getCatalogIndex().getPlan("NOT_THERE", PLAN_ID)).isNull();
+	}
+
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReloadableCatalogServiceTest {
+
+	private final AtomicReference<Catalog> source = new AtomicReference<>(catalog("service-one-id", "plan-one-id"));
+
+	@Test
+	void catalogIsLoadedFromSource() {
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(source::get);
+
+		assertThat(catalogService.getCatalog().block()).isSameAs(source.get());
+		assertThat(catalogService.getServiceDefinition("service-one-id").block()).isNotNull();
+		assertThat(catalogService.getCatalogIndex().getPlan("service-one-id", "plan-one-id")).isNotNull();
+		assertThat(catalogService.getSnapshot().getSerializedCatalog()).isNull();
+	}
+
+	@Test
+	void catalogIsReloadedFromSource() {
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(source::get);
+		CatalogSnapshot initial = catalogService.getSnapshot();
+
+		source.set(catalog("service-two-id", "plan-two-id"));
+		catalogService.reload();
+
+		assertThat(catalogService.getServiceDefinition("service-one-id").block()).isNull();
+		assertThat(catalogService.getServiceDefinition("service-two-id").block()).isNotNull();
+		assertThat(initial.getCatalogIndex().getServiceDefinition("service-one-id")).isNotNull();
+		assertThat(initial.getCatalogIndex().getServiceDefinition("service-two-id")).isNull();
+	}
+
+	@Test
+	void catalogIsUpdatedByEvent() {
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(source::get);
+		Catalog updated = catalog("service-two-id", "plan-two-id");
+
+		catalogService.onApplicationEvent(new CatalogReloadEvent(this, updated));
+
+		assertThat(catalogService.getCatalog().block()).isSameAs(updated);
+	}
+
+	@Test
+	void catalogIsReloadedByEventWithoutCatalog() {
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(source::get);
+		source.set(catalog("service-two-id", "plan-two-id"));
+
+		catalogService.onApplicationEvent(new CatalogReloadEvent(this));
+
+		assertThat(catalogService.getCatalog().block()).isSameAs(source.get());
+	}
+
+	@Test
+	void currentCatalogIsRetainedWhenReloadByEventFails() {
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(source::get);
+		Catalog initial = source.get();
+		source.set(null);
+
+		catalogService.onApplicationEvent(new CatalogReloadEvent(this));
+
+		assertThat(catalogService.getCatalog().block()).isSameAs(initial);
+	}
+
+	@Test
+	void reloadFailsWhenSourceReturnsNull() {
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(source::get);
+		source.set(null);
+
+		assertThrows(IllegalStateException.class, catalogService::reload);
+	}
+
+	@Test
+	void catalogIsSerializedWhenObjectMapperIsProvided() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		ReloadableCatalogService catalogService = new ReloadableCatalogService(source::get, objectMapper);
+
+		assertThat(catalogService.getSnapshot().getSerializedCatalog().getBody())
+				.isEqualTo(objectMapper.writeValueAsBytes(source.get()));
+	}
+
+	private static Catalog catalog(String serviceId, String planId) {
+		return Catalog.builder()
+				.serviceDefinitions(ServiceDefinition.builder()
+						.id(serviceId)
+						.name("service")
+						.description("a service")
+						.plans(Plan.builder()
+								.id(planId)
+								.name("plan")
+								.description("a plan")
+								.build())
+						.build())
+				.build();
+	}
+
+}
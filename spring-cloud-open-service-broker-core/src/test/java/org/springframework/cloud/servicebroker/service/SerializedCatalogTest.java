@@ -0,0 +1,77 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedCatalogTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void catalogIsSerialized() throws IOException {
+		Catalog catalog = catalog("service-one-id");
+
+		SerializedCatalog serializedCatalog = SerializedCatalog.of(catalog, objectMapper);
+
+		assertThat(serializedCatalog.getCatalog()).isSameAs(catalog);
+		assertThat(serializedCatalog.getBody()).isEqualTo(objectMapper.writeValueAsBytes(catalog));
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(serializedCatalog.getGzipBody()))) {
+			assertThat(gzip.readAllBytes()).isEqualTo(serializedCatalog.getBody());
+		}
+	}
+
+	@Test
+	void eTagsAreStrongAndDistinctPerEncoding() {
+		SerializedCatalog serializedCatalog = SerializedCatalog.of(catalog("service-one-id"), objectMapper);
+
+		assertThat(serializedCatalog.getETag()).startsWith("\"").endsWith("\"");
+		assertThat(serializedCatalog.getGzipETag()).startsWith("\"").endsWith("-gzip\"");
+		assertThat(serializedCatalog.getGzipETag()).isNotEqualTo(serializedCatalog.getETag());
+	}
+
+	@Test
+	void eTagDependsOnContent() {
+		SerializedCatalog first = SerializedCatalog.of(catalog("service-one-id"), objectMapper);
+		SerializedCatalog same = SerializedCatalog.of(catalog("service-one-id"), objectMapper);
+		SerializedCatalog different = SerializedCatalog.of(catalog("service-two-id"), objectMapper);
+
+		assertThat(same.getETag()).isEqualTo(first.getETag());
+		assertThat(different.getETag()).isNotEqualTo(first.getETag());
+	}
+
+	private Catalog catalog(String serviceId) {
+		return Catalog.builder()
+				.serviceDefinitions(ServiceDefinition.builder()
+						.id(serviceId)
+						.name("service")
+						.description("a service")
+						.build())
+				.build();
+	}
+
+}
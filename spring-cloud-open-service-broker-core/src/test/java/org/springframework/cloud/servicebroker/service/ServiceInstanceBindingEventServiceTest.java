@@ -56,6 +56,8 @@ import org.springframework.cloud.servicebroker.service.events.flows.DeleteServic
 import org.springframework.cloud.servicebroker.service.events.flows.DeleteServiceInstanceBindingInitializationFlow;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 class ServiceInstanceBindingEventServiceTest {
 
@@ -127,6 +129,30 @@ class ServiceInstanceBindingEventServiceTest {
 		assertThat(this.results.getErrorDelete()).isNullOrEmpty();
 	}
 
+	@Test
+	void createServiceInstanceBindingWithoutFlowsCallsServiceDirectly() {
+		ServiceInstanceBindingService service = mock(ServiceInstanceBindingService.class);
+		CreateServiceInstanceBindingRequest request = CreateServiceInstanceBindingRequest.builder()
+				.serviceInstanceId("service-instance-id")
+				.serviceDefinitionId("service-binding-id")
+				.build();
+		Mono<CreateServiceInstanceBindingResponse> response = Mono.just(
+				CreateServiceInstanceAppBindingResponse.builder().build());
+		given(service.createServiceInstanceBinding(request)).willReturn(response);
+		ServiceInstanceBindingEventService eventService = new ServiceInstanceBindingEventService(service,
+				eventFlowRegistries);
+
+		assertThat(eventService.createServiceInstanceBinding(request)).isSameAs(response);
+
+		prepareBindingFlows();
+
+		StepVerifier.create(eventService.createServiceInstanceBinding(request))
+				.expectNext(CreateServiceInstanceAppBindingResponse.builder().build())
+				.verifyComplete();
+
+		assertThat(this.results.getBeforeCreate()).isEqualTo("before create service-instance-id");
+	}
+
 	@Test
 	void getServiceInstanceBinding() {
 		StepVerifier
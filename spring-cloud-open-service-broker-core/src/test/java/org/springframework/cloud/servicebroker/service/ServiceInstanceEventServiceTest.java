@@ -46,6 +46,8 @@ import org.springframework.cloud.servicebroker.service.events.flows.UpdateServic
 import org.springframework.cloud.servicebroker.service.events.flows.UpdateServiceInstanceInitializationFlow;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @SuppressWarnings("deprecation")
 class ServiceInstanceEventServiceTest {
@@ -250,6 +252,29 @@ class ServiceInstanceEventServiceTest {
 		assertThat(this.results.getErrorUpdate()).isEqualTo("error service-instance-id");
 	}
 
+	@Test
+	void createServiceInstanceWithoutFlowsCallsServiceDirectly() {
+		ServiceInstanceService service = mock(ServiceInstanceService.class);
+		CreateServiceInstanceRequest request = CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("service-instance-id")
+				.serviceDefinitionId("service-def-id")
+				.build();
+		Mono<CreateServiceInstanceResponse> response = Mono.just(CreateServiceInstanceResponse.builder().build());
+		given(service.createServiceInstance(request)).willReturn(response);
+		ServiceInstanceEventService eventService = new ServiceInstanceEventService(service, eventFlowRegistries);
+
+		assertThat(eventService.createServiceInstance(request)).isSameAs(response);
+
+		prepareCreateEventFlows();
+
+		StepVerifier.create(eventService.createServiceInstance(request))
+				.expectNext(CreateServiceInstanceResponse.builder().build())
+				.verifyComplete();
+
+		assertThat(this.results.getBeforeCreate()).isEqualTo("before service-instance-id");
+		assertThat(this.results.getAfterCreate()).isEqualTo("after service-instance-id");
+	}
+
 	@Test
 	void getServiceInstance() {
 	}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceAppBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockingServiceInstanceBindingServiceAdapterTest {
+
+	private final AtomicReference<String> threadName = new AtomicReference<>();
+
+	private final Scheduler scheduler = Schedulers.newBoundedElastic(2, 10, "blocking-test");
+
+	private final ServiceInstanceBindingService service = new BlockingServiceInstanceBindingServiceAdapter(
+			new TestBlockingServiceInstanceBindingService(), this.scheduler);
+
+	@AfterEach
+	void tearDown() {
+		this.scheduler.dispose();
+	}
+
+	@Test
+	void blockingCallIsInvokedOnScheduler() {
+		StepVerifier.create(this.service.createServiceInstanceBinding(CreateServiceInstanceBindingRequest.builder()
+				.bindingId("binding-id")
+				.build()))
+				.assertNext(response -> assertThat(response.isBindingExisted()).isTrue())
+				.verifyComplete();
+
+		assertThat(this.threadName.get()).startsWith("blocking-test");
+	}
+
+	@Test
+	void unimplementedCallIsSignalledAsError() {
+		StepVerifier.create(this.service.deleteServiceInstanceBinding(DeleteServiceInstanceBindingRequest.builder()
+				.bindingId("binding-id")
+				.build()))
+				.expectError(UnsupportedOperationException.class)
+				.verify();
+	}
+
+	private final class TestBlockingServiceInstanceBindingService implements BlockingServiceInstanceBindingService {
+
+		@Override
+		public CreateServiceInstanceBindingResponse createServiceInstanceBinding(
+				CreateServiceInstanceBindingRequest request) {
+			threadName.set(Thread.currentThread().getName());
+			return CreateServiceInstanceAppBindingResponse.builder()
+					.bindingExisted(true)
+					.build();
+		}
+
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlockingServiceInstanceServiceAdapterTest {
+
+	private final AtomicReference<String> threadName = new AtomicReference<>();
+
+	private final ServiceInstanceService service = new BlockingServiceInstanceServiceAdapter(
+			new TestBlockingServiceInstanceService());
+
+	@Test
+	void blockingCallIsOffloadedFromNonBlockingThread() {
+		StepVerifier.create(Mono.defer(() -> this.service.createServiceInstance(CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build()))
+				.subscribeOn(Schedulers.parallel()))
+				.assertNext(response -> assertThat(response.getDashboardUrl()).isEqualTo("https://dashboard"))
+				.verifyComplete();
+
+		assertThat(this.threadName.get()).startsWith("boundedElastic");
+	}
+
+	@Test
+	void nullResponseCompletesEmpty() {
+		StepVerifier.create(this.service.deleteServiceInstance(DeleteServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build()))
+				.verifyComplete();
+	}
+
+	@Test
+	void exceptionIsSignalledAsError() {
+		StepVerifier.create(this.service.getServiceInstance(GetServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build()))
+				.expectError(UnsupportedOperationException.class)
+				.verify();
+		StepVerifier.create(this.service.updateServiceInstance(UpdateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build()))
+				.expectError(UnsupportedOperationException.class)
+				.verify();
+	}
+
+	private final class TestBlockingServiceInstanceService implements BlockingServiceInstanceService {
+
+		@Override
+		public CreateServiceInstanceResponse createServiceInstance(CreateServiceInstanceRequest request) {
+			threadName.set(Thread.currentThread().getName());
+			try {
+				Thread.sleep(10);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return CreateServiceInstanceResponse.builder()
+					.dashboardUrl("https://dashboard")
+					.build();
+		}
+
+		@Override
+		public DeleteServiceInstanceResponse deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return null;
+		}
+
+	}
+
+}
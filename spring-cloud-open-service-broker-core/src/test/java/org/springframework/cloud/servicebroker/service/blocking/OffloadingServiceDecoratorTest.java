@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.blocking;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceAppBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffloadingServiceDecoratorTest {
+
+	private final AtomicReference<String> threadName = new AtomicReference<>();
+
+	private final OffloadingServiceDecorator decorator = new OffloadingServiceDecorator();
+
+	@Test
+	void blockingServiceInstanceServiceIsOffloadedFromNonBlockingThread() {
+		ServiceInstanceService service = this.decorator.decorateServiceInstanceService(
+				new BlockingServiceInstanceService());
+
+		StepVerifier.create(Mono.defer(() -> service.createServiceInstance(CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build()))
+				.subscribeOn(Schedulers.parallel()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.threadName.get()).startsWith("boundedElastic");
+	}
+
+	@Test
+	void serviceInstanceBindingServiceIsInvokedOnScheduler() {
+		ServiceInstanceBindingService service = this.decorator.decorateServiceInstanceBindingService(
+				new ServiceInstanceBindingService() {
+
+					@Override
+					public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+							GetServiceInstanceBindingRequest request) {
+						threadName.set(Thread.currentThread().getName());
+						return Mono.just(GetServiceInstanceAppBindingResponse.builder().build());
+					}
+
+				});
+
+		StepVerifier.create(service.getServiceInstanceBinding(GetServiceInstanceBindingRequest.builder()
+				.bindingId("binding-id")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.threadName.get()).startsWith("boundedElastic");
+	}
+
+	private final class BlockingServiceInstanceService implements ServiceInstanceService {
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			threadName.set(Thread.currentThread().getName());
+			try {
+				Thread.sleep(10);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return Mono.just(CreateServiceInstanceResponse.builder().build());
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return Mono.empty();
+		}
+
+	}
+
+}
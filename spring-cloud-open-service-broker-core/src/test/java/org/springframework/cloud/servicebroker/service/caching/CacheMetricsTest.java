@@ -0,0 +1,61 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheMetricsTest {
+
+	@Test
+	void hitsMissesAndSizeAreMeasured() {
+		CacheStatistics cache = new CacheStatistics() {
+
+			@Override
+			public long getHitCount() {
+				return 2;
+			}
+
+			@Override
+			public long getMissCount() {
+				return 1;
+			}
+
+			@Override
+			public int size() {
+				return 1;
+			}
+
+		};
+		MeterRegistry registry = new SimpleMeterRegistry();
+		new CacheMetrics("test_cache", cache).bindTo(registry);
+
+		assertThat(registry.get(CacheMetrics.GETS_METRIC)
+				.tags("cache", "test_cache", "result", "hit")
+				.functionCounter().count()).isEqualTo(2);
+		assertThat(registry.get(CacheMetrics.GETS_METRIC)
+				.tags("cache", "test_cache", "result", "miss")
+				.functionCounter().count()).isEqualTo(1);
+		assertThat(registry.get(CacheMetrics.SIZE_METRIC)
+				.tags("cache", "test_cache")
+				.gauge().value()).isEqualTo(1);
+	}
+
+}
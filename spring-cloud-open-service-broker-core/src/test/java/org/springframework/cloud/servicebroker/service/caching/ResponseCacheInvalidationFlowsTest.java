@@ -0,0 +1,131 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceRouteBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheInvalidationFlowsTest {
+
+	private final ServiceResponseCache cache = new ServiceResponseCache(100, Duration.ofMinutes(1));
+
+	private final ResponseCacheInvalidationFlows flows = new ResponseCacheInvalidationFlows(this.cache);
+
+	@BeforeEach
+	void setUp() {
+		this.cache.getServiceInstances().get("instance-id",
+				() -> Mono.just(GetServiceInstanceResponse.builder().build())).block();
+		this.cache.getServiceInstanceBindings().get(ServiceResponseCache.bindingKey("instance-id", "binding-id"),
+				() -> Mono.<GetServiceInstanceBindingResponse>just(
+						GetServiceInstanceRouteBindingResponse.builder().build())).block();
+	}
+
+	@Test
+	void updateRemovesServiceInstance() {
+		StepVerifier.create(this.flows.complete(UpdateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build(), UpdateServiceInstanceResponse.builder().build()))
+				.verifyComplete();
+
+		assertThat(this.cache.getServiceInstances().size()).isZero();
+		assertThat(this.cache.getServiceInstanceBindings().size()).isEqualTo(1);
+	}
+
+	@Test
+	void deleteRemovesServiceInstanceAndBindings() {
+		StepVerifier.create(this.flows.complete(DeleteServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build(), DeleteServiceInstanceResponse.builder().build()))
+				.verifyComplete();
+
+		assertThat(this.cache.getServiceInstances().size()).isZero();
+		assertThat(this.cache.getServiceInstanceBindings().size()).isZero();
+	}
+
+	@Test
+	void deleteBindingRemovesServiceInstanceBinding() {
+		StepVerifier.create(this.flows.complete(DeleteServiceInstanceBindingRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId("binding-id")
+				.build(), DeleteServiceInstanceBindingResponse.builder().build()))
+				.verifyComplete();
+
+		assertThat(this.cache.getServiceInstances().size()).isEqualTo(1);
+		assertThat(this.cache.getServiceInstanceBindings().size()).isZero();
+	}
+
+	@Test
+	void finishedLastOperationRemovesServiceInstance() {
+		GetLastServiceOperationRequest request = GetLastServiceOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build();
+
+		StepVerifier.create(this.flows.complete(request, GetLastServiceOperationResponse.builder()
+				.operationState(OperationState.IN_PROGRESS)
+				.build()))
+				.verifyComplete();
+		assertThat(this.cache.getServiceInstances().size()).isEqualTo(1);
+
+		StepVerifier.create(this.flows.complete(request, GetLastServiceOperationResponse.builder()
+				.operationState(OperationState.SUCCEEDED)
+				.build()))
+				.verifyComplete();
+		assertThat(this.cache.getServiceInstances().size()).isZero();
+	}
+
+	@Test
+	void finishedLastBindingOperationRemovesServiceInstanceBinding() {
+		GetLastServiceBindingOperationRequest request = GetLastServiceBindingOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId("binding-id")
+				.build();
+
+		StepVerifier.create(this.flows.complete(request, GetLastServiceBindingOperationResponse.builder()
+				.operationState(OperationState.IN_PROGRESS)
+				.build()))
+				.verifyComplete();
+		assertThat(this.cache.getServiceInstanceBindings().size()).isEqualTo(1);
+
+		StepVerifier.create(this.flows.complete(request, GetLastServiceBindingOperationResponse.builder()
+				.operationState(OperationState.FAILED)
+				.build()))
+				.verifyComplete();
+		assertThat(this.cache.getServiceInstanceBindings().size()).isZero();
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final ResponseCache<String, String> cache = new ResponseCache<>(2, Duration.ofSeconds(30), this.clock);
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void cachedResponseIsServedUntilItExpires() {
+		StepVerifier.create(this.cache.get("one", () -> load("response"))).expectNext("response").verifyComplete();
+		StepVerifier.create(this.cache.get("one", () -> load("other"))).expectNext("response").verifyComplete();
+
+		this.clock.advance(Duration.ofSeconds(30));
+
+		StepVerifier.create(this.cache.get("one", () -> load("other"))).expectNext("other").verifyComplete();
+		assertThat(this.loads).hasValue(2);
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+		assertThat(this.cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	void cacheIsConsultedOnSubscription() {
+		Mono<String> response = this.cache.get("one", () -> load("response"));
+
+		StepVerifier.create(response).expectNext("response").verifyComplete();
+		StepVerifier.create(response).expectNext("response").verifyComplete();
+
+		assertThat(this.loads).hasValue(1);
+	}
+
+	@Test
+	void errorsAreNotCached() {
+		StepVerifier.create(this.cache.get("one", () -> Mono.error(new IllegalStateException())))
+				.verifyError(IllegalStateException.class);
+
+		StepVerifier.create(this.cache.get("one", () -> load("response"))).expectNext("response").verifyComplete();
+		assertThat(this.cache.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	void oldestResponseIsEvictedWhenFull() {
+		this.cache.get("one", () -> load("one")).block();
+		this.clock.advance(Duration.ofSeconds(1));
+		this.cache.get("two", () -> load("two")).block();
+		this.clock.advance(Duration.ofSeconds(1));
+		this.cache.get("three", () -> load("three")).block();
+
+		assertThat(this.cache.size()).isEqualTo(2);
+		StepVerifier.create(this.cache.get("two", () -> load("other"))).expectNext("two").verifyComplete();
+		StepVerifier.create(this.cache.get("one", () -> load("other"))).expectNext("other").verifyComplete();
+	}
+
+	@Test
+	void invalidatedResponsesAreLoadedAgain() {
+		this.cache.get("one", () -> load("one")).block();
+		this.cache.get("two", () -> load("two")).block();
+
+		this.cache.invalidate("one");
+
+		assertThat(this.cache.size()).isEqualTo(1);
+		StepVerifier.create(this.cache.get("one", () -> load("other"))).expectNext("other").verifyComplete();
+		StepVerifier.create(this.cache.get("two", () -> load("other"))).expectNext("two").verifyComplete();
+	}
+
+	@Test
+	void invalidatedGroupsAreLoadedAgain() {
+		ResponseCache<String, String> grouped = new ResponseCache<>(10, Duration.ofSeconds(30), this.clock,
+				key -> key.substring(0, 1));
+		grouped.get("a1", () -> load("a1")).block();
+		grouped.get("a2", () -> load("a2")).block();
+		grouped.get("b1", () -> load("b1")).block();
+
+		grouped.invalidateGroup("a");
+
+		assertThat(grouped.size()).isEqualTo(1);
+		StepVerifier.create(grouped.get("a1", () -> load("other"))).expectNext("other").verifyComplete();
+		StepVerifier.create(grouped.get("b1", () -> load("other"))).expectNext("b1").verifyComplete();
+	}
+
+	@Test
+	void responseLoadedDuringInvalidationIsNotCached() {
+		Sinks.One<String> pending = Sinks.one();
+		Mono<String> response = this.cache.get("one", pending::asMono);
+
+		StepVerifier.create(response)
+				.then(() -> {
+					this.cache.invalidate("one");
+					pending.tryEmitValue("stale");
+				})
+				.expectNext("stale")
+				.verifyComplete();
+
+		StepVerifier.create(this.cache.get("one", () -> load("fresh"))).expectNext("fresh").verifyComplete();
+	}
+
+	@Test
+	void responseLoadedDuringInvalidationOfAnotherKeyIsCached() {
+		Sinks.One<String> pending = Sinks.one();
+		Mono<String> response = this.cache.get("one", pending::asMono);
+
+		StepVerifier.create(response)
+				.then(() -> {
+					this.cache.invalidate("two");
+					pending.tryEmitValue("response");
+				})
+				.expectNext("response")
+				.verifyComplete();
+
+		StepVerifier.create(this.cache.get("one", () -> load("other"))).expectNext("response").verifyComplete();
+	}
+
+	@Test
+	void responseLoadedDuringInvalidationOfItsGroupIsNotCached() {
+		ResponseCache<String, String> grouped = new ResponseCache<>(10, Duration.ofSeconds(30), this.clock,
+				key -> key.substring(0, 1));
+		Sinks.One<String> pending = Sinks.one();
+
+		StepVerifier.create(grouped.get("a1", pending::asMono))
+				.then(() -> {
+					grouped.invalidateGroup("a");
+					pending.tryEmitValue("stale");
+				})
+				.expectNext("stale")
+				.verifyComplete();
+
+		assertThat(grouped.size()).isZero();
+		StepVerifier.create(grouped.get("a1", () -> load("fresh"))).expectNext("fresh").verifyComplete();
+	}
+
+	@Test
+	void failedLoadIsNotKept() {
+		StepVerifier.create(this.cache.get("one", () -> Mono.error(new IllegalStateException())))
+				.verifyError(IllegalStateException.class);
+
+		assertThat(this.cache.size()).isZero();
+	}
+
+	private Mono<String> load(String response) {
+		return Mono.fromCallable(() -> {
+			this.loads.incrementAndGet();
+			return response;
+		});
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
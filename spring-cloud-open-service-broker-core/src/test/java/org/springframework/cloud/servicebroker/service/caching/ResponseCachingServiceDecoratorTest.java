@@ -0,0 +1,128 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetServiceInstanceRouteBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCachingServiceDecoratorTest {
+
+	private final ServiceResponseCache cache = new ServiceResponseCache(100, Duration.ofMinutes(1));
+
+	private final ResponseCachingServiceDecorator decorator = new ResponseCachingServiceDecorator(this.cache);
+
+	private final AtomicInteger invocations = new AtomicInteger();
+
+	@Test
+	void serviceInstanceIsServedFromCache() {
+		ServiceInstanceService service = this.decorator.decorateServiceInstanceService(
+				new ServiceInstanceService() {
+					@Override
+					public Mono<CreateServiceInstanceResponse> createServiceInstance(
+							CreateServiceInstanceRequest request) {
+						return Mono.empty();
+					}
+
+					@Override
+					public Mono<GetServiceInstanceResponse> getServiceInstance(GetServiceInstanceRequest request) {
+						return Mono.fromCallable(() -> GetServiceInstanceResponse.builder()
+								.dashboardUrl("https://dashboard/" + invocations.incrementAndGet())
+								.build());
+					}
+
+					@Override
+					public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(
+							DeleteServiceInstanceRequest request) {
+						return Mono.empty();
+					}
+				});
+
+		StepVerifier.create(service.getServiceInstance(instanceRequest("instance-id")))
+				.assertNext(response -> assertThat(response.getDashboardUrl()).isEqualTo("https://dashboard/1"))
+				.verifyComplete();
+		StepVerifier.create(service.getServiceInstance(instanceRequest("instance-id")))
+				.assertNext(response -> assertThat(response.getDashboardUrl()).isEqualTo("https://dashboard/1"))
+				.verifyComplete();
+		StepVerifier.create(service.getServiceInstance(instanceRequest("other-instance-id")))
+				.assertNext(response -> assertThat(response.getDashboardUrl()).isEqualTo("https://dashboard/2"))
+				.verifyComplete();
+
+		this.cache.invalidateServiceInstance("instance-id");
+
+		StepVerifier.create(service.getServiceInstance(instanceRequest("instance-id")))
+				.assertNext(response -> assertThat(response.getDashboardUrl()).isEqualTo("https://dashboard/3"))
+				.verifyComplete();
+	}
+
+	@Test
+	void serviceInstanceBindingIsServedFromCache() {
+		ServiceInstanceBindingService service = this.decorator.decorateServiceInstanceBindingService(
+				new ServiceInstanceBindingService() {
+					@Override
+					public Mono<GetServiceInstanceBindingResponse> getServiceInstanceBinding(
+							GetServiceInstanceBindingRequest request) {
+						invocations.incrementAndGet();
+						return Mono.just(GetServiceInstanceRouteBindingResponse.builder()
+								.routeServiceUrl("https://route")
+								.build());
+					}
+				});
+
+		service.getServiceInstanceBinding(bindingRequest("binding-id")).block();
+		service.getServiceInstanceBinding(bindingRequest("binding-id")).block();
+		service.getServiceInstanceBinding(bindingRequest("other-binding-id")).block();
+		assertThat(this.invocations).hasValue(2);
+
+		this.cache.invalidateServiceInstanceAndBindings("instance-id");
+
+		service.getServiceInstanceBinding(bindingRequest("binding-id")).block();
+		assertThat(this.invocations).hasValue(3);
+		assertThat(this.cache.getServiceInstanceBindings().getHitCount()).isEqualTo(1);
+	}
+
+	private static GetServiceInstanceRequest instanceRequest(String serviceInstanceId) {
+		return GetServiceInstanceRequest.builder()
+				.serviceInstanceId(serviceInstanceId)
+				.build();
+	}
+
+	private static GetServiceInstanceBindingRequest bindingRequest(String bindingId) {
+		return GetServiceInstanceBindingRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId(bindingId)
+				.build();
+	}
+
+}
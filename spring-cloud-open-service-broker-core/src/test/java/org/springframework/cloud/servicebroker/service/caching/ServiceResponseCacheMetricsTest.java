@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.caching;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.servicebroker.model.instance.GetServiceInstanceResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceResponseCacheMetricsTest {
+
+	@Test
+	void hitsMissesAndSizeAreMeasured() {
+		ServiceResponseCache cache = new ServiceResponseCache(100, Duration.ofMinutes(1));
+		MeterRegistry registry = new SimpleMeterRegistry();
+		new ServiceResponseCacheMetrics(cache).bindTo(registry);
+
+		for (int i = 0; i < 3; i++) {
+			cache.getServiceInstances().get("instance-id",
+					() -> Mono.just(GetServiceInstanceResponse.builder().build())).block();
+		}
+
+		assertThat(registry.get(ServiceResponseCacheMetrics.GETS_METRIC)
+				.tags("cache", "service_instances", "result", "hit")
+				.functionCounter().count()).isEqualTo(2);
+		assertThat(registry.get(ServiceResponseCacheMetrics.GETS_METRIC)
+				.tags("cache", "service_instances", "result", "miss")
+				.functionCounter().count()).isEqualTo(1);
+		assertThat(registry.get(ServiceResponseCacheMetrics.SIZE_METRIC)
+				.tags("cache", "service_instances")
+				.gauge().value()).isEqualTo(1);
+		assertThat(registry.get(ServiceResponseCacheMetrics.GETS_METRIC)
+				.tags("cache", "service_instance_bindings", "result", "hit")
+				.functionCounter().count()).isZero();
+	}
+
+}
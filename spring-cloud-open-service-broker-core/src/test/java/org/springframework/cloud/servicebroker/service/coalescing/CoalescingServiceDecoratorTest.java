@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingServiceDecoratorTest {
+
+	private final CoalescingServiceDecorator decorator = new CoalescingServiceDecorator();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final Sinks.One<GetLastServiceOperationResponse> lastOperation = Sinks.one();
+
+	@Test
+	void identicalLastOperationRequestsAreCoalesced() {
+		ServiceInstanceService service = this.decorator.decorateServiceInstanceService(new TestServiceInstanceService());
+
+		Mono<GetLastServiceOperationResponse> first = service.getLastOperation(lastOperationRequest("instance-id"));
+		Mono<GetLastServiceOperationResponse> second = service.getLastOperation(lastOperationRequest("instance-id"));
+
+		StepVerifier.create(Mono.zip(first, second))
+				.then(() -> this.lastOperation.tryEmitValue(GetLastServiceOperationResponse.builder()
+						.operationState(OperationState.SUCCEEDED)
+						.build()))
+				.assertNext(responses -> assertThat(responses.getT1()).isSameAs(responses.getT2()))
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void lastOperationRequestsForDifferentInstancesAreNotCoalesced() {
+		ServiceInstanceService service = this.decorator.decorateServiceInstanceService(new TestServiceInstanceService());
+
+		Mono<GetLastServiceOperationResponse> first = service.getLastOperation(lastOperationRequest("instance-one"));
+		Mono<GetLastServiceOperationResponse> second = service.getLastOperation(lastOperationRequest("instance-two"));
+
+		StepVerifier.create(Mono.zip(first, second))
+				.then(() -> this.lastOperation.tryEmitValue(GetLastServiceOperationResponse.builder().build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void identicalBindingLastOperationRequestsAreCoalesced() {
+		Sinks.One<GetLastServiceBindingOperationResponse> sink = Sinks.one();
+		ServiceInstanceBindingService service = this.decorator.decorateServiceInstanceBindingService(
+				new ServiceInstanceBindingService() {
+					@Override
+					public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+							GetLastServiceBindingOperationRequest request) {
+						calls.incrementAndGet();
+						return sink.asMono();
+					}
+				});
+		GetLastServiceBindingOperationRequest request = GetLastServiceBindingOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId("binding-id")
+				.operation("task-1")
+				.build();
+
+		StepVerifier.create(Mono.zip(service.getLastOperation(request), service.getLastOperation(request)))
+				.then(() -> sink.tryEmitValue(GetLastServiceBindingOperationResponse.builder().build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(1);
+	}
+
+	private static GetLastServiceOperationRequest lastOperationRequest(String serviceInstanceId) {
+		return GetLastServiceOperationRequest.builder()
+				.serviceInstanceId(serviceInstanceId)
+				.operation("task-1")
+				.build();
+	}
+
+	private final class TestServiceInstanceService implements ServiceInstanceService {
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			return Mono.empty();
+		}
+
+		@Override
+		public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+			calls.incrementAndGet();
+			return lastOperation.asMono();
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return Mono.empty();
+		}
+
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceBindingExistsException;
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceExistsException;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeduplicatingServiceDecoratorTest {
+
+	private final DeduplicatingServiceDecorator decorator = new DeduplicatingServiceDecorator();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final Sinks.One<CreateServiceInstanceResponse> created = Sinks.one();
+
+	private final ServiceInstanceService service = this.decorator
+			.decorateServiceInstanceService(new TestServiceInstanceService());
+
+	@Test
+	void identicalCreateRequestsShareOneCall() {
+		Mono<CreateServiceInstanceResponse> first = this.service.createServiceInstance(createRequest("plan-one"));
+		Mono<CreateServiceInstanceResponse> retry = this.service.createServiceInstance(createRequest("plan-one"));
+
+		StepVerifier.create(Mono.zip(first, retry))
+				.then(() -> this.created.tryEmitValue(CreateServiceInstanceResponse.builder().build()))
+				.assertNext(responses -> assertThat(responses.getT1()).isSameAs(responses.getT2()))
+				.verifyComplete();
+
+		assertThat(this.calls).hasValue(1);
+	}
+
+	@Test
+	void differentCreateRequestForSameInstanceIsRejected() {
+		StepVerifier.create(this.service.createServiceInstance(createRequest("plan-one")))
+				.then(() -> StepVerifier.create(this.service.createServiceInstance(createRequest("plan-two")))
+						.verifyError(ServiceInstanceExistsException.class))
+				.then(() -> this.created.tryEmitValue(CreateServiceInstanceResponse.builder().build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.calls).hasValue(1);
+	}
+
+	@Test
+	void createRequestAfterCompletionCallsService() {
+		this.created.tryEmitValue(CreateServiceInstanceResponse.builder().build());
+
+		StepVerifier.create(this.service.createServiceInstance(createRequest("plan-one")))
+				.expectNextCount(1)
+				.verifyComplete();
+		StepVerifier.create(this.service.createServiceInstance(createRequest("plan-one")))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.calls).hasValue(2);
+	}
+
+	@Test
+	void differentBindingRequestForSameBindingIsRejected() {
+		Sinks.One<CreateServiceInstanceBindingResponse> bound = Sinks.one();
+		ServiceInstanceBindingService bindingService = this.decorator.decorateServiceInstanceBindingService(
+				new ServiceInstanceBindingService() {
+					@Override
+					public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+							CreateServiceInstanceBindingRequest request) {
+						calls.incrementAndGet();
+						return bound.asMono();
+					}
+				});
+
+		Mono<CreateServiceInstanceBindingResponse> first = bindingService
+				.createServiceInstanceBinding(bindingRequest("value"));
+		Mono<CreateServiceInstanceBindingResponse> retry = bindingService
+				.createServiceInstanceBinding(bindingRequest("value"));
+
+		StepVerifier.create(Mono.zip(first, retry))
+				.then(() -> StepVerifier.create(bindingService.createServiceInstanceBinding(bindingRequest("other")))
+						.verifyError(ServiceInstanceBindingExistsException.class))
+				.then(() -> bound.tryEmitValue(CreateServiceInstanceBindingResponse.builder().build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.calls).hasValue(1);
+	}
+
+	private static CreateServiceInstanceRequest createRequest(String planId) {
+		return CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.serviceDefinitionId("service-id")
+				.planId(planId)
+				.parameters("key", "value")
+				.build();
+	}
+
+	private static CreateServiceInstanceBindingRequest bindingRequest(String parameter) {
+		return CreateServiceInstanceBindingRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId("binding-id")
+				.serviceDefinitionId("service-id")
+				.planId("plan-id")
+				.parameters("key", parameter)
+				.build();
+	}
+
+	private final class TestServiceInstanceService implements ServiceInstanceService {
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			calls.incrementAndGet();
+			return created.asMono();
+		}
+
+		@Override
+		public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+			return Mono.empty();
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return Mono.empty();
+		}
+
+	}
+
+}
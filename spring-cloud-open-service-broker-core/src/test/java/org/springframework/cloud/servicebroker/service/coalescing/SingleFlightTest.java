@@ -0,0 +1,150 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.coalescing;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+	private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@Test
+	void concurrentIdenticalRequestsShareOneCall() {
+		Sinks.One<String> sink = Sinks.one();
+
+		Mono<String> first = this.singleFlight.execute("key", () -> call(sink.asMono()));
+		Mono<String> second = this.singleFlight.execute("key", () -> call(sink.asMono()));
+
+		StepVerifier.create(Mono.zip(first, second))
+				.then(() -> {
+					assertThat(this.singleFlight.getInFlightCount()).isEqualTo(1);
+					sink.tryEmitValue("value");
+				})
+				.assertNext(values -> {
+					assertThat(values.getT1()).isEqualTo("value");
+					assertThat(values.getT2()).isEqualTo("value");
+				})
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(1);
+		assertThat(this.singleFlight.getCallCount()).isEqualTo(1);
+		assertThat(this.singleFlight.getCoalescedCount()).isEqualTo(1);
+		assertThat(this.singleFlight.getInFlightCount()).isZero();
+	}
+
+	@Test
+	void differentKeysDoNotShareCalls() {
+		StepVerifier.create(Mono.zip(this.singleFlight.execute("one", () -> call(Mono.just("one"))),
+				this.singleFlight.execute("two", () -> call(Mono.just("two")))))
+				.assertNext(values -> {
+					assertThat(values.getT1()).isEqualTo("one");
+					assertThat(values.getT2()).isEqualTo("two");
+				})
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void completedCallIsNotReused() {
+		StepVerifier.create(this.singleFlight.execute("key", () -> call(Mono.just("first"))))
+				.expectNext("first")
+				.verifyComplete();
+		StepVerifier.create(this.singleFlight.execute("key", () -> call(Mono.just("second"))))
+				.expectNext("second")
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(2);
+		assertThat(this.singleFlight.getInFlightCount()).isZero();
+	}
+
+	@Test
+	void errorIsSharedAndReleasesKey() {
+		Sinks.One<String> sink = Sinks.one();
+		Mono<String> first = this.singleFlight.execute("key", () -> call(sink.asMono()));
+		Mono<String> second = this.singleFlight.execute("key", () -> call(sink.asMono()));
+
+		StepVerifier.create(Mono.zipDelayError(first.onErrorReturn("first failed"),
+				second.onErrorReturn("second failed")))
+				.then(() -> sink.tryEmitError(new IllegalStateException("failed")))
+				.assertNext(values -> {
+					assertThat(values.getT1()).isEqualTo("first failed");
+					assertThat(values.getT2()).isEqualTo("second failed");
+				})
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(1);
+		assertThat(this.singleFlight.getInFlightCount()).isZero();
+	}
+
+	@Test
+	void requestWithSameFingerprintSharesCall() {
+		Sinks.One<String> sink = Sinks.one();
+
+		Mono<String> first = this.singleFlight.execute("key", "fingerprint", () -> call(sink.asMono()),
+				IllegalStateException::new);
+		Mono<String> second = this.singleFlight.execute("key", "fingerprint", () -> call(sink.asMono()),
+				IllegalStateException::new);
+
+		StepVerifier.create(Mono.zip(first, second))
+				.then(() -> sink.tryEmitValue("value"))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(1);
+		assertThat(this.singleFlight.getCoalescedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void requestWithDifferentFingerprintFails() {
+		Sinks.One<String> sink = Sinks.one();
+
+		StepVerifier.create(this.singleFlight.execute("key", "fingerprint", () -> call(sink.asMono()),
+				IllegalStateException::new))
+				.then(() -> StepVerifier.create(this.singleFlight.execute("key", "other", () -> call(Mono.just("other")),
+						IllegalArgumentException::new))
+						.verifyError(IllegalArgumentException.class))
+				.then(() -> sink.tryEmitValue("value"))
+				.expectNext("value")
+				.verifyComplete();
+
+		assertThat(this.calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void callIsNotMadeUntilSubscribed() {
+		this.singleFlight.execute("key", () -> call(Mono.just("value")));
+
+		assertThat(this.calls.get()).isZero();
+		assertThat(this.singleFlight.getInFlightCount()).isZero();
+	}
+
+	private Mono<String> call(Mono<String> result) {
+		this.calls.incrementAndGet();
+		return result;
+	}
+
+}
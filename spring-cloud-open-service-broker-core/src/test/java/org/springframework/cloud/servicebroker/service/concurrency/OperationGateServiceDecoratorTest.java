@@ -0,0 +1,183 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.concurrency;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerConcurrencyException;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+class OperationGateServiceDecoratorTest {
+
+	private final OperationGate gate = new OperationGate(100, Duration.ofMinutes(10));
+
+	private final OperationGateServiceDecorator decorator = new OperationGateServiceDecorator(this.gate);
+
+	private final ServiceInstanceService service = this.decorator
+			.decorateServiceInstanceService(new TestServiceInstanceService());
+
+	@Test
+	void updateIsRejectedWhileAsyncCreateIsInProgress() {
+		StepVerifier.create(this.service.createServiceInstance(CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.asyncAccepted(true)
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		StepVerifier.create(this.service.updateServiceInstance(updateRequest()))
+				.verifyError(ServiceBrokerConcurrencyException.class);
+	}
+
+	@Test
+	void completedLastOperationReleasesInstance() {
+		StepVerifier.create(this.service.createServiceInstance(CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.asyncAccepted(true)
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		StepVerifier.create(this.service.getLastOperation(GetLastServiceOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.operation("create-operation")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		StepVerifier.create(this.service.updateServiceInstance(updateRequest()))
+				.expectNextCount(1)
+				.verifyComplete();
+	}
+
+	@Test
+	void completedLastOperationForEarlierOperationDoesNotReleaseInstance() {
+		StepVerifier.create(this.service.createServiceInstance(CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.asyncAccepted(true)
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		StepVerifier.create(this.service.getLastOperation(GetLastServiceOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.operation("earlier-operation")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		StepVerifier.create(this.service.updateServiceInstance(updateRequest()))
+				.verifyError(ServiceBrokerConcurrencyException.class);
+	}
+
+	@Test
+	void syncOperationsDoNotHoldInstance() {
+		StepVerifier.create(this.service.createServiceInstance(CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		StepVerifier.create(this.service.deleteServiceInstance(DeleteServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+	}
+
+	@Test
+	void bindingOperationsAreGatedPerBinding() {
+		ServiceInstanceBindingService bindingService = this.decorator.decorateServiceInstanceBindingService(
+				new ServiceInstanceBindingService() {
+					@Override
+					public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+							CreateServiceInstanceBindingRequest request) {
+						return Mono.just(CreateServiceInstanceBindingResponse.builder()
+								.async(true)
+								.build());
+					}
+				});
+
+		StepVerifier.create(bindingService.createServiceInstanceBinding(bindingRequest("binding-one")))
+				.expectNextCount(1)
+				.verifyComplete();
+		StepVerifier.create(bindingService.createServiceInstanceBinding(bindingRequest("binding-two")))
+				.expectNextCount(1)
+				.verifyComplete();
+		StepVerifier.create(bindingService.createServiceInstanceBinding(bindingRequest("binding-one")))
+				.verifyError(ServiceBrokerConcurrencyException.class);
+	}
+
+	private static UpdateServiceInstanceRequest updateRequest() {
+		return UpdateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build();
+	}
+
+	private static CreateServiceInstanceBindingRequest bindingRequest(String bindingId) {
+		return CreateServiceInstanceBindingRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId(bindingId)
+				.build();
+	}
+
+	private static final class TestServiceInstanceService implements ServiceInstanceService {
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			return Mono.just(CreateServiceInstanceResponse.builder()
+					.async(request.isAsyncAccepted())
+					.operation(request.isAsyncAccepted() ? "create-operation" : null)
+					.build());
+		}
+
+		@Override
+		public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+			return Mono.just(GetLastServiceOperationResponse.builder()
+					.operationState(OperationState.SUCCEEDED)
+					.build());
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return Mono.just(DeleteServiceInstanceResponse.builder().build());
+		}
+
+		@Override
+		public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+			return Mono.just(UpdateServiceInstanceResponse.builder().build());
+		}
+
+	}
+
+}
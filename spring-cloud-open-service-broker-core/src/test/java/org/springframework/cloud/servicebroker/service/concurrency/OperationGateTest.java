@@ -0,0 +1,264 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.concurrency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerCapacityExceededException;
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerConcurrencyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperationGateTest {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final OperationGate gate = new OperationGate(2, Duration.ofMinutes(10), this.clock);
+
+	@Test
+	void concurrentOperationOnSameResourceIsRejected() {
+		Sinks.One<String> sink = Sinks.one();
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null, sink::asMono))
+				.then(() -> StepVerifier.create(this.gate.execute("instance-id", null, result -> false,
+						() -> Mono.just("second")))
+						.verifyError(ServiceBrokerConcurrencyException.class))
+				.then(() -> sink.tryEmitValue("first"))
+				.expectNext("first")
+				.verifyComplete();
+
+		assertThat(this.gate.getHoldCount()).isZero();
+	}
+
+	@Test
+	void operationsOnDifferentResourcesProceed() {
+		Sinks.One<String> sink = Sinks.one();
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null, sink::asMono))
+				.then(() -> StepVerifier.create(this.gate.execute("instance-id", "binding-id", result -> false,
+						() -> Mono.just("binding")))
+						.expectNext("binding")
+						.verifyComplete())
+				.then(() -> sink.tryEmitValue("instance"))
+				.expectNext("instance")
+				.verifyComplete();
+	}
+
+	@Test
+	void resourceIsReleasedAfterError() {
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false,
+				() -> Mono.error(new IllegalStateException())))
+				.verifyError(IllegalStateException.class);
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null,
+				() -> Mono.just("next")))
+				.expectNext("next")
+				.verifyComplete();
+	}
+
+	@Test
+	void heldResourceIsRejectedUntilReleased() {
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> true, result -> result,
+				() -> Mono.just("async")))
+				.expectNext("async")
+				.verifyComplete();
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null,
+				() -> Mono.just("next")))
+				.verifyError(ServiceBrokerConcurrencyException.class);
+
+		this.gate.release("instance-id", null, "async");
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null,
+				() -> Mono.just("next")))
+				.expectNext("next")
+				.verifyComplete();
+	}
+
+	@Test
+	void heldResourceIsNotReleasedForAnotherOperation() {
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> true, result -> result,
+				() -> Mono.just("async")))
+				.expectNext("async")
+				.verifyComplete();
+
+		this.gate.release("instance-id", null, "earlier");
+		this.gate.release("instance-id", null, null);
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null,
+				() -> Mono.just("next")))
+				.verifyError(ServiceBrokerConcurrencyException.class);
+		assertThat(this.gate.getHoldCount()).isEqualTo(1);
+	}
+
+	@Test
+	void heldResourceIsNotRenewedForAnotherOperation() {
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> true, result -> result,
+				() -> Mono.just("async")))
+				.expectNext("async")
+				.verifyComplete();
+
+		this.clock.advance(Duration.ofMinutes(8));
+		this.gate.renew("instance-id", null, "earlier");
+		this.clock.advance(Duration.ofMinutes(3));
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null,
+				() -> Mono.just("next")))
+				.expectNext("next")
+				.verifyComplete();
+	}
+
+	@Test
+	void operationInProgressIsNotReleased() {
+		Sinks.One<String> sink = Sinks.one();
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> true, result -> null, sink::asMono))
+				.then(() -> this.gate.release("instance-id", null, null))
+				.then(() -> assertThat(this.gate.getHoldCount()).isEqualTo(1))
+				.then(() -> sink.tryEmitValue("async"))
+				.expectNext("async")
+				.verifyComplete();
+	}
+
+	@Test
+	void heldResourceExpiresUnlessRenewed() {
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> true, result -> result,
+				() -> Mono.just("async")))
+				.expectNext("async")
+				.verifyComplete();
+
+		this.clock.advance(Duration.ofMinutes(8));
+		this.gate.renew("instance-id", null, "async");
+		this.clock.advance(Duration.ofMinutes(8));
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null,
+				() -> Mono.just("next")))
+				.verifyError(ServiceBrokerConcurrencyException.class);
+
+		this.clock.advance(Duration.ofMinutes(3));
+
+		StepVerifier.create(this.gate.execute("instance-id", null, result -> false, result -> null,
+				() -> Mono.just("next")))
+				.expectNext("next")
+				.verifyComplete();
+	}
+
+	@Test
+	void operationsAreRejectedWhenMaximumHoldsAreReached() {
+		StepVerifier.create(this.gate.execute("instance-one", null, result -> true, result -> result,
+				() -> Mono.just("one"))
+				.then(this.gate.execute("instance-two", null, result -> true, result -> result,
+						() -> Mono.just("two"))))
+				.expectNext("two")
+				.verifyComplete();
+
+		StepVerifier.create(this.gate.execute("instance-three", null, result -> false, result -> null,
+				() -> Mono.just("three")))
+				.verifyErrorSatisfies(e -> assertThat(e)
+						.isInstanceOfSatisfying(ServiceBrokerCapacityExceededException.class,
+								capacityExceeded -> assertThat(capacityExceeded.getRetryAfter())
+										.isEqualTo(Duration.ofSeconds(1))));
+
+		this.clock.advance(Duration.ofMinutes(11));
+
+		StepVerifier.create(this.gate.execute("instance-three", null, result -> false, result -> null,
+				() -> Mono.just("three")))
+				.expectNext("three")
+				.verifyComplete();
+		assertThat(this.gate.getHoldCount()).isZero();
+	}
+
+	@Test
+	void expiredHoldsAreLookedForAtMostOnceASecondWhenMaximumHoldsAreReached() {
+		StepVerifier.create(this.gate.execute("instance-one", null, result -> true, result -> result,
+				() -> Mono.just("one"))
+				.then(this.gate.execute("instance-two", null, result -> true, result -> result,
+						() -> Mono.just("two"))))
+				.expectNext("two")
+				.verifyComplete();
+
+		this.clock.advance(Duration.ofMinutes(10));
+
+		StepVerifier.create(this.gate.execute("instance-three", null, result -> false, result -> null,
+				() -> Mono.just("three")))
+				.verifyError(ServiceBrokerCapacityExceededException.class);
+
+		this.clock.advance(Duration.ofMillis(500));
+
+		StepVerifier.create(this.gate.execute("instance-three", null, result -> false, result -> null,
+				() -> Mono.just("three")))
+				.verifyError(ServiceBrokerCapacityExceededException.class);
+		assertThat(this.gate.getHoldCount()).isEqualTo(2);
+
+		this.clock.advance(Duration.ofMillis(500));
+
+		StepVerifier.create(this.gate.execute("instance-three", null, result -> false, result -> null,
+				() -> Mono.just("three")))
+				.expectNext("three")
+				.verifyComplete();
+		assertThat(this.gate.getHoldCount()).isZero();
+	}
+
+	@Test
+	void operationsOnHeldResourcesAreConflictsWhenMaximumHoldsAreReached() {
+		StepVerifier.create(this.gate.execute("instance-one", null, result -> true, result -> result,
+				() -> Mono.just("one"))
+				.then(this.gate.execute("instance-two", null, result -> true, result -> result,
+						() -> Mono.just("two"))))
+				.expectNext("two")
+				.verifyComplete();
+
+		StepVerifier.create(this.gate.execute("instance-one", null, result -> false, result -> null,
+				() -> Mono.just("one")))
+				.verifyError(ServiceBrokerConcurrencyException.class);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
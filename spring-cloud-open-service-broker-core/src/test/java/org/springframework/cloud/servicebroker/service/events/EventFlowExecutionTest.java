@@ -0,0 +1,158 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.events;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.events.flows.CreateServiceInstanceCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.CreateServiceInstanceInitializationFlow;
+import org.springframework.core.Ordered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventFlowExecutionTest {
+
+	private final List<String> events = new CopyOnWriteArrayList<>();
+
+	@Test
+	void flowsAreSortedByOrder() {
+		CreateServiceInstanceEventFlowRegistry registry = new CreateServiceInstanceEventFlowRegistry(
+				Arrays.asList(new OrderedInitializationFlow("second", 2), new OrderedInitializationFlow("first", 1)),
+				null, null);
+		registry.setExecution(EventFlowExecution.sequential());
+
+		StepVerifier.create(registry.addInitializationFlow(new OrderedInitializationFlow("zeroth", 0))
+				.thenMany(registry.getInitializationFlows(CreateServiceInstanceRequest.builder().build())))
+				.verifyComplete();
+
+		assertThat(this.events).containsExactly("zeroth", "first", "second");
+	}
+
+	@Test
+	void sequentialExecutionWaitsForEachFlow() {
+		Duration[] delays = {Duration.ofMillis(50), Duration.ZERO};
+
+		StepVerifier.create(EventFlowExecution.sequential().execute(delays, delay -> Mono.delay(delay)
+				.then(Mono.fromRunnable(() -> this.events.add(delay.isZero() ? "fast" : "slow")))))
+				.verifyComplete();
+
+		assertThat(this.events).containsExactly("slow", "fast");
+	}
+
+	@Test
+	void parallelExecutionIsBounded() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maximum = new AtomicInteger();
+		Mono<Void> flow = Mono.fromRunnable(() -> maximum.accumulateAndGet(running.incrementAndGet(), Math::max))
+				.then(Mono.delay(Duration.ofMillis(20)))
+				.doOnTerminate(running::decrementAndGet)
+				.then();
+
+		StepVerifier.create(EventFlowExecution.parallel(2)
+				.execute(new String[] {"a", "b", "c", "d", "e", "f"}, name -> flow))
+				.verifyComplete();
+
+		assertThat(maximum.get()).isEqualTo(2);
+	}
+
+	@Test
+	void slowFlowTimesOut() {
+		EventFlowExecution execution = EventFlowExecution.defaults().withTimeout(Duration.ofMillis(20));
+
+		StepVerifier.create(execution.execute(new String[] {"never"}, name -> Mono.never()))
+				.expectError(TimeoutException.class)
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void flowsAreSubscribedOnScheduler() {
+		EventFlowExecution execution = EventFlowExecution.defaults().withScheduler(Schedulers.boundedElastic());
+		Mono<Void> flow = Mono.fromRunnable(() -> this.events.add(Thread.currentThread().getName()));
+
+		StepVerifier.create(execution.execute(new String[] {"flow"}, name -> flow))
+				.verifyComplete();
+
+		assertThat(this.events).singleElement().asString().startsWith("boundedElastic");
+	}
+
+	@Test
+	void detachedCompletionFlowsDoNotDelayResponse() {
+		Sinks.Empty<Void> sink = Sinks.empty();
+		CreateServiceInstanceCompletionFlow flow = new CreateServiceInstanceCompletionFlow() {
+			@Override
+			public Mono<Void> complete(CreateServiceInstanceRequest request,
+					CreateServiceInstanceResponse response) {
+				return sink.asMono().doOnSuccess(v -> events.add("completed"));
+			}
+		};
+		CreateServiceInstanceEventFlowRegistry registry = new CreateServiceInstanceEventFlowRegistry(null,
+				Collections.singletonList(flow), null);
+		registry.setExecution(EventFlowExecution.defaults().withDetachedCompletionFlows(true));
+
+		StepVerifier.create(registry.getCompletionFlows(CreateServiceInstanceRequest.builder().build(),
+				CreateServiceInstanceResponse.builder().build()))
+				.verifyComplete();
+		assertThat(this.events).isEmpty();
+
+		sink.tryEmitEmpty();
+		assertThat(this.events).containsExactly("completed");
+	}
+
+	@Test
+	void invalidConcurrencyIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> EventFlowExecution.parallel(0));
+	}
+
+	private final class OrderedInitializationFlow implements CreateServiceInstanceInitializationFlow, Ordered {
+
+		private final String name;
+
+		private final int order;
+
+		private OrderedInitializationFlow(String name, int order) {
+			this.name = name;
+			this.order = order;
+		}
+
+		@Override
+		public Mono<Void> initialize(CreateServiceInstanceRequest request) {
+			return Mono.fromRunnable(() -> events.add(this.name));
+		}
+
+		@Override
+		public int getOrder() {
+			return this.order;
+		}
+
+	}
+
+}
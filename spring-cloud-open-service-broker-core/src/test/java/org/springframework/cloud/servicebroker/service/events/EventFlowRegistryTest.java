@@ -0,0 +1,222 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceBindingCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.AsyncOperationServiceInstanceCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.CreateServiceInstanceCompletionFlow;
+import org.springframework.cloud.servicebroker.service.events.flows.CreateServiceInstanceInitializationFlow;
+import org.springframework.core.Ordered;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventFlowRegistryTest {
+
+	private final CreateServiceInstanceEventFlowRegistry registry = new CreateServiceInstanceEventFlowRegistry(null,
+			null, null);
+
+	@Test
+	void registryWithoutFlowsIsEmpty() {
+		assertThat(registry.isEmpty()).isTrue();
+
+		registry.addCompletionFlow(new CreateServiceInstanceCompletionFlow() {
+		}).block();
+
+		assertThat(registry.isEmpty()).isFalse();
+	}
+
+	@Test
+	void flowAddedAfterAssemblyAppliesToLaterRequests() {
+		List<Integer> invoked = new ArrayList<>();
+		registry.addInitializationFlow(new RecordingInitializationFlow(1, invoked)).block();
+		Flux<Void> first = registry.getInitializationFlows(CreateServiceInstanceRequest.builder().build());
+
+		registry.addInitializationFlow(new RecordingInitializationFlow(2, invoked)).block();
+
+		StepVerifier.create(first).verifyComplete();
+		assertThat(invoked).containsExactly(1);
+
+		invoked.clear();
+		StepVerifier.create(registry.getInitializationFlows(CreateServiceInstanceRequest.builder().build()))
+				.verifyComplete();
+		assertThat(invoked).containsExactlyInAnyOrder(1, 2);
+	}
+
+	@Test
+	void concurrentlyAddedFlowsAreAllRegisteredInOrder() throws Exception {
+		int threads = 8;
+		int flowsPerThread = 50;
+		registry.setExecution(EventFlowExecution.sequential());
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		List<Integer> invoked = Collections.synchronizedList(new ArrayList<>());
+		try {
+			for (int t = 0; t < threads; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < flowsPerThread; i++) {
+						registry.addInitializationFlow(
+								new RecordingInitializationFlow(i * threads + thread, invoked)).block();
+						registry.getInitializationFlows(CreateServiceInstanceRequest.builder().build()).blockLast();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		invoked.clear();
+		registry.getInitializationFlows(CreateServiceInstanceRequest.builder().build()).blockLast();
+		assertThat(invoked).hasSize(threads * flowsPerThread).isSorted();
+	}
+
+	@Test
+	void asyncOperationCompletionFlowsRunForEveryPollByDefault() {
+		List<String> completed = new ArrayList<>();
+		AsyncOperationServiceInstanceEventFlowRegistry registry = new AsyncOperationServiceInstanceEventFlowRegistry(
+				null, Collections.singletonList(instanceCompletionFlow(completed)), null);
+
+		pollInstance(registry, "instance-id", OperationState.IN_PROGRESS);
+		pollInstance(registry, "instance-id", OperationState.IN_PROGRESS);
+
+		assertThat(completed).containsExactly("instance-id:in progress", "instance-id:in progress");
+	}
+
+	@Test
+	void asyncOperationCompletionFlowsRunOnStateTransitions() {
+		List<String> completed = new ArrayList<>();
+		AsyncOperationServiceInstanceEventFlowRegistry registry = new AsyncOperationServiceInstanceEventFlowRegistry(
+				null, Collections.singletonList(instanceCompletionFlow(completed)), null);
+		registry.setStateTracker(new OperationStateTracker(10));
+
+		pollInstance(registry, "instance-id", OperationState.IN_PROGRESS);
+		pollInstance(registry, "instance-id", OperationState.IN_PROGRESS);
+		pollInstance(registry, "other-instance-id", OperationState.IN_PROGRESS);
+		pollInstance(registry, "instance-id", OperationState.SUCCEEDED);
+		pollInstance(registry, "instance-id", OperationState.SUCCEEDED);
+
+		assertThat(completed).containsExactly("instance-id:in progress", "other-instance-id:in progress",
+				"instance-id:succeeded");
+	}
+
+	@Test
+	void asyncBindingOperationCompletionFlowsRunOnStateTransitions() {
+		List<String> completed = new ArrayList<>();
+		AsyncOperationServiceInstanceBindingEventFlowRegistry registry =
+				new AsyncOperationServiceInstanceBindingEventFlowRegistry(null,
+						Collections.singletonList(bindingCompletionFlow(completed)), null);
+		registry.setStateTracker(new OperationStateTracker(10));
+
+		pollBinding(registry, "binding-id", OperationState.IN_PROGRESS);
+		pollBinding(registry, "other-binding-id", OperationState.IN_PROGRESS);
+		pollBinding(registry, "binding-id", OperationState.IN_PROGRESS);
+		pollBinding(registry, "binding-id", OperationState.FAILED);
+		pollBinding(registry, "binding-id", OperationState.FAILED);
+
+		assertThat(completed).containsExactly("binding-id:in progress", "other-binding-id:in progress",
+				"binding-id:failed");
+	}
+
+	private static AsyncOperationServiceInstanceCompletionFlow instanceCompletionFlow(List<String> completed) {
+		return new AsyncOperationServiceInstanceCompletionFlow() {
+			@Override
+			public Mono<Void> complete(GetLastServiceOperationRequest request,
+					GetLastServiceOperationResponse response) {
+				return Mono.fromRunnable(
+						() -> completed.add(request.getServiceInstanceId() + ":" + response.getState()));
+			}
+		};
+	}
+
+	private static AsyncOperationServiceInstanceBindingCompletionFlow bindingCompletionFlow(List<String> completed) {
+		return new AsyncOperationServiceInstanceBindingCompletionFlow() {
+			@Override
+			public Mono<Void> complete(GetLastServiceBindingOperationRequest request,
+					GetLastServiceBindingOperationResponse response) {
+				return Mono.fromRunnable(() -> completed.add(request.getBindingId() + ":" + response.getState()));
+			}
+		};
+	}
+
+	private static void pollInstance(AsyncOperationServiceInstanceEventFlowRegistry registry, String instanceId,
+			OperationState state) {
+		registry.getCompletionFlows(
+				GetLastServiceOperationRequest.builder().serviceInstanceId(instanceId).operation("task").build(),
+				GetLastServiceOperationResponse.builder().operationState(state).build()).blockLast();
+	}
+
+	private static void pollBinding(AsyncOperationServiceInstanceBindingEventFlowRegistry registry, String bindingId,
+			OperationState state) {
+		registry.getCompletionFlows(
+				GetLastServiceBindingOperationRequest.builder().serviceInstanceId("instance-id").bindingId(bindingId)
+						.build(),
+				GetLastServiceBindingOperationResponse.builder().operationState(state).build()).blockLast();
+	}
+
+	private static final class RecordingInitializationFlow implements CreateServiceInstanceInitializationFlow,
+			Ordered {
+
+		private final int order;
+
+		private final List<Integer> invoked;
+
+		private RecordingInitializationFlow(int order, List<Integer> invoked) {
+			this.order = order;
+			this.invoked = invoked;
+		}
+
+		@Override
+		public Mono<Void> initialize(CreateServiceInstanceRequest request) {
+			return Mono.fromRunnable(() -> this.invoked.add(this.order));
+		}
+
+		@Override
+		public int getOrder() {
+			return this.order;
+		}
+
+	}
+
+}
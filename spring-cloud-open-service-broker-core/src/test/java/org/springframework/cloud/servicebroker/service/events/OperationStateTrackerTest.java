@@ -0,0 +1,77 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.events;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class OperationStateTrackerTest {
+
+	private final OperationStateTracker tracker = new OperationStateTracker(2);
+
+	@Test
+	void firstObservedStateIsTransition() {
+		assertThat(transition("instance-id", OperationState.IN_PROGRESS)).isTrue();
+		assertThat(tracker.size()).isEqualTo(1);
+	}
+
+	@Test
+	void repeatedStateIsNotTransition() {
+		transition("instance-id", OperationState.IN_PROGRESS);
+
+		assertThat(transition("instance-id", OperationState.IN_PROGRESS)).isFalse();
+		assertThat(transition("instance-id", OperationState.SUCCEEDED)).isTrue();
+		assertThat(transition("instance-id", OperationState.SUCCEEDED)).isFalse();
+	}
+
+	@Test
+	void operationsAreTrackedByInstanceBindingAndOperation() {
+		tracker.transition("instance-id", null, "operation", OperationState.IN_PROGRESS);
+
+		assertThat(tracker.transition("instance-id", null, "operation", OperationState.IN_PROGRESS)).isFalse();
+		assertThat(tracker.transition("instance-id", null, null, OperationState.IN_PROGRESS)).isTrue();
+		assertThat(tracker.transition("instance-id", null, null, OperationState.IN_PROGRESS)).isFalse();
+		assertThat(tracker.transition("instance-id", "binding-id", null, OperationState.IN_PROGRESS)).isTrue();
+		assertThat(tracker.transition("instance-id", "binding-id", null, OperationState.IN_PROGRESS)).isFalse();
+	}
+
+	@Test
+	void leastRecentlyObservedOperationIsForgotten() {
+		transition("first", OperationState.IN_PROGRESS);
+		transition("second", OperationState.IN_PROGRESS);
+		transition("first", OperationState.IN_PROGRESS);
+		transition("third", OperationState.IN_PROGRESS);
+
+		assertThat(tracker.size()).isEqualTo(2);
+		assertThat(transition("first", OperationState.IN_PROGRESS)).isFalse();
+		assertThat(transition("second", OperationState.IN_PROGRESS)).isTrue();
+	}
+
+	@Test
+	void maximumSizeMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new OperationStateTracker(0));
+	}
+
+	private boolean transition(String serviceInstanceId, OperationState state) {
+		return tracker.transition(serviceInstanceId, null, "operation", state);
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceAppBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.catalog.Catalog;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.BeanCatalogService;
+import org.springframework.cloud.servicebroker.service.CatalogService;
+import org.springframework.cloud.servicebroker.service.ReloadableCatalogService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsServiceDecoratorTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final MetricsServiceDecorator decorator = new MetricsServiceDecorator(
+			new ServiceBrokerMetrics(this.registry));
+
+	private final ServiceDefinition serviceDefinition = ServiceDefinition.builder()
+			.id("service-def-id")
+			.plans(Plan.builder().id("plan-id").build())
+			.build();
+
+	@Test
+	void catalogServiceIsMetered() {
+		CatalogService catalogService = this.decorator.decorateCatalogService(
+				new BeanCatalogService(Catalog.builder().serviceDefinitions(this.serviceDefinition).build()));
+
+		StepVerifier.create(catalogService.getCatalog())
+				.expectNextCount(1)
+				.verifyComplete();
+		StepVerifier.create(catalogService.getServiceDefinition("service-def-id"))
+				.expectNext(this.serviceDefinition)
+				.verifyComplete();
+
+		assertThat(this.registry.get(ServiceBrokerMetrics.OPERATIONS_METRIC)
+				.tag("operation", "getCatalog")
+				.timer()
+				.count()).isEqualTo(1);
+		assertThat(this.registry.find(ServiceBrokerMetrics.OPERATIONS_METRIC)
+				.tag("operation", "getServiceDefinition")
+				.timer()).isNull();
+	}
+
+	@Test
+	void serializedCatalogIsDelegated() {
+		ReloadableCatalogService reloadableCatalogService = new ReloadableCatalogService(
+				() -> Catalog.builder().serviceDefinitions(this.serviceDefinition).build(), new ObjectMapper());
+		CatalogService catalogService = this.decorator.decorateCatalogService(reloadableCatalogService);
+
+		assertThat(catalogService.getSerializedCatalog()).isSameAs(reloadableCatalogService.getSerializedCatalog());
+		assertThat(catalogService.getCatalogIndex()).isSameAs(reloadableCatalogService.getCatalogIndex());
+	}
+
+	@Test
+	void serviceInstanceServiceIsMetered() {
+		ServiceInstanceService service = this.decorator.decorateServiceInstanceService(
+				new ServiceInstanceService() {
+					@Override
+					public Mono<CreateServiceInstanceResponse> createServiceInstance(
+							CreateServiceInstanceRequest request) {
+						return Mono.just(CreateServiceInstanceResponse.builder().async(true).build());
+					}
+
+					@Override
+					public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(
+							DeleteServiceInstanceRequest request) {
+						return Mono.just(DeleteServiceInstanceResponse.builder().build());
+					}
+				});
+
+		StepVerifier.create(service.createServiceInstance(CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("service-instance-id")
+				.serviceDefinition(this.serviceDefinition)
+				.plan(this.serviceDefinition.getPlans().get(0))
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.registry.get(ServiceBrokerMetrics.OPERATIONS_METRIC)
+				.tag("operation", "createServiceInstance")
+				.tag("service_id", "service-def-id")
+				.tag("plan_id", "plan-id")
+				.tag("outcome", "async")
+				.timer()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	void serviceInstanceBindingServiceIsMetered() {
+		ServiceInstanceBindingService service = this.decorator.decorateServiceInstanceBindingService(
+				new ServiceInstanceBindingService() {
+					@Override
+					public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+							CreateServiceInstanceBindingRequest request) {
+						return Mono.just(CreateServiceInstanceAppBindingResponse.builder().build());
+					}
+				});
+
+		StepVerifier.create(service.createServiceInstanceBinding(CreateServiceInstanceBindingRequest.builder()
+				.serviceInstanceId("service-instance-id")
+				.bindingId("binding-id")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+		StepVerifier.create(service.getServiceInstanceBinding(null))
+				.expectError(UnsupportedOperationException.class)
+				.verify();
+
+		assertThat(this.registry.get(ServiceBrokerMetrics.OPERATIONS_METRIC)
+				.tag("operation", "createServiceInstanceBinding")
+				.tag("service_id", "none")
+				.tag("outcome", "sync")
+				.timer()
+				.count()).isEqualTo(1);
+		assertThat(this.registry.get(ServiceBrokerMetrics.ERRORS_METRIC)
+				.tag("operation", "getServiceInstanceBinding")
+				.tag("exception", "UnsupportedOperationException")
+				.counter()
+				.count()).isEqualTo(1);
+	}
+
+}
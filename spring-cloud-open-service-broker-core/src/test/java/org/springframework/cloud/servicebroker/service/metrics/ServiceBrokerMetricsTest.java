@@ -0,0 +1,122 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceDoesNotExistException;
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+import org.springframework.cloud.servicebroker.model.catalog.ServiceDefinition;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceBrokerMetricsTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final ServiceDefinition serviceDefinition = ServiceDefinition.builder().id("service-def-id").build();
+
+	private final Plan plan = Plan.builder().id("plan-id").build();
+
+	@Test
+	void syncOperationIsRecorded() {
+		ServiceBrokerMetrics metrics = new ServiceBrokerMetrics(this.registry);
+
+		StepVerifier.create(metrics.record("createServiceInstance", this.serviceDefinition, this.plan,
+				Mono.just(CreateServiceInstanceResponse.builder().build())))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		Timer timer = this.registry.get(ServiceBrokerMetrics.OPERATIONS_METRIC)
+				.tag("operation", "createServiceInstance")
+				.tag("service_id", "service-def-id")
+				.tag("plan_id", "plan-id")
+				.tag("outcome", "sync")
+				.tag("exception", "none")
+				.timer();
+		assertThat(timer.count()).isEqualTo(1);
+		assertThat(this.registry.find(ServiceBrokerMetrics.ERRORS_METRIC).counter()).isNull();
+	}
+
+	@Test
+	void asyncOperationIsRecorded() {
+		ServiceBrokerMetrics metrics = new ServiceBrokerMetrics(this.registry);
+
+		StepVerifier.create(metrics.record("createServiceInstance", this.serviceDefinition, this.plan,
+				Mono.just(CreateServiceInstanceResponse.builder().async(true).build())))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.registry.get(ServiceBrokerMetrics.OPERATIONS_METRIC)
+				.tag("outcome", "async")
+				.timer()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	void failedOperationIsRecorded() {
+		ServiceBrokerMetrics metrics = new ServiceBrokerMetrics(this.registry);
+
+		StepVerifier.create(metrics.record("getServiceInstance", null, null,
+				Mono.error(new ServiceInstanceDoesNotExistException("service-instance-id"))))
+				.expectError(ServiceInstanceDoesNotExistException.class)
+				.verify();
+
+		assertThat(this.registry.get(ServiceBrokerMetrics.OPERATIONS_METRIC)
+				.tag("operation", "getServiceInstance")
+				.tag("service_id", "none")
+				.tag("plan_id", "none")
+				.tag("outcome", "error")
+				.tag("exception", "ServiceInstanceDoesNotExistException")
+				.timer()
+				.count()).isEqualTo(1);
+		assertThat(this.registry.get(ServiceBrokerMetrics.ERRORS_METRIC)
+				.tag("exception", "ServiceInstanceDoesNotExistException")
+				.counter()
+				.count()).isEqualTo(1);
+	}
+
+	@Test
+	void operationIsNotRecordedUntilSubscribed() {
+		ServiceBrokerMetrics metrics = new ServiceBrokerMetrics(this.registry);
+
+		metrics.record("getServiceInstance", null, null, Mono.empty());
+
+		assertThat(this.registry.find(ServiceBrokerMetrics.OPERATIONS_METRIC).timer()).isNull();
+	}
+
+	@Test
+	void disabledTagsAreOmitted() {
+		ServiceBrokerMetrics metrics = new ServiceBrokerMetrics(this.registry, false, false, false);
+
+		StepVerifier.create(metrics.record("createServiceInstance", this.serviceDefinition, this.plan,
+				Mono.just(CreateServiceInstanceResponse.builder().build())))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		Timer timer = this.registry.get(ServiceBrokerMetrics.OPERATIONS_METRIC).timer();
+		assertThat(timer.getId().getTag("operation")).isEqualTo("createServiceInstance");
+		assertThat(timer.getId().getTag("service_id")).isNull();
+		assertThat(timer.getId().getTag("plan_id")).isNull();
+	}
+
+}
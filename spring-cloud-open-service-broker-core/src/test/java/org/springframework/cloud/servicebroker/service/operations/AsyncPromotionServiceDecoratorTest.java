@@ -0,0 +1,316 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.exception.ServiceInstanceDoesNotExistException;
+import org.springframework.cloud.servicebroker.model.AsyncServiceBrokerResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.UpdateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class AsyncPromotionServiceDecoratorTest {
+
+	private static final Duration BUDGET = Duration.ofMillis(100);
+
+	private final InMemoryOperationStore store = new InMemoryOperationStore();
+
+	private final AsyncPromotionServiceDecorator decorator = new AsyncPromotionServiceDecorator(this.store, BUDGET);
+
+	private final Sinks.One<CreateServiceInstanceResponse> createResponse = Sinks.one();
+
+	private final Sinks.One<UpdateServiceInstanceResponse> updateResponse = Sinks.one();
+
+	private final Sinks.One<DeleteServiceInstanceResponse> deleteResponse = Sinks.one();
+
+	private final List<String> lastOperationRequests = new ArrayList<>();
+
+	private OperationState backendState = OperationState.IN_PROGRESS;
+
+	private final ServiceInstanceService service = this.decorator
+			.decorateServiceInstanceService(new TestServiceInstanceService());
+
+	@Test
+	void responseWithinBudgetIsReturned() {
+		CreateServiceInstanceResponse response = CreateServiceInstanceResponse.builder()
+				.dashboardUrl("https://dashboard.example.com")
+				.build();
+		this.createResponse.tryEmitValue(response);
+
+		StepVerifier.create(this.service.createServiceInstance(createRequest(true)))
+				.expectNext(response)
+				.verifyComplete();
+		StepVerifier.create(this.store.getOperation("instance-id", null)).verifyComplete();
+	}
+
+	@Test
+	void errorWithinBudgetIsReturned() {
+		this.createResponse.tryEmitError(new IllegalStateException("create failed"));
+
+		StepVerifier.create(this.service.createServiceInstance(createRequest(true)))
+				.verifyErrorMessage("create failed");
+	}
+
+	@Test
+	void requestThatDoesNotAcceptAsyncResponseIsNotPromoted() {
+		CreateServiceInstanceResponse response = CreateServiceInstanceResponse.builder().build();
+
+		StepVerifier.create(this.service.createServiceInstance(createRequest(false)))
+				.expectSubscription()
+				.expectNoEvent(BUDGET.multipliedBy(2))
+				.then(() -> this.createResponse.tryEmitValue(response))
+				.expectNext(response)
+				.verifyComplete();
+	}
+
+	@Test
+	void slowCreateIsPromotedAndCompletesInBackground() {
+		String operation = promotedOperation(this.service.createServiceInstance(createRequest(true)));
+
+		assertLastOperation(operation, OperationState.IN_PROGRESS, false);
+
+		this.createResponse.tryEmitValue(CreateServiceInstanceResponse.builder().build());
+
+		assertLastOperation(operation, OperationState.SUCCEEDED, false);
+		assertThat(this.lastOperationRequests).isEmpty();
+	}
+
+	@Test
+	void slowUpdateThatFailsIsReportedAsFailed() {
+		String operation = promotedOperation(this.service.updateServiceInstance(UpdateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.asyncAccepted(true)
+				.build()));
+
+		this.updateResponse.tryEmitError(new IllegalStateException("update failed"));
+
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest(operation)))
+				.assertNext(response -> {
+					assertThat(response.getState()).isEqualTo(OperationState.FAILED);
+					assertThat(response.getDescription()).isEqualTo("update failed");
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	void slowDeleteOfMissingInstanceIsReportedAsSucceeded() {
+		String operation = promotedOperation(this.service.deleteServiceInstance(DeleteServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.asyncAccepted(true)
+				.build()));
+
+		assertLastOperation(operation, OperationState.IN_PROGRESS, true);
+
+		this.deleteResponse.tryEmitError(new ServiceInstanceDoesNotExistException("instance-id"));
+
+		assertLastOperation(operation, OperationState.SUCCEEDED, true);
+	}
+
+	@Test
+	void asyncResponseAfterPromotionIsPolledWithServiceOperation() {
+		String operation = promotedOperation(this.service.createServiceInstance(createRequest(true)));
+
+		this.createResponse.tryEmitValue(CreateServiceInstanceResponse.builder()
+				.async(true)
+				.operation("task-1")
+				.build());
+
+		assertLastOperation(operation, OperationState.IN_PROGRESS, false);
+		this.backendState = OperationState.SUCCEEDED;
+		assertLastOperation(operation, OperationState.SUCCEEDED, false);
+		assertThat(this.lastOperationRequests).containsExactly("task-1", "task-1");
+
+		assertLastOperation(operation, OperationState.SUCCEEDED, false);
+		assertThat(this.lastOperationRequests).hasSize(2);
+	}
+
+	@Test
+	void handedOffOperationThatIsNotPolledIsForgotten() {
+		MutableClock clock = new MutableClock();
+		AsyncPromotionServiceDecorator decorator = new AsyncPromotionServiceDecorator(
+				new InMemoryOperationStore(Duration.ofHours(1), clock), BUDGET, clock);
+		ServiceInstanceService service = new AsyncPromotionServiceInstanceService(new TestServiceInstanceService(),
+				decorator, Duration.ofMinutes(10), 10);
+		String operation = promotedOperation(service.createServiceInstance(createRequest(true)));
+		this.createResponse.tryEmitValue(CreateServiceInstanceResponse.builder()
+				.async(true)
+				.operation("task-1")
+				.build());
+
+		clock.advance(Duration.ofMinutes(6));
+		assertLastOperation(service, "instance-id", operation, OperationState.IN_PROGRESS);
+		clock.advance(Duration.ofMinutes(6));
+		assertLastOperation(service, "instance-id", operation, OperationState.IN_PROGRESS);
+		assertThat(this.lastOperationRequests).containsExactly("task-1", "task-1");
+
+		clock.advance(Duration.ofMinutes(11));
+		assertLastOperation(service, "instance-id", operation, OperationState.IN_PROGRESS);
+		assertThat(this.lastOperationRequests).hasSize(2);
+	}
+
+	@Test
+	void handedOffOperationsAreBounded() {
+		ServiceInstanceService service = new AsyncPromotionServiceInstanceService(new TestServiceInstanceService(),
+				this.decorator, Duration.ofMinutes(10), 1);
+		String first = promotedOperation(service.createServiceInstance(createRequest("first-instance-id")));
+		String second = promotedOperation(service.createServiceInstance(createRequest("second-instance-id")));
+		this.createResponse.tryEmitValue(CreateServiceInstanceResponse.builder()
+				.async(true)
+				.operation("task-1")
+				.build());
+
+		assertLastOperation(service, "first-instance-id", first, OperationState.IN_PROGRESS);
+		assertLastOperation(service, "second-instance-id", second, OperationState.IN_PROGRESS);
+		assertThat(this.lastOperationRequests).containsExactly("task-1");
+	}
+
+	@Test
+	void lastOperationForServiceOperationCallsService() {
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest("task-1")))
+				.assertNext(response -> assertThat(response.getState()).isEqualTo(OperationState.IN_PROGRESS))
+				.verifyComplete();
+		assertThat(this.lastOperationRequests).containsExactly("task-1");
+	}
+
+	@Test
+	void budgetMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new AsyncPromotionServiceDecorator(Duration.ZERO));
+	}
+
+	private static String promotedOperation(Mono<? extends AsyncServiceBrokerResponse> responses) {
+		AsyncServiceBrokerResponse response = responses.block(Duration.ofSeconds(5));
+		assertThat(response).isNotNull();
+		assertThat(response.isAsync()).isTrue();
+		assertThat(response.getOperation()).startsWith("promoted-");
+		return response.getOperation();
+	}
+
+	private void assertLastOperation(String operation, OperationState state, boolean deleteOperation) {
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest(operation)))
+				.assertNext(response -> {
+					assertThat(response.getState()).isEqualTo(state);
+					assertThat(response.isDeleteOperation()).isEqualTo(deleteOperation);
+				})
+				.verifyComplete();
+	}
+
+	private static void assertLastOperation(ServiceInstanceService service, String serviceInstanceId,
+			String operation, OperationState state) {
+		StepVerifier.create(service.getLastOperation(GetLastServiceOperationRequest.builder()
+				.serviceInstanceId(serviceInstanceId)
+				.operation(operation)
+				.build()))
+				.assertNext(response -> assertThat(response.getState()).isEqualTo(state))
+				.verifyComplete();
+	}
+
+	private static CreateServiceInstanceRequest createRequest(String serviceInstanceId) {
+		return CreateServiceInstanceRequest.builder()
+				.serviceInstanceId(serviceInstanceId)
+				.asyncAccepted(true)
+				.build();
+	}
+
+	private static CreateServiceInstanceRequest createRequest(boolean asyncAccepted) {
+		return CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.asyncAccepted(asyncAccepted)
+				.build();
+	}
+
+	private static GetLastServiceOperationRequest lastOperationRequest(String operation) {
+		return GetLastServiceOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.operation(operation)
+				.build();
+	}
+
+	private final class TestServiceInstanceService implements ServiceInstanceService {
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			return createResponse.asMono();
+		}
+
+		@Override
+		public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+			lastOperationRequests.add(request.getOperation());
+			return Mono.just(GetLastServiceOperationResponse.builder()
+					.operationState(backendState)
+					.build());
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return deleteResponse.asMono();
+		}
+
+		@Override
+		public Mono<UpdateServiceInstanceResponse> updateServiceInstance(UpdateServiceInstanceRequest request) {
+			return updateResponse.asMono();
+		}
+
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryOperationStoreTest {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final InMemoryOperationStore store = new InMemoryOperationStore(Duration.ofMinutes(10), this.clock);
+
+	@Test
+	void savedOperationIsRetrieved() {
+		OperationRecord operation = operation("instance-id", null, OperationState.IN_PROGRESS, Instant.EPOCH);
+
+		StepVerifier.create(this.store.saveOperation(operation)).verifyComplete();
+
+		StepVerifier.create(this.store.getOperation("instance-id", null))
+				.expectNext(operation)
+				.verifyComplete();
+		StepVerifier.create(this.store.getOperation("instance-id", "binding-id")).verifyComplete();
+	}
+
+	@Test
+	void instanceAndBindingOperationsAreStoredSeparately() {
+		OperationRecord instanceOperation = operation("instance-id", null, OperationState.IN_PROGRESS, Instant.EPOCH);
+		OperationRecord bindingOperation = operation("instance-id", "binding-id", OperationState.SUCCEEDED,
+				Instant.EPOCH);
+
+		StepVerifier.create(this.store.saveOperation(instanceOperation)
+				.then(this.store.saveOperation(bindingOperation)))
+				.verifyComplete();
+
+		StepVerifier.create(this.store.getOperation("instance-id", null)).expectNext(instanceOperation)
+				.verifyComplete();
+		StepVerifier.create(this.store.getOperation("instance-id", "binding-id")).expectNext(bindingOperation)
+				.verifyComplete();
+		assertThat(this.store.size()).isEqualTo(2);
+	}
+
+	@Test
+	void olderOperationDoesNotReplaceNewerOperation() {
+		OperationRecord newer = operation("instance-id", null, OperationState.SUCCEEDED, Instant.EPOCH.plusSeconds(5));
+		OperationRecord older = operation("instance-id", null, OperationState.IN_PROGRESS, Instant.EPOCH);
+
+		StepVerifier.create(this.store.saveOperation(newer).then(this.store.saveOperation(older))).verifyComplete();
+
+		StepVerifier.create(this.store.getOperation("instance-id", null)).expectNext(newer).verifyComplete();
+	}
+
+	@Test
+	void removedOperationIsNotRetrieved() {
+		StepVerifier.create(this.store.saveOperation(
+				operation("instance-id", null, OperationState.IN_PROGRESS, Instant.EPOCH))
+				.then(this.store.removeOperation("instance-id", null)))
+				.verifyComplete();
+
+		StepVerifier.create(this.store.getOperation("instance-id", null)).verifyComplete();
+		assertThat(this.store.size()).isZero();
+	}
+
+	@Test
+	void completedOperationExpiresAfterRetention() {
+		StepVerifier.create(this.store.saveOperation(
+				operation("completed-id", null, OperationState.SUCCEEDED, Instant.EPOCH))
+				.then(this.store.saveOperation(
+						operation("in-progress-id", null, OperationState.IN_PROGRESS, Instant.EPOCH))))
+				.verifyComplete();
+
+		this.clock.advance(Duration.ofMinutes(11));
+
+		StepVerifier.create(this.store.getOperation("completed-id", null)).verifyComplete();
+		StepVerifier.create(this.store.getOperation("in-progress-id", null)).expectNextCount(1).verifyComplete();
+		assertThat(this.store.size()).isEqualTo(1);
+	}
+
+	@Test
+	void evictExpiredRemovesOnlyExpiredCompletedOperations() {
+		StepVerifier.create(this.store.saveOperation(
+				operation("failed-id", null, OperationState.FAILED, Instant.EPOCH))
+				.then(this.store.saveOperation(
+						operation("in-progress-id", null, OperationState.IN_PROGRESS, Instant.EPOCH))))
+				.verifyComplete();
+
+		this.store.evictExpired();
+		assertThat(this.store.size()).isEqualTo(2);
+
+		this.clock.advance(Duration.ofMinutes(11));
+		this.store.evictExpired();
+		assertThat(this.store.size()).isEqualTo(1);
+	}
+
+	private static OperationRecord operation(String serviceInstanceId, String bindingId, OperationState state,
+			Instant updatedAt) {
+		return OperationRecord.builder()
+				.serviceInstanceId(serviceInstanceId)
+				.bindingId(bindingId)
+				.operation("task-1")
+				.state(state)
+				.updatedAt(updatedAt)
+				.build();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
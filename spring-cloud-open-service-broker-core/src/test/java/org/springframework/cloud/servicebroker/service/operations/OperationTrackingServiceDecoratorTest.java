@@ -0,0 +1,279 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.operations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.DeleteServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationRequest;
+import org.springframework.cloud.servicebroker.model.binding.GetLastServiceBindingOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OperationTrackingServiceDecoratorTest {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final InMemoryOperationStore store = new InMemoryOperationStore(Duration.ofHours(1), this.clock);
+
+	private final OperationTrackingServiceDecorator decorator = new OperationTrackingServiceDecorator(this.store,
+			Duration.ofSeconds(5), this.clock);
+
+	private final AtomicInteger lastOperationCalls = new AtomicInteger();
+
+	private final AtomicReference<OperationState> backendState = new AtomicReference<>(OperationState.IN_PROGRESS);
+
+	private final AtomicBoolean asyncCreate = new AtomicBoolean(true);
+
+	private final ServiceInstanceService service = this.decorator
+			.decorateServiceInstanceService(new TestServiceInstanceService());
+
+	@Test
+	void asyncCreateIsRecordedAsInProgress() {
+		StepVerifier.create(this.service.createServiceInstance(createRequest())).expectNextCount(1).verifyComplete();
+
+		StepVerifier.create(this.store.getOperation("instance-id", null))
+				.assertNext(operation -> {
+					assertThat(operation.getOperation()).isEqualTo("task-1");
+					assertThat(operation.getState()).isEqualTo(OperationState.IN_PROGRESS);
+					assertThat(operation.isDeleteOperation()).isFalse();
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	void syncCreateRemovesRecordedOperation() {
+		StepVerifier.create(this.service.createServiceInstance(createRequest())).expectNextCount(1).verifyComplete();
+		this.asyncCreate.set(false);
+
+		StepVerifier.create(this.service.createServiceInstance(createRequest())).expectNextCount(1).verifyComplete();
+
+		StepVerifier.create(this.store.getOperation("instance-id", null)).verifyComplete();
+	}
+
+	@Test
+	void asyncDeleteIsRecordedAsDeleteOperation() {
+		StepVerifier.create(this.service.deleteServiceInstance(DeleteServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest()))
+				.assertNext(response -> {
+					assertThat(response.getState()).isEqualTo(OperationState.IN_PROGRESS);
+					assertThat(response.isDeleteOperation()).isTrue();
+				})
+				.verifyComplete();
+		assertThat(this.lastOperationCalls).hasValue(0);
+	}
+
+	@Test
+	void lastOperationInProgressIsRefreshedAfterInterval() {
+		StepVerifier.create(this.service.createServiceInstance(createRequest())).expectNextCount(1).verifyComplete();
+
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest()))
+				.assertNext(response -> assertThat(response.getState()).isEqualTo(OperationState.IN_PROGRESS))
+				.verifyComplete();
+		assertThat(this.lastOperationCalls).hasValue(0);
+
+		this.backendState.set(OperationState.SUCCEEDED);
+		this.clock.advance(Duration.ofSeconds(6));
+
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest()))
+				.assertNext(response -> assertThat(response.getState()).isEqualTo(OperationState.SUCCEEDED))
+				.verifyComplete();
+		assertThat(this.lastOperationCalls).hasValue(1);
+	}
+
+	@Test
+	void completedLastOperationIsServedFromStore() {
+		StepVerifier.create(this.store.saveOperation(OperationRecord.builder()
+				.serviceInstanceId("instance-id")
+				.operation("task-1")
+				.state(OperationState.SUCCEEDED)
+				.description("done")
+				.updatedAt(this.clock.instant())
+				.build()))
+				.verifyComplete();
+		this.clock.advance(Duration.ofMinutes(10));
+
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest()))
+				.assertNext(response -> {
+					assertThat(response.getState()).isEqualTo(OperationState.SUCCEEDED);
+					assertThat(response.getDescription()).isEqualTo("done");
+				})
+				.verifyComplete();
+		assertThat(this.lastOperationCalls).hasValue(0);
+	}
+
+	@Test
+	void lastOperationForDifferentOperationCallsService() {
+		StepVerifier.create(this.service.createServiceInstance(createRequest())).expectNextCount(1).verifyComplete();
+
+		StepVerifier.create(this.service.getLastOperation(GetLastServiceOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.operation("task-2")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+		assertThat(this.lastOperationCalls).hasValue(1);
+	}
+
+	@Test
+	void bindingOperationsAreTracked() {
+		ServiceInstanceBindingService bindingService = this.decorator.decorateServiceInstanceBindingService(
+				new ServiceInstanceBindingService() {
+					@Override
+					public Mono<DeleteServiceInstanceBindingResponse> deleteServiceInstanceBinding(
+							DeleteServiceInstanceBindingRequest request) {
+						return Mono.just(DeleteServiceInstanceBindingResponse.builder()
+								.async(true)
+								.operation("unbind-1")
+								.build());
+					}
+
+					@Override
+					public Mono<GetLastServiceBindingOperationResponse> getLastOperation(
+							GetLastServiceBindingOperationRequest request) {
+						lastOperationCalls.incrementAndGet();
+						return Mono.just(GetLastServiceBindingOperationResponse.builder()
+								.operationState(OperationState.SUCCEEDED)
+								.deleteOperation(true)
+								.build());
+					}
+				});
+		GetLastServiceBindingOperationRequest lastOperationRequest = GetLastServiceBindingOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId("binding-id")
+				.operation("unbind-1")
+				.build();
+
+		StepVerifier.create(bindingService.deleteServiceInstanceBinding(DeleteServiceInstanceBindingRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId("binding-id")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+		StepVerifier.create(bindingService.getLastOperation(lastOperationRequest))
+				.assertNext(response -> {
+					assertThat(response.getState()).isEqualTo(OperationState.IN_PROGRESS);
+					assertThat(response.isDeleteOperation()).isTrue();
+				})
+				.verifyComplete();
+		assertThat(this.lastOperationCalls).hasValue(0);
+
+		this.clock.advance(Duration.ofSeconds(6));
+
+		StepVerifier.create(bindingService.getLastOperation(lastOperationRequest))
+				.assertNext(response -> assertThat(response.getState()).isEqualTo(OperationState.SUCCEEDED))
+				.verifyComplete();
+		StepVerifier.create(bindingService.getLastOperation(lastOperationRequest))
+				.assertNext(response -> assertThat(response.getState()).isEqualTo(OperationState.SUCCEEDED))
+				.verifyComplete();
+		assertThat(this.lastOperationCalls).hasValue(1);
+		StepVerifier.create(this.store.getOperation("instance-id", null)).verifyComplete();
+	}
+
+	private static CreateServiceInstanceRequest createRequest() {
+		return CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build();
+	}
+
+	private static GetLastServiceOperationRequest lastOperationRequest() {
+		return GetLastServiceOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.operation("task-1")
+				.build();
+	}
+
+	private final class TestServiceInstanceService implements ServiceInstanceService {
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			return Mono.just(CreateServiceInstanceResponse.builder()
+					.async(asyncCreate.get())
+					.operation(asyncCreate.get() ? "task-1" : null)
+					.build());
+		}
+
+		@Override
+		public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+			lastOperationCalls.incrementAndGet();
+			return Mono.just(GetLastServiceOperationResponse.builder()
+					.operationState(backendState.get())
+					.build());
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return Mono.just(DeleteServiceInstanceResponse.builder()
+					.async(true)
+					.operation("task-1")
+					.build());
+		}
+
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
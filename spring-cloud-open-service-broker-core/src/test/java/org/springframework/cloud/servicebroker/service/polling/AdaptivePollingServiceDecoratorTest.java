@@ -0,0 +1,130 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.polling;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationRequest;
+import org.springframework.cloud.servicebroker.model.instance.GetLastServiceOperationResponse;
+import org.springframework.cloud.servicebroker.model.instance.OperationState;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class AdaptivePollingServiceDecoratorTest {
+
+	private final PollingAdvisor advisor = mock(PollingAdvisor.class);
+
+	private final ServiceInstanceService service = new AdaptivePollingServiceDecorator(this.advisor)
+			.decorateServiceInstanceService(new TestServiceInstanceService());
+
+	private OperationState state = OperationState.IN_PROGRESS;
+
+	private Duration serviceRetryAfter;
+
+	@Test
+	void asyncCreateStartsOperation() {
+		StepVerifier.create(this.service.createServiceInstance(CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.serviceDefinitionId("service-id")
+				.build()))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		then(this.advisor).should().operationStarted("instance-id", null, "create", "service-id", null);
+	}
+
+	@Test
+	void inProgressResponseIsGivenAdvisedTime() {
+		given(this.advisor.getRetryAfter("instance-id", null)).willReturn(Duration.ofSeconds(30));
+
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest()))
+				.assertNext(response -> {
+					assertThat(response.getState()).isEqualTo(OperationState.IN_PROGRESS);
+					assertThat(response.getDescription()).isEqualTo("working");
+					assertThat(response.getRetryAfter()).isEqualTo(Duration.ofSeconds(30));
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	void timeProvidedByServiceIsKept() {
+		this.serviceRetryAfter = Duration.ofSeconds(5);
+		given(this.advisor.getRetryAfter("instance-id", null)).willReturn(Duration.ofSeconds(30));
+
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest()))
+				.assertNext(response -> assertThat(response.getRetryAfter()).isEqualTo(Duration.ofSeconds(5)))
+				.verifyComplete();
+	}
+
+	@Test
+	void completedResponseCompletesOperation() {
+		this.state = OperationState.SUCCEEDED;
+
+		StepVerifier.create(this.service.getLastOperation(lastOperationRequest()))
+				.assertNext(response -> assertThat(response.getRetryAfter()).isNull())
+				.verifyComplete();
+
+		then(this.advisor).should().operationCompleted("instance-id", null);
+		then(this.advisor).should(never()).getRetryAfter(any(), any());
+	}
+
+	private static GetLastServiceOperationRequest lastOperationRequest() {
+		return GetLastServiceOperationRequest.builder()
+				.serviceInstanceId("instance-id")
+				.build();
+	}
+
+	private final class TestServiceInstanceService implements ServiceInstanceService {
+
+		@Override
+		public Mono<CreateServiceInstanceResponse> createServiceInstance(CreateServiceInstanceRequest request) {
+			return Mono.just(CreateServiceInstanceResponse.builder()
+					.async(true)
+					.build());
+		}
+
+		@Override
+		public Mono<GetLastServiceOperationResponse> getLastOperation(GetLastServiceOperationRequest request) {
+			return Mono.just(GetLastServiceOperationResponse.builder()
+					.operationState(state)
+					.description("working")
+					.retryAfter(serviceRetryAfter)
+					.build());
+		}
+
+		@Override
+		public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(DeleteServiceInstanceRequest request) {
+			return Mono.empty();
+		}
+
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.polling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompletionTimeHistogramTest {
+
+	private final CompletionTimeHistogram histogram = new CompletionTimeHistogram();
+
+	@Test
+	void emptyHistogramGivesNoEstimate() {
+		assertThat(this.histogram.estimateRemaining(0)).isEqualTo(-1);
+	}
+
+	@Test
+	void estimateIsMedianOfRecordedTimes() {
+		this.histogram.record(3);
+		this.histogram.record(10);
+		this.histogram.record(12);
+
+		assertThat(this.histogram.estimateRemaining(0)).isEqualTo(12);
+	}
+
+	@Test
+	void estimateIgnoresTimesShorterThanElapsedTime() {
+		this.histogram.record(3);
+		this.histogram.record(3);
+		this.histogram.record(100);
+
+		assertThat(this.histogram.estimateRemaining(0)).isEqualTo(3);
+		assertThat(this.histogram.estimateRemaining(10)).isEqualTo(86);
+		assertThat(this.histogram.estimateRemaining(200)).isEqualTo(-1);
+	}
+
+	@Test
+	void estimateIsAtLeastOneSecond() {
+		this.histogram.record(16);
+
+		assertThat(this.histogram.estimateRemaining(16)).isEqualTo(1);
+	}
+
+	@Test
+	void countsDecayAfterThreshold() {
+		for (int i = 0; i < 1024; i++) {
+			this.histogram.record(10);
+		}
+
+		assertThat(this.histogram.getCount()).isEqualTo(512);
+	}
+
+}
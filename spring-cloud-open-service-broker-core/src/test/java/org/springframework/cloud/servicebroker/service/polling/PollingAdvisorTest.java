@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.polling;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.catalog.Plan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PollingAdvisorTest {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final PollingAdvisor advisor = new PollingAdvisor(Duration.ofSeconds(2), Duration.ofSeconds(60), 2,
+			this.clock);
+
+	private final Plan plan = Plan.builder().id("plan-id").build();
+
+	@Test
+	void noTimeIsAdvisedBeforeAnOperationCompletes() {
+		this.advisor.operationStarted("instance-id", null, "create", "service-id", this.plan);
+
+		assertThat(this.advisor.getRetryAfter("instance-id", null)).isNull();
+		assertThat(this.advisor.getRetryAfter("unknown-id", null)).isNull();
+	}
+
+	@Test
+	void timeIsAdvisedFromCompletedOperations() {
+		completeOperation("instance-one", "create", this.plan, Duration.ofSeconds(10));
+
+		this.advisor.operationStarted("instance-two", null, "create", "service-id", this.plan);
+
+		assertThat(this.advisor.getRetryAfter("instance-two", null)).isEqualTo(Duration.ofSeconds(12));
+		this.clock.advance(Duration.ofSeconds(9));
+		assertThat(this.advisor.getRetryAfter("instance-two", null)).isEqualTo(Duration.ofSeconds(3));
+	}
+
+	@Test
+	void operationsOfDifferentKindsAreTimedSeparately() {
+		completeOperation("instance-one", "create", this.plan, Duration.ofSeconds(10));
+
+		this.advisor.operationStarted("instance-two", null, "delete", "service-id", this.plan);
+		this.advisor.operationStarted("instance-two", "binding-id", "create", "service-id", this.plan);
+
+		assertThat(this.advisor.getRetryAfter("instance-two", null)).isNull();
+		assertThat(this.advisor.getRetryAfter("instance-two", "binding-id")).isNull();
+	}
+
+	@Test
+	void advisedTimeIsLimitedToIntervals() {
+		completeOperation("instance-one", "create", this.plan, Duration.ofSeconds(1));
+		completeOperation("instance-two", "update", this.plan, Duration.ofMinutes(10));
+
+		this.advisor.operationStarted("instance-three", null, "create", "service-id", this.plan);
+		this.advisor.operationStarted("instance-four", null, "update", "service-id", this.plan);
+
+		assertThat(this.advisor.getRetryAfter("instance-three", null)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(this.advisor.getRetryAfter("instance-four", null)).isEqualTo(Duration.ofSeconds(60));
+	}
+
+	@Test
+	void advisedTimeIsLimitedToMaximumPollingDuration() {
+		Plan limitedPlan = Plan.builder().id("plan-id").maximumPollingDuration(30).build();
+		completeOperation("instance-one", "create", limitedPlan, Duration.ofSeconds(40));
+
+		this.advisor.operationStarted("instance-two", null, "create", "service-id", limitedPlan);
+		this.clock.advance(Duration.ofSeconds(20));
+
+		assertThat(this.advisor.getRetryAfter("instance-two", null)).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void operationsAreNotTrackedBeyondMaximum() {
+		this.advisor.operationStarted("instance-one", null, "create", "service-id", this.plan);
+		this.advisor.operationStarted("instance-two", null, "create", "service-id", this.plan);
+		this.advisor.operationStarted("instance-three", null, "create", "service-id", this.plan);
+
+		assertThat(this.advisor.getOperationCount()).isEqualTo(2);
+
+		this.advisor.operationCompleted("instance-one", null);
+		this.advisor.operationStarted("instance-three", null, "create", "service-id", this.plan);
+
+		assertThat(this.advisor.getOperationCount()).isEqualTo(2);
+	}
+
+	private void completeOperation(String serviceInstanceId, String operationType, Plan plan, Duration duration) {
+		this.advisor.operationStarted(serviceInstanceId, null, operationType, "service-id", plan);
+		this.clock.advance(duration);
+		this.advisor.operationCompleted(serviceInstanceId, null);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.servicebroker.model.Context;
+import org.springframework.cloud.servicebroker.model.PlatformContext;
+import org.springframework.cloud.servicebroker.service.ratelimit.RateLimiter.Partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class RateLimiterTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	void requestsOverLimitAreRejectedWithTimeToWait() {
+		RateLimiter rateLimiter = rateLimiter(Partition.PLATFORM, 100);
+
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform", null)).isNull();
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform", null)).isNull();
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform", null))
+				.isEqualTo(Duration.ofSeconds(30));
+
+		this.clock.addAndGet(Duration.ofSeconds(30).toNanos());
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform", null)).isNull();
+	}
+
+	@Test
+	void operationsAreLimitedSeparately() {
+		RateLimiter rateLimiter = new RateLimiter(new RateLimit(1, Duration.ofMinutes(1)),
+				Collections.singletonMap("getLastServiceOperation", new RateLimit(2, Duration.ofSeconds(1))),
+				Partition.PLATFORM, 100, this.clock::get);
+
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform", null)).isNull();
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform", null)).isNotNull();
+		assertThat(rateLimiter.tryAcquire("getLastServiceOperation", "platform", null)).isNull();
+		assertThat(rateLimiter.tryAcquire("getLastServiceOperation", "platform", null)).isNull();
+		assertThat(rateLimiter.tryAcquire("getLastServiceOperation", "platform", null)).isNotNull();
+		assertThat(rateLimiter.getLimit("getLastServiceOperation").getLimit()).isEqualTo(2);
+		assertThat(rateLimiter.getLimit("deleteServiceInstance").getLimit()).isEqualTo(1);
+	}
+
+	@Test
+	void operationNamesAreMatchedIgnoringCaseAndDashes() {
+		RateLimiter rateLimiter = new RateLimiter(new RateLimit(1, Duration.ofMinutes(1)),
+				Collections.singletonMap("get-last-service-operation", new RateLimit(2, Duration.ofSeconds(1))),
+				Partition.PLATFORM, 100);
+
+		assertThat(rateLimiter.getLimit("getLastServiceOperation").getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void unknownOperationNamesAreRejected() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new RateLimiter(new RateLimit(1, Duration.ofMinutes(1)),
+				Collections.singletonMap("get-catalog", new RateLimit(2, Duration.ofSeconds(1))),
+				Partition.PLATFORM, 100));
+	}
+
+	@Test
+	void platformsAreLimitedSeparately() {
+		RateLimiter rateLimiter = rateLimiter(Partition.PLATFORM, 100);
+
+		rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("user"));
+		rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("other-user"));
+
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("user"))).isNotNull();
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-two", user("user"))).isNull();
+	}
+
+	@Test
+	void usersAreLimitedSeparately() {
+		RateLimiter rateLimiter = rateLimiter(Partition.USER, 100);
+
+		rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("user"));
+		rateLimiter.tryAcquire("createServiceInstance", "platform-two", user("user"));
+
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-three", user("user"))).isNotNull();
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("other-user"))).isNull();
+	}
+
+	@Test
+	void usersAreLimitedSeparatelyForEachPlatform() {
+		RateLimiter rateLimiter = rateLimiter(Partition.PLATFORM_AND_USER, 100);
+
+		rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("user"));
+		rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("user"));
+
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("user"))).isNotNull();
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-two", user("user"))).isNull();
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-one", user("other-user"))).isNull();
+	}
+
+	@Test
+	void kubernetesUserIdIsUsed() {
+		RateLimiter rateLimiter = rateLimiter(Partition.USER, 100);
+		Context identity = PlatformContext.builder()
+				.platform("kubernetes")
+				.property("uid", "user")
+				.build();
+
+		rateLimiter.tryAcquire("createServiceInstance", null, identity);
+		rateLimiter.tryAcquire("createServiceInstance", null, identity);
+
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", null, identity)).isNotNull();
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", null, user("other-user"))).isNull();
+	}
+
+	@Test
+	void refilledBucketsAreEvicted() {
+		RateLimiter rateLimiter = rateLimiter(Partition.PLATFORM, 100);
+		rateLimiter.tryAcquire("createServiceInstance", "platform-one", null);
+		rateLimiter.tryAcquire("createServiceInstance", "platform-two", null);
+		assertThat(rateLimiter.size()).isEqualTo(2);
+
+		this.clock.addAndGet(Duration.ofMinutes(1).toNanos());
+		rateLimiter.evictExpired();
+
+		assertThat(rateLimiter.size()).isZero();
+	}
+
+	@Test
+	void callersOverMaximumKeysAreNotLimited() {
+		RateLimiter rateLimiter = rateLimiter(Partition.PLATFORM, 1);
+		rateLimiter.tryAcquire("createServiceInstance", "platform-one", null);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-two", null)).isNull();
+		}
+		assertThat(rateLimiter.size()).isEqualTo(1);
+	}
+
+	@Test
+	void maximumKeysAreReusedAfterEviction() {
+		RateLimiter rateLimiter = rateLimiter(Partition.PLATFORM, 1);
+		rateLimiter.tryAcquire("createServiceInstance", "platform-one", null);
+		this.clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+		rateLimiter.tryAcquire("createServiceInstance", "platform-two", null);
+		rateLimiter.tryAcquire("createServiceInstance", "platform-two", null);
+
+		assertThat(rateLimiter.tryAcquire("createServiceInstance", "platform-two", null)).isNotNull();
+	}
+
+	private RateLimiter rateLimiter(Partition partition, int maximumKeys) {
+		return new RateLimiter(new RateLimit(2, Duration.ofMinutes(1)), null, partition, maximumKeys,
+				this.clock::get);
+	}
+
+	private static Context user(String userId) {
+		return PlatformContext.builder()
+				.platform("cloudfoundry")
+				.property("user_id", userId)
+				.build();
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.servicebroker.exception.ServiceBrokerRateLimitExceededException;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingRequest;
+import org.springframework.cloud.servicebroker.model.binding.CreateServiceInstanceBindingResponse;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.CreateServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceRequest;
+import org.springframework.cloud.servicebroker.model.instance.DeleteServiceInstanceResponse;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceBindingService;
+import org.springframework.cloud.servicebroker.service.ServiceInstanceService;
+import org.springframework.cloud.servicebroker.service.ratelimit.RateLimiter.Partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitingServiceDecoratorTest {
+
+	private final RateLimitingServiceDecorator decorator = new RateLimitingServiceDecorator(
+			new RateLimiter(new RateLimit(1, Duration.ofMinutes(1)), null, Partition.PLATFORM, 100, () -> 0L));
+
+	private final AtomicInteger invocations = new AtomicInteger();
+
+	@Test
+	void instanceRequestsOverLimitAreRejected() {
+		ServiceInstanceService service = this.decorator.decorateServiceInstanceService(
+				new ServiceInstanceService() {
+					@Override
+					public Mono<CreateServiceInstanceResponse> createServiceInstance(
+							CreateServiceInstanceRequest request) {
+						invocations.incrementAndGet();
+						return Mono.just(CreateServiceInstanceResponse.builder().build());
+					}
+
+					@Override
+					public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(
+							DeleteServiceInstanceRequest request) {
+						return Mono.empty();
+					}
+				});
+
+		StepVerifier.create(service.createServiceInstance(instanceRequest("platform-one")))
+				.expectNextCount(1)
+				.verifyComplete();
+		StepVerifier.create(service.createServiceInstance(instanceRequest("platform-one")))
+				.expectErrorSatisfies(e -> assertThat(e)
+						.isInstanceOf(ServiceBrokerRateLimitExceededException.class)
+						.extracting("retryAfter")
+						.isEqualTo(Duration.ofMinutes(1)))
+				.verify();
+		StepVerifier.create(service.createServiceInstance(instanceRequest("platform-two")))
+				.expectNextCount(1)
+				.verifyComplete();
+
+		assertThat(this.invocations).hasValue(2);
+	}
+
+	@Test
+	void limitIsAppliedOnSubscription() {
+		ServiceInstanceService service = this.decorator.decorateServiceInstanceService(
+				new ServiceInstanceService() {
+					@Override
+					public Mono<CreateServiceInstanceResponse> createServiceInstance(
+							CreateServiceInstanceRequest request) {
+						return Mono.just(CreateServiceInstanceResponse.builder().build());
+					}
+
+					@Override
+					public Mono<DeleteServiceInstanceResponse> deleteServiceInstance(
+							DeleteServiceInstanceRequest request) {
+						return Mono.empty();
+					}
+				});
+
+		service.createServiceInstance(instanceRequest("platform"));
+		service.createServiceInstance(instanceRequest("platform"));
+
+		StepVerifier.create(service.createServiceInstance(instanceRequest("platform")))
+				.expectNextCount(1)
+				.verifyComplete();
+	}
+
+	@Test
+	void bindingRequestsOverLimitAreRejected() {
+		ServiceInstanceBindingService service = this.decorator.decorateServiceInstanceBindingService(
+				new ServiceInstanceBindingService() {
+					@Override
+					public Mono<CreateServiceInstanceBindingResponse> createServiceInstanceBinding(
+							CreateServiceInstanceBindingRequest request) {
+						invocations.incrementAndGet();
+						return Mono.just(CreateServiceInstanceBindingResponse.builder().build());
+					}
+				});
+
+		StepVerifier.create(service.createServiceInstanceBinding(bindingRequest()))
+				.expectNextCount(1)
+				.verifyComplete();
+		StepVerifier.create(service.createServiceInstanceBinding(bindingRequest()))
+				.verifyError(ServiceBrokerRateLimitExceededException.class);
+
+		assertThat(this.invocations).hasValue(1);
+	}
+
+	private static CreateServiceInstanceRequest instanceRequest(String platformInstanceId) {
+		return CreateServiceInstanceRequest.builder()
+				.serviceInstanceId("instance-id")
+				.platformInstanceId(platformInstanceId)
+				.build();
+	}
+
+	private static CreateServiceInstanceBindingRequest bindingRequest() {
+		return CreateServiceInstanceBindingRequest.builder()
+				.serviceInstanceId("instance-id")
+				.bindingId("binding-id")
+				.platformInstanceId("platform")
+				.build();
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.ratelimit;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+	private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+	@Test
+	void burstUpToLimitIsPermitted() {
+		TokenBucket bucket = new TokenBucket(new RateLimit(3, Duration.ofSeconds(3)), 0);
+
+		assertThat(bucket.tryTake(0)).isZero();
+		assertThat(bucket.tryTake(0)).isZero();
+		assertThat(bucket.tryTake(0)).isZero();
+		assertThat(bucket.tryTake(0)).isEqualTo(SECOND);
+	}
+
+	@Test
+	void tokensAreReplenishedOverPeriod() {
+		TokenBucket bucket = new TokenBucket(new RateLimit(3, Duration.ofSeconds(3)), 0);
+		bucket.tryTake(0);
+		bucket.tryTake(0);
+		bucket.tryTake(0);
+
+		assertThat(bucket.tryTake(SECOND / 2)).isEqualTo(SECOND / 2);
+		assertThat(bucket.tryTake(SECOND)).isZero();
+		assertThat(bucket.tryTake(SECOND)).isEqualTo(SECOND);
+	}
+
+	@Test
+	void bucketIsFullAfterPeriod() {
+		TokenBucket bucket = new TokenBucket(new RateLimit(3, Duration.ofSeconds(3)), 0);
+		assertThat(bucket.isFull(0)).isTrue();
+
+		bucket.tryTake(0);
+		bucket.tryTake(0);
+
+		assertThat(bucket.isFull(SECOND)).isFalse();
+		assertThat(bucket.isFull(2 * SECOND)).isTrue();
+	}
+
+}
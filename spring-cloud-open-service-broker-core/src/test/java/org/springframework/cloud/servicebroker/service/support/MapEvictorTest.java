@@ -0,0 +1,88 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.servicebroker.service.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class MapEvictorTest {
+
+	private final ConcurrentMap<String, Long> map = new ConcurrentHashMap<>();
+
+	@Test
+	void mapWithinMaximumSizeIsNotEvicted() {
+		MapEvictor<String, Long> evictor = new MapEvictor<>(this.map, 2, Long::longValue);
+		this.map.put("first", 1L);
+		this.map.put("second", 2L);
+
+		evictor.evictIfFull(0);
+
+		assertThat(this.map).containsOnlyKeys("first", "second");
+	}
+
+	@Test
+	void lowestRankedEntriesAreEvicted() {
+		MapEvictor<String, Long> evictor = new MapEvictor<>(this.map, 2, Long::longValue);
+		this.map.put("third", 3L);
+		this.map.put("first", 1L);
+		this.map.put("second", 2L);
+
+		evictor.evictIfFull(0);
+
+		assertThat(this.map).containsOnlyKeys("second", "third");
+	}
+
+	@Test
+	void entriesAreEvictedInBatches() {
+		MapEvictor<String, Long> evictor = new MapEvictor<>(this.map, 32, Long::longValue);
+		for (long i = 0; i <= 32; i++) {
+			this.map.put("entry-" + i, i);
+		}
+
+		evictor.evictIfFull(0);
+
+		assertThat(this.map).hasSize(30).doesNotContainKeys("entry-0", "entry-1", "entry-2");
+	}
+
+	@Test
+	void expiredEntriesAreEvictedFirst() {
+		List<String> removed = new ArrayList<>();
+		MapEvictor<String, Long> evictor = new MapEvictor<>(this.map, 2, value -> -value, Long::longValue,
+				(key, value) -> removed.add(key));
+		this.map.put("expired", 5L);
+		this.map.put("first", 20L);
+		this.map.put("second", 30L);
+
+		evictor.evictIfFull(10);
+
+		assertThat(this.map).containsOnlyKeys("first", "second");
+		assertThat(removed).containsExactly("expired");
+	}
+
+	@Test
+	void maximumSizeMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new MapEvictor<>(this.map, 0, Long::longValue));
+	}
+
+}